@@ -80,6 +80,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "flatten": target.setFlatten(property(camelContext, boolean.class, value)); return true;
         case "forcewrites":
         case "forceWrites": target.setForceWrites(property(camelContext, boolean.class, value)); return true;
+        case "fullscaninterval":
+        case "fullScanInterval": target.setFullScanInterval(property(camelContext, long.class, value)); return true;
         case "greedy": target.setGreedy(property(camelContext, boolean.class, value)); return true;
         case "idempotent": target.setIdempotent(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "idempotentkey":
@@ -186,6 +188,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "usewatchservice":
+        case "useWatchService": target.setUseWatchService(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -227,6 +231,7 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         answer.put("filterFile", java.lang.String.class);
         answer.put("flatten", boolean.class);
         answer.put("forceWrites", boolean.class);
+        answer.put("fullScanInterval", long.class);
         answer.put("greedy", boolean.class);
         answer.put("idempotent", java.lang.Boolean.class);
         answer.put("idempotentKey", java.lang.String.class);
@@ -285,6 +290,7 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         answer.put("tempPrefix", java.lang.String.class);
         answer.put("timeUnit", java.util.concurrent.TimeUnit.class);
         answer.put("useFixedDelay", boolean.class);
+        answer.put("useWatchService", boolean.class);
         return answer;
     }
 
@@ -353,6 +359,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "flatten": return target.isFlatten();
         case "forcewrites":
         case "forceWrites": return target.isForceWrites();
+        case "fullscaninterval":
+        case "fullScanInterval": return target.getFullScanInterval();
         case "greedy": return target.isGreedy();
         case "idempotent": return target.getIdempotent();
         case "idempotentkey":
@@ -459,6 +467,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return target.getTimeUnit();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "usewatchservice":
+        case "useWatchService": return target.isUseWatchService();
         default: return null;
         }
     }
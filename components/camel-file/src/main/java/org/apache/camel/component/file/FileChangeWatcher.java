@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the files which are created or modified in the directories polled by
+ * a {@link FileConsumer} using a {@link WatchService}, so the consumer only
+ * has to look at those files between full scans of the directories.
+ */
+final class FileChangeWatcher implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileChangeWatcher.class);
+
+    private final WatchService watchService;
+    private final Map<WatchKey, WatchedDirectory> keys = new HashMap<>();
+    private final Map<Path, WatchKey> directories = new HashMap<>();
+    private boolean changesLost;
+
+    FileChangeWatcher(WatchService watchService) {
+        this.watchService = watchService;
+    }
+
+    /**
+     * Watches the directory for created and modified entries.
+     *
+     * @param directory the directory
+     * @param depth the depth of the directory below the starting directory
+     *            (the starting directory has depth 0)
+     */
+    synchronized void register(Path directory, int depth) {
+        try {
+            WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            keys.put(key, new WatchedDirectory(directory, depth));
+            directories.put(directory, key);
+        } catch (IOException | ClosedWatchServiceException e) {
+            LOG.debug("Cannot watch directory: {} due {}. The directory is only scanned in full.", directory, e.getMessage());
+            changesLost = true;
+        }
+    }
+
+    synchronized boolean isWatched(Path directory) {
+        return directories.containsKey(directory);
+    }
+
+    /**
+     * Takes the files and directories which have been created or modified
+     * since the previous call, with their depth below the starting directory.
+     *
+     * @return the changed paths, or <tt>null</tt> if some changes may have been
+     *         missed, such as when the events overflowed or a directory could
+     *         not be watched, so the directories must be scanned in full
+     */
+    synchronized Map<Path, Integer> takeChanges() {
+        Map<Path, Integer> answer = new LinkedHashMap<>();
+        boolean lost = changesLost;
+        changesLost = false;
+        try {
+            WatchKey key;
+            while ((key = watchService.poll()) != null) {
+                WatchedDirectory directory = keys.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        lost = true;
+                    } else if (directory != null) {
+                        answer.put(directory.path.resolve((Path)event.context()), directory.depth + 1);
+                    }
+                }
+                if (!key.reset()) {
+                    // the directory is gone, if it is created again then it is
+                    // watched again when its parent directory is polled, but
+                    // the starting directory has no parent so scan in full
+                    keys.remove(key);
+                    if (directory != null) {
+                        directories.remove(directory.path);
+                        lost |= directory.depth == 0;
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            lost = true;
+        }
+        return lost ? null : answer;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        keys.clear();
+        directories.clear();
+        watchService.close();
+    }
+
+    private static final class WatchedDirectory {
+
+        private final Path path;
+        private final int depth;
+
+        WatchedDirectory(Path path, int depth) {
+            this.path = path;
+            this.depth = depth;
+        }
+    }
+}
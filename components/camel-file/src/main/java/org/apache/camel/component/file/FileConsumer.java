@@ -18,8 +18,13 @@ package org.apache.camel.component.file;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -44,6 +49,9 @@ public class FileConsumer extends GenericFileConsumer<File> {
     private static final Logger LOG = LoggerFactory.getLogger(FileConsumer.class);
     private String endpointPath;
     private Set<String> extendedAttributes;
+    private volatile FileChangeWatcher watcher;
+    private boolean fullScanRequired;
+    private long lastFullScan;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations, GenericFileProcessStrategy<File> processStrategy) {
         super(endpoint, processor, operations, processStrategy);
@@ -57,12 +65,58 @@ public class FileConsumer extends GenericFileConsumer<File> {
 
     @Override
     protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
-        LOG.trace("pollDirectory from fileName: {}", fileName);
+        if (watcher != null && depth == 0) {
+            return pollWatchedDirectory(fileName, fileList);
+        }
+        return scanDirectory(fileName, fileList, depth);
+    }
 
-        depth++;
+    /**
+     * Polls only the files which have changed since the previous poll, and
+     * scans the directory in full on the first poll, every fullScanInterval
+     * millis, and when changes may have been missed.
+     */
+    private boolean pollWatchedDirectory(String fileName, List<GenericFile<File>> fileList) {
+        Map<Path, Integer> changes = watcher.takeChanges();
+        long now = System.currentTimeMillis();
+        long interval = getEndpoint().getFullScanInterval();
+        if (changes == null || fullScanRequired || interval > 0 && now - lastFullScan >= interval) {
+            LOG.debug("Scanning directory in full: {}", fileName);
+            lastFullScan = now;
+            // scan again if this scan fails, or if it hits maxMessagesPerPoll
+            // as the files left over have no new events
+            fullScanRequired = true;
+            boolean canPollMore = scanDirectory(fileName, fileList, 0);
+            fullScanRequired = !canPollMore;
+            return canPollMore;
+        }
+
+        LOG.trace("Polling {} changed paths in directory: {}", changes.size(), fileName);
+        for (Map.Entry<Path, Integer> change : changes.entrySet()) {
+            if (!canPollMoreFiles(fileList)) {
+                fullScanRequired = true;
+                return false;
+            }
+            Path path = change.getKey();
+            BasicFileAttributes attributes = readAttributes(path);
+            // a directory which is already watched has its own events
+            if (attributes == null || attributes.isDirectory() && watcher.isWatched(path)) {
+                continue;
+            }
+            if (!pollEntry(path, attributes, change.getValue(), fileList)) {
+                fullScanRequired = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean scanDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
+        LOG.trace("pollDirectory from fileName: {}", fileName);
 
         File directory = new File(fileName);
-        if (!directory.exists() || !directory.isDirectory()) {
+        Path path = directory.toPath();
+        if (!Files.isDirectory(path)) {
             LOG.debug("Cannot poll as directory does not exists or its not a directory: {}", directory);
             if (getEndpoint().isDirectoryMustExist()) {
                 throw new GenericFileOperationFailedException("Directory does not exist: " + directory);
@@ -73,106 +127,134 @@ public class FileConsumer extends GenericFileConsumer<File> {
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
-        File[] dirFiles = directory.listFiles();
-        if (dirFiles == null || dirFiles.length == 0) {
-            // no files in this directory to poll
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("No files found in directory: {}", directory.getPath());
+        if (watcher != null) {
+            // watch before listing so files created meanwhile are not missed
+            watcher.register(path, depth);
+        }
+
+        depth++;
+
+        // stream the entries rather than listing them all up front, so we can
+        // stop as soon as we hit maxMessagesPerPoll
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+            Iterable<Path> entries = stream;
+            if (getEndpoint().isPreSort()) {
+                List<Path> sorted = new ArrayList<>();
+                stream.forEach(sorted::add);
+                sorted.sort(Comparator.comparing(Path::toAbsolutePath));
+                entries = sorted;
             }
-            return true;
-        } else {
-            // we found some files
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Found {} in directory: {}", dirFiles.length, directory.getPath());
+
+            for (Path entry : entries) {
+                // check if we can continue polling in files
+                if (!canPollMoreFiles(fileList)) {
+                    return false;
+                }
+
+                BasicFileAttributes attributes = readAttributes(entry);
+                if (attributes != null && !pollEntry(entry, attributes, depth, fileList)) {
+                    return false;
+                }
             }
+        } catch (IOException | DirectoryIteratorException e) {
+            LOG.debug("Cannot list files in directory: {} due {}", directory, e.getMessage());
         }
-        List<File> files = Arrays.asList(dirFiles);
-        if (getEndpoint().isPreSort()) {
-            files.sort(Comparator.comparing(File::getAbsoluteFile));
+
+        return true;
+    }
+
+    /**
+     * Polls the given file, or the files in the given directory when
+     * recursive.
+     *
+     * @return whether or not to continue polling, <tt>false</tt> means the
+     *         maxMessagesPerPoll limit has been hit
+     */
+    private boolean pollEntry(Path path, BasicFileAttributes attributes, int depth, List<GenericFile<File>> fileList) {
+        File file = path.toFile();
+
+        // trace log as Windows/Unix can have different views what the file
+        // is?
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(), attributes.isDirectory(),
+                      attributes.isRegularFile(), file.isHidden());
         }
 
-        for (File file : dirFiles) {
-            // check if we can continue polling in files
-            if (!canPollMoreFiles(fileList)) {
-                return false;
+        // creates a generic file
+        GenericFile<File> gf = asGenericFile(endpointPath, file, attributes, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+
+        if (attributes.isDirectory()) {
+            if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, null)) {
+                // recursive scan and add the sub files and folders
+                return scanDirectory(file.getPath(), fileList, depth);
             }
+        } else {
+            // Windows can report false to a file on a share so regard it
+            // always as a file (if its not a directory)
+            if (depth >= endpoint.minDepth && isValidFile(gf, false, null)) {
+                LOG.trace("Adding valid file: {}", file);
+                // matched file so add
+                if (extendedAttributes != null) {
+                    gf.setExtendedAttributes(readExtendedAttributes(path));
+                }
 
-            // trace log as Windows/Unix can have different views what the file
-            // is?
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(), file.isDirectory(), file.isFile(),
-                          file.isHidden());
+                fileList.add(gf);
             }
+        }
 
-            // creates a generic file
-            GenericFile<File> gf = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+        return true;
+    }
 
-            if (file.isDirectory()) {
-                if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
-                    // recursive scan and add the sub files and folders
-                    String subDirectory = fileName + File.separator + file.getName();
-                    boolean canPollMore = pollDirectory(subDirectory, fileList, depth);
-                    if (!canPollMore) {
-                        return false;
-                    }
+    private static BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // the file may have been deleted since it was listed
+            LOG.trace("Cannot read attributes of file: {} due {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<String, Object> readExtendedAttributes(Path path) {
+        Map<String, Object> allAttributes = new HashMap<>();
+        for (String attribute : extendedAttributes) {
+            try {
+                String prefix = null;
+                if (attribute.endsWith(":*")) {
+                    prefix = attribute.substring(0, attribute.length() - 1);
+                } else if (attribute.equals("*")) {
+                    prefix = "basic:";
                 }
-            } else {
-                // Windows can report false to a file on a share so regard it
-                // always as a file (if its not a directory)
-                if (depth >= endpoint.minDepth && isValidFile(gf, false, files)) {
-                    LOG.trace("Adding valid file: {}", file);
-                    // matched file so add
-                    if (extendedAttributes != null) {
-                        Path path = file.toPath();
-                        Map<String, Object> allAttributes = new HashMap<>();
-                        for (String attribute : extendedAttributes) {
-                            try {
-                                String prefix = null;
-                                if (attribute.endsWith(":*")) {
-                                    prefix = attribute.substring(0, attribute.length() - 1);
-                                } else if (attribute.equals("*")) {
-                                    prefix = "basic:";
-                                }
-
-                                if (ObjectHelper.isNotEmpty(prefix)) {
-                                    Map<String, Object> attributes = Files.readAttributes(path, attribute);
-                                    if (attributes != null) {
-                                        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
-                                            allAttributes.put(prefix + entry.getKey(), entry.getValue());
-                                        }
-                                    }
-                                } else if (!attribute.contains(":")) {
-                                    allAttributes.put("basic:" + attribute, Files.getAttribute(path, attribute));
-                                } else {
-                                    allAttributes.put(attribute, Files.getAttribute(path, attribute));
-                                }
-                            } catch (IOException e) {
-                                if (LOG.isDebugEnabled()) {
-                                    LOG.debug("Unable to read attribute {} on file {}", attribute, file, e);
-                                }
-                            }
-                        }
 
-                        gf.setExtendedAttributes(allAttributes);
+                if (ObjectHelper.isNotEmpty(prefix)) {
+                    Map<String, Object> attributes = Files.readAttributes(path, attribute);
+                    if (attributes != null) {
+                        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                            allAttributes.put(prefix + entry.getKey(), entry.getValue());
+                        }
                     }
-
-                    fileList.add(gf);
+                } else if (!attribute.contains(":")) {
+                    allAttributes.put("basic:" + attribute, Files.getAttribute(path, attribute));
+                } else {
+                    allAttributes.put(attribute, Files.getAttribute(path, attribute));
+                }
+            } catch (IOException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Unable to read attribute {} on file {}", attribute, path, e);
                 }
-
             }
         }
-
-        return true;
+        return allAttributes;
     }
 
     @Override
     protected boolean isMatched(GenericFile<File> file, String doneFileName, List<File> files) {
         String onlyName = FileUtil.stripPath(doneFileName);
-        // the done file name must be among the files
-        for (File f : files) {
-            if (f.getName().equals(onlyName)) {
-                return true;
-            }
+        // the done file must be in the same directory as the file, which is
+        // streamed rather than listed so look it up
+        File doneFile = new File(new File(file.getAbsoluteFilePath()).getParentFile(), onlyName);
+        if (doneFile.exists()) {
+            return true;
         }
         LOG.trace("Done file: {} does not exist", doneFileName);
         return false;
@@ -189,6 +271,10 @@ public class FileConsumer extends GenericFileConsumer<File> {
      * @return wrapped as a GenericFile
      */
     public static GenericFile<File> asGenericFile(String endpointPath, File file, String charset, boolean probeContentType) {
+        return asGenericFile(endpointPath, file, null, charset, probeContentType);
+    }
+
+    private static GenericFile<File> asGenericFile(String endpointPath, File file, BasicFileAttributes attributes, String charset, boolean probeContentType) {
         GenericFile<File> answer = new GenericFile<>(probeContentType);
         // use file specific binding
         answer.setBinding(new FileBinding());
@@ -197,8 +283,8 @@ public class FileConsumer extends GenericFileConsumer<File> {
         answer.setEndpointPath(endpointPath);
         answer.setFile(file);
         answer.setFileNameOnly(file.getName());
-        answer.setFileLength(file.length());
-        answer.setDirectory(file.isDirectory());
+        answer.setFileLength(attributes != null ? attributes.size() : file.length());
+        answer.setDirectory(attributes != null ? attributes.isDirectory() : file.isDirectory());
         // must use FileUtil.isAbsolute to have consistent check for whether the
         // file is
         // absolute or not. As windows do not consider \ paths as absolute where
@@ -210,7 +296,7 @@ public class FileConsumer extends GenericFileConsumer<File> {
         // to return a consistent answer for all OS platforms.
         answer.setAbsolute(FileUtil.isAbsolute(file));
         answer.setAbsoluteFilePath(file.getAbsolutePath());
-        answer.setLastModified(file.lastModified());
+        answer.setLastModified(attributes != null ? attributes.lastModifiedTime().toMillis() : file.lastModified());
 
         // compute the file path as relative to the starting directory
         File path;
@@ -253,6 +339,23 @@ public class FileConsumer extends GenericFileConsumer<File> {
         }
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        if (getEndpoint().isUseWatchService()) {
+            watcher = new FileChangeWatcher(FileSystems.getDefault().newWatchService());
+            fullScanRequired = true;
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
     @Override
     public FileEndpoint getEndpoint() {
         return (FileEndpoint)super.getEndpoint();
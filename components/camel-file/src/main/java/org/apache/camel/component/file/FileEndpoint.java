@@ -74,6 +74,10 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean useWatchService;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long fullScanInterval = 60000;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -366,6 +370,38 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isUseWatchService() {
+        return useWatchService;
+    }
+
+    /**
+     * Whether to use a {@link java.nio.file.WatchService} to be notified of
+     * the files which are created or modified in the directories, so the
+     * consumer only looks at those files when polling, instead of listing the
+     * directories on every poll. The directories are still scanned in full on
+     * the first poll, every fullScanInterval millis, and when the watch
+     * service may have missed changes. This is useful for directories with
+     * many files.
+     */
+    public void setUseWatchService(boolean useWatchService) {
+        this.useWatchService = useWatchService;
+    }
+
+    public long getFullScanInterval() {
+        return fullScanInterval;
+    }
+
+    /**
+     * Interval in millis between full scans of the directories when
+     * useWatchService is enabled. The full scans pick up the files which were
+     * not consumed when they changed, such as files which could not acquire
+     * the read lock or had no done file yet. Use 0 or a negative value to only
+     * scan in full when the watch service may have missed changes.
+     */
+    public void setFullScanInterval(long fullScanInterval) {
+        this.fullScanInterval = fullScanInterval;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like
      * in 0755 we will ignore it.
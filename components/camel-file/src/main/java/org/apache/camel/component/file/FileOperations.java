@@ -38,8 +38,10 @@ import java.util.List;
 import java.util.Set;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.spi.BufferPool;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -445,24 +447,26 @@ public class FileOperations implements GenericFileOperations<File> {
 
             LOG.debug("Using InputStream to write file: {}", target);
             int size = endpoint.getBufferSize();
-            byte[] buffer = new byte[size];
-            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
-            int bytesRead;
-            while ((bytesRead = in.read(buffer)) != -1) {
-                if (bytesRead < size) {
+            // the pooled buffer may be larger than the buffer size
+            BufferPool pool = endpoint.getCamelContext().adapt(ExtendedCamelContext.class).getBufferPool();
+            byte[] buffer = pool.acquire(size);
+            try {
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+                int bytesRead;
+                while ((bytesRead = in.read(buffer, 0, size)) != -1) {
                     // to be compatible with java 8
                     Buffer buf = byteBuffer;
                     buf.limit(bytesRead);
+                    out.write(byteBuffer);
+                    buf.clear();
                 }
-                out.write(byteBuffer);
-                // to be compatible with java 8
-                Buffer buf = byteBuffer;
-                buf.clear();
+            } finally {
+                pool.release(buffer);
             }
 
             boolean append = endpoint.getFileExist() == GenericFileExist.Append;
             if (append && exists && endpoint.getAppendChars() != null) {
-                byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
+                ByteBuffer byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
                 out.write(byteBuffer);
                 // to be compatible with java 8
                 Buffer buf = byteBuffer;
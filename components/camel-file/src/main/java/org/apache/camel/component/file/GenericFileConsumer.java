@@ -159,6 +159,8 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         // sort using build in sorters so we can use expressions
         // use a linked list so we can dequeue the exchanges
         LinkedList<Exchange> exchanges = new LinkedList<>();
+        // the exchanges are not pooled as they are all created up front (to be sorted), some of them may
+        // be dropped without being routed, and the file may be completed later by another thread
         for (GenericFile<T> file : files) {
             Exchange exchange = endpoint.createExchange(file);
             endpoint.configureExchange(exchange);
@@ -41,12 +41,14 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StreamCache;
 import org.apache.camel.attachment.AttachmentMessage;
 import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.spi.BufferPool;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.GZIPHelper;
@@ -489,6 +491,17 @@ public class DefaultHttpBinding implements HttpBinding {
         }
     }
 
+    protected int copyStream(Exchange exchange, InputStream is, OutputStream os, int bufferSize) throws IOException {
+        try {
+            // copy stream using a buffer from the pool of the camel context, and must flush on each write
+            // as etc Jetty has better performance when flushing after writing to its servlet output stream
+            BufferPool pool = exchange.getContext().adapt(ExtendedCamelContext.class).getBufferPool();
+            return pool.copy(is, os, bufferSize, true);
+        } finally {
+            IOHelper.close(os, is);
+        }
+    }
+
     protected void doWriteDirectResponse(Message message, HttpServletResponse response, Exchange exchange) throws IOException {
         // if content type is serialized Java object, then serialize and write it to the response
         String contentType = message.getHeader(Exchange.CONTENT_TYPE, String.class);
@@ -524,7 +537,7 @@ public class DefaultHttpBinding implements HttpBinding {
                 CachedOutputStream stream = new CachedOutputStream(exchange);
                 try {
                     // copy directly from input stream to the cached output stream to get the content length
-                    int len = copyStream(is, stream, response.getBufferSize());
+                    int len = copyStream(exchange, is, stream, response.getBufferSize());
                     // we need to setup the length if message is not chucked
                     response.setContentLength(len);
                     OutputStream current = stream.getCurrentStream();
@@ -538,7 +551,7 @@ public class DefaultHttpBinding implements HttpBinding {
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Streaming response in non-chunked mode with content-length {} and buffer size: {}", len, len);
                         }
-                        copyStream(stream.getInputStream(), os, len);
+                        copyStream(exchange, stream.getInputStream(), os, len);
                     }
                 } finally {
                     IOHelper.close(is, os);
@@ -547,7 +560,7 @@ public class DefaultHttpBinding implements HttpBinding {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Streaming response in chunked mode with buffer size {}", response.getBufferSize());
                 }
-                copyStream(is, os, response.getBufferSize());
+                copyStream(exchange, is, os, response.getBufferSize());
             }
         } else {
             // not convertable as a stream so fallback as a String
@@ -32,6 +32,7 @@ import javax.servlet.http.HttpServletRequest;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.RuntimeExchangeException;
 import org.apache.camel.converter.stream.CachedOutputStream;
 import org.apache.camel.support.CamelObjectInputStream;
@@ -161,7 +162,11 @@ public final class HttpHelper {
             return is;
         } else {
             CachedOutputStream cos = new CachedOutputStream(exchange);
-            IOHelper.copyAndCloseInput(is, cos);
+            try {
+                exchange.getContext().adapt(ExtendedCamelContext.class).getBufferPool().copy(is, cos);
+            } finally {
+                IOHelper.close(is);
+            }
             return cos.newStreamCache();
         }
     }
@@ -184,7 +189,11 @@ public final class HttpHelper {
             return is;
         } else {
             CachedOutputStream cos = new CachedOutputStream(exchange);
-            IOHelper.copyAndCloseInput(is, cos);
+            try {
+                exchange.getContext().adapt(ExtendedCamelContext.class).getBufferPool().copy(is, cos);
+            } finally {
+                IOHelper.close(is);
+            }
             return cos.newStreamCache();
         }
     }
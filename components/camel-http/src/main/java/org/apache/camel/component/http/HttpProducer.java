@@ -37,6 +37,7 @@ import java.util.stream.Collectors;
 
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Message;
 import org.apache.camel.component.file.GenericFile;
@@ -419,7 +420,7 @@ public class HttpProducer extends DefaultProducer {
         try {
             // This CachedOutputStream will not be closed when the exchange is onCompletion
             cos = new CachedOutputStream(exchange, false);
-            IOHelper.copy(is, cos);
+            exchange.getContext().adapt(ExtendedCamelContext.class).getBufferPool().copy(is, cos);
             // When the InputStream is closed, the CachedOutputStream will be closed
             return cos.getWrappedInputStream();
         } catch (IOException ex) {
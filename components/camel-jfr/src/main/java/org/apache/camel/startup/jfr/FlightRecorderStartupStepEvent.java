@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.startup.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event of a {@link org.apache.camel.StartupStep}.
+ */
+@Name(FlightRecorderStartupStepEvent.NAME)
+@Label("Camel Startup Step")
+@Category({ "Camel Application", "Startup" })
+@Description("A step during starting Camel")
+@StackTrace(false)
+final class FlightRecorderStartupStepEvent extends Event {
+
+    static final String NAME = "org.apache.camel.startup.StartupStep";
+
+    @Label("Step Id")
+    int id;
+
+    @Label("Parent Step Id")
+    int parentId;
+
+    @Label("Level")
+    int level;
+
+    @Label("Type")
+    String type;
+
+    @Label("Name")
+    String name;
+
+    @Label("Description")
+    String description;
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.startup.jfr;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.StartupStep;
+import org.apache.camel.impl.engine.DefaultStartupStepRecorder;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.spi.annotations.JdkService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link org.apache.camel.spi.StartupStepRecorder} which emits the recorded steps as Java Flight Recorder events,
+ * which includes the hierarchy of the steps (by their id and parent id).
+ * <p/>
+ * The events are recorded by the recordings of the flight recorder in progress, such as when the JVM is started with
+ * <tt>-XX:StartFlightRecording</tt>. If a recording directory is configured, then a recording is started when the
+ * recorder is started, which is dumped to a file in the directory when the startup is complete.
+ * <p/>
+ * This requires Java 11, or Java 8 with Java Flight Recorder support.
+ */
+@JdkService(FlightRecorderStartupStepRecorder.FACTORY)
+public class FlightRecorderStartupStepRecorder extends DefaultStartupStepRecorder implements CamelContextAware {
+
+    /**
+     * Service factory key of this recorder.
+     */
+    public static final String FACTORY = StartupStepRecorder.FACTORY + "-java-flight-recorder";
+
+    private static final Logger LOG = LoggerFactory.getLogger(FlightRecorderStartupStepRecorder.class);
+
+    private final Map<Integer, FlightRecorderStartupStepEvent> events = new ConcurrentHashMap<>();
+    private CamelContext camelContext;
+    private String recordingName;
+    private Recording recording;
+
+    public FlightRecorderStartupStepRecorder() {
+        setEnabled(true);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public String getRecordingName() {
+        return recordingName;
+    }
+
+    /**
+     * The name of the recording, which is also used as the name of the recording file (<tt>name.jfr</tt>). The
+     * default name is <tt>camel-startup-</tt> followed by the name of the {@link CamelContext}.
+     */
+    public void setRecordingName(String recordingName) {
+        this.recordingName = recordingName;
+    }
+
+    @Override
+    protected void onBeginStep(StartupStep step) {
+        FlightRecorderStartupStepEvent event = new FlightRecorderStartupStepEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            events.put(step.getId(), event);
+        }
+    }
+
+    @Override
+    protected void onEndStep(StartupStep step) {
+        FlightRecorderStartupStepEvent event = events.remove(step.getId());
+        if (event != null) {
+            event.end();
+            event.id = step.getId();
+            event.parentId = step.getParentId();
+            event.level = step.getLevel();
+            event.type = step.getType();
+            event.name = step.getName();
+            event.description = step.getDescription();
+            event.commit();
+        }
+    }
+
+    @Override
+    protected void onRecordingEnded(List<StartupStep> steps) {
+        events.clear();
+        if (recording != null) {
+            try {
+                recording.stop();
+                File file = new File(getRecordingDir(), recording.getName() + ".jfr");
+                recording.dump(file.toPath());
+                LOG.info("Java Flight Recorder recording of the startup ({} steps) saved to file: {}", steps.size(), file);
+            } catch (Exception e) {
+                LOG.warn("Error saving Java Flight Recorder recording of the startup due to " + e.getMessage() + ". This exception is ignored.", e);
+            } finally {
+                recording.close();
+                recording = null;
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (getRecordingDir() != null && recording == null && isEnabled() && FlightRecorder.isAvailable()) {
+            String name = recordingName;
+            if (name == null) {
+                name = camelContext != null ? "camel-startup-" + camelContext.getName() : "camel-startup";
+            }
+            new File(getRecordingDir()).mkdirs();
+            recording = new Recording();
+            recording.setName(name);
+            recording.enable(FlightRecorderStartupStepEvent.NAME);
+            recording.start();
+            LOG.debug("Started Java Flight Recorder recording: {}", name);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (recording != null) {
+            // in case the recording did not end normally
+            recording.close();
+            recording = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FlightRecorderStartupStepRecorder";
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.startup.jfr;
+
+import java.io.File;
+import java.util.List;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.main.Main;
+import org.apache.camel.util.FileUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainFlightRecorderStartupRecorderTest {
+
+    @Test
+    public void testFlightRecorderStartupRecorder() throws Exception {
+        File dir = new File("target/data/jfr");
+        FileUtil.removeDir(dir);
+
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("mock:result");
+            }
+        });
+        // the recorder is discovered from the classpath
+        main.configure().withStartupRecorder("java-flight-recorder")
+                .withStartupRecorderRecordingDir(dir.getPath());
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertTrue(camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder() instanceof FlightRecorderStartupStepRecorder);
+
+        File file = new File(dir, "camel-startup-" + camelContext.getName() + ".jfr");
+        assertTrue(file.exists(), "Recording should be saved");
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file.toPath());
+        assertFalse(events.isEmpty());
+
+        RecordedEvent start = null;
+        RecordedEvent routes = null;
+        for (RecordedEvent event : events) {
+            assertEquals(FlightRecorderStartupStepEvent.NAME, event.getEventType().getName());
+            if ("Start CamelContext".equals(event.getString("description"))) {
+                start = event;
+            } else if ("Start Routes".equals(event.getString("description"))) {
+                routes = event;
+            }
+        }
+        assertTrue(start != null && routes != null, "Steps should be recorded");
+        assertEquals(0, start.getInt("level"));
+        assertEquals(start.getInt("id"), routes.getInt("parentId"));
+        assertEquals(camelContext.getName(), start.getString("name"));
+
+        main.stop();
+    }
+
+}
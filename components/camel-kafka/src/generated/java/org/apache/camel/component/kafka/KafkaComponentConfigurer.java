@@ -40,6 +40,13 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": getOrCreateConfiguration(target).setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
         case "basicpropertybinding":
         case "basicPropertyBinding": target.setBasicPropertyBinding(property(camelContext, boolean.class, value)); return true;
+        case "batchbody":
+        case "batchBody": getOrCreateConfiguration(target).setBatchBody(property(camelContext, java.lang.String.class, value)); return true;
+        case "batchmaxrecords":
+        case "batchMaxRecords": getOrCreateConfiguration(target).setBatchMaxRecords(property(camelContext, int.class, value)); return true;
+        case "batchtimeoutms":
+        case "batchTimeoutMs": getOrCreateConfiguration(target).setBatchTimeoutMs(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "batching": getOrCreateConfiguration(target).setBatching(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": getOrCreateConfiguration(target).setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -125,6 +132,12 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noOfMetricsSample": getOrCreateConfiguration(target).setNoOfMetricsSample(property(camelContext, java.lang.Integer.class, value)); return true;
         case "offsetrepository":
         case "offsetRepository": getOrCreateConfiguration(target).setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
+        case "parallellaneordering":
+        case "parallelLaneOrdering": getOrCreateConfiguration(target).setParallelLaneOrdering(property(camelContext, java.lang.String.class, value)); return true;
+        case "parallellanes":
+        case "parallelLanes": getOrCreateConfiguration(target).setParallelLanes(property(camelContext, int.class, value)); return true;
+        case "parallelmaxinflight":
+        case "parallelMaxInFlight": getOrCreateConfiguration(target).setParallelMaxInFlight(property(camelContext, int.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": getOrCreateConfiguration(target).setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
@@ -229,6 +242,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         answer.put("autoCommitOnStop", java.lang.String.class);
         answer.put("autoOffsetReset", java.lang.String.class);
         answer.put("basicPropertyBinding", boolean.class);
+        answer.put("batchBody", java.lang.String.class);
+        answer.put("batchMaxRecords", int.class);
+        answer.put("batchTimeoutMs", long.class);
+        answer.put("batching", boolean.class);
         answer.put("breakOnFirstError", boolean.class);
         answer.put("bridgeErrorHandler", boolean.class);
         answer.put("brokers", java.lang.String.class);
@@ -273,6 +290,9 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         answer.put("metricsSampleWindowMs", java.lang.Integer.class);
         answer.put("noOfMetricsSample", java.lang.Integer.class);
         answer.put("offsetRepository", org.apache.camel.spi.StateRepository.class);
+        answer.put("parallelLaneOrdering", java.lang.String.class);
+        answer.put("parallelLanes", int.class);
+        answer.put("parallelMaxInFlight", int.class);
         answer.put("partitionAssignor", java.lang.String.class);
         answer.put("partitionKey", java.lang.Integer.class);
         answer.put("partitioner", java.lang.String.class);
@@ -340,6 +360,13 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return getOrCreateConfiguration(target).getAutoOffsetReset();
         case "basicpropertybinding":
         case "basicPropertyBinding": return target.isBasicPropertyBinding();
+        case "batchbody":
+        case "batchBody": return getOrCreateConfiguration(target).getBatchBody();
+        case "batchmaxrecords":
+        case "batchMaxRecords": return getOrCreateConfiguration(target).getBatchMaxRecords();
+        case "batchtimeoutms":
+        case "batchTimeoutMs": return getOrCreateConfiguration(target).getBatchTimeoutMs();
+        case "batching": return getOrCreateConfiguration(target).isBatching();
         case "breakonfirsterror":
         case "breakOnFirstError": return getOrCreateConfiguration(target).isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -425,6 +452,12 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noOfMetricsSample": return getOrCreateConfiguration(target).getNoOfMetricsSample();
         case "offsetrepository":
         case "offsetRepository": return getOrCreateConfiguration(target).getOffsetRepository();
+        case "parallellaneordering":
+        case "parallelLaneOrdering": return getOrCreateConfiguration(target).getParallelLaneOrdering();
+        case "parallellanes":
+        case "parallelLanes": return getOrCreateConfiguration(target).getParallelLanes();
+        case "parallelmaxinflight":
+        case "parallelMaxInFlight": return getOrCreateConfiguration(target).getParallelMaxInFlight();
         case "partitionassignor":
         case "partitionAssignor": return getOrCreateConfiguration(target).getPartitionAssignor();
         case "partitionkey":
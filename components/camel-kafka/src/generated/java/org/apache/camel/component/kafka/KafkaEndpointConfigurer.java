@@ -33,6 +33,13 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoOffsetReset": target.getConfiguration().setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
         case "basicpropertybinding":
         case "basicPropertyBinding": target.setBasicPropertyBinding(property(camelContext, boolean.class, value)); return true;
+        case "batchbody":
+        case "batchBody": target.getConfiguration().setBatchBody(property(camelContext, java.lang.String.class, value)); return true;
+        case "batchmaxrecords":
+        case "batchMaxRecords": target.getConfiguration().setBatchMaxRecords(property(camelContext, int.class, value)); return true;
+        case "batchtimeoutms":
+        case "batchTimeoutMs": target.getConfiguration().setBatchTimeoutMs(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "batching": target.getConfiguration().setBatching(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": target.getConfiguration().setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -119,6 +126,12 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noOfMetricsSample": target.getConfiguration().setNoOfMetricsSample(property(camelContext, java.lang.Integer.class, value)); return true;
         case "offsetrepository":
         case "offsetRepository": target.getConfiguration().setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
+        case "parallellaneordering":
+        case "parallelLaneOrdering": target.getConfiguration().setParallelLaneOrdering(property(camelContext, java.lang.String.class, value)); return true;
+        case "parallellanes":
+        case "parallelLanes": target.getConfiguration().setParallelLanes(property(camelContext, int.class, value)); return true;
+        case "parallelmaxinflight":
+        case "parallelMaxInFlight": target.getConfiguration().setParallelMaxInFlight(property(camelContext, int.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": target.getConfiguration().setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
@@ -222,6 +235,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         answer.put("autoCommitOnStop", java.lang.String.class);
         answer.put("autoOffsetReset", java.lang.String.class);
         answer.put("basicPropertyBinding", boolean.class);
+        answer.put("batchBody", java.lang.String.class);
+        answer.put("batchMaxRecords", int.class);
+        answer.put("batchTimeoutMs", long.class);
+        answer.put("batching", boolean.class);
         answer.put("breakOnFirstError", boolean.class);
         answer.put("bridgeErrorHandler", boolean.class);
         answer.put("brokers", java.lang.String.class);
@@ -266,6 +283,9 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         answer.put("metricsSampleWindowMs", java.lang.Integer.class);
         answer.put("noOfMetricsSample", java.lang.Integer.class);
         answer.put("offsetRepository", org.apache.camel.spi.StateRepository.class);
+        answer.put("parallelLaneOrdering", java.lang.String.class);
+        answer.put("parallelLanes", int.class);
+        answer.put("parallelMaxInFlight", int.class);
         answer.put("partitionAssignor", java.lang.String.class);
         answer.put("partitionKey", java.lang.Integer.class);
         answer.put("partitioner", java.lang.String.class);
@@ -333,6 +353,13 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoOffsetReset": return target.getConfiguration().getAutoOffsetReset();
         case "basicpropertybinding":
         case "basicPropertyBinding": return target.isBasicPropertyBinding();
+        case "batchbody":
+        case "batchBody": return target.getConfiguration().getBatchBody();
+        case "batchmaxrecords":
+        case "batchMaxRecords": return target.getConfiguration().getBatchMaxRecords();
+        case "batchtimeoutms":
+        case "batchTimeoutMs": return target.getConfiguration().getBatchTimeoutMs();
+        case "batching": return target.getConfiguration().isBatching();
         case "breakonfirsterror":
         case "breakOnFirstError": return target.getConfiguration().isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -419,6 +446,12 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noOfMetricsSample": return target.getConfiguration().getNoOfMetricsSample();
         case "offsetrepository":
         case "offsetRepository": return target.getConfiguration().getOffsetRepository();
+        case "parallellaneordering":
+        case "parallelLaneOrdering": return target.getConfiguration().getParallelLaneOrdering();
+        case "parallellanes":
+        case "parallelLanes": return target.getConfiguration().getParallelLanes();
+        case "parallelmaxinflight":
+        case "parallelMaxInFlight": return target.getConfiguration().getParallelMaxInFlight();
         case "partitionassignor":
         case "partitionAssignor": return target.getConfiguration().getPartitionAssignor();
         case "partitionkey":
@@ -139,6 +139,20 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private boolean breakOnFirstError;
     @UriParam(label = "consumer")
     private StateRepository<String, String> offsetRepository;
+    @UriParam(label = "consumer")
+    private boolean batching;
+    @UriParam(label = "consumer", defaultValue = "500")
+    private int batchMaxRecords = 500;
+    @UriParam(label = "consumer", defaultValue = "1000", javaType = "java.time.Duration")
+    private long batchTimeoutMs = 1000;
+    @UriParam(label = "consumer", defaultValue = "records", enums = "records,values")
+    private String batchBody = "records";
+    @UriParam(label = "consumer,advanced")
+    private int parallelLanes;
+    @UriParam(label = "consumer,advanced", defaultValue = "partition", enums = "partition,key")
+    private String parallelLaneOrdering = "partition";
+    @UriParam(label = "consumer,advanced", defaultValue = "1000")
+    private int parallelMaxInFlight = 1000;
 
     // Producer configuration properties
     @UriParam(label = "producer", defaultValue = KafkaConstants.KAFKA_DEFAULT_PARTITIONER)
@@ -786,6 +800,106 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.breakOnFirstError = breakOnFirstError;
     }
 
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether to consume the records in batches, with one exchange for the
+     * records of one or more polls instead of one exchange per record. The
+     * offsets of the records are committed once the exchange has been
+     * processed. This mode cannot be combined with allowManualCommit or
+     * parallelLanes.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    public int getBatchMaxRecords() {
+        return batchMaxRecords;
+    }
+
+    /**
+     * The maximum number of records in a batch exchange when batching is
+     * enabled.
+     */
+    public void setBatchMaxRecords(int batchMaxRecords) {
+        this.batchMaxRecords = batchMaxRecords;
+    }
+
+    public long getBatchTimeoutMs() {
+        return batchTimeoutMs;
+    }
+
+    /**
+     * The maximum time to wait for more records to fill up a batch when
+     * batching is enabled. Once this time has elapsed since the first record
+     * of the batch was received, the batch is processed with the records
+     * received so far.
+     */
+    public void setBatchTimeoutMs(long batchTimeoutMs) {
+        this.batchTimeoutMs = batchTimeoutMs;
+    }
+
+    public String getBatchBody() {
+        return batchBody;
+    }
+
+    /**
+     * The body of a batch exchange when batching is enabled. With records the
+     * body is the list of ConsumerRecord, and with values it is the list of
+     * the record values.
+     */
+    public void setBatchBody(String batchBody) {
+        this.batchBody = batchBody;
+    }
+
+    public int getParallelLanes() {
+        return parallelLanes;
+    }
+
+    /**
+     * The number of ordered lanes each consumer dispatches the polled records
+     * to. Each lane is processed by its own thread, so records from different
+     * lanes are routed concurrently while the records within a lane keep their
+     * order. The consumer commits the highest offset of each partition up to
+     * which all records have been processed. This mode cannot be combined with
+     * allowManualCommit or breakOnFirstError. Zero (the default) processes the
+     * records one by one on the polling thread.
+     */
+    public void setParallelLanes(int parallelLanes) {
+        this.parallelLanes = parallelLanes;
+    }
+
+    public String getParallelLaneOrdering() {
+        return parallelLaneOrdering;
+    }
+
+    /**
+     * How records are assigned to the parallel lanes. With partition all the
+     * records of a partition go to the same lane and are processed in order.
+     * With key the records are assigned by their key, so only records with the
+     * same key are processed in order. Records without a key are assigned by
+     * partition.
+     */
+    public void setParallelLaneOrdering(String parallelLaneOrdering) {
+        this.parallelLaneOrdering = parallelLaneOrdering;
+    }
+
+    public int getParallelMaxInFlight() {
+        return parallelMaxInFlight;
+    }
+
+    /**
+     * The maximum number of records of a partition that can be waiting in or
+     * being processed by the parallel lanes. When the limit is reached the
+     * consumer pauses fetching from the partition until the lanes have caught
+     * up.
+     */
+    public void setParallelMaxInFlight(int parallelMaxInFlight) {
+        this.parallelMaxInFlight = parallelMaxInFlight;
+    }
+
     public String getBrokers() {
         return brokers;
     }
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +59,10 @@ public class KafkaConsumer extends DefaultConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
+    // poll timeout while records are in flight in the parallel lanes, so
+    // their offsets are committed and paused partitions resumed in time
+    private static final long LANES_POLL_TIMEOUT_MS = 100;
+
     protected ExecutorService executor;
     private final KafkaEndpoint endpoint;
     private final Processor processor;
@@ -76,6 +81,22 @@ public class KafkaConsumer extends DefaultConsumer {
         if (ObjectHelper.isEmpty(brokers)) {
             throw new IllegalArgumentException("Brokers must be configured");
         }
+        if (endpoint.getConfiguration().isBatching()) {
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException("The option allowManualCommit cannot be used together with batching");
+            }
+            if (endpoint.getConfiguration().getParallelLanes() > 0) {
+                throw new IllegalArgumentException("The option parallelLanes cannot be used together with batching");
+            }
+        }
+        if (endpoint.getConfiguration().getParallelLanes() > 0) {
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException("The option allowManualCommit cannot be used together with parallelLanes");
+            }
+            if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                throw new IllegalArgumentException("The option breakOnFirstError cannot be used together with parallelLanes");
+            }
+        }
     }
 
     @Override
@@ -94,6 +115,13 @@ public class KafkaConsumer extends DefaultConsumer {
 
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, brokers);
 
+        if (endpoint.getConfiguration().getParallelLanes() > 0 || endpoint.getConfiguration().isBatching()) {
+            // the offsets of the records processed by the lanes or in batches
+            // are committed by the consumer, as the kafka client would commit
+            // the offsets of records still in flight
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        }
+
         if (endpoint.getConfiguration().getGroupId() != null) {
             String groupId = endpoint.getConfiguration().getGroupId();
             props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
@@ -136,6 +164,9 @@ public class KafkaConsumer extends DefaultConsumer {
             // pre-initialize task during startup so if there is any error we
             // have it thrown asap
             task.preInit();
+            if (endpoint.getConfiguration().getParallelLanes() > 0) {
+                task.initLanes();
+            }
             executor.submit(task);
             tasks.add(task);
         }
@@ -158,6 +189,7 @@ public class KafkaConsumer extends DefaultConsumer {
                 executor.shutdownNow();
             }
         }
+        tasks.forEach(KafkaFetchRecords::shutdownLanes);
         tasks.clear();
         executor = null;
 
@@ -178,6 +210,10 @@ public class KafkaConsumer extends DefaultConsumer {
         private final String threadId;
         private final Properties kafkaProps;
         private final Map<String, Long> lastProcessedOffset = new ConcurrentHashMap<>();
+        private ExecutorService laneExecutor;
+        private KafkaRecordLanes lanes;
+        private final List<ConsumerRecord<Object, Object>> batch = new ArrayList<>();
+        private long batchStarted;
 
         KafkaFetchRecords(String topicName, Pattern topicPattern, String id, Properties kafkaProps) {
             this.topicName = topicName;
@@ -228,6 +264,12 @@ public class KafkaConsumer extends DefaultConsumer {
             doInit();
         }
 
+        void initLanes() {
+            laneExecutor = endpoint.createLaneExecutor();
+            boolean orderByKey = "key".equals(endpoint.getConfiguration().getParallelLaneOrdering());
+            lanes = new KafkaRecordLanes(laneExecutor, endpoint.getConfiguration().getParallelLanes(), orderByKey, this::processLaneRecord);
+        }
+
         protected void doInit() {
             // create consumer
             ClassLoader threadClassLoader = Thread.currentThread().getContextClassLoader();
@@ -250,6 +292,10 @@ public class KafkaConsumer extends DefaultConsumer {
             boolean reConnect = false;
             boolean unsubscribing = false;
 
+            // the records of a batch which was not processed before
+            // re-connecting are polled again from the committed offsets
+            batch.clear();
+
             try {
                 if (topicPattern != null) {
                     LOG.info("Subscribing {} to topic pattern {}", threadId, topicName);
@@ -301,9 +347,23 @@ public class KafkaConsumer extends DefaultConsumer {
                         consumer.seekToEnd(consumer.assignment());
                     }
                 }
+                if (lanes != null) {
+                    // the partitions may have been positioned at other offsets
+                    // than the offsets the lanes keep track of
+                    lanes.remove(consumer.assignment());
+                }
 
                 while (isRunAllowed() && !reConnect && !isStoppingOrStopped() && !isSuspendingOrSuspended()) {
 
+                    if (lanes != null) {
+                        pollIntoLanes(offsetRepository);
+                        continue;
+                    }
+                    if (endpoint.getConfiguration().isBatching()) {
+                        reConnect = !pollIntoBatch(offsetRepository);
+                        continue;
+                    }
+
                     // flag to break out processing on the first exception
                     boolean breakOnErrorHit = false;
                     LOG.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, pollTimeoutMs);
@@ -395,7 +455,22 @@ public class KafkaConsumer extends DefaultConsumer {
                     }
                 }
 
-                if (!reConnect) {
+                if (lanes != null) {
+                    // let the lanes finish the records already dispatched so
+                    // their offsets are committed before unsubscribing
+                    int timeout = endpoint.getConfiguration().getShutdownTimeout();
+                    try {
+                        if (!lanes.awaitCompletion(timeout)) {
+                            LOG.warn("Records of {} from topic {} still in flight after {} millis. Their offsets will not be committed.", threadId, topicName, timeout);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    commitOffsets(lanes.takeCommittableOffsets(), offsetRepository, true);
+                } else if (!batch.isEmpty() && !reConnect) {
+                    // process the records already fetched
+                    processBatch(offsetRepository);
+                } else if (!reConnect) {
                     if (isAutoCommitEnabled()) {
                         if ("async".equals(endpoint.getConfiguration().getAutoCommitOnStop())) {
                             LOG.info("Auto commitAsync on stop {} from topic {}", threadId, topicName);
@@ -435,6 +510,159 @@ public class KafkaConsumer extends DefaultConsumer {
             return reConnect;
         }
 
+        @SuppressWarnings("unchecked")
+        private void pollIntoLanes(StateRepository<String, String> offsetRepository) {
+            long timeout = lanes.hasInFlight() ? Math.min(pollTimeoutMs, LANES_POLL_TIMEOUT_MS) : pollTimeoutMs;
+            LOG.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, timeout);
+            ConsumerRecords<Object, Object> allRecords = consumer.poll(Duration.ofMillis(timeout));
+
+            for (TopicPartition partition : allRecords.partitions()) {
+                List<ConsumerRecord<Object, Object>> records = allRecords.records(partition);
+                LOG.debug("Records count {} received for partition {}", records.size(), partition);
+                for (ConsumerRecord<Object, Object> record : records) {
+                    lanes.dispatch(record);
+                }
+            }
+
+            commitOffsets(lanes.takeCommittableOffsets(), offsetRepository, false);
+
+            // pause the partitions whose records are not processed fast
+            // enough, and resume them once the lanes have caught up half way
+            int maxInFlight = endpoint.getConfiguration().getParallelMaxInFlight();
+            Set<TopicPartition> paused = consumer.paused();
+            for (TopicPartition partition : (Set<TopicPartition>)consumer.assignment()) {
+                int inFlight = lanes.inFlight(partition);
+                if (!paused.contains(partition) && inFlight >= maxInFlight) {
+                    LOG.debug("Pausing partition {} with {} records in flight", partition, inFlight);
+                    consumer.pause(Collections.singletonList(partition));
+                } else if (paused.contains(partition) && inFlight <= maxInFlight / 2) {
+                    LOG.debug("Resuming partition {} with {} records in flight", partition, inFlight);
+                    consumer.resume(Collections.singletonList(partition));
+                }
+            }
+        }
+
+        private void processLaneRecord(ConsumerRecord<Object, Object> record) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(), record.offset(), record.key(), record.value());
+            }
+            Exchange exchange = endpoint.createKafkaExchange(record);
+            propagateHeaders(record, exchange, endpoint.getConfiguration());
+
+            try {
+                processor.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+
+            if (exchange.getException() != null) {
+                // will handle/log the exception and then continue to next, the
+                // offset of the record is committed like a processed one
+                getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+            }
+        }
+
+        /**
+         * Polls records into the current batch and processes the batch when it
+         * is full or has timed out.
+         *
+         * @return <tt>false</tt> if processing a batch failed and we should
+         *         break out and re-connect
+         */
+        @SuppressWarnings("unchecked")
+        private boolean pollIntoBatch(StateRepository<String, String> offsetRepository) {
+            long timeout = pollTimeoutMs;
+            if (!batch.isEmpty()) {
+                // do not wait longer than the batch may wait
+                long remaining = batchStarted + endpoint.getConfiguration().getBatchTimeoutMs() - System.currentTimeMillis();
+                timeout = Math.max(0, Math.min(timeout, remaining));
+            }
+            LOG.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, timeout);
+            ConsumerRecords<Object, Object> allRecords = consumer.poll(Duration.ofMillis(timeout));
+
+            int maxRecords = endpoint.getConfiguration().getBatchMaxRecords();
+            for (ConsumerRecord<Object, Object> record : allRecords) {
+                if (batch.isEmpty()) {
+                    batchStarted = System.currentTimeMillis();
+                }
+                batch.add(record);
+                if (batch.size() >= maxRecords && !processBatch(offsetRepository)) {
+                    return false;
+                }
+            }
+
+            if (!batch.isEmpty() && System.currentTimeMillis() - batchStarted >= endpoint.getConfiguration().getBatchTimeoutMs()) {
+                return processBatch(offsetRepository);
+            }
+            return true;
+        }
+
+        /**
+         * Processes the records of the current batch as one exchange and
+         * commits their offsets.
+         *
+         * @return <tt>false</tt> if processing failed and we should break out
+         *         and re-connect
+         */
+        private boolean processBatch(StateRepository<String, String> offsetRepository) {
+            List<ConsumerRecord<Object, Object>> records = new ArrayList<>(batch);
+            batch.clear();
+            LOG.debug("Processing batch of {} records from topic {}", records.size(), topicName);
+
+            Exchange exchange = endpoint.createKafkaBatchExchange(records);
+            try {
+                processor.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+
+            if (exchange.getException() != null) {
+                if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                    // the offsets of the batch are not committed so we resume
+                    // from the first record of the batch after re-connecting
+                    LOG.warn("Error during processing {} from topic: {}. Will re-connect and start polling again from the last committed offsets.", exchange, topicName,
+                             exchange.getException());
+                    return false;
+                }
+                // will handle/log the exception and then continue to next
+                getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+            }
+
+            // the records of a partition are in offset order so the last one
+            // has the offset to commit
+            Map<TopicPartition, Long> offsets = new HashMap<>();
+            for (ConsumerRecord<Object, Object> record : records) {
+                offsets.put(new TopicPartition(record.topic(), record.partition()), record.offset());
+            }
+            commitOffsets(offsets, offsetRepository, true);
+            return true;
+        }
+
+        private void commitOffsets(Map<TopicPartition, Long> offsets, StateRepository<String, String> offsetRepository, boolean sync) {
+            if (offsets.isEmpty()) {
+                return;
+            }
+            if (offsetRepository != null) {
+                LOG.debug("Saving offset repository state {} from topic {} with offsets: {}", threadId, topicName, offsets);
+                offsets.forEach((partition, offset) -> offsetRepository.setState(serializeOffsetKey(partition), serializeOffsetValue(offset)));
+            } else {
+                Map<TopicPartition, OffsetAndMetadata> commits = new HashMap<>(offsets.size());
+                offsets.forEach((partition, offset) -> commits.put(partition, new OffsetAndMetadata(offset + 1)));
+                if (sync) {
+                    LOG.debug("CommitSync {} from topic {} with offsets: {}", threadId, topicName, offsets);
+                    consumer.commitSync(commits);
+                } else {
+                    LOG.trace("CommitAsync {} from topic {} with offsets: {}", threadId, topicName, offsets);
+                    consumer.commitAsync(commits, (committed, e) -> {
+                        if (e != null) {
+                            // a later commit of the partitions covers these offsets
+                            LOG.warn("Error committing offsets {} from topic {} due {}", committed, topicName, e.getMessage());
+                        }
+                    });
+                }
+            }
+        }
+
         private void commitOffset(StateRepository<String, String> offsetRepository, TopicPartition partition, long partitionLastOffset, boolean forceCommit) {
             if (partitionLastOffset != -1) {
                 if (!endpoint.getConfiguration().isAllowManualCommit() && offsetRepository != null) {
@@ -453,11 +681,38 @@ public class KafkaConsumer extends DefaultConsumer {
             consumer.wakeup();
         }
 
+        private void shutdownLanes() {
+            if (laneExecutor != null) {
+                int timeout = endpoint.getConfiguration().getShutdownTimeout();
+                endpoint.getCamelContext().getExecutorServiceManager().shutdownGraceful(laneExecutor, timeout);
+                laneExecutor = null;
+            }
+        }
+
         @Override
         public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
             LOG.debug("onPartitionsRevoked: {} from topic {}", threadId, topicName);
 
             StateRepository<String, String> offsetRepository = endpoint.getConfiguration().getOffsetRepository();
+            if (lanes != null) {
+                // the partitions may be assigned to another consumer so finish
+                // and commit their records in flight first
+                try {
+                    if (!lanes.awaitCompletion(partitions, endpoint.getConfiguration().getShutdownTimeout())) {
+                        LOG.warn("Records of revoked partitions {} still in flight. Their offsets will not be committed.", partitions);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                commitOffsets(lanes.takeCommittableOffsets(), offsetRepository, true);
+                lanes.remove(partitions);
+                return;
+            }
+            if (!batch.isEmpty()) {
+                // the partitions may be assigned to another consumer so
+                // process the records fetched so far before they are
+                processBatch(offsetRepository);
+            }
             for (TopicPartition partition : partitions) {
                 String offsetKey = serializeOffsetKey(partition);
                 Long offset = lastProcessedOffset.get(offsetKey);
@@ -481,6 +736,12 @@ public class KafkaConsumer extends DefaultConsumer {
         public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
             LOG.debug("onPartitionsAssigned: {} from topic {}", threadId, topicName);
 
+            if (lanes != null) {
+                // the partitions are consumed from their committed offsets,
+                // which may be before the offsets the lanes keep track of
+                // such as when re-connecting
+                lanes.remove(partitions);
+            }
             StateRepository<String, String> offsetRepository = endpoint.getConfiguration().getOffsetRepository();
             if (offsetRepository != null) {
                 for (TopicPartition partition : partitions) {
@@ -17,6 +17,8 @@
 package org.apache.camel.component.kafka;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 
@@ -158,6 +160,10 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
         return getCamelContext().getExecutorServiceManager().newFixedThreadPool(this, "KafkaConsumer[" + configuration.getTopic() + "]", configuration.getConsumerStreams());
     }
 
+    public ExecutorService createLaneExecutor() {
+        return getCamelContext().getExecutorServiceManager().newFixedThreadPool(this, "KafkaConsumerLane[" + configuration.getTopic() + "]", configuration.getParallelLanes());
+    }
+
     public ExecutorService createProducerExecutor() {
         int core = getConfiguration().getWorkerPoolCoreSize();
         int max = getConfiguration().getWorkerPoolMaxSize();
@@ -182,6 +188,24 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
         return exchange;
     }
 
+    public Exchange createKafkaBatchExchange(List<ConsumerRecord<Object, Object>> records) {
+        Exchange exchange = super.createExchange();
+
+        Message message = exchange.getIn();
+        message.setHeader(KafkaConstants.BATCH_SIZE, records.size());
+        if ("values".equals(configuration.getBatchBody())) {
+            List<Object> values = new ArrayList<>(records.size());
+            for (ConsumerRecord<Object, Object> record : records) {
+                values.add(record.value());
+            }
+            message.setBody(values);
+        } else {
+            message.setBody(records);
+        }
+
+        return exchange;
+    }
+
     protected KafkaProducer createProducer(KafkaEndpoint endpoint) {
         return new KafkaProducer(endpoint);
     }
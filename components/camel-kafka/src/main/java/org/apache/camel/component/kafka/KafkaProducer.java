@@ -19,16 +19,14 @@ package org.apache.camel.component.kafka;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -291,84 +289,57 @@ public class KafkaProducer extends DefaultAsyncProducer {
     }
 
     @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("rawtypes")
     // Camel calls this method if the endpoint isSynchronous(), as the
     // KafkaEndpoint creates a SynchronousDelegateProducer for it
     public void process(Exchange exchange) throws Exception {
         Iterator<KeyValueHolder<Object, ProducerRecord>> c = createRecorder(exchange);
-        List<KeyValueHolder<Object, Future<RecordMetadata>>> futures = new LinkedList<>();
-        List<RecordMetadata> recordMetadatas = new ArrayList<>();
+        // the records are acknowledged through the same callbacks as in the
+        // asynchronous mode, so we only wait once for all of them
+        CountDownLatch latch = new CountDownLatch(1);
+        KafkaProducerCallBack cb = new KafkaProducerCallBack(exchange, doneSync -> latch.countDown(), false);
+        sendRecords(c, cb);
+        if (!cb.allSent()) {
+            latch.await();
+        }
+    }
 
-        if (endpoint.getConfiguration().isRecordMetadata()) {
-            if (exchange.hasOut()) {
-                exchange.getOut().setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
-            } else {
-                exchange.getIn().setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
-            }
+    @Override
+    @SuppressWarnings("rawtypes")
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        KafkaProducerCallBack cb = null;
+        try {
+            Iterator<KeyValueHolder<Object, ProducerRecord>> c = createRecorder(exchange);
+            cb = new KafkaProducerCallBack(exchange, callback, true);
+            sendRecords(c, cb);
+        } catch (Exception ex) {
+            exchange.setException(ex);
+        }
+        if (cb == null) {
+            callback.done(true);
+            return true;
         }
+        // the records sent before a failure are still in flight
+        return cb.allSent();
+    }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void sendRecords(Iterator<KeyValueHolder<Object, ProducerRecord>> c, KafkaProducerCallBack cb) {
         while (c.hasNext()) {
             KeyValueHolder<Object, ProducerRecord> exrec = c.next();
             ProducerRecord rec = exrec.getValue();
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Sending message to topic: {}, partition: {}, key: {}", rec.topic(), rec.partition(), rec.key());
             }
-            futures.add(new KeyValueHolder(exrec.getKey(), kafkaProducer.send(rec)));
-        }
-        for (KeyValueHolder<Object, Future<RecordMetadata>> f : futures) {
-            // wait for them all to be sent
-            List<RecordMetadata> metadata = Collections.singletonList(f.getValue().get());
-            recordMetadatas.addAll(metadata);
-            Exchange innerExchange = null;
-            if (f.getKey() instanceof Exchange) {
-                innerExchange = (Exchange)f.getKey();
-                if (innerExchange != null) {
-                    if (endpoint.getConfiguration().isRecordMetadata()) {
-                        if (innerExchange.hasOut()) {
-                            innerExchange.getOut().setHeader(KafkaConstants.KAFKA_RECORDMETA, metadata);
-                        } else {
-                            innerExchange.getIn().setHeader(KafkaConstants.KAFKA_RECORDMETA, metadata);
-                        }
-                    }
-                }
-            }
-            Message innerMessage = null;
-            if (f.getKey() instanceof Message) {
-                innerMessage = (Message)f.getKey();
-                if (innerMessage != null) {
-                    if (endpoint.getConfiguration().isRecordMetadata()) {
-                        innerMessage.setHeader(KafkaConstants.KAFKA_RECORDMETA, metadata);
-                    }
-                }
-            }
-        }
-    }
-
-    @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    public boolean process(Exchange exchange, AsyncCallback callback) {
-        try {
-            Iterator<KeyValueHolder<Object, ProducerRecord>> c = createRecorder(exchange);
-            KafkaProducerCallBack cb = new KafkaProducerCallBack(exchange, callback);
-            while (c.hasNext()) {
-                cb.increment();
-                KeyValueHolder<Object, ProducerRecord> exrec = c.next();
-                ProducerRecord rec = exrec.getValue();
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Sending message to topic: {}, partition: {}, key: {}", rec.topic(), rec.partition(), rec.key());
-                }
-                List<Callback> delegates = new ArrayList<>(Arrays.asList(cb));
-                if (exrec.getKey() != null) {
-                    delegates.add(new KafkaProducerCallBack(exrec.getKey()));
-                }
-                kafkaProducer.send(rec, new DelegatingCallback(delegates.toArray(new Callback[0])));
+            cb.increment();
+            try {
+                kafkaProducer.send(rec, cb.forRecord(exrec.getKey()));
+            } catch (RuntimeException e) {
+                // the record will not be acknowledged
+                cb.decrement();
+                throw e;
             }
-            return cb.allSent();
-        } catch (Exception ex) {
-            exchange.setException(ex);
         }
-        callback.done(true);
-        return true;
     }
 
     /**
@@ -399,69 +370,52 @@ public class KafkaProducer extends DefaultAsyncProducer {
         return answer != null ? answer : object;
     }
 
-    private final class DelegatingCallback implements Callback {
-
-        private final List<Callback> callbacks;
-
-        public DelegatingCallback(Callback... callbacks) {
-            this.callbacks = Arrays.asList(callbacks);
-        }
-
-        @Override
-        public void onCompletion(RecordMetadata metadata, Exception exception) {
-            callbacks.forEach(c -> c.onCompletion(metadata, exception));
-        }
-    }
-
     private final class KafkaProducerCallBack implements Callback {
 
-        private final Object body;
+        private final Exchange exchange;
         private final AsyncCallback callback;
+        private final boolean continueOnWorkerPool;
         private final AtomicInteger count = new AtomicInteger(1);
-        private final List<RecordMetadata> recordMetadatas = new ArrayList<>();
+        private final List<RecordMetadata> recordMetadatas = Collections.synchronizedList(new ArrayList<>());
 
-        KafkaProducerCallBack(Object body, AsyncCallback callback) {
-            this.body = body;
+        KafkaProducerCallBack(Exchange exchange, AsyncCallback callback, boolean continueOnWorkerPool) {
+            this.exchange = exchange;
             this.callback = callback;
+            this.continueOnWorkerPool = continueOnWorkerPool;
             if (endpoint.getConfiguration().isRecordMetadata()) {
-                if (body instanceof Exchange) {
-                    Exchange ex = (Exchange)body;
-                    if (ex.hasOut()) {
-                        ex.getOut().setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
-                    } else {
-                        ex.getIn().setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
-                    }
-                }
-                if (body instanceof Message) {
-                    Message msg = (Message)body;
-                    msg.setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
+                if (exchange.hasOut()) {
+                    exchange.getOut().setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
+                } else {
+                    exchange.getIn().setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
                 }
             }
         }
 
-        public KafkaProducerCallBack(Exchange exchange) {
-            this(exchange, null);
-        }
-
-        public KafkaProducerCallBack(Message message) {
-            this(message, null);
-        }
-
-        public KafkaProducerCallBack(Object body) {
-            this(body, null);
+        /**
+         * The callback for a record whose body is the given exchange or
+         * message of a batch, or this callback if there is nothing to update
+         * on the body.
+         */
+        Callback forRecord(Object body) {
+            if (body != exchange && (body instanceof Exchange || body instanceof Message)) {
+                return new RecordCallBack(body, this);
+            }
+            return this;
         }
 
         void increment() {
             count.incrementAndGet();
         }
 
+        void decrement() {
+            count.decrementAndGet();
+        }
+
         boolean allSent() {
             if (count.decrementAndGet() == 0) {
                 LOG.trace("All messages sent, continue routing.");
                 // was able to get all the work done while queuing the requests
-                if (callback != null) {
-                    callback.done(true);
-                }
+                callback.done(true);
                 return true;
             }
             return false;
@@ -470,30 +424,57 @@ public class KafkaProducer extends DefaultAsyncProducer {
         @Override
         public void onCompletion(RecordMetadata recordMetadata, Exception e) {
             if (e != null) {
-                if (body instanceof Exchange) {
-                    ((Exchange)body).setException(e);
-                }
-                if (body instanceof Message && ((Message)body).getExchange() != null) {
-                    ((Message)body).getExchange().setException(e);
-                }
+                exchange.setException(e);
             }
 
             recordMetadatas.add(recordMetadata);
 
             if (count.decrementAndGet() == 0) {
-                // use worker pool to continue routing the exchange
-                // as this thread is from Kafka Callback and should not be used
-                // by Camel routing
-                workerPool.submit(new Runnable() {
-                    @Override
-                    public void run() {
+                if (continueOnWorkerPool) {
+                    // use worker pool to continue routing the exchange
+                    // as this thread is from Kafka Callback and should not be used
+                    // by Camel routing
+                    workerPool.submit(() -> {
                         LOG.trace("All messages sent, continue routing.");
-                        if (callback != null) {
-                            callback.done(false);
-                        }
-                    }
-                });
+                        callback.done(false);
+                    });
+                } else {
+                    // the caller is only waiting for the acknowledgements
+                    callback.done(false);
+                }
+            }
+        }
+    }
+
+    private final class RecordCallBack implements Callback {
+
+        private final Object body;
+        private final KafkaProducerCallBack delegate;
+
+        RecordCallBack(Object body, KafkaProducerCallBack delegate) {
+            this.body = body;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onCompletion(RecordMetadata recordMetadata, Exception e) {
+            Message message;
+            if (body instanceof Exchange) {
+                Exchange ex = (Exchange)body;
+                message = ex.hasOut() ? ex.getOut() : ex.getIn();
+                if (e != null) {
+                    ex.setException(e);
+                }
+            } else {
+                message = (Message)body;
+                if (e != null && message.getExchange() != null) {
+                    message.getExchange().setException(e);
+                }
+            }
+            if (endpoint.getConfiguration().isRecordMetadata()) {
+                message.setHeader(KafkaConstants.KAFKA_RECORDMETA, Collections.singletonList(recordMetadata));
             }
+            delegate.onCompletion(recordMetadata, e);
         }
     }
 
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches the records polled by a Kafka consumer thread to a number of
+ * ordered lanes which are processed concurrently, and keeps track of the
+ * offset of each partition up to which all records have been processed.
+ * <p/>
+ * The records of a partition must be dispatched in offset order, and only the
+ * polling thread may dispatch records and take the committable offsets.
+ */
+final class KafkaRecordLanes {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordLanes.class);
+
+    /**
+     * Processes a record in a lane.
+     */
+    @FunctionalInterface
+    interface RecordProcessor {
+        void process(ConsumerRecord<Object, Object> record);
+    }
+
+    private final Executor executor;
+    private final RecordProcessor processor;
+    private final boolean orderByKey;
+    private final Lane[] lanes;
+    private final Map<TopicPartition, PartitionOffsets> partitions = new ConcurrentHashMap<>();
+
+    KafkaRecordLanes(Executor executor, int size, boolean orderByKey, RecordProcessor processor) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The number of lanes must be positive, was: " + size);
+        }
+        this.executor = executor;
+        this.processor = processor;
+        this.orderByKey = orderByKey;
+        this.lanes = new Lane[size];
+        for (int i = 0; i < size; i++) {
+            lanes[i] = new Lane();
+        }
+    }
+
+    /**
+     * Adds the record to the end of its lane.
+     */
+    void dispatch(ConsumerRecord<Object, Object> record) {
+        PartitionOffsets offsets = partitions.computeIfAbsent(new TopicPartition(record.topic(), record.partition()), p -> new PartitionOffsets());
+        offsets.dispatched(record.offset());
+        lanes[laneIndex(record)].add(new LaneEntry(record, offsets));
+    }
+
+    int laneIndex(ConsumerRecord<Object, Object> record) {
+        int hash;
+        Object key = record.key();
+        if (orderByKey && key != null) {
+            // byte array keys have no value based hash code
+            hash = key instanceof byte[] ? Arrays.hashCode((byte[]) key) : key.hashCode();
+        } else {
+            hash = 31 * record.topic().hashCode() + record.partition();
+        }
+        // spread the hash as the lane count is often a power of two
+        hash ^= hash >>> 16;
+        return (hash & Integer.MAX_VALUE) % lanes.length;
+    }
+
+    /**
+     * The number of records of the partition which are waiting in or being
+     * processed by the lanes.
+     */
+    int inFlight(TopicPartition partition) {
+        PartitionOffsets offsets = partitions.get(partition);
+        return offsets != null ? offsets.inFlight() : 0;
+    }
+
+    boolean hasInFlight() {
+        for (PartitionOffsets offsets : partitions.values()) {
+            if (offsets.inFlight() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the last offset of each partition up to which all records have
+     * been processed, for the partitions where it has advanced since the
+     * previous call.
+     */
+    Map<TopicPartition, Long> takeCommittableOffsets() {
+        Map<TopicPartition, Long> answer = new LinkedHashMap<>();
+        for (Map.Entry<TopicPartition, PartitionOffsets> entry : partitions.entrySet()) {
+            long offset = entry.getValue().takeCommittable();
+            if (offset != -1) {
+                answer.put(entry.getKey(), offset);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Waits until all the dispatched records have been processed.
+     *
+     * @return <tt>true</tt> if all records were processed, <tt>false</tt> if
+     *         the timeout elapsed first
+     */
+    boolean awaitCompletion(long timeoutMillis) throws InterruptedException {
+        return awaitCompletion(partitions.keySet(), timeoutMillis);
+    }
+
+    /**
+     * Waits until all the dispatched records of the given partitions have been
+     * processed.
+     *
+     * @return <tt>true</tt> if all records were processed, <tt>false</tt> if
+     *         the timeout elapsed first
+     */
+    boolean awaitCompletion(Collection<TopicPartition> topicPartitions, long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (TopicPartition partition : topicPartitions) {
+            PartitionOffsets offsets = partitions.get(partition);
+            if (offsets != null && !offsets.awaitCompletion(deadline)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Forgets the offsets of the given partitions, such as when they have been
+     * revoked from the consumer, or when the consumer has been positioned at
+     * another offset. Records still in flight complete without affecting the
+     * committable offsets of the records dispatched afterwards.
+     */
+    void remove(Collection<TopicPartition> topicPartitions) {
+        partitions.keySet().removeAll(topicPartitions);
+    }
+
+    private final class Lane implements Runnable {
+
+        private final Queue<LaneEntry> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        void add(LaneEntry entry) {
+            queue.add(entry);
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                LaneEntry entry;
+                while ((entry = queue.poll()) != null) {
+                    try {
+                        processor.process(entry.record);
+                    } catch (Throwable e) {
+                        LOG.warn("Error processing record from partition {} with offset {}. This exception is ignored.", entry.record.partition(), entry.record.offset(), e);
+                    } finally {
+                        entry.offsets.completed(entry.record.offset());
+                    }
+                }
+                scheduled.set(false);
+                // a record may have been added after the queue was drained but
+                // before the flag was cleared
+                if (queue.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class LaneEntry {
+
+        private final ConsumerRecord<Object, Object> record;
+        private final PartitionOffsets offsets;
+
+        LaneEntry(ConsumerRecord<Object, Object> record, PartitionOffsets offsets) {
+            this.record = record;
+            this.offsets = offsets;
+        }
+    }
+
+    /**
+     * Tracks the offsets of a partition which are still in flight, and the
+     * highest offset below which all records are completed.
+     */
+    static final class PartitionOffsets {
+
+        // dispatched offsets in order, the head is the lowest in flight offset
+        private final ArrayDeque<Long> pending = new ArrayDeque<>();
+        // offsets completed out of order, only used when ordering by key
+        private final Set<Long> completed = new HashSet<>();
+        private long committable = -1;
+        private long taken = -1;
+
+        synchronized void dispatched(long offset) {
+            pending.addLast(offset);
+        }
+
+        synchronized void completed(long offset) {
+            Long head = pending.peekFirst();
+            if (head == null) {
+                return;
+            }
+            if (head != offset) {
+                completed.add(offset);
+                return;
+            }
+            pending.pollFirst();
+            committable = offset;
+            while (!pending.isEmpty() && completed.remove(pending.peekFirst())) {
+                committable = pending.pollFirst();
+            }
+            if (pending.isEmpty()) {
+                notifyAll();
+            }
+        }
+
+        synchronized int inFlight() {
+            return pending.size();
+        }
+
+        synchronized long takeCommittable() {
+            if (committable > taken) {
+                taken = committable;
+                return committable;
+            }
+            return -1;
+        }
+
+        synchronized boolean awaitCompletion(long deadline) throws InterruptedException {
+            while (!pending.isEmpty()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+    }
+}
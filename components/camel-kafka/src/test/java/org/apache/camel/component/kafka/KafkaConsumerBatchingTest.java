@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaConsumerBatchingTest extends BaseEmbeddedKafkaTest {
+
+    public static final String TOPIC = "batching";
+
+    private static final String GROUP = "batching-group";
+
+    @EndpointInject("kafka:" + TOPIC + "?groupId=" + GROUP + "&autoOffsetReset=earliest"
+                    + "&keyDeserializer=org.apache.kafka.common.serialization.StringDeserializer"
+                    + "&valueDeserializer=org.apache.kafka.common.serialization.StringDeserializer"
+                    + "&batching=true&batchMaxRecords=5&batchTimeoutMs=1000&batchBody=values&breakOnFirstError=true")
+    private Endpoint from;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint to;
+
+    private final AtomicBoolean failNext = new AtomicBoolean();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Collections.singletonList(TOPIC));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() throws Exception {
+                from(from).routeId("batching").process(exchange -> {
+                    if (failNext.compareAndSet(true, false)) {
+                        failures.incrementAndGet();
+                        throw new IllegalStateException("Forced failure");
+                    }
+                }).to(to);
+            }
+        };
+    }
+
+    @Test
+    public void kafkaRecordsAreConsumedInBatches() throws Exception {
+        // a full batch is processed right away
+        to.expectedMessageCount(1);
+        to.expectedBodiesReceived(Collections.singletonList(Arrays.asList("m1", "m2", "m3", "m4", "m5")));
+        to.expectedHeaderReceived(KafkaConstants.BATCH_SIZE, 5);
+        send(1, 5);
+        to.assertIsSatisfied(5000);
+        // and its offsets are committed after the batch
+        assertCommittedOffsets(5);
+
+        // a batch which is not full is processed when the batch timeout has elapsed
+        to.reset();
+        to.expectedMessageCount(1);
+        to.expectedBodiesReceived(Collections.singletonList(Arrays.asList("m6", "m7")));
+        long start = System.currentTimeMillis();
+        send(6, 2);
+        to.assertIsSatisfied(5000);
+        assertTrue(System.currentTimeMillis() - start >= 1000, "Should wait for the batch timeout");
+        assertCommittedOffsets(7);
+
+        // a failed batch is not committed, so its records are consumed again after re-connecting
+        to.reset();
+        to.expectedMessageCount(1);
+        to.expectedBodiesReceived(Collections.singletonList(Arrays.asList("m8", "m9", "m10", "m11", "m12")));
+        to.setResultWaitTime(30000);
+        failNext.set(true);
+        send(8, 5);
+        to.assertIsSatisfied();
+        assertEquals(1, failures.get());
+        assertCommittedOffsets(12);
+    }
+
+    private void send(int first, int count) {
+        for (int i = first; i < first + count; i++) {
+            producer.send(new ProducerRecord<>(TOPIC, "1", "m" + i));
+        }
+        producer.flush();
+    }
+
+    private void assertCommittedOffsets(long expected) throws Exception {
+        // the topic is new so the committed offsets add up to the number of records
+        long deadline = System.currentTimeMillis() + 10000;
+        long committed = committedOffsets();
+        while (committed != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            committed = committedOffsets();
+        }
+        assertEquals(expected, committed, "Committed offsets of group " + GROUP);
+    }
+
+    private long committedOffsets() throws Exception {
+        return kafkaAdminClient.listConsumerGroupOffsets(GROUP).partitionsToOffsetAndMetadata().get().values().stream()
+                .filter(Objects::nonNull).mapToLong(OffsetAndMetadata::offset).sum();
+    }
+}
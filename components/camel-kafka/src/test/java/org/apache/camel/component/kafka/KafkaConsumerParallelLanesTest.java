@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class KafkaConsumerParallelLanesTest extends BaseEmbeddedKafkaTest {
+
+    public static final String TOPIC = "parallel-lanes";
+
+    private static final String GROUP = "parallel-lanes-group";
+    private static final int KEYS = 6;
+
+    // two consumers in the same group so the partitions are re-balanced, and a
+    // low number of records in flight so the partitions are paused and resumed
+    @EndpointInject("kafka:" + TOPIC + "?groupId=" + GROUP + "&autoOffsetReset=earliest&consumersCount=2"
+                    + "&keyDeserializer=org.apache.kafka.common.serialization.StringDeserializer"
+                    + "&valueDeserializer=org.apache.kafka.common.serialization.StringDeserializer"
+                    + "&parallelLanes=4&parallelLaneOrdering=key&parallelMaxInFlight=4")
+    private Endpoint from;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint to;
+
+    private final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @Override
+    protected void doPreSetup() throws Exception {
+        // create the topic with several partitions before the consumers subscribe
+        kafkaAdminClient.createTopics(Collections.singletonList(new NewTopic(TOPIC, 3, (short) 1))).all().get();
+    }
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Collections.singletonList(TOPIC));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() throws Exception {
+                from(from).routeId("lanes").process(exchange -> {
+                    String key = exchange.getIn().getHeader(KafkaConstants.KEY, String.class);
+                    received.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(exchange.getIn().getBody(Integer.class));
+                    // slow enough for the records to queue up in the lanes
+                    Thread.sleep(5);
+                }).to(to);
+            }
+        };
+    }
+
+    @Test
+    public void recordsAreProcessedInOrderPerKeyAndCommitted() throws Exception {
+        to.expectedMessageCount(KEYS * 20);
+        to.setResultWaitTime(30000);
+        send(0, 20);
+        to.assertIsSatisfied();
+
+        // the records of each key are processed in the order they were sent
+        for (int k = 0; k < KEYS; k++) {
+            assertEquals(sequence(0, 20), received.get("key" + k), "Records of key" + k);
+        }
+        // the offset after the last record of each partition is committed
+        assertCommittedOffsets(KEYS * 20);
+
+        // the offsets in flight are committed when stopping, so only the new
+        // records are consumed after starting again
+        context.getRouteController().stopRoute("lanes");
+        received.clear();
+        to.reset();
+        to.expectedMessageCount(KEYS * 5);
+        to.setResultWaitTime(30000);
+        send(20, 5);
+        context.getRouteController().startRoute("lanes");
+        to.assertIsSatisfied();
+
+        for (int k = 0; k < KEYS; k++) {
+            assertEquals(sequence(20, 5), received.get("key" + k), "Records of key" + k);
+        }
+        assertCommittedOffsets(KEYS * 25);
+    }
+
+    private void send(int first, int count) {
+        for (int i = first; i < first + count; i++) {
+            for (int k = 0; k < KEYS; k++) {
+                producer.send(new ProducerRecord<>(TOPIC, "key" + k, String.valueOf(i)));
+            }
+        }
+        producer.flush();
+    }
+
+    private static List<Integer> sequence(int first, int count) {
+        return IntStream.range(first, first + count).boxed().collect(Collectors.toList());
+    }
+
+    private void assertCommittedOffsets(long expected) throws Exception {
+        // the topic is new so the committed offsets add up to the number of records
+        long deadline = System.currentTimeMillis() + 30000;
+        long committed = committedOffsets();
+        while (committed != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            committed = committedOffsets();
+        }
+        assertEquals(expected, committed, "Committed offsets of group " + GROUP);
+    }
+
+    private long committedOffsets() throws Exception {
+        return kafkaAdminClient.listConsumerGroupOffsets(GROUP).partitionsToOffsetAndMetadata().get().values().stream()
+                .filter(Objects::nonNull).mapToLong(OffsetAndMetadata::offset).sum();
+    }
+}
@@ -46,4 +46,15 @@ public class KafkaConsumerTest {
         when(endpoint.getConfiguration().getBrokers()).thenReturn("localhost:2181");
         new KafkaConsumer(endpoint, processor);
     }
+
+    @Test
+    public void consumerParallelLanesDoesNotAllowManualCommit() throws Exception {
+        when(endpoint.getComponent()).thenReturn(component);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(endpoint.getConfiguration().getBrokers()).thenReturn("localhost:2181");
+        when(endpoint.getConfiguration().getParallelLanes()).thenReturn(4);
+        when(endpoint.getConfiguration().isAllowManualCommit()).thenReturn(true);
+        assertThrows(IllegalArgumentException.class,
+            () -> new KafkaConsumer(endpoint, processor));
+    }
 }
@@ -16,6 +16,9 @@
  */
 package org.apache.camel.component.kafka;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.impl.DefaultCamelContext;
@@ -68,6 +71,21 @@ public class KafkaEndpointTest {
         assertEquals(1518026587392L, inMessage.getHeader(KafkaConstants.TIMESTAMP));
     }
 
+    @Test
+    public void createKafkaBatchExchangeShouldSetRecordsOrValues() {
+        List<ConsumerRecord<Object, Object>> records = Arrays.asList(new ConsumerRecord<>("topic", 0, 1L, "key1", "value1"),
+                                                                     new ConsumerRecord<>("topic", 1, 2L, "key2", "value2"));
+
+        Exchange exchange = endpoint.createKafkaBatchExchange(records);
+        assertEquals(2, exchange.getIn().getHeader(KafkaConstants.BATCH_SIZE));
+        assertEquals(records, exchange.getIn().getBody());
+
+        endpoint.getConfiguration().setBatchBody("values");
+        exchange = endpoint.createKafkaBatchExchange(records);
+        assertEquals(2, exchange.getIn().getHeader(KafkaConstants.BATCH_SIZE));
+        assertEquals(Arrays.asList("value1", "value2"), exchange.getIn().getBody());
+    }
+
     @Test
     public void isSingletonShouldReturnTrue() {
         assertTrue(endpoint.isSingleton());
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
@@ -48,6 +49,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -86,6 +88,11 @@ public class KafkaProducerTest {
         Mockito.when(future.get()).thenReturn(rm);
         org.apache.kafka.clients.producer.KafkaProducer kp = Mockito.mock(org.apache.kafka.clients.producer.KafkaProducer.class);
         Mockito.when(kp.send(any(ProducerRecord.class))).thenReturn(future);
+        // acknowledge the records straight away
+        Mockito.when(kp.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            ((Callback) invocation.getArgument(1)).onCompletion(rm, null);
+            return future;
+        });
 
         Mockito.when(exchange.getContext()).thenReturn(context);
         Mockito.when(context.getTypeConverter()).thenReturn(converter);
@@ -114,7 +121,7 @@ public class KafkaProducerTest {
         in.setHeader(KafkaConstants.PARTITION_KEY, 4);
 
         producer.process(exchange);
-        Mockito.verify(producer.getKafkaProducer()).send(any(ProducerRecord.class));
+        Mockito.verify(producer.getKafkaProducer()).send(any(ProducerRecord.class), any(Callback.class));
         assertRecordMetadataExists();
     }
 
@@ -124,7 +131,7 @@ public class KafkaProducerTest {
         endpoint.getConfiguration().setTopic("sometopic");
         // setup the exception here
         org.apache.kafka.clients.producer.KafkaProducer kp = producer.getKafkaProducer();
-        Mockito.when(kp.send(any(ProducerRecord.class))).thenThrow(new ApiException());
+        Mockito.when(kp.send(any(ProducerRecord.class), any(Callback.class))).thenThrow(new ApiException());
         Mockito.when(exchange.getIn()).thenReturn(in);
         in.setHeader(KafkaConstants.PARTITION_KEY, 4);
 
@@ -140,15 +147,68 @@ public class KafkaProducerTest {
 
         in.setHeader(KafkaConstants.PARTITION_KEY, 4);
 
-        producer.process(exchange, callback);
+        // the record is acknowledged while it is sent
+        assertTrue(producer.process(exchange, callback));
 
-        ArgumentCaptor<Callback> callBackCaptor = ArgumentCaptor.forClass(Callback.class);
-        Mockito.verify(producer.getKafkaProducer()).send(any(ProducerRecord.class), callBackCaptor.capture());
-        Callback kafkaCallback = callBackCaptor.getValue();
-        kafkaCallback.onCompletion(new RecordMetadata(null, 0, 0, 0, 0L, 0, 0), null);
+        Mockito.verify(producer.getKafkaProducer()).send(any(ProducerRecord.class), any(Callback.class));
+        Mockito.verify(callback).done(eq(true));
         assertRecordMetadataExists();
     }
 
+    @Test
+    public void processAsyncCompletesWhenAllRecordsAreAcknowledged() throws Exception {
+        endpoint.getConfiguration().setTopic("sometopic");
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        in.setBody(Arrays.asList("a", "b", "c"));
+
+        // acknowledge the records later
+        org.apache.kafka.clients.producer.KafkaProducer kp = producer.getKafkaProducer();
+        Mockito.when(kp.send(any(ProducerRecord.class), any(Callback.class))).thenReturn(null);
+
+        assertFalse(producer.process(exchange, callback));
+
+        ArgumentCaptor<Callback> callBackCaptor = ArgumentCaptor.forClass(Callback.class);
+        Mockito.verify(kp, Mockito.times(3)).send(any(ProducerRecord.class), callBackCaptor.capture());
+        List<Callback> kafkaCallbacks = callBackCaptor.getAllValues();
+        kafkaCallbacks.get(0).onCompletion(new RecordMetadata(null, 0, 0, 0, 0L, 0, 0), null);
+        kafkaCallbacks.get(1).onCompletion(new RecordMetadata(null, 0, 0, 0, 0L, 0, 0), null);
+        Mockito.verify(callback, Mockito.after(100).never()).done(Mockito.anyBoolean());
+
+        kafkaCallbacks.get(2).onCompletion(new RecordMetadata(null, 0, 0, 0, 0L, 0, 0), null);
+        Mockito.verify(callback, Mockito.timeout(5000)).done(eq(false));
+        assertRecordMetadataExists(3);
+    }
+
+    @Test
+    public void processWaitsOnceForAllRecordsToBeAcknowledged() throws Exception {
+        endpoint.getConfiguration().setTopic("sometopic");
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        in.setBody(Arrays.asList("a", "b", "c"));
+
+        // acknowledge the records from another thread like the kafka client
+        ExecutorService ioThread = Executors.newSingleThreadExecutor();
+        RecordMetadata rm = new RecordMetadata(null, 0, 0, 0, 0L, 0, 0);
+        org.apache.kafka.clients.producer.KafkaProducer kp = producer.getKafkaProducer();
+        Mockito.when(kp.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            Callback kafkaCallback = invocation.getArgument(1);
+            ioThread.submit(() -> {
+                Thread.sleep(50);
+                kafkaCallback.onCompletion(rm, null);
+                return null;
+            });
+            return null;
+        });
+
+        try {
+            producer.process(exchange);
+        } finally {
+            ioThread.shutdown();
+        }
+
+        Mockito.verify(kp, Mockito.times(3)).send(any(ProducerRecord.class), any(Callback.class));
+        assertRecordMetadataExists(3);
+    }
+
     @Test
     public void processAsyncSendsMessageWithException() throws Exception {
         endpoint.getConfiguration().setTopic("sometopic");
@@ -369,7 +429,7 @@ public class KafkaProducerTest {
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected void verifySendMessage(Integer partitionKey, String topic, String messageKey) {
         ArgumentCaptor<ProducerRecord> captor = ArgumentCaptor.forClass(ProducerRecord.class);
-        Mockito.verify(producer.getKafkaProducer()).send(captor.capture());
+        Mockito.verify(producer.getKafkaProducer()).send(captor.capture(), any(Callback.class));
         assertEquals(partitionKey, captor.getValue().partition());
         assertEquals(messageKey, captor.getValue().key());
         assertEquals(topic, captor.getValue().topic());
@@ -378,7 +438,7 @@ public class KafkaProducerTest {
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected void verifySendMessage(String topic, String messageKey) {
         ArgumentCaptor<ProducerRecord> captor = ArgumentCaptor.forClass(ProducerRecord.class);
-        Mockito.verify(producer.getKafkaProducer()).send(captor.capture());
+        Mockito.verify(producer.getKafkaProducer()).send(captor.capture(), any(Callback.class));
         assertEquals(messageKey, captor.getValue().key());
         assertEquals(topic, captor.getValue().topic());
     }
@@ -386,14 +446,14 @@ public class KafkaProducerTest {
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected void verifySendMessage(String topic) {
         ArgumentCaptor<ProducerRecord> captor = ArgumentCaptor.forClass(ProducerRecord.class);
-        Mockito.verify(producer.getKafkaProducer()).send(captor.capture());
+        Mockito.verify(producer.getKafkaProducer()).send(captor.capture(), any(Callback.class));
         assertEquals(topic, captor.getValue().topic());
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected void verifySendMessages(final List<String> expectedTopics) {
         final ArgumentCaptor<ProducerRecord> captor = ArgumentCaptor.forClass(ProducerRecord.class);
-        Mockito.verify(producer.getKafkaProducer(), Mockito.atLeast(expectedTopics.size())).send(captor.capture());
+        Mockito.verify(producer.getKafkaProducer(), Mockito.atLeast(expectedTopics.size())).send(captor.capture(), any(Callback.class));
         final List<String> actualTopics = captor.getAllValues().stream().map(ProducerRecord::topic).collect(Collectors.toList());
 
         assertEquals(expectedTopics, actualTopics);
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaRecordLanesTest {
+
+    private static final String TOPIC = "test";
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void before() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void recordsOfPartitionAreProcessedInOrder() throws Exception {
+        Map<Integer, List<Long>> processed = new ConcurrentHashMap<>();
+        KafkaRecordLanes lanes = new KafkaRecordLanes(executor, 4, false, record -> {
+            processed.computeIfAbsent(record.partition(), p -> Collections.synchronizedList(new ArrayList<>())).add(record.offset());
+        });
+
+        for (long offset = 0; offset < 100; offset++) {
+            for (int partition = 0; partition < 3; partition++) {
+                lanes.dispatch(record(partition, offset, null));
+            }
+        }
+
+        assertTrue(lanes.awaitCompletion(5000));
+        for (int partition = 0; partition < 3; partition++) {
+            List<Long> offsets = processed.get(partition);
+            assertEquals(100, offsets.size());
+            for (int i = 0; i < offsets.size(); i++) {
+                assertEquals(i, offsets.get(i).longValue());
+            }
+        }
+
+        Map<TopicPartition, Long> committable = lanes.takeCommittableOffsets();
+        assertEquals(3, committable.size());
+        assertEquals(99L, committable.get(new TopicPartition(TOPIC, 0)).longValue());
+        // nothing new to commit
+        assertTrue(lanes.takeCommittableOffsets().isEmpty());
+    }
+
+    @Test
+    public void committableOffsetStopsAtRecordInFlight() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        KafkaRecordLanes lanes = new KafkaRecordLanes(executor, 2, true, record -> {
+            if ("slow".equals(record.key())) {
+                try {
+                    blocked.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        ConsumerRecord<Object, Object> slow = record(0, 0, "slow");
+        lanes.dispatch(slow);
+        // find a key which is processed by the other lane
+        String fast = "fast";
+        for (int i = 0; lanes.laneIndex(record(0, 1, fast)) == lanes.laneIndex(slow); i++) {
+            fast = "fast" + i;
+        }
+        for (long offset = 1; offset <= 10; offset++) {
+            lanes.dispatch(record(0, offset, fast));
+        }
+
+        TopicPartition partition = new TopicPartition(TOPIC, 0);
+        assertFalse(lanes.awaitCompletion(Collections.singletonList(partition), 200));
+        assertTrue(lanes.takeCommittableOffsets().isEmpty());
+        assertEquals(1, lanes.inFlight(partition));
+
+        blocked.countDown();
+        assertTrue(lanes.awaitCompletion(5000));
+        assertEquals(10L, lanes.takeCommittableOffsets().get(partition).longValue());
+        assertEquals(0, lanes.inFlight(partition));
+    }
+
+    @Test
+    public void committableOffsetsAfterSeek() throws Exception {
+        KafkaRecordLanes lanes = new KafkaRecordLanes(executor, 2, false, record -> {
+        });
+
+        TopicPartition partition = new TopicPartition(TOPIC, 0);
+        for (long offset = 0; offset < 10; offset++) {
+            lanes.dispatch(record(0, offset, null));
+        }
+        assertTrue(lanes.awaitCompletion(5000));
+        assertEquals(9L, lanes.takeCommittableOffsets().get(partition).longValue());
+
+        // the consumer is positioned before the offsets already taken
+        lanes.remove(Collections.singletonList(partition));
+        for (long offset = 5; offset < 8; offset++) {
+            lanes.dispatch(record(0, offset, null));
+        }
+        assertTrue(lanes.awaitCompletion(5000));
+        assertEquals(7L, lanes.takeCommittableOffsets().get(partition).longValue());
+    }
+
+    @Test
+    public void recordsWithSameKeyUseSameLane() {
+        KafkaRecordLanes lanes = new KafkaRecordLanes(executor, 8, true, record -> {
+        });
+
+        int lane = lanes.laneIndex(record(0, 0, "key1".getBytes()));
+        for (int partition = 0; partition < 10; partition++) {
+            assertEquals(lane, lanes.laneIndex(record(partition, partition, "key1".getBytes())));
+        }
+    }
+
+    private static ConsumerRecord<Object, Object> record(int partition, long offset, Object key) {
+        return new ConsumerRecord<>(TOPIC, partition, offset, key, "value" + offset);
+    }
+}
@@ -45,6 +45,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "multipleConsumers": target.setMultipleConsumers(property(camelContext, boolean.class, value)); return true;
         case "offertimeout":
         case "offerTimeout": target.setOfferTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "pollbatchsize":
+        case "pollBatchSize": target.setPollBatchSize(property(camelContext, int.class, value)); return true;
         case "polltimeout":
         case "pollTimeout": target.setPollTimeout(property(camelContext, int.class, value)); return true;
         case "purgewhenstopping":
@@ -75,6 +77,7 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         answer.put("limitConcurrentConsumers", boolean.class);
         answer.put("multipleConsumers", boolean.class);
         answer.put("offerTimeout", long.class);
+        answer.put("pollBatchSize", int.class);
         answer.put("pollTimeout", int.class);
         answer.put("purgeWhenStopping", boolean.class);
         answer.put("queue", java.util.concurrent.BlockingQueue.class);
@@ -115,6 +118,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "multipleConsumers": return target.isMultipleConsumers();
         case "offertimeout":
         case "offerTimeout": return target.getOfferTimeout();
+        case "pollbatchsize":
+        case "pollBatchSize": return target.getPollBatchSize();
         case "polltimeout":
         case "pollTimeout": return target.getPollTimeout();
         case "purgewhenstopping":
@@ -0,0 +1,467 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded lock-free {@link BlockingQueue} backed by a ring buffer, which supports multiple producers and multiple
+ * consumers.
+ * <p/>
+ * Each slot in the ring has a sequence number, which tells whether the slot is ready to be written by a producer or to
+ * be read by a consumer at a given position, so producers and consumers only contend on a compare and set of the tail and head positions.
+ * A consumer which drains several elements with {@link #drainTo(Collection, int)} claims all the ready slots with a
+ * single compare and set.
+ * <p/>
+ * Threads which have to wait for the queue to become non empty (or non full) first spin, then yield, and then park
+ * until they are signalled by the other side, so the lock and the condition signalling of the JDK blocking queues is
+ * only paid for when the queue is idle.
+ * <p/>
+ * The iterator is weakly consistent and does not support removal. Removing an element with {@link #remove(Object)}
+ * marks its slot as removed, and the slot is skipped by the consumers, which means the removed element is included in
+ * the size of the queue until the consumers have reached it.
+ */
+public class RingBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final int SPINS = 128;
+    private static final int YIELDS = 16;
+    private static final Object REMOVED = new Object();
+
+    private final int capacity;
+    private final AtomicReferenceArray<Object> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final Queue<Thread> notEmptyWaiters = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> notFullWaiters = new ConcurrentLinkedQueue<>();
+
+    public RingBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be a positive number, was: " + capacity);
+        }
+        this.capacity = capacity;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, writable(i));
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (doOffer(e)) {
+            signal(notEmptyWaiters);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        offer(e, false, 0);
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        return offer(e, true, unit.toNanos(timeout));
+    }
+
+    private boolean offer(E e, boolean timed, long nanos) throws InterruptedException {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        long deadline = timed ? System.nanoTime() + nanos : 0;
+        Thread thread = Thread.currentThread();
+        for (int i = 0;; i++) {
+            if (doOffer(e)) {
+                signal(notEmptyWaiters);
+                if (i > 0 && remainingCapacity() > 0) {
+                    // there may be other producers waiting
+                    signal(notFullWaiters);
+                }
+                return true;
+            }
+            long remaining = timed ? deadline - System.nanoTime() : Long.MAX_VALUE;
+            if (remaining <= 0 || Thread.interrupted()) {
+                // pass on any signal we may have consumed
+                if (remainingCapacity() > 0) {
+                    signal(notFullWaiters);
+                }
+                if (remaining <= 0) {
+                    return false;
+                }
+                throw new InterruptedException();
+            }
+            if (!backoff(i)) {
+                notFullWaiters.add(thread);
+                try {
+                    if (remainingCapacity() == 0) {
+                        park(timed, remaining);
+                    }
+                } finally {
+                    notFullWaiters.remove(thread);
+                }
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        E answer = doPoll();
+        if (answer != null) {
+            signal(notFullWaiters);
+        }
+        return answer;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        return poll(false, 0);
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return poll(true, unit.toNanos(timeout));
+    }
+
+    private E poll(boolean timed, long nanos) throws InterruptedException {
+        long deadline = timed ? System.nanoTime() + nanos : 0;
+        Thread thread = Thread.currentThread();
+        for (int i = 0;; i++) {
+            E answer = doPoll();
+            if (answer != null) {
+                signal(notFullWaiters);
+                if (i > 0 && !isEmpty()) {
+                    // there may be other consumers waiting
+                    signal(notEmptyWaiters);
+                }
+                return answer;
+            }
+            long remaining = timed ? deadline - System.nanoTime() : Long.MAX_VALUE;
+            if (remaining <= 0 || Thread.interrupted()) {
+                // pass on any signal we may have consumed
+                if (!isEmpty()) {
+                    signal(notEmptyWaiters);
+                }
+                if (remaining <= 0) {
+                    return null;
+                }
+                throw new InterruptedException();
+            }
+            if (!backoff(i)) {
+                notEmptyWaiters.add(thread);
+                try {
+                    if (isEmpty()) {
+                        park(timed, remaining);
+                    }
+                } finally {
+                    notEmptyWaiters.remove(thread);
+                }
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        while (true) {
+            long pos = head.get();
+            int index = index(pos);
+            long seq = sequences.get(index);
+            Object answer = elements.get(index);
+            if (seq != readable(pos)) {
+                if (seq - readable(pos) < 0) {
+                    return null;
+                }
+            } else if (answer == REMOVED) {
+                skipRemoved();
+            } else if (head.get() == pos && answer != null) {
+                return cast(answer);
+            }
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        if (c == null) {
+            throw new NullPointerException();
+        }
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain a queue to itself");
+        }
+        int answer = 0;
+        while (answer < maxElements) {
+            long pos = head.get();
+            // find the number of slots which are ready to be read, and claim them all at once
+            int limit = Math.min(maxElements - answer, capacity);
+            int ready = 0;
+            while (ready < limit && sequences.get(index(pos + ready)) == readable(pos + ready)) {
+                ready++;
+            }
+            if (ready == 0) {
+                if (sequences.get(index(pos)) - readable(pos) < 0) {
+                    // the queue is empty
+                    break;
+                }
+                // another consumer moved the head
+                continue;
+            }
+            if (head.compareAndSet(pos, pos + ready)) {
+                for (int i = 0; i < ready; i++) {
+                    E e = take(pos + i);
+                    if (e != null) {
+                        c.add(e);
+                        answer++;
+                    }
+                }
+                signalAll(notFullWaiters, ready);
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public int size() {
+        while (true) {
+            long h = head.get();
+            long t = tail.get();
+            if (head.get() == h) {
+                return (int) Math.max(0, Math.min(capacity, t - h));
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        long pos = head.get();
+        return sequences.get(index(pos)) - readable(pos) < 0;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long end = tail.get();
+        for (long pos = head.get(); pos < end; pos++) {
+            int index = index(pos);
+            if (sequences.get(index) == readable(pos)) {
+                Object e = elements.get(index);
+                // mark the slot as removed, unless a consumer has taken the element meanwhile
+                if (e != null && e != REMOVED && o.equals(e) && elements.compareAndSet(index, e, REMOVED)) {
+                    skipRemoved();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // noop
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        // take a snapshot of the elements currently in the queue
+        List<E> answer = new ArrayList<>(size());
+        long end = tail.get();
+        for (long pos = head.get(); pos < end; pos++) {
+            int index = index(pos);
+            if (sequences.get(index) == readable(pos)) {
+                Object e = elements.get(index);
+                // the element may have been taken meanwhile
+                if (e != null && e != REMOVED && sequences.get(index) == readable(pos)) {
+                    answer.add(cast(e));
+                }
+            }
+        }
+        return new Iterator<E>() {
+            private final Iterator<E> it = answer.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return it.next();
+            }
+        };
+    }
+
+    private boolean doOffer(E e) {
+        long pos = tail.get();
+        while (true) {
+            int index = index(pos);
+            long diff = sequences.get(index) - writable(pos);
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    elements.lazySet(index, e);
+                    // publish the element to the consumers
+                    sequences.set(index, readable(pos));
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // the queue is full
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    private E doPoll() {
+        long pos = head.get();
+        while (true) {
+            int index = index(pos);
+            long diff = sequences.get(index) - readable(pos);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    E answer = take(pos);
+                    if (answer != null) {
+                        return answer;
+                    }
+                    // the element was removed so the slot is free
+                    signal(notFullWaiters);
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                // the queue is empty
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the element at the position, which the caller has claimed, or returns <tt>null</tt> if the element was
+     * removed.
+     */
+    private E take(long pos) {
+        int index = index(pos);
+        Object answer = elements.getAndSet(index, null);
+        // release the slot to the producers of the next round
+        sequences.set(index, writable(pos + capacity));
+        return answer != REMOVED ? cast(answer) : null;
+    }
+
+    /**
+     * Moves the head past the removed elements, so they do not take up room in the queue.
+     */
+    private void skipRemoved() {
+        while (true) {
+            long pos = head.get();
+            int index = index(pos);
+            if (sequences.get(index) != readable(pos) || elements.get(index) != REMOVED) {
+                return;
+            }
+            if (head.compareAndSet(pos, pos + 1)) {
+                take(pos);
+                signal(notFullWaiters);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E cast(Object e) {
+        return (E) e;
+    }
+
+    private int index(long pos) {
+        return (int) (pos % capacity);
+    }
+
+    // the sequence of a slot is even when it can be written at the position, and odd when it can be read, so a slot
+    // which can be read is not mistaken for a slot which can be written at the next round (when the capacity is 1)
+
+    private static long writable(long pos) {
+        return pos << 1;
+    }
+
+    private static long readable(long pos) {
+        return (pos << 1) + 1;
+    }
+
+    private static boolean backoff(int attempt) {
+        if (attempt < SPINS) {
+            return true;
+        } else if (attempt < SPINS + YIELDS) {
+            Thread.yield();
+            return true;
+        }
+        return false;
+    }
+
+    private void park(boolean timed, long nanos) {
+        if (timed) {
+            LockSupport.parkNanos(this, nanos);
+        } else {
+            LockSupport.park(this);
+        }
+    }
+
+    private static void signal(Queue<Thread> waiters) {
+        if (!waiters.isEmpty()) {
+            Thread thread = waiters.poll();
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    private static void signalAll(Queue<Thread> waiters, int count) {
+        for (int i = 0; i < count && !waiters.isEmpty(); i++) {
+            signal(waiters);
+        }
+    }
+
+}
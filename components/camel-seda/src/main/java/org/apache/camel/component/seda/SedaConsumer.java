@@ -16,13 +16,16 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
@@ -55,10 +58,12 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int pollBatchSize;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.pollBatchSize = Math.max(1, endpoint.getPollBatchSize());
     }
 
     @Override
@@ -137,6 +142,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
     protected void doRun() {
         BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        List<Exchange> batch = pollBatchSize > 1 ? new ArrayList<>(pollBatchSize - 1) : null;
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
 
@@ -178,24 +184,18 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                     LOG.trace("Polled queue {} with timeout {} ms. -> {}", ObjectHelper.getIdentityHashCode(queue), pollTimeout, exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        // send a new copied exchange with new camel context
-                        Exchange newExchange = prepareExchange(exchange);
-                        // process the exchange
-                        sendToConsumers(newExchange);
-                        // copy the message back
-                        if (newExchange.hasOut()) {
-                            exchange.setOut(newExchange.getOut().copy());
-                        } else {
-                            exchange.setIn(newExchange.getIn());
-                        }
-                        // log exception if an exception occurred and was not handled
-                        if (newExchange.getException() != null) {
-                            exchange.setException(newExchange.getException());
-                            getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+                    processExchange(exchange);
+                    if (batch != null) {
+                        // take the messages which are ready as well, so we do not go back to the queue for each of them
+                        queue.drainTo(batch, pollBatchSize - 1);
+                        try {
+                            for (int i = 0; i < batch.size(); i++) {
+                                exchange = batch.get(i);
+                                processExchange(exchange);
+                            }
+                        } finally {
+                            batch.clear();
                         }
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
                     }
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
@@ -215,6 +215,46 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    private void processExchange(Exchange exchange) {
+        Exchange newExchange = null;
+        boolean sent = false;
+        // the exchange is released once the routing is complete and we are done with it below,
+        // which can happen in either order when the exchange is routed asynchronously
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            // send a new copied exchange with new camel context
+            newExchange = prepareExchange(exchange);
+            final Exchange target = newExchange;
+            // process the exchange
+            sendToConsumers(newExchange, doneSync -> {
+                if (done.getAndSet(true)) {
+                    releaseExchange(target, false);
+                }
+            });
+            sent = true;
+            // copy the message back
+            if (newExchange.hasOut()) {
+                exchange.setOut(newExchange.getOut().copy());
+            } else {
+                exchange.setIn(newExchange.getIn());
+            }
+            // log exception if an exception occurred and was not handled
+            if (newExchange.getException() != null) {
+                exchange.setException(newExchange.getException());
+                getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+            }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        } finally {
+            if (newExchange != null) {
+                // if sending failed then the callback is not called, so release the exchange here
+                if (!sent || done.getAndSet(true)) {
+                    releaseExchange(newExchange, false);
+                }
+            }
+        }
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -222,8 +262,9 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
      * @return the exchange to process by this consumer.
      */
     protected Exchange prepareExchange(Exchange exchange) {
-        // send a new copied exchange with new camel context
-        Exchange newExchange = ExchangeHelper.copyExchangeAndSetCamelContext(exchange, getEndpoint().getCamelContext());
+        // send a new copied exchange created by this consumer
+        Exchange newExchange = createExchange(false);
+        ExchangeHelper.copyExchangeTo(exchange, newExchange, true);
         // set the from endpoint
         newExchange.adapt(ExtendedExchange.class).setFromEndpoint(getEndpoint());
         return newExchange;
@@ -241,6 +282,10 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
      * @throws Exception can be thrown if processing of the exchange failed
      */
     protected void sendToConsumers(final Exchange exchange) throws Exception {
+        sendToConsumers(exchange, EmptyAsyncCallback.get());
+    }
+
+    private void sendToConsumers(final Exchange exchange, final AsyncCallback callback) throws Exception {
         // validate multiple consumers has been enabled
         int size = getEndpoint().getConsumers().size();
         if (size > 1 && !getEndpoint().isMultipleConsumersSupported()) {
@@ -265,10 +310,11 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
             mp.process(exchange, doneSync -> {
                 // done the uow on the completions
                 UnitOfWorkHelper.doneSynchronizations(exchange, completions, LOG);
+                callback.done(doneSync);
             });
         } else {
             // use the regular processor and use the asynchronous routing engine to support it
-            getAsyncProcessor().process(exchange, EmptyAsyncCallback.get());
+            getAsyncProcessor().process(exchange, callback);
         }
     }
 
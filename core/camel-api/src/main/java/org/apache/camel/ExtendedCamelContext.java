@@ -29,6 +29,7 @@ import org.apache.camel.spi.AsyncProcessorAwaitManager;
 import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.BeanProcessorFactory;
 import org.apache.camel.spi.BeanProxyFactory;
+import org.apache.camel.spi.BufferPool;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.ComponentNameResolver;
 import org.apache.camel.spi.ComponentResolver;
@@ -36,6 +37,7 @@ import org.apache.camel.spi.ConfigurerResolver;
 import org.apache.camel.spi.DataFormatResolver;
 import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointStrategy;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
 import org.apache.camel.spi.HeadersMapFactory;
@@ -56,6 +58,7 @@ import org.apache.camel.spi.Registry;
 import org.apache.camel.spi.RestBindingJaxbDataFormatFactory;
 import org.apache.camel.spi.RouteController;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.spi.UnitOfWorkFactory;
 import org.apache.camel.spi.XMLRoutesDefinitionLoader;
 
@@ -493,6 +496,66 @@ public interface ExtendedCamelContext extends CamelContext {
      */
     void setReactiveExecutor(ReactiveExecutor reactiveExecutor);
 
+    /**
+     * Gets the exchange factory to use.
+     */
+    ExchangeFactory getExchangeFactory();
+
+    /**
+     * Sets a custom exchange factory to use.
+     */
+    void setExchangeFactory(ExchangeFactory exchangeFactory);
+
+    /**
+     * Gets the buffer pool to use.
+     */
+    BufferPool getBufferPool();
+
+    /**
+     * Sets a custom buffer pool to use.
+     */
+    void setBufferPool(BufferPool bufferPool);
+
+    /**
+     * Gets the {@link StartupStepRecorder} to use.
+     */
+    StartupStepRecorder getStartupStepRecorder();
+
+    /**
+     * Sets the {@link StartupStepRecorder} to use.
+     */
+    void setStartupStepRecorder(StartupStepRecorder startupStepRecorder);
+
+    /**
+     * Gets the number of threads used for warming up and starting routes in parallel.
+     */
+    int getRouteStartupParallelism();
+
+    /**
+     * Sets the number of threads used for warming up and starting routes in parallel, when starting Camel.
+     * <p/>
+     * Routes which has an explicit startupOrder are started one at a time in their order, and the routes in between
+     * them are started in parallel. Use 0 or 1 to start the routes one at a time (is default).
+     */
+    void setRouteStartupParallelism(int routeStartupParallelism);
+
+    /**
+     * Whether the route consumers are started lazily in the background after Camel has been started.
+     */
+    boolean isLazyStartRouteConsumers();
+
+    /**
+     * Sets whether the route consumers should be started lazily in the background after Camel has been started.
+     * <p/>
+     * The routes are warmed up when starting Camel as usual, but starting Camel does not wait for the route consumers
+     * to be started, and the routes are started in the background in their startup order. Producers which sends to
+     * a route which has not been started yet (such as direct endpoints) will wait for the consumer to become
+     * available according to the component.
+     * <p/>
+     * This can be used to reduce the time to start Camel with many routes. The default is false.
+     */
+    void setLazyStartRouteConsumers(boolean lazyStartRouteConsumers);
+
     /**
      * Whether event notification is applicable (possible).
      * This API is used internally in Camel as optimization.
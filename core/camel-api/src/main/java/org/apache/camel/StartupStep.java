@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel;
+
+/**
+ * Recording state of steps during startup to capture execution time, and being able to emit events to diagnostic
+ * tools such as logging or Java Flight Recorder.
+ * <p/>
+ * The steps are hierarchical, where a step which begins while another step is in progress (on the same thread) is a
+ * child step of the step in progress.
+ *
+ * @see org.apache.camel.spi.StartupStepRecorder
+ */
+public interface StartupStep {
+
+    /**
+     * The id of this step.
+     *
+     * The id is auto-assigned and start from 1 onwards.
+     */
+    int getId();
+
+    /**
+     * The id of the parent step, or 0 if this is a top level step.
+     */
+    int getParentId();
+
+    /**
+     * The level this step is at in the hierarchy, where the top level steps are at level 0.
+     */
+    int getLevel();
+
+    /**
+     * The source class type of the step, such as the class performing the step.
+     */
+    String getType();
+
+    /**
+     * Name of the step, such as the name of the CamelContext or id of the route.
+     */
+    String getName();
+
+    /**
+     * Description of the step.
+     */
+    String getDescription();
+
+    /**
+     * The time (millis since epoch) when the step began.
+     */
+    long getBeginTime();
+
+    /**
+     * The duration in millis of the step, or <tt>-1</tt> if the step has not ended.
+     */
+    long getDuration();
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.StaticService;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A pool of byte array buffers, which are used when copying streams such as when converting, stream caching or
+ * writing files, to avoid allocating a new buffer for every copy.
+ * <p/>
+ * A buffer which has been acquired should be released back to the pool when no longer in use, and must not be used
+ * after it has been released.
+ *
+ * @see org.apache.camel.impl.engine.DefaultBufferPool
+ */
+public interface BufferPool extends StaticService {
+
+    /**
+     * Service factory key.
+     */
+    String FACTORY = "buffer-pool";
+
+    /**
+     * Utilization statistics of the pool.
+     */
+    interface Statistics {
+
+        /**
+         * Number of buffers acquired
+         */
+        long getAcquiredCounter();
+
+        /**
+         * Number of buffers which has been created as no pooled buffer was available
+         */
+        long getCreatedCounter();
+
+        /**
+         * Number of buffers released back to the pool
+         */
+        long getReleasedCounter();
+
+        /**
+         * Number of buffers discarded as the pool had no room for them, or they could not be pooled
+         */
+        long getDiscardedCounter();
+
+        /**
+         * Total number of bytes of the buffers currently pooled
+         */
+        long getPooledSize();
+
+        /**
+         * Reset the counters
+         */
+        void reset();
+    }
+
+    /**
+     * Acquires a buffer of at least the given size.
+     *
+     * @param  size the minimum size of the buffer
+     * @return      the buffer, which may be larger than the requested size
+     */
+    byte[] acquire(int size);
+
+    /**
+     * Releases the buffer back to the pool.
+     *
+     * @param buffer the buffer which was acquired from this pool
+     */
+    void release(byte[] buffer);
+
+    /**
+     * Copies the input stream to the output stream using a buffer from this pool.
+     *
+     * @param  input  the input stream
+     * @param  output the output stream
+     * @return        the number of bytes copied
+     */
+    default int copy(InputStream input, OutputStream output) throws IOException {
+        return copy(input, output, IOHelper.DEFAULT_BUFFER_SIZE, false);
+    }
+
+    /**
+     * Copies the input stream to the output stream using a buffer from this pool.
+     *
+     * @param  input            the input stream
+     * @param  output           the output stream
+     * @param  bufferSize       the minimum size of the buffer
+     * @param  flushOnEachWrite whether to flush the output stream after each write
+     * @return                  the number of bytes copied
+     */
+    default int copy(InputStream input, OutputStream output, int bufferSize, boolean flushOnEachWrite) throws IOException {
+        byte[] buffer = acquire(IOHelper.getCopyBufferSize(input, bufferSize));
+        try {
+            return IOHelper.copy(input, output, buffer, flushOnEachWrite);
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * Gets the utilization statistics.
+     */
+    Statistics getStatistics();
+
+}
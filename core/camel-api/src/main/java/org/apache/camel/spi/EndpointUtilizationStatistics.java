@@ -16,6 +16,7 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -41,6 +42,24 @@ public interface EndpointUtilizationStatistics {
      */
     void onHit(String uri);
 
+    /**
+     * Callback when a producer or consumer is created for an endpoint, as there was none cached which could be used.
+     *
+     * @param uri  the endpoint uri
+     */
+    default void onMiss(String uri) {
+        // noop
+    }
+
+    /**
+     * Callback when a producer or consumer for an endpoint is evicted from the cache.
+     *
+     * @param uri  the endpoint uri
+     */
+    default void onEvict(String uri) {
+        // noop
+    }
+
     /**
      * To remove an endpoint from tracking information about its utilization
      *
@@ -55,6 +74,24 @@ public interface EndpointUtilizationStatistics {
      */
     Map<String, Long> getStatistics();
 
+    /**
+     * Gets the number of times a producer or consumer was created for the endpoints, as there was none cached.
+     *
+     * @return a map with uri and number of misses of the endpoint.
+     */
+    default Map<String, Long> getMissStatistics() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Gets the number of times a producer or consumer for the endpoints was evicted from the cache.
+     *
+     * @return a map with uri and number of evictions of the endpoint.
+     */
+    default Map<String, Long> getEvictionStatistics() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Clears all information.
      */
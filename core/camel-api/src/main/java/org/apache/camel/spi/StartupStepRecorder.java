@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.util.List;
+
+import org.apache.camel.StartupStep;
+import org.apache.camel.StaticService;
+
+/**
+ * To record {@link StartupStep} during startup to allow to capture diagnostic information to help troubleshoot
+ * Camel applications that take a long time to start up, such as how long time each phase of the startup took.
+ * <p/>
+ * The recorder is disabled by default, and will then not record any steps, which means it has no overhead. The
+ * recording begins when the recorder is started, and ends when the recorder is stopped, which happens when the startup
+ * of {@link org.apache.camel.CamelContext} is complete.
+ */
+public interface StartupStepRecorder extends StaticService {
+
+    /**
+     * Service factory key prefix. The recorders are discovered using the factory key followed by the name of the
+     * recorder, such as <tt>startup-step-recorder-java-flight-recorder</tt>.
+     */
+    String FACTORY = "startup-step-recorder";
+
+    /**
+     * Whether recording is enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Whether recording is enabled
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * The maximum depth (level) of the steps to record, or <tt>-1</tt> for unlimited depth.
+     */
+    int getMaxDepth();
+
+    /**
+     * Sets the maximum depth (level) of the steps to record, such as 0 to only record the top level steps. The steps
+     * below the maximum depth are not recorded (but is included in the duration of their parent step).
+     *
+     * The default is -1 which means unlimited depth.
+     */
+    void setMaxDepth(int maxDepth);
+
+    /**
+     * Directory to store the recording, for recorders which can save the recording to a file.
+     */
+    String getRecordingDir();
+
+    /**
+     * Directory to store the recording, for recorders which can save the recording to a file.
+     */
+    void setRecordingDir(String recordingDir);
+
+    /**
+     * Begins a new step.
+     * <p/>
+     * Important must call {@link #endStep(StartupStep)} to end the step.
+     *
+     * @param  type        the source
+     * @param  name        name of the step
+     * @param  description description of the step
+     * @return             the step, which is a noop step if recording is disabled
+     */
+    StartupStep beginStep(Class<?> type, String name, String description);
+
+    /**
+     * Ends the step
+     */
+    void endStep(StartupStep step);
+
+    /**
+     * The steps which has been recorded (in the order they began).
+     */
+    List<StartupStep> getRecordedSteps();
+
+}
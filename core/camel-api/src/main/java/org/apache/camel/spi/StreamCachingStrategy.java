@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -62,6 +63,17 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the number of bytes of the off-heap budget which is currently in use by stream caches.
+         */
+        long getCacheOffHeapUsage();
+
+        /**
+         * Gets the counter for number of stream caches which has been spooled to disk because the off-heap budget was
+         * exhausted.
+         */
+        long getCacheOffHeapSpillCounter();
+
         /**
          * Reset the counters
          */
@@ -194,6 +206,43 @@ public interface StreamCachingStrategy extends StaticService {
 
     boolean isAnySpoolRules();
 
+    /**
+     * Sets the maximum number of bytes of direct (off-heap) memory to use for stream caches which should be spooled,
+     * before spooling to disk. The direct memory is allocated in buffers of the buffer size, which are pooled and
+     * reused. When the budget is exhausted then the stream caches are spooled to disk.
+     * <p/>
+     * The default value is <tt>0</tt> which means off-heap memory is not used.
+     */
+    void setSpoolOffHeapBudget(long budget);
+
+    long getSpoolOffHeapBudget();
+
+    /**
+     * Sets whether to read the spooled files using memory mapping, which avoids copying the content of the files
+     * when reading and writing the stream caches. This is not in use when the spooled files are encrypted.
+     * <p/>
+     * The default value is <tt>false</tt>.
+     */
+    void setSpoolMemoryMapped(boolean memoryMapped);
+
+    boolean isSpoolMemoryMapped();
+
+    /**
+     * Acquires a direct (off-heap) buffer of the buffer size from the off-heap budget, which must be released with
+     * {@link #releaseOffHeapBuffer(ByteBuffer)} when no longer in use.
+     *
+     * @return the buffer, or <tt>null</tt> if off-heap memory is not in use or the budget is exhausted, and the stream
+     *         should be spooled to disk instead
+     */
+    ByteBuffer acquireOffHeapBuffer();
+
+    /**
+     * Releases the direct (off-heap) buffer back to the off-heap budget.
+     *
+     * @param buffer the buffer which was acquired with {@link #acquireOffHeapBuffer()}
+     */
+    void releaseOffHeapBuffer(ByteBuffer buffer);
+
     /**
      * Gets the utilization statistics.
      */
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.camel.CamelContextAware;
@@ -79,6 +80,50 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          * @param statisticsEnabled <tt>true</tt> to enable
          */
         void setStatisticsEnabled(boolean statisticsEnabled);
+
+        /**
+         * Lists the utilization statistics per type conversion (from -> to), which is only gathered when statistics is
+         * enabled.
+         */
+        default List<ConversionStatistics> listConversionStatistics() {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Utilization statistics of type conversions from one type to another.
+     */
+    interface ConversionStatistics {
+
+        /**
+         * The type converted from
+         */
+        Class<?> getFromType();
+
+        /**
+         * The type converted to
+         */
+        Class<?> getToType();
+
+        /**
+         * Number of successful conversions
+         */
+        long getHitCounter();
+
+        /**
+         * Number of attempts which cannot be converted as no suitable type converter exists
+         */
+        long getMissCounter();
+
+        /**
+         * Number of failed attempts during type conversion
+         */
+        long getFailedCounter();
+
+        /**
+         * Total time in nanos spent on the type conversions
+         */
+        long getTotalTime();
     }
 
     /**
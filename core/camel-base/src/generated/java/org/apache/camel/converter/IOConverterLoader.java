@@ -32,7 +32,7 @@ public final class IOConverterLoader implements TypeConverterLoader {
         addTypeConverter(registry, byte[].class, java.io.File.class, false,
             (type, exchange, value) -> org.apache.camel.converter.IOConverter.toByteArray((java.io.File) value));
         addTypeConverter(registry, byte[].class, java.io.InputStream.class, false,
-            (type, exchange, value) -> org.apache.camel.converter.IOConverter.toBytes((java.io.InputStream) value));
+            (type, exchange, value) -> org.apache.camel.converter.IOConverter.toBytes((java.io.InputStream) value, exchange));
         addTypeConverter(registry, byte[].class, java.io.Reader.class, false,
             (type, exchange, value) -> org.apache.camel.converter.IOConverter.toByteArray((java.io.Reader) value, exchange));
         addTypeConverter(registry, byte[].class, java.lang.String.class, false,
@@ -90,7 +90,7 @@ public final class IOConverterLoader implements TypeConverterLoader {
         addTypeConverter(registry, java.lang.String.class, java.net.URL.class, false,
             (type, exchange, value) -> org.apache.camel.converter.IOConverter.toString((java.net.URL) value, exchange));
         addTypeConverter(registry, java.nio.ByteBuffer.class, java.io.InputStream.class, false,
-            (type, exchange, value) -> org.apache.camel.converter.IOConverter.covertToByteBuffer((java.io.InputStream) value));
+            (type, exchange, value) -> org.apache.camel.converter.IOConverter.covertToByteBuffer((java.io.InputStream) value, exchange));
         addTypeConverter(registry, java.util.Properties.class, java.io.File.class, false,
             (type, exchange, value) -> org.apache.camel.converter.IOConverter.toProperties((java.io.File) value));
         addTypeConverter(registry, java.util.Properties.class, java.io.InputStream.class, false,
@@ -45,6 +45,7 @@ import java.util.stream.Stream;
 
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.InputStreamIterator;
 import org.apache.camel.util.IOHelper;
@@ -248,10 +249,19 @@ public final class IOConverter {
         }
     }
 
-    @Converter
     public static byte[] toBytes(InputStream stream) throws IOException {
+        return toBytes(stream, null);
+    }
+
+    @Converter
+    public static byte[] toBytes(InputStream stream, Exchange exchange) throws IOException {
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        IOHelper.copy(IOHelper.buffered(stream), bos);
+        if (exchange != null) {
+            // copy using a pooled buffer, which makes buffering the stream unnecessary
+            exchange.getContext().adapt(ExtendedCamelContext.class).getBufferPool().copy(stream, bos);
+        } else {
+            IOHelper.copy(IOHelper.buffered(stream), bos);
+        }
 
         // no need to close the ByteArrayOutputStream as it's close()
         // implementation is noop
@@ -263,10 +273,22 @@ public final class IOConverter {
         return os.toByteArray();
     }
 
-    @Converter
     public static ByteBuffer covertToByteBuffer(InputStream is) throws IOException {
+        return covertToByteBuffer(is, null);
+    }
+
+    @Converter
+    public static ByteBuffer covertToByteBuffer(InputStream is, Exchange exchange) throws IOException {
         ByteArrayOutputStream os = new ByteArrayOutputStream();
-        IOHelper.copyAndCloseInput(is, os);
+        if (exchange != null) {
+            try {
+                exchange.getContext().adapt(ExtendedCamelContext.class).getBufferPool().copy(is, os);
+            } finally {
+                IOHelper.close(is);
+            }
+        } else {
+            IOHelper.copyAndCloseInput(is, os);
+        }
         return ByteBuffer.wrap(os.toByteArray());
     }
 
@@ -57,6 +57,10 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     private static final Logger LOG = LoggerFactory.getLogger(CoreTypeConverterRegistry.class);
 
     protected final DoubleMap<Class<?>, Class<?>, TypeConverter> typeMappings = new DoubleMap<>(200);
+    // the (to, from) pairs the lookup could not find a type converter for, to avoid walking the type hierarchy again
+    protected final DoubleMap<Class<?>, Class<?>, TypeConverter> lookupMisses = new DoubleMap<>(16);
+    // utilization statistics per (to, from) pair, only gathered when statistics is enabled
+    protected final DoubleMap<Class<?>, Class<?>, PairUtilizationStatistics> pairStatistics = new DoubleMap<>(16);
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     protected TypeConverterExists typeConverterExists = TypeConverterExists.Override;
     protected LoggingLevel typeConverterExistsLoggingLevel = LoggingLevel.WARN;
@@ -229,12 +233,19 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
     protected Object doConvertTo(final Class<?> type, final Exchange exchange, final Object value,
                                  final boolean mandatory, final boolean tryConvert) {
+        final boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        final long start = statisticsEnabled ? System.nanoTime() : 0;
         Object answer;
         try {
             answer = doConvertTo(type, exchange, value, tryConvert);
         } catch (Exception e) {
-            if (statistics.isStatisticsEnabled()) {
+            if (statisticsEnabled) {
                 failedCounter.increment();
+                PairUtilizationStatistics pair = getPairStatistics(type, value);
+                if (pair != null) {
+                    pair.failedCounter.increment();
+                    pair.totalTime.add(System.nanoTime() - start);
+                }
             }
             if (tryConvert) {
                 return null;
@@ -252,13 +263,23 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
         if (answer == TypeConverter.MISS_VALUE) {
             // Could not find suitable conversion
-            if (statistics.isStatisticsEnabled()) {
+            if (statisticsEnabled) {
                 missCounter.increment();
+                PairUtilizationStatistics pair = getPairStatistics(type, value);
+                if (pair != null) {
+                    pair.missCounter.increment();
+                    pair.totalTime.add(System.nanoTime() - start);
+                }
             }
             return null;
         } else {
-            if (statistics.isStatisticsEnabled()) {
+            if (statisticsEnabled) {
                 hitCounter.increment();
+                PairUtilizationStatistics pair = getPairStatistics(type, value);
+                if (pair != null) {
+                    pair.hitCounter.increment();
+                    pair.totalTime.add(System.nanoTime() - start);
+                }
             }
             return answer;
         }
@@ -449,6 +470,10 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                // a new type converter may be found by the lookups which previously missed
+                if (lookupMisses.size() > 0) {
+                    lookupMisses.clear();
+                }
             }
         }
     }
@@ -478,15 +503,45 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected TypeConverter getOrFindTypeConverter(Class<?> toType, Class<?> fromType) {
         TypeConverter converter = typeMappings.get(toType, fromType);
         if (converter == null) {
+            if (lookupMisses.containsKey(toType, fromType)) {
+                // we have already looked up and could not find any converter
+                return null;
+            }
             // converter not found, try to lookup then
             converter = lookup(toType, fromType);
             if (converter != null) {
                 typeMappings.put(toType, fromType, converter);
+            } else {
+                lookupMisses.put(toType, fromType, MISS_CONVERTER);
             }
         }
         return converter;
     }
 
+    /**
+     * Gets the utilization statistics for converting the value to the given type, or <tt>null</tt> if no type
+     * conversion is needed.
+     */
+    protected PairUtilizationStatistics getPairStatistics(Class<?> toType, Object value) {
+        if (value == null || toType.isInstance(value)) {
+            // noop
+            return null;
+        }
+        Class<?> fromType = value.getClass();
+        PairUtilizationStatistics answer = pairStatistics.get(toType, fromType);
+        if (answer == null) {
+            // the map is locking on itself when updating
+            synchronized (pairStatistics) {
+                answer = pairStatistics.get(toType, fromType);
+                if (answer == null) {
+                    answer = new PairUtilizationStatistics(toType, fromType);
+                    pairStatistics.put(toType, fromType, answer);
+                }
+            }
+        }
+        return answer;
+    }
+
     protected TypeConverter doLookup(Class<?> toType, Class<?> fromType, boolean isSuper) {
 
         if (fromType != null) {
@@ -602,6 +657,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
 
         typeMappings.clear();
+        lookupMisses.clear();
         statistics.reset();
     }
 
@@ -644,6 +700,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             hitCounter.reset();
             missCounter.reset();
             failedCounter.reset();
+            pairStatistics.clear();
         }
 
         @Override
@@ -656,6 +713,13 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             this.statisticsEnabled = statisticsEnabled;
         }
 
+        @Override
+        public List<ConversionStatistics> listConversionStatistics() {
+            List<ConversionStatistics> answer = new ArrayList<>();
+            pairStatistics.forEach((k1, k2, v) -> answer.add(v));
+            return answer;
+        }
+
         @Override
         public String toString() {
             return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s]",
@@ -663,6 +727,60 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
     }
 
+    /**
+     * Represents utilization statistics of type conversions from one type to another
+     */
+    protected static final class PairUtilizationStatistics implements ConversionStatistics {
+
+        private final Class<?> toType;
+        private final Class<?> fromType;
+        private final LongAdder hitCounter = new LongAdder();
+        private final LongAdder missCounter = new LongAdder();
+        private final LongAdder failedCounter = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+
+        PairUtilizationStatistics(Class<?> toType, Class<?> fromType) {
+            this.toType = toType;
+            this.fromType = fromType;
+        }
+
+        @Override
+        public Class<?> getFromType() {
+            return fromType;
+        }
+
+        @Override
+        public Class<?> getToType() {
+            return toType;
+        }
+
+        @Override
+        public long getHitCounter() {
+            return hitCounter.longValue();
+        }
+
+        @Override
+        public long getMissCounter() {
+            return missCounter.longValue();
+        }
+
+        @Override
+        public long getFailedCounter() {
+            return failedCounter.longValue();
+        }
+
+        @Override
+        public long getTotalTime() {
+            return totalTime.longValue();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s -> %s[hits=%s, misses=%s, failures=%s, totalTime=%s]",
+                    fromType.getName(), toType.getName(), getHitCounter(), getMissCounter(), getFailedCounter(), getTotalTime());
+        }
+    }
+
     /**
      * Represents a fallback type converter
      */
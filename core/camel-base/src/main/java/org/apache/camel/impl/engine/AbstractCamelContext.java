@@ -25,6 +25,7 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -67,6 +68,7 @@ import org.apache.camel.ServiceStatus;
 import org.apache.camel.ShutdownRoute;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.StartupListener;
+import org.apache.camel.StartupStep;
 import org.apache.camel.Suspendable;
 import org.apache.camel.SuspendableService;
 import org.apache.camel.TypeConverter;
@@ -81,6 +83,7 @@ import org.apache.camel.spi.AsyncProcessorAwaitManager;
 import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.BeanProcessorFactory;
 import org.apache.camel.spi.BeanProxyFactory;
+import org.apache.camel.spi.BufferPool;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.CamelContextNameStrategy;
 import org.apache.camel.spi.CamelContextTracker;
@@ -96,6 +99,7 @@ import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -134,6 +138,7 @@ import org.apache.camel.spi.RouteStartupOrder;
 import org.apache.camel.spi.RouteTemplateParameterSource;
 import org.apache.camel.spi.RuntimeEndpointRegistry;
 import org.apache.camel.spi.ShutdownStrategy;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.spi.Tracer;
 import org.apache.camel.spi.Transformer;
@@ -147,8 +152,8 @@ import org.apache.camel.spi.XMLRoutesDefinitionLoader;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.EndpointHelper;
 import org.apache.camel.support.EventHelper;
+import org.apache.camel.support.LRUCache;
 import org.apache.camel.support.LRUCacheFactory;
-import org.apache.camel.support.NormalizedUri;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.ProcessorEndpoint;
 import org.apache.camel.support.jsse.SSLContextParameters;
@@ -273,6 +278,9 @@ public abstract class AbstractCamelContext extends BaseService
     private volatile ExecutorServiceManager executorServiceManager;
     private volatile UuidGenerator uuidGenerator;
     private volatile UnitOfWorkFactory unitOfWorkFactory;
+    private volatile ExchangeFactory exchangeFactory;
+    private volatile BufferPool bufferPool;
+    private volatile StartupStepRecorder startupStepRecorder = new DefaultStartupStepRecorder();
     private volatile RouteController routeController;
     private final RouteController internalRouteController = new InternalRouteController(this);
     private final InternalRouteStartupManager internalRouteStartupManager = new InternalRouteStartupManager(this);
@@ -286,11 +294,15 @@ public abstract class AbstractCamelContext extends BaseService
     private volatile TransformerRegistry<TransformerKey> transformerRegistry;
     private volatile ValidatorRegistry<ValidatorKey> validatorRegistry;
     private EndpointRegistry<EndpointKey> endpoints;
+    private volatile Map<String, EndpointKey> normalizedUris;
+    private int normalizedUrisMaximumSize;
     private RuntimeEndpointRegistry runtimeEndpointRegistry;
 
     private final List<RouteStartupOrder> routeStartupOrder = new ArrayList<>();
     private ShutdownRoute shutdownRoute = ShutdownRoute.Default;
     private ShutdownRunningTask shutdownRunningTask = ShutdownRunningTask.CompleteCurrentTaskOnly;
+    private int routeStartupParallelism;
+    private boolean lazyStartRouteConsumers;
     private Debugger debugger;
     private final StopWatch stopWatch = new StopWatch(false);
     private Date startDate;
@@ -595,11 +607,16 @@ public abstract class AbstractCamelContext extends BaseService
                 // See https://issues.apache.org/jira/browse/CAMEL-11225
                 componentsInCreation.get().add(name);
 
-                component = getComponentResolver().resolveComponent(name, getCamelContextReference());
-                if (component != null) {
-                    component.setCamelContext(getCamelContextReference());
-                    component.build();
-                    postInitComponent(name, component);
+                StartupStep step = startupStepRecorder.beginStep(Component.class, name, "Resolve Component");
+                try {
+                    component = getComponentResolver().resolveComponent(name, getCamelContextReference());
+                    if (component != null) {
+                        component.setCamelContext(getCamelContextReference());
+                        component.build();
+                        postInitComponent(name, component);
+                    }
+                } finally {
+                    startupStepRecorder.endStep(step);
                 }
             } catch (Exception e) {
                 throw new RuntimeCamelException("Cannot auto create component: " + name, e);
@@ -754,8 +771,9 @@ public abstract class AbstractCamelContext extends BaseService
     public NormalizedEndpointUri normalizeUri(String uri) {
         try {
             uri = resolvePropertyPlaceholders(uri);
-            uri = URISupport.normalizeUri(uri);
-            return new NormalizedUri(uri);
+            return getNormalizedEndpointKey(uri);
+        } catch (ResolveEndpointFailedException e) {
+            throw e;
         } catch (Exception e) {
             throw new ResolveEndpointFailedException(uri, e);
         }
@@ -804,7 +822,7 @@ public abstract class AbstractCamelContext extends BaseService
         // normalize uri so we can do endpoint hits with minor mistakes and
         // parameters is not in the same order
         if (!normalized) {
-            uri = EndpointHelper.normalizeEndpointUri(uri);
+            uri = getNormalizedEndpointKey(uri).getUri();
         }
 
         LOG.trace("Getting endpoint with raw uri: {}, normalized uri: {}", rawUri, uri);
@@ -818,6 +836,7 @@ public abstract class AbstractCamelContext extends BaseService
             answer = endpoints.get(key);
         }
         if (answer == null) {
+            StartupStep step = null;
             try {
                 scheme = StringHelper.before(uri, ":");
                 if (scheme == null) {
@@ -830,6 +849,9 @@ public abstract class AbstractCamelContext extends BaseService
                     }
                 }
                 LOG.trace("Endpoint uri: {} is from component with name: {}", uri, scheme);
+                if (startupStepRecorder.isEnabled()) {
+                    step = startupStepRecorder.beginStep(Endpoint.class, URISupport.sanitizeUri(uri), "Create Endpoint");
+                }
                 Component component = getComponent(scheme);
                 ServiceHelper.initService(component);
 
@@ -874,6 +896,10 @@ public abstract class AbstractCamelContext extends BaseService
                 throw e;
             } catch (Exception e) {
                 throw new ResolveEndpointFailedException(uri, e);
+            } finally {
+                if (step != null) {
+                    startupStepRecorder.endStep(step);
+                }
             }
         }
 
@@ -918,7 +944,7 @@ public abstract class AbstractCamelContext extends BaseService
         // normalize uri so we can do endpoint hits with minor mistakes and
         // parameters is not in the same order
         if (!normalized) {
-            uri = EndpointHelper.normalizeEndpointUri(uri);
+            uri = getNormalizedEndpointKey(uri).getUri();
         }
 
         LOG.trace("Getting endpoint with raw uri: {}, normalized uri: {}", rawUri, uri);
@@ -929,6 +955,7 @@ public abstract class AbstractCamelContext extends BaseService
         EndpointKey key = getEndpointKeyPreNormalized(uri);
         answer = endpoints.get(key);
         if (answer == null) {
+            StartupStep step = null;
             try {
                 scheme = StringHelper.before(uri, ":");
                 if (scheme == null) {
@@ -941,6 +968,9 @@ public abstract class AbstractCamelContext extends BaseService
                     }
                 }
                 LOG.trace("Endpoint uri: {} is from component with name: {}", uri, scheme);
+                if (startupStepRecorder.isEnabled()) {
+                    step = startupStepRecorder.beginStep(Endpoint.class, URISupport.sanitizeUri(uri), "Create Endpoint");
+                }
                 Component component = getComponent(scheme);
 
                 // Ask the component to resolve the endpoint.
@@ -971,6 +1001,10 @@ public abstract class AbstractCamelContext extends BaseService
                 }
             } catch (Exception e) {
                 throw new ResolveEndpointFailedException(uri, e);
+            } finally {
+                if (step != null) {
+                    startupStepRecorder.endStep(step);
+                }
             }
         }
 
@@ -1045,6 +1079,59 @@ public abstract class AbstractCamelContext extends BaseService
         return new EndpointKey(uri);
     }
 
+    /**
+     * Gets the endpoint key with the normalized uri. As normalizing an uri with parameters is expensive, the keys are
+     * kept in a bounded concurrent cache with an entry per uri which has been normalized before.
+     *
+     * @param uri the endpoint uri (with property placeholders resolved)
+     * @return the key
+     */
+    protected EndpointKey getNormalizedEndpointKey(String uri) {
+        StringHelper.notEmpty(uri, "uri");
+
+        Map<String, EndpointKey> cache = getNormalizedUriCache();
+        EndpointKey answer = cache.get(uri);
+        if (answer == null) {
+            answer = new EndpointKey(EndpointHelper.normalizeEndpointUri(uri), true);
+            EndpointKey existing = cache.putIfAbsent(uri, answer);
+            if (existing != null) {
+                // another thread normalized the same uri
+                answer = existing;
+            } else if (cache.size() > normalizedUrisMaximumSize) {
+                // the cache is not a LRU cache, so evict any uri to keep the cache bounded
+                Iterator<String> it = cache.keySet().iterator();
+                while (it.hasNext() && cache.size() > normalizedUrisMaximumSize) {
+                    String key = it.next();
+                    if (!key.equals(uri)) {
+                        it.remove();
+                    }
+                }
+            }
+        }
+        return answer;
+    }
+
+    private Map<String, EndpointKey> getNormalizedUriCache() {
+        if (normalizedUris == null) {
+            synchronized (lock) {
+                if (normalizedUris == null) {
+                    int max = CamelContextHelper.getMaximumEndpointCacheSize(this);
+                    Map<String, EndpointKey> cache = LRUCacheFactory.newLRUCache(16, max, false);
+                    if (cache instanceof LRUCache) {
+                        // the cache is concurrent and bounded on its own
+                        normalizedUrisMaximumSize = Integer.MAX_VALUE;
+                    } else {
+                        // the default LRU cache is not thread-safe so use a concurrent map which is bounded when adding
+                        cache = new ConcurrentHashMap<>(16);
+                        normalizedUrisMaximumSize = max;
+                    }
+                    normalizedUris = cache;
+                }
+            }
+        }
+        return normalizedUris;
+    }
+
     /**
      * Gets the endpoint key to use for lookup or whe adding endpoints to the
      * {@link DefaultEndpointRegistry}
@@ -2239,6 +2326,72 @@ public abstract class AbstractCamelContext extends BaseService
         this.unitOfWorkFactory = doAddService(unitOfWorkFactory);
     }
 
+    @Override
+    public ExchangeFactory getExchangeFactory() {
+        if (exchangeFactory == null) {
+            synchronized (lock) {
+                if (exchangeFactory == null) {
+                    setExchangeFactory(createExchangeFactory());
+                }
+            }
+        }
+        return exchangeFactory;
+    }
+
+    @Override
+    public void setExchangeFactory(ExchangeFactory exchangeFactory) {
+        this.exchangeFactory = doAddService(exchangeFactory);
+    }
+
+    @Override
+    public BufferPool getBufferPool() {
+        if (bufferPool == null) {
+            synchronized (lock) {
+                if (bufferPool == null) {
+                    setBufferPool(createBufferPool());
+                }
+            }
+        }
+        return bufferPool;
+    }
+
+    @Override
+    public void setBufferPool(BufferPool bufferPool) {
+        this.bufferPool = doAddService(bufferPool);
+    }
+
+    @Override
+    public StartupStepRecorder getStartupStepRecorder() {
+        return startupStepRecorder;
+    }
+
+    @Override
+    public void setStartupStepRecorder(StartupStepRecorder startupStepRecorder) {
+        this.startupStepRecorder = startupStepRecorder;
+        // the recording begins when the recorder is started
+        ServiceHelper.startService(startupStepRecorder);
+    }
+
+    @Override
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    @Override
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
+    @Override
+    public boolean isLazyStartRouteConsumers() {
+        return lazyStartRouteConsumers;
+    }
+
+    @Override
+    public void setLazyStartRouteConsumers(boolean lazyStartRouteConsumers) {
+        this.lazyStartRouteConsumers = lazyStartRouteConsumers;
+    }
+
     @Override
     public RuntimeEndpointRegistry getRuntimeEndpointRegistry() {
         return runtimeEndpointRegistry;
@@ -2478,6 +2631,12 @@ public abstract class AbstractCamelContext extends BaseService
                 throw RuntimeCamelException.wrapRuntimeException(e);
             }
         }
+
+        // the startup is complete so stop recording
+        ServiceHelper.stopService(startupStepRecorder);
+
+        // and start the route consumers which was deferred to be started lazily
+        internalRouteStartupManager.startLazyRouteConsumers();
     }
 
     @Override
@@ -2515,6 +2674,8 @@ public abstract class AbstractCamelContext extends BaseService
 
     @Override
     public void doInit() throws Exception {
+        StartupStep step = startupStepRecorder.beginStep(CamelContext.class, getName(), "Init CamelContext");
+
         // start the route controller
         this.routeController = getRouteController();
         ServiceHelper.initService(this.routeController);
@@ -2545,7 +2706,9 @@ public abstract class AbstractCamelContext extends BaseService
             }
         }
 
+        StartupStep subStep = startupStepRecorder.beginStep(CamelContext.class, getName(), "Start Standard Services");
         forceLazyInitialization();
+        startupStepRecorder.endStep(subStep);
 
         addService(getManagementStrategy(), false);
         ServiceHelper.initService(lifecycleStrategies);
@@ -2605,7 +2768,9 @@ public abstract class AbstractCamelContext extends BaseService
         bindDataFormats();
 
         // start components
+        subStep = startupStepRecorder.beginStep(CamelContext.class, getName(), "Init Components");
         ServiceHelper.initService(components.values());
+        startupStepRecorder.endStep(subStep);
 
         // create route definitions from route templates if we have any sources
         for (RouteTemplateParameterSource source : getRegistry().findByType(RouteTemplateParameterSource.class)) {
@@ -2626,13 +2791,18 @@ public abstract class AbstractCamelContext extends BaseService
         }
 
         // start the route definitions before the routes is started
+        subStep = startupStepRecorder.beginStep(CamelContext.class, getName(), "Create Routes");
         startRouteDefinitions();
+        startupStepRecorder.endStep(subStep);
 
         EventHelper.notifyCamelContextInitialized(this);
+
+        startupStepRecorder.endStep(step);
     }
 
     @Override
     protected void doStart() throws Exception {
+        StartupStep step = startupStepRecorder.beginStep(CamelContext.class, getName(), "Start CamelContext");
         try {
             doStartContext();
         } catch (Exception e) {
@@ -2640,6 +2810,8 @@ public abstract class AbstractCamelContext extends BaseService
             EventHelper.notifyCamelContextStartupFailed(AbstractCamelContext.this, e);
             // rethrow cause
             throw e;
+        } finally {
+            startupStepRecorder.endStep(step);
         }
     }
 
@@ -2735,8 +2907,10 @@ public abstract class AbstractCamelContext extends BaseService
         }
 
         // start management strategy before lifecycles are started
+        StartupStep step = startupStepRecorder.beginStep(CamelContext.class, getName(), "Start Management Strategy");
         ManagementStrategy managementStrategy = getManagementStrategy();
         startService(managementStrategy);
+        startupStepRecorder.endStep(step);
 
         // start lifecycle strategies
         ServiceHelper.startService(lifecycleStrategies);
@@ -2772,7 +2946,9 @@ public abstract class AbstractCamelContext extends BaseService
         EventHelper.notifyCamelContextStarting(this);
 
         // start components
+        step = startupStepRecorder.beginStep(CamelContext.class, getName(), "Start Components");
         startServices(components.values());
+        startupStepRecorder.endStep(step);
 
         if (isUseDataType()) {
             // log if DataType has been enabled
@@ -2830,7 +3006,9 @@ public abstract class AbstractCamelContext extends BaseService
 
         // invoke this logic to warmup the routes and if possible also start the routes
         EventHelper.notifyCamelContextRoutesStarting(this);
+        step = startupStepRecorder.beginStep(CamelContext.class, getName(), "Start Routes");
         internalRouteStartupManager.doStartOrResumeRoutes(routeServices, true, !doNotStartRoutesOnFirstStart, false, true);
+        startupStepRecorder.endStep(step);
         EventHelper.notifyCamelContextRoutesStarted(this);
 
         long cacheCounter = beanIntrospection != null ? beanIntrospection.getCachedClassesCounter() : 0;
@@ -2856,6 +3034,9 @@ public abstract class AbstractCamelContext extends BaseService
         // Stop the route controller
         ServiceHelper.stopAndShutdownService(this.routeController);
 
+        // route consumers may still be starting lazily in the background
+        internalRouteStartupManager.stopLazyRouteConsumers();
+
         // stop route inputs in the same order as they was started so we stop
         // the very first inputs first
         try {
@@ -3221,6 +3402,7 @@ public abstract class AbstractCamelContext extends BaseService
         }
         getReactiveExecutor();
         getBeanIntrospection();
+        getBufferPool();
         getPropertiesComponent();
 
         if (isTypeConverterStatisticsEnabled() != null) {
@@ -3247,6 +3429,7 @@ public abstract class AbstractCamelContext extends BaseService
         getModelJAXBContextFactory();
         getUuidGenerator();
         getUnitOfWorkFactory();
+        getExchangeFactory();
         getRouteController();
         try {
             getBeanProxyFactory();
@@ -4226,6 +4409,10 @@ public abstract class AbstractCamelContext extends BaseService
 
     protected abstract UnitOfWorkFactory createUnitOfWorkFactory();
 
+    protected abstract ExchangeFactory createExchangeFactory();
+
+    protected abstract BufferPool createBufferPool();
+
     protected abstract CamelContextNameStrategy createCamelContextNameStrategy();
 
     protected abstract ManagementNameStrategy createManagementNameStrategy();
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import org.apache.camel.spi.BufferPool;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ByteArrayPool;
+
+/**
+ * Default {@link BufferPool} which pools the buffers in a {@link ByteArrayPool} owned by the CamelContext, so
+ * the buffers and the utilization statistics are per context.
+ */
+public class DefaultBufferPool extends ServiceSupport implements BufferPool {
+
+    private final ByteArrayPool pool;
+    private final Statistics statistics = new UtilizationStatistics();
+
+    public DefaultBufferPool() {
+        this(new ByteArrayPool(32));
+    }
+
+    public DefaultBufferPool(ByteArrayPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public byte[] acquire(int size) {
+        return pool.acquire(size);
+    }
+
+    @Override
+    public void release(byte[] buffer) {
+        pool.release(buffer);
+    }
+
+    @Override
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // drop the pooled buffers, including the buffers kept by the threads which may outlive the CamelContext
+        pool.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultBufferPool";
+    }
+
+    /**
+     * Represents utilization statistics
+     */
+    private final class UtilizationStatistics implements Statistics {
+
+        @Override
+        public long getAcquiredCounter() {
+            return pool.getAcquiredCounter();
+        }
+
+        @Override
+        public long getCreatedCounter() {
+            return pool.getCreatedCounter();
+        }
+
+        @Override
+        public long getReleasedCounter() {
+            return pool.getReleasedCounter();
+        }
+
+        @Override
+        public long getDiscardedCounter() {
+            return pool.getDiscardedCounter();
+        }
+
+        @Override
+        public long getPooledSize() {
+            return pool.getPooledSize();
+        }
+
+        @Override
+        public void reset() {
+            pool.resetStatistics();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("BufferPool utilization[acquired=%s, created=%s, released=%s, discarded=%s, pooledSize=%s]",
+                    getAcquiredCounter(), getCreatedCounter(), getReleasedCounter(), getDiscardedCounter(), getPooledSize());
+        }
+    }
+}
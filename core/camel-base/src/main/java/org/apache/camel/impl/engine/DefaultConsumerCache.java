@@ -232,6 +232,7 @@ public class DefaultConsumerCache extends ServiceSupport implements ConsumerCach
         if (extendedStatistics) {
             int max = maxCacheSize == 0 ? CamelContextHelper.getMaximumCachePoolSize(camelContext) : maxCacheSize;
             statistics = new DefaultEndpointUtilizationStatistics(max);
+            consumers.setStatistics(statistics);
         }
         ServiceHelper.initService(consumers);
     }
@@ -16,20 +16,27 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import org.apache.camel.spi.EndpointUtilizationStatistics;
+import org.apache.camel.support.LRUCache;
 import org.apache.camel.support.LRUCacheFactory;
 
 public class DefaultEndpointUtilizationStatistics implements EndpointUtilizationStatistics {
 
     private final int maxCapacity;
-    private final Map<String, Long> map;
+    private final Map<String, Counters> map;
 
-    @SuppressWarnings("unchecked")
     public DefaultEndpointUtilizationStatistics(int maxCapacity) {
-        this.map = LRUCacheFactory.newLRUCache(16, maxCapacity, false);
+        Map<String, Counters> cache = LRUCacheFactory.newLRUCache(16, maxCapacity, false);
+        // the default LRU cache is not thread-safe
+        this.map = cache instanceof LRUCache ? cache : Collections.synchronizedMap(cache);
         this.maxCapacity = maxCapacity;
     }
 
@@ -45,13 +52,17 @@ public class DefaultEndpointUtilizationStatistics implements EndpointUtilization
 
     @Override
     public void onHit(String uri) {
-        map.compute(uri, (key, current) -> {
-            if (current == null) {
-                return 1L;
-            } else {
-                return ++current;
-            }
-        });
+        counters(uri).hits.increment();
+    }
+
+    @Override
+    public void onMiss(String uri) {
+        counters(uri).misses.increment();
+    }
+
+    @Override
+    public void onEvict(String uri) {
+        counters(uri).evictions.increment();
     }
 
     @Override
@@ -61,11 +72,50 @@ public class DefaultEndpointUtilizationStatistics implements EndpointUtilization
 
     @Override
     public Map<String, Long> getStatistics() {
-        return Collections.unmodifiableMap(map);
+        return snapshot(c -> c.hits);
+    }
+
+    @Override
+    public Map<String, Long> getMissStatistics() {
+        return snapshot(c -> c.misses);
+    }
+
+    @Override
+    public Map<String, Long> getEvictionStatistics() {
+        return snapshot(c -> c.evictions);
     }
 
     @Override
     public void clear() {
         map.clear();
     }
+
+    private Counters counters(String uri) {
+        Counters answer = map.get(uri);
+        if (answer == null) {
+            answer = map.computeIfAbsent(uri, k -> new Counters());
+        }
+        return answer;
+    }
+
+    private Map<String, Long> snapshot(Function<Counters, LongAdder> counter) {
+        List<Map.Entry<String, Counters>> entries;
+        synchronized (map) {
+            entries = new ArrayList<>(map.entrySet());
+        }
+        Map<String, Long> answer = new LinkedHashMap<>(entries.size());
+        for (Map.Entry<String, Counters> entry : entries) {
+            long value = counter.apply(entry.getValue()).sum();
+            if (value > 0) {
+                answer.put(entry.getKey(), value);
+            }
+        }
+        return Collections.unmodifiableMap(answer);
+    }
+
+    private static final class Counters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+    }
 }
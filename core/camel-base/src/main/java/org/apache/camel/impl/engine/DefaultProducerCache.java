@@ -359,6 +359,9 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         if (extendedStatistics) {
             int max = maxCacheSize == 0 ? CamelContextHelper.getMaximumCachePoolSize(camelContext) : maxCacheSize;
             statistics = new DefaultEndpointUtilizationStatistics(max);
+            if (producers != null) {
+                producers.setStatistics(statistics);
+            }
         }
         ServiceHelper.initService(producers);
     }
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.StartupStep;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * Default {@link StartupStepRecorder} which is disabled by default, and then has no overhead, as a shared noop step is
+ * returned when beginning a step.
+ * <p/>
+ * When enabled, the steps are recorded in memory until the recorder is stopped, which happens when the startup of
+ * {@link org.apache.camel.CamelContext} is complete. The steps in progress are tracked per thread, so a step which
+ * begins while another step is in progress on the same thread becomes a child of that step.
+ */
+public class DefaultStartupStepRecorder extends ServiceSupport implements StartupStepRecorder {
+
+    private static final StartupStep DISABLED_STEP = new StartupStep() {
+        @Override
+        public int getId() {
+            return 0;
+        }
+
+        @Override
+        public int getParentId() {
+            return 0;
+        }
+
+        @Override
+        public int getLevel() {
+            return 0;
+        }
+
+        @Override
+        public String getType() {
+            return null;
+        }
+
+        @Override
+        public String getName() {
+            return null;
+        }
+
+        @Override
+        public String getDescription() {
+            return null;
+        }
+
+        @Override
+        public long getBeginTime() {
+            return 0;
+        }
+
+        @Override
+        public long getDuration() {
+            return -1;
+        }
+    };
+
+    private final List<StartupStep> steps = new ArrayList<>();
+    // the steps in progress per thread, which is only accessed by its own thread
+    private final Map<Thread, Deque<DefaultStartupStep>> inProgress = new ConcurrentHashMap<>();
+    private final AtomicInteger stepCounter = new AtomicInteger();
+    private volatile boolean enabled;
+    private int maxDepth = -1;
+    private String recordingDir;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    @Override
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public String getRecordingDir() {
+        return recordingDir;
+    }
+
+    @Override
+    public void setRecordingDir(String recordingDir) {
+        this.recordingDir = recordingDir;
+    }
+
+    @Override
+    public StartupStep beginStep(Class<?> type, String name, String description) {
+        if (!enabled) {
+            return DISABLED_STEP;
+        }
+
+        Deque<DefaultStartupStep> current = inProgress.get(Thread.currentThread());
+        int level = current != null ? current.size() : 0;
+        if (maxDepth >= 0 && level > maxDepth) {
+            return DISABLED_STEP;
+        }
+        if (current == null) {
+            current = new ArrayDeque<>();
+            inProgress.put(Thread.currentThread(), current);
+        }
+        DefaultStartupStep parent = current.peekLast();
+        int parentId = parent != null ? parent.getId() : 0;
+
+        DefaultStartupStep step = new DefaultStartupStep(stepCounter.incrementAndGet(), parentId, level,
+                type.getSimpleName(), name, description);
+        current.addLast(step);
+        synchronized (steps) {
+            steps.add(step);
+        }
+        onBeginStep(step);
+        return step;
+    }
+
+    @Override
+    public void endStep(StartupStep step) {
+        if (step instanceof DefaultStartupStep) {
+            DefaultStartupStep dss = (DefaultStartupStep) step;
+            Deque<DefaultStartupStep> current = inProgress.get(Thread.currentThread());
+            if (current != null) {
+                current.removeLastOccurrence(dss);
+                if (current.isEmpty()) {
+                    // do not keep the thread when it has no steps in progress
+                    inProgress.remove(Thread.currentThread());
+                }
+            }
+            if (dss.end()) {
+                onEndStep(step);
+            }
+        }
+    }
+
+    @Override
+    public List<StartupStep> getRecordedSteps() {
+        synchronized (steps) {
+            return new ArrayList<>(steps);
+        }
+    }
+
+    /**
+     * Callback when a step has begun
+     */
+    protected void onBeginStep(StartupStep step) {
+        // noop
+    }
+
+    /**
+     * Callback when a step has ended
+     */
+    protected void onEndStep(StartupStep step) {
+        // noop
+    }
+
+    /**
+     * Callback when the recording has ended
+     */
+    protected void onRecordingEnded(List<StartupStep> steps) {
+        // noop
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (enabled) {
+            // the recording only covers the startup
+            enabled = false;
+            onRecordingEnded(getRecordedSteps());
+        }
+        synchronized (steps) {
+            steps.clear();
+        }
+        // clear the steps in progress of all threads
+        inProgress.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultStartupStepRecorder";
+    }
+
+    private static final class DefaultStartupStep implements StartupStep {
+
+        private final int id;
+        private final int parentId;
+        private final int level;
+        private final String type;
+        private final String name;
+        private final String description;
+        private final long beginTime;
+        private final long begin;
+        private volatile long duration = -1;
+
+        DefaultStartupStep(int id, int parentId, int level, String type, String name, String description) {
+            this.id = id;
+            this.parentId = parentId;
+            this.level = level;
+            this.type = type;
+            this.name = name;
+            this.description = description;
+            this.beginTime = System.currentTimeMillis();
+            this.begin = System.nanoTime();
+        }
+
+        boolean end() {
+            if (duration == -1) {
+                duration = (System.nanoTime() - begin) / 1000000;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+
+        @Override
+        public int getParentId() {
+            return parentId;
+        }
+
+        @Override
+        public int getLevel() {
+            return level;
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public long getBeginTime() {
+            return beginTime;
+        }
+
+        @Override
+        public long getDuration() {
+            return duration;
+        }
+
+        @Override
+        public String toString() {
+            return type + "[" + id + ":" + name + "]";
+        }
+    }
+
+}
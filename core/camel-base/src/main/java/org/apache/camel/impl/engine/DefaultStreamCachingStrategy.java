@@ -19,8 +19,12 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -36,6 +40,8 @@ import org.apache.camel.util.StringHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.apache.camel.util.BufferCaster.cast;
+
 /**
  * Default implementation of {@link StreamCachingStrategy}
  */
@@ -56,6 +62,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
+    private long spoolOffHeapBudget;
+    private boolean spoolMemoryMapped;
+    // the pooled direct buffers which are not in use, and the total number of bytes allocated and in use
+    private final Queue<ByteBuffer> offHeapPool = new ConcurrentLinkedQueue<>();
+    private final AtomicLong offHeapAllocated = new AtomicLong();
+    private final AtomicLong offHeapUsage = new AtomicLong();
 
     @Override
     public CamelContext getCamelContext() {
@@ -162,6 +174,64 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.anySpoolRules = anySpoolTasks;
     }
 
+    @Override
+    public long getSpoolOffHeapBudget() {
+        return spoolOffHeapBudget;
+    }
+
+    @Override
+    public void setSpoolOffHeapBudget(long spoolOffHeapBudget) {
+        this.spoolOffHeapBudget = spoolOffHeapBudget;
+    }
+
+    @Override
+    public boolean isSpoolMemoryMapped() {
+        return spoolMemoryMapped;
+    }
+
+    @Override
+    public void setSpoolMemoryMapped(boolean spoolMemoryMapped) {
+        this.spoolMemoryMapped = spoolMemoryMapped;
+    }
+
+    @Override
+    public ByteBuffer acquireOffHeapBuffer() {
+        if (!enabled || spoolOffHeapBudget <= 0) {
+            return null;
+        }
+
+        ByteBuffer buffer = offHeapPool.poll();
+        if (buffer == null) {
+            // allocate a new buffer if within the budget
+            long allocated;
+            do {
+                allocated = offHeapAllocated.get();
+                if (allocated + bufferSize > spoolOffHeapBudget) {
+                    LOG.trace("Off-heap budget {} exhausted", spoolOffHeapBudget);
+                    if (statistics.isStatisticsEnabled()) {
+                        statistics.updateOffHeapSpill();
+                    }
+                    return null;
+                }
+            } while (!offHeapAllocated.compareAndSet(allocated, allocated + bufferSize));
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+        offHeapUsage.addAndGet(buffer.capacity());
+        return buffer;
+    }
+
+    @Override
+    public void releaseOffHeapBuffer(ByteBuffer buffer) {
+        offHeapUsage.addAndGet(-buffer.capacity());
+        if (isRunAllowed() && buffer.capacity() == bufferSize) {
+            cast(buffer).clear();
+            offHeapPool.offer(buffer);
+        } else {
+            // the buffer is not reused so it is no longer part of the budget
+            offHeapAllocated.addAndGet(-buffer.capacity());
+        }
+    }
+
     @Override
     public Statistics getStatistics() {
         return statistics;
@@ -318,6 +388,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        if (spoolOffHeapBudget > 0 && spoolOffHeapBudget < bufferSize) {
+            throw new IllegalArgumentException("SpoolOffHeapBudget must not be lower than BufferSize, was: " + spoolOffHeapBudget);
+        }
+
         LOG.debug("StreamCaching configuration {}", this);
 
         if (spoolDirectory != null) {
@@ -339,6 +413,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+
+        // the pooled buffers are freed by the garbage collector
+        ByteBuffer buffer;
+        while ((buffer = offHeapPool.poll()) != null) {
+            offHeapAllocated.addAndGet(-buffer.capacity());
+        }
     }
 
     @Override
@@ -349,6 +429,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             + ", spoolThreshold=" + spoolThreshold
             + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
             + ", bufferSize=" + bufferSize
+            + ", spoolOffHeapBudget=" + spoolOffHeapBudget
+            + ", spoolMemoryMapped=" + spoolMemoryMapped
             + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
@@ -417,7 +499,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     /**
      * Represents utilization statistics.
      */
-    private static final class UtilizationStatistics implements Statistics {
+    private final class UtilizationStatistics implements Statistics {
 
         private boolean statisticsEnabled;
         private volatile long memoryCounter;
@@ -426,6 +508,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private volatile long spoolCounter;
         private volatile long spoolSize;
         private volatile long spoolAverageSize;
+        private volatile long offHeapSpillCounter;
 
         synchronized void updateMemory(long size) {
             memoryCounter++;
@@ -439,6 +522,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolAverageSize = spoolSize / spoolCounter;
         }
 
+        synchronized void updateOffHeapSpill() {
+            offHeapSpillCounter++;
+        }
+
         @Override
         public long getCacheMemoryCounter() {
             return memoryCounter;
@@ -469,6 +556,16 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize;
         }
 
+        @Override
+        public long getCacheOffHeapUsage() {
+            return offHeapUsage.get();
+        }
+
+        @Override
+        public long getCacheOffHeapSpillCounter() {
+            return offHeapSpillCounter;
+        }
+
         @Override
         public synchronized void reset() {
             memoryCounter = 0;
@@ -477,6 +574,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolCounter = 0;
             spoolSize = 0;
             spoolAverageSize = 0;
+            offHeapSpillCounter = 0;
         }
 
         @Override
@@ -491,8 +589,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
         @Override
         public String toString() {
-            return String.format("[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+            return String.format("[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s,"
+                    + " offHeapUsage=%s, offHeapSpillCounter=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    getCacheOffHeapUsage(), offHeapSpillCounter);
         }
     }
 
@@ -19,10 +19,14 @@ package org.apache.camel.impl.engine;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
@@ -32,6 +36,7 @@ import org.apache.camel.MultipleConsumersSupport;
 import org.apache.camel.Route;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.StartupListener;
+import org.apache.camel.StartupStep;
 import org.apache.camel.StatefulService;
 import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
@@ -40,6 +45,7 @@ import org.apache.camel.spi.RouteStartupOrder;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
+import org.apache.camel.util.function.ThrowingConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +54,10 @@ import org.slf4j.LoggerFactory;
  * during starting routes.
  *
  * This code has been refactored out of {@link AbstractCamelContext} to its own class.
+ * <p/>
+ * The routes can be warmed up and started in parallel, where the routes are divided into groups that are started
+ * one after the other in their startup order. Routes with an explicit startupOrder are in a group of their own, and
+ * the routes in between are started in parallel.
  */
 class InternalRouteStartupManager {
 
@@ -56,6 +66,9 @@ class InternalRouteStartupManager {
     private final ThreadLocal<Route> setupRoute = new ThreadLocal<>();
     private final AbstractCamelContext abstractCamelContext;
     private final CamelLogger routeLogger = new CamelLogger(LOG);
+    // the routes which consumers should be started lazily after the context has been started
+    private final Map<Integer, DefaultRouteStartupOrder> lazyInputs = new TreeMap<>();
+    private volatile ExecutorService lazyExecutorService;
 
     public InternalRouteStartupManager(AbstractCamelContext abstractCamelContext) {
         this.abstractCamelContext = abstractCamelContext;
@@ -152,8 +165,21 @@ class InternalRouteStartupManager {
             inputs.put(order.getStartupOrder(), order);
         }
 
+        ExecutorService executorService = createRouteStartupExecutorService(inputs.size());
+        try {
+            doSafelyStartRouteServices(inputs, startConsumer, resumeConsumer, addingRoutes, executorService);
+        } finally {
+            if (executorService != null) {
+                abstractCamelContext.getExecutorServiceManager().shutdownNow(executorService);
+            }
+        }
+    }
+
+    private void doSafelyStartRouteServices(Map<Integer, DefaultRouteStartupOrder> inputs, boolean startConsumer, boolean resumeConsumer, boolean addingRoutes,
+                                            ExecutorService executorService)
+            throws Exception {
         // warm up routes before we start them
-        doWarmUpRoutes(inputs, startConsumer);
+        doWarmUpRoutes(inputs, startConsumer, executorService);
 
         // sort the startup listeners so they are started in the right order
         abstractCamelContext.getStartupListeners().sort(OrderedComparator.get());
@@ -173,11 +199,15 @@ class InternalRouteStartupManager {
             if (resumeConsumer) {
                 // and now resume the routes
                 doResumeRouteConsumers(inputs, addingRoutes);
+            } else if (addingRoutes && abstractCamelContext.isLazyStartRouteConsumers() && abstractCamelContext.isStarting()) {
+                // defer starting the routes till the context has been started
+                LOG.debug("Deferring starting {} routes till CamelContext has been started", inputs.size());
+                lazyInputs.putAll(inputs);
             } else {
                 // and now start the routes
                 // and check for clash with multiple consumers of the same
                 // endpoints which is not allowed
-                doStartRouteConsumers(inputs, addingRoutes);
+                doStartRouteConsumers(inputs, addingRoutes, executorService);
             }
         }
 
@@ -197,6 +227,58 @@ class InternalRouteStartupManager {
         inputs.clear();
     }
 
+    /**
+     * Starts the consumers of the routes which was deferred to be started lazily in the background, when the context
+     * has been started.
+     */
+    synchronized void startLazyRouteConsumers() {
+        if (lazyInputs.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, DefaultRouteStartupOrder> inputs = new TreeMap<>(lazyInputs);
+        lazyInputs.clear();
+        LOG.debug("Starting {} routes lazily", inputs.size());
+
+        lazyExecutorService = abstractCamelContext.getExecutorServiceManager().newSingleThreadExecutor(this, "LazyRouteStartup");
+        lazyExecutorService.submit(() -> doStartLazyRouteConsumers(inputs));
+    }
+
+    /**
+     * Stops starting the consumers of the routes lazily, waiting for the routes which are being started.
+     */
+    void stopLazyRouteConsumers() {
+        ExecutorService executorService = lazyExecutorService;
+        if (executorService != null) {
+            lazyExecutorService = null;
+            abstractCamelContext.getExecutorServiceManager().shutdownGraceful(executorService);
+        }
+        synchronized (this) {
+            lazyInputs.clear();
+        }
+    }
+
+    private synchronized void doStartLazyRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs) {
+        if (!abstractCamelContext.isStarted()) {
+            // the context is being stopped
+            return;
+        }
+
+        abstractCamelContext.setStartingRoutes(true);
+        ExecutorService executorService = createRouteStartupExecutorService(inputs.size());
+        try {
+            // the context is started, so any startup listeners added by the consumers are invoked right away
+            doStartRouteConsumers(inputs, true, executorService);
+        } catch (Exception e) {
+            LOG.warn("Error starting routes lazily due to " + e.getMessage() + ". This exception is ignored.", e);
+        } finally {
+            if (executorService != null) {
+                abstractCamelContext.getExecutorServiceManager().shutdownNow(executorService);
+            }
+            abstractCamelContext.setStartingRoutes(false);
+        }
+    }
+
     /**
      * @see #safelyStartRouteServices(boolean,boolean,boolean,boolean,Collection)
      */
@@ -244,10 +326,10 @@ class InternalRouteStartupManager {
         return true;
     }
 
-    void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws FailedToStartRouteException {
+    void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup, ExecutorService executorService) throws Exception {
         // now prepare the routes by starting its services before we start the
         // input
-        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
+        for (List<DefaultRouteStartupOrder> group : groupByStartupOrder(inputs)) {
             // defer starting inputs till later as we want to prepare the routes
             // by starting
             // all their processors and child services etc.
@@ -256,138 +338,200 @@ class InternalRouteStartupManager {
             // routes as all routes
             // will then be prepared in time before we start inputs which will
             // consume messages to be routed
-            RouteService routeService = entry.getValue().getRouteService();
-            try {
-                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
-                setupRoute.set(routeService.getRoute());
-                routeService.warmUp();
-            } finally {
-                setupRoute.remove();
-            }
+            doInParallel(executorService, group, order -> {
+                RouteService routeService = order.getRouteService();
+                StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(), "Warm up Route");
+                try {
+                    LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+                    setupRoute.set(routeService.getRoute());
+                    routeService.warmUp();
+                } finally {
+                    setupRoute.remove();
+                    abstractCamelContext.getStartupStepRecorder().endStep(step);
+                }
+            });
         }
     }
 
     void doResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes) throws Exception {
-        doStartOrResumeRouteConsumers(inputs, true, addingRoutes);
+        doStartOrResumeRouteConsumers(inputs, true, addingRoutes, null);
     }
 
-    void doStartRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes) throws Exception {
-        doStartOrResumeRouteConsumers(inputs, false, addingRoutes);
+    void doStartRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes, ExecutorService executorService) throws Exception {
+        doStartOrResumeRouteConsumers(inputs, false, addingRoutes, executorService);
     }
 
     private LoggingLevel getRouteLoggerLogLevel() {
         return abstractCamelContext.getRouteController().getRouteStartupLoggingLevel();
     }
 
-    private void doStartOrResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute) throws Exception {
+    private void doStartOrResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute,
+                                               ExecutorService executorService) throws Exception {
         List<Endpoint> routeInputs = new ArrayList<>();
 
-        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            Integer order = entry.getKey();
-            Route route = entry.getValue().getRoute();
-            RouteService routeService = entry.getValue().getRouteService();
-
-            // if we are starting camel, then skip routes which are configured
-            // to not be auto started
-            boolean autoStartup = routeService.isAutoStartup();
-            if (addingRoute && !autoStartup) {
-                routeLogger.log("Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false", getRouteLoggerLogLevel());
-                continue;
-            }
+        for (List<DefaultRouteStartupOrder> group : groupByStartupOrder(inputs)) {
+            List<DefaultRouteStartupOrder> toStart = new ArrayList<>(group.size());
 
-            // start the service
-            for (Consumer consumer : routeService.getInputs().values()) {
-                Endpoint endpoint = consumer.getEndpoint();
+            for (DefaultRouteStartupOrder order : group) {
+                Route route = order.getRoute();
+                RouteService routeService = order.getRouteService();
 
-                // check multiple consumer violation, with the other routes to
-                // be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+                // if we are starting camel, then skip routes which are configured
+                // to not be auto started
+                boolean autoStartup = routeService.isAutoStartup();
+                if (addingRoute && !autoStartup) {
+                    routeLogger.log("Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false", getRouteLoggerLogLevel());
+                    continue;
                 }
 
-                // check for multiple consumer violations with existing routes
-                // which
-                // have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : abstractCamelContext.getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
+                if (executorService == null) {
+                    // start the route right away, one route after the other
+                    for (Consumer consumer : routeService.getInputs().values()) {
+                        doCheckRouteConsumer(route, consumer, routeInputs);
+                        doStartOrResumeRouteConsumer(order, consumer, resumeOnly);
+                        routeInputs.add(consumer.getEndpoint());
+                        addRouteStartupOrder(order);
                     }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = abstractCamelContext.getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
+                    doStartOrResumeRouteService(order, resumeOnly);
+                    continue;
+                }
+
+                // check the consumers before starting the routes of the group in parallel
+                for (Consumer consumer : routeService.getInputs().values()) {
+                    doCheckRouteConsumer(route, consumer, routeInputs);
+                    routeInputs.add(consumer.getEndpoint());
+                    if (!resumeOnly || !route.supportsSuspension()) {
+                        // when starting we should invoke the lifecycle strategies
+                        for (LifecycleStrategy strategy : abstractCamelContext.getLifecycleStrategies()) {
+                            strategy.onServiceAdd(abstractCamelContext.getCamelContextReference(), consumer, route);
+                        }
                     }
                 }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+                if (!routeService.getInputs().isEmpty()) {
+                    addRouteStartupOrder(order);
                 }
+                toStart.add(order);
+            }
 
-                // start the consumer on the route
-                LOG.debug("Route: {} >>> {}", route.getId(), route);
-                if (resumeOnly) {
-                    LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
-                } else {
-                    LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
+            // and then start the routes of the group
+            doInParallel(executorService, toStart, order -> {
+                for (Consumer consumer : order.getRouteService().getInputs().values()) {
+                    doStartOrResumeConsumer(order, consumer, resumeOnly);
                 }
+                doStartOrResumeRouteService(order, resumeOnly);
+            });
+        }
+    }
 
-                if (resumeOnly && route.supportsSuspension()) {
-                    // if we are resuming and the route can be resumed
-                    ServiceHelper.resumeService(consumer);
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " +  route.getId() + " resumed and consuming from: " + uri, getRouteLoggerLogLevel());
-                } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : abstractCamelContext.getLifecycleStrategies()) {
-                        strategy.onServiceAdd(abstractCamelContext.getCamelContextReference(), consumer, route);
-                    }
-                    try {
-                        abstractCamelContext.startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
-                    }
+    private void doCheckRouteConsumer(Route route, Consumer consumer, List<Endpoint> routeInputs) throws FailedToStartRouteException {
+        Endpoint endpoint = consumer.getEndpoint();
 
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " +  route.getId() + " started and consuming from: " + uri, getRouteLoggerLogLevel());
-                }
+        // check multiple consumer violation, with the other routes to
+        // be started
+        if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+            throw new FailedToStartRouteException(route.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
 
-                routeInputs.add(endpoint);
-
-                // add to the order which they was started, so we know how to
-                // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
-                boolean found = false;
-                for (RouteStartupOrder other : abstractCamelContext.getRouteStartupOrder()) {
-                    if (other.getRoute().getId().equals(route.getId())) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
-                    abstractCamelContext.getRouteStartupOrder().add(entry.getValue());
-                }
+        // check for multiple consumer violations with existing routes
+        // which
+        // have already been started, or is currently starting
+        List<Endpoint> existingEndpoints = new ArrayList<>();
+        for (Route existingRoute : abstractCamelContext.getRoutes()) {
+            if (route.getId().equals(existingRoute.getId())) {
+                // skip ourselves
+                continue;
+            }
+            Endpoint existing = existingRoute.getEndpoint();
+            ServiceStatus status = abstractCamelContext.getRouteStatus(existingRoute.getId());
+            if (status != null && (status.isStarted() || status.isStarting())) {
+                existingEndpoints.add(existing);
             }
+        }
+        if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+            throw new FailedToStartRouteException(route.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+    }
 
-            if (resumeOnly) {
-                routeService.resume();
-            } else {
-                // and start the route service (no need to start children as
-                // they are already warmed up)
-                try {
-                    routeService.start();
-                    route.getProperties().remove("route.start.exception");
-                } catch (Exception e) {
-                    route.getProperties().put("route.start.exception", e);
-                    throw e;
-                }
+    private void addRouteStartupOrder(DefaultRouteStartupOrder order) {
+        // add to the order which they was started, so we know how to
+        // stop them in reverse order
+        // but only add if we haven't already registered it before (we
+        // dont want to double add when restarting)
+        boolean found = false;
+        for (RouteStartupOrder other : abstractCamelContext.getRouteStartupOrder()) {
+            if (other.getRoute().getId().equals(order.getRoute().getId())) {
+                found = true;
+                break;
+            }
+        }
+        if (!found) {
+            abstractCamelContext.getRouteStartupOrder().add(order);
+        }
+    }
+
+    private void doStartOrResumeRouteConsumer(DefaultRouteStartupOrder order, Consumer consumer, boolean resumeOnly) throws Exception {
+        Route route = order.getRoute();
+        if (!resumeOnly || !route.supportsSuspension()) {
+            // when starting we should invoke the lifecycle strategies
+            for (LifecycleStrategy strategy : abstractCamelContext.getLifecycleStrategies()) {
+                strategy.onServiceAdd(abstractCamelContext.getCamelContextReference(), consumer, route);
+            }
+        }
+        doStartOrResumeConsumer(order, consumer, resumeOnly);
+    }
+
+    private void doStartOrResumeConsumer(DefaultRouteStartupOrder order, Consumer consumer, boolean resumeOnly) throws Exception {
+        Route route = order.getRoute();
+        Endpoint endpoint = consumer.getEndpoint();
+
+        // start the consumer on the route
+        LOG.debug("Route: {} >>> {}", route.getId(), route);
+        if (resumeOnly) {
+            LOG.debug("Resuming consumer (order: {}) on route: {}", order.getStartupOrder(), route.getId());
+        } else {
+            LOG.debug("Starting consumer (order: {}) on route: {}", order.getStartupOrder(), route.getId());
+        }
+
+        if (resumeOnly && route.supportsSuspension()) {
+            // if we are resuming and the route can be resumed
+            ServiceHelper.resumeService(consumer);
+            // use basic endpoint uri to not log verbose details or potential sensitive data
+            String uri = endpoint.getEndpointBaseUri();
+            uri = URISupport.sanitizeUri(uri);
+            routeLogger.log("Route: " +  route.getId() + " resumed and consuming from: " + uri, getRouteLoggerLogLevel());
+        } else {
+            StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, route.getId(), "Start Route Consumer");
+            try {
+                abstractCamelContext.startService(consumer);
+                route.getProperties().remove("route.start.exception");
+            } catch (Exception e) {
+                route.getProperties().put("route.start.exception", e);
+                throw e;
+            } finally {
+                abstractCamelContext.getStartupStepRecorder().endStep(step);
+            }
+
+            // use basic endpoint uri to not log verbose details or potential sensitive data
+            String uri = endpoint.getEndpointBaseUri();
+            uri = URISupport.sanitizeUri(uri);
+            routeLogger.log("Route: " +  route.getId() + " started and consuming from: " + uri, getRouteLoggerLogLevel());
+        }
+    }
+
+    private void doStartOrResumeRouteService(DefaultRouteStartupOrder order, boolean resumeOnly) throws Exception {
+        Route route = order.getRoute();
+        RouteService routeService = order.getRouteService();
+        if (resumeOnly) {
+            routeService.resume();
+        } else {
+            // and start the route service (no need to start children as
+            // they are already warmed up)
+            try {
+                routeService.start();
+                route.getProperties().remove("route.start.exception");
+            } catch (Exception e) {
+                route.getProperties().put("route.start.exception", e);
+                throw e;
             }
         }
     }
@@ -412,4 +556,75 @@ class InternalRouteStartupManager {
         return true;
     }
 
+    /**
+     * Divides the routes into groups which are started one after the other. A route with an explicit startupOrder is
+     * in a group of its own, and the routes in between are in the same group, as they can be started in any order.
+     */
+    private static List<List<DefaultRouteStartupOrder>> groupByStartupOrder(Map<Integer, DefaultRouteStartupOrder> inputs) {
+        List<List<DefaultRouteStartupOrder>> answer = new ArrayList<>();
+        List<DefaultRouteStartupOrder> group = null;
+        for (DefaultRouteStartupOrder order : inputs.values()) {
+            if (order.getRoute().getStartupOrder() != null) {
+                answer.add(Collections.singletonList(order));
+                group = null;
+            } else {
+                if (group == null) {
+                    group = new ArrayList<>();
+                    answer.add(group);
+                }
+                group.add(order);
+            }
+        }
+        return answer;
+    }
+
+    private ExecutorService createRouteStartupExecutorService(int routes) {
+        int poolSize = Math.min(routes, abstractCamelContext.getRouteStartupParallelism());
+        if (poolSize <= 1) {
+            return null;
+        }
+        return abstractCamelContext.getExecutorServiceManager().newFixedThreadPool(this, "RouteStartup", poolSize);
+    }
+
+    /**
+     * Runs the task for each of the routes using the executor service (if any), and waits for all of them to complete.
+     */
+    private void doInParallel(ExecutorService executorService, List<DefaultRouteStartupOrder> orders,
+                              ThrowingConsumer<DefaultRouteStartupOrder, Exception> task) throws Exception {
+        if (executorService == null || orders.size() <= 1) {
+            for (DefaultRouteStartupOrder order : orders) {
+                task.accept(order);
+            }
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(orders.size());
+        for (DefaultRouteStartupOrder order : orders) {
+            futures.add(executorService.submit(() -> {
+                abstractCamelContext.setStartingRoutes(true);
+                try {
+                    task.accept(order);
+                } finally {
+                    abstractCamelContext.setStartingRoutes(false);
+                }
+                return null;
+            }));
+        }
+
+        // wait for all the routes, and then rethrow the first failure
+        Exception cause = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (cause == null) {
+                    cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        }
+        if (cause != null) {
+            throw cause;
+        }
+    }
+
 }
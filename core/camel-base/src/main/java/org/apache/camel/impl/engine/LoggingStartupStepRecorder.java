@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.List;
+
+import org.apache.camel.StartupStep;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link org.apache.camel.spi.StartupStepRecorder} which is enabled, and logs a summary of the recorded steps (and
+ * how long time each step took) when the startup is complete. The child steps are indented below their parent step.
+ */
+public class LoggingStartupStepRecorder extends DefaultStartupStepRecorder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoggingStartupStepRecorder.class);
+
+    public LoggingStartupStepRecorder() {
+        setEnabled(true);
+    }
+
+    @Override
+    protected void onRecordingEnded(List<StartupStep> steps) {
+        if (!LOG.isInfoEnabled() || steps.isEmpty()) {
+            return;
+        }
+        LOG.info("Startup recording ({} steps):", steps.size());
+        // the steps are in the order they began, so the child steps of a step is listed after the step
+        for (StartupStep step : steps) {
+            String duration = step.getDuration() >= 0 ? step.getDuration() + "ms" : "(not ended)";
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < step.getLevel(); i++) {
+                sb.append("    ");
+            }
+            sb.append(step.getType()).append(": ").append(step.getDescription());
+            if (step.getName() != null) {
+                sb.append(" (").append(step.getName()).append(")");
+            }
+            LOG.info("\t{}\t{}", duration, sb);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LoggingStartupStepRecorder";
+    }
+
+}
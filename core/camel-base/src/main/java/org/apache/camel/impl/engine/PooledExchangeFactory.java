@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.PooledExchange;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.DefaultPooledExchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pooled {@link ExchangeFactory} that reuses {@link Exchange} instance from a pool.
+ * <p/>
+ * Each consumer has its own pool (see {@link #newExchangeFactory(Consumer)}) which is bounded by the capacity.
+ * Exchanges are reset and returned to the pool when they are released, either explicit by the consumer, or automatic
+ * when the exchange was created with auto release and its unit of work is done.
+ */
+@ManagedResource(description = "Managed PooledExchangeFactory")
+public final class PooledExchangeFactory extends PrototypeExchangeFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PooledExchangeFactory.class);
+
+    private final PooledExchange.OnDoneTask onDone = this::onDone;
+    private final AtomicInteger inUse = new AtomicInteger();
+    private BlockingQueue<Exchange> pool;
+
+    public PooledExchangeFactory() {
+    }
+
+    private PooledExchangeFactory(Consumer consumer, UtilizationStatistics statistics) {
+        super(consumer, statistics);
+    }
+
+    @Override
+    public ExchangeFactory newExchangeFactory(Consumer consumer) {
+        PooledExchangeFactory answer = new PooledExchangeFactory(consumer, statistics);
+        answer.setCamelContext(camelContext);
+        answer.setCapacity(capacity);
+        return answer;
+    }
+
+    @Override
+    public Exchange create(boolean autoRelease) {
+        if (consumer != null) {
+            return create(consumer.getEndpoint(), autoRelease);
+        }
+        // no consumer so create a new exchange which is not pooled
+        return super.create(autoRelease);
+    }
+
+    @Override
+    public Exchange create(Endpoint fromEndpoint, boolean autoRelease) {
+        ExchangePattern pattern = fromEndpoint instanceof DefaultEndpoint
+                ? ((DefaultEndpoint) fromEndpoint).getExchangePattern() : ExchangePattern.InOnly;
+
+        DefaultPooledExchange answer = pool != null ? (DefaultPooledExchange) pool.poll() : null;
+        if (answer == null) {
+            // create a new exchange as there was no free from the pool
+            answer = new DefaultPooledExchange(fromEndpoint, pattern);
+            answer.onDone(onDone);
+            if (statistics.isStatisticsEnabled()) {
+                statistics.created.increment();
+            }
+        } else {
+            answer.setCreated(System.currentTimeMillis());
+            answer.setPattern(pattern);
+            answer.setFromEndpoint(fromEndpoint);
+            if (statistics.isStatisticsEnabled()) {
+                statistics.acquired.increment();
+            }
+        }
+        // always track the exchanges in use, so leaks are detected when the consumer stops
+        inUse.incrementAndGet();
+        answer.setAutoRelease(autoRelease);
+        return answer;
+    }
+
+    @Override
+    public boolean release(Exchange exchange) {
+        if (exchange instanceof PooledExchange) {
+            // done will reset the exchange and then return the exchange back to the pool via the on done task
+            ((PooledExchange) exchange).done();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isPooled() {
+        return true;
+    }
+
+    private void onDone(Exchange exchange) {
+        boolean pooled = pool != null && pool.offer(exchange);
+        inUse.decrementAndGet();
+        if (statistics.isStatisticsEnabled()) {
+            if (pooled) {
+                statistics.released.increment();
+            } else {
+                statistics.discarded.increment();
+            }
+        }
+    }
+
+    @Override
+    public int getSize() {
+        if (pool != null) {
+            return pool.size();
+        }
+        return 0;
+    }
+
+    @Override
+    public void purge() {
+        if (pool != null) {
+            pool.clear();
+        }
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        // only the factories used by the consumers keep a pool of exchanges
+        if (consumer != null) {
+            pool = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (consumer != null) {
+            int leaked = inUse.getAndSet(0);
+            if (leaked > 0) {
+                statistics.leaked.add(leaked);
+                LOG.warn("{} exchanges was not released back to the pool when stopping consumer: {}", leaked, consumer);
+            }
+            purge();
+        }
+        super.doStop();
+    }
+
+}
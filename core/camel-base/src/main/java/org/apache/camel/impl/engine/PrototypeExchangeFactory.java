@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * {@link ExchangeFactory} that creates a new {@link Exchange} instance.
+ * <p/>
+ * This is the default factory, which does not pool any exchanges.
+ */
+@ManagedResource(description = "Managed ExchangeFactory")
+public class PrototypeExchangeFactory extends ServiceSupport implements ExchangeFactory, CamelContextAware, StaticService {
+
+    protected final UtilizationStatistics statistics;
+    protected final Consumer consumer;
+    protected CamelContext camelContext;
+    protected int capacity = 100;
+
+    public PrototypeExchangeFactory() {
+        this(null, new UtilizationStatistics());
+    }
+
+    protected PrototypeExchangeFactory(Consumer consumer, UtilizationStatistics statistics) {
+        this.consumer = consumer;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public ExchangeFactory newExchangeFactory(Consumer consumer) {
+        PrototypeExchangeFactory answer = new PrototypeExchangeFactory(consumer, statistics);
+        answer.setCamelContext(camelContext);
+        answer.setCapacity(capacity);
+        return answer;
+    }
+
+    @Override
+    public Exchange create(boolean autoRelease) {
+        if (consumer != null) {
+            return create(consumer.getEndpoint(), autoRelease);
+        }
+        if (statistics.isStatisticsEnabled()) {
+            statistics.created.increment();
+        }
+        return new DefaultExchange(camelContext);
+    }
+
+    @Override
+    public Exchange create(Endpoint fromEndpoint, boolean autoRelease) {
+        if (statistics.isStatisticsEnabled()) {
+            statistics.created.increment();
+        }
+        return fromEndpoint.createExchange();
+    }
+
+    @Override
+    @ManagedAttribute(description = "The current number of exchanges in the pool")
+    public int getSize() {
+        return 0;
+    }
+
+    @Override
+    @ManagedAttribute(description = "The capacity the pool (for each consumer) uses for storing exchanges")
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statistics.isStatisticsEnabled();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        statistics.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @Override
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        statistics.reset();
+    }
+
+    @Override
+    @ManagedOperation(description = "Purges the pool")
+    public void purge() {
+        // noop
+    }
+
+    @ManagedAttribute(description = "Number of new exchanges created (pool misses)")
+    public long getCreatedCounter() {
+        return statistics.created.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of exchanges acquired from the pool (pool hits)")
+    public long getAcquiredCounter() {
+        return statistics.acquired.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of exchanges released back to the pool")
+    public long getReleasedCounter() {
+        return statistics.released.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of exchanges discarded (thrown away) because the pool was full")
+    public long getDiscardedCounter() {
+        return statistics.discarded.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of exchanges that was never released back to the pool when their consumer was stopped")
+    public long getLeakedCounter() {
+        return statistics.leaked.longValue();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (consumer == null) {
+            statistics.reset();
+        }
+    }
+
+    /**
+     * Represents utilization statistics, which is shared among the factories created for each consumer.
+     */
+    protected static final class UtilizationStatistics {
+
+        final LongAdder created = new LongAdder();
+        final LongAdder acquired = new LongAdder();
+        final LongAdder released = new LongAdder();
+        final LongAdder discarded = new LongAdder();
+        final LongAdder leaked = new LongAdder();
+        private volatile boolean statisticsEnabled;
+
+        public void reset() {
+            created.reset();
+            acquired.reset();
+            released.reset();
+            discarded.reset();
+            leaked.reset();
+        }
+
+        public boolean isStatisticsEnabled() {
+            return statisticsEnabled;
+        }
+
+        public void setStatisticsEnabled(boolean statisticsEnabled) {
+            this.statisticsEnabled = statisticsEnabled;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ExchangeFactory utilization[created=%s, acquired=%s, released=%s, discarded=%s, leaked=%s]",
+                    created.longValue(), acquired.longValue(), released.longValue(), discarded.longValue(), leaked.longValue());
+        }
+    }
+
+}
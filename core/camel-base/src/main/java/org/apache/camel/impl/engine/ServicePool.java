@@ -23,11 +23,15 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.NonManagedService;
 import org.apache.camel.Service;
+import org.apache.camel.spi.EndpointUtilizationStatistics;
 import org.apache.camel.support.LRUCache;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.service.ServiceSupport;
@@ -38,6 +42,12 @@ import org.slf4j.LoggerFactory;
 /**
  * A base class for a pool for either producers or consumers used by
  * {@link org.apache.camel.spi.ProducerCache} and {@link org.apache.camel.spi.ConsumerCache}.
+ * <p/>
+ * If the LRU cache which keeps track of which producers/consumers to evict is concurrent (such as when using
+ * camel-caffeine-lrucache which uses W-TinyLFU eviction) then the cache is shared by all threads. Otherwise the
+ * producers/consumers are kept in a {@link ConcurrentHashMap} together with the time they were last acquired, so
+ * threads acquiring producers/consumers do not contend on a lock, and the least recently acquired are evicted when
+ * the capacity is exceeded.
  */
 abstract class ServicePool<S extends Service> extends ServiceSupport implements NonManagedService {
 
@@ -51,6 +61,8 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     private final ConcurrentMap<Endpoint, Pool<S>> singlePoolEvicted = new ConcurrentHashMap<>();
     private int capacity;
     private Map<S, S> cache;
+    private AccessOrderedCache accessed;
+    private volatile EndpointUtilizationStatistics statistics;
 
     private interface Pool<S> {
         S acquire() throws Exception;
@@ -68,7 +80,22 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         // only use a LRU cache if capacity is more than one
         // the LRU cache is a facade that handles the logic to know which producers/consumers to evict/remove
         // when we hit max capacity. Then we remove them in the associated pool ConcurrentMap instance.
-        this.cache = capacity > 1 ? LRUCacheFactory.newLRUCache(capacity, this::onEvict) : null;
+        if (capacity > 1) {
+            Map<S, S> lru = LRUCacheFactory.newLRUCache(capacity, this::onEvict);
+            if (lru instanceof LRUCache) {
+                // the cache is concurrent so it can be shared by all threads
+                this.cache = lru;
+            } else {
+                this.accessed = new AccessOrderedCache();
+            }
+        }
+    }
+
+    /**
+     * Sets the statistics which are updated when producers/consumers are created and evicted.
+     */
+    public void setStatistics(EndpointUtilizationStatistics statistics) {
+        this.statistics = statistics;
     }
 
     /**
@@ -81,6 +108,10 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      */
     protected void onEvict(S s) {
         Endpoint e = getEndpoint.apply(s);
+        EndpointUtilizationStatistics stats = statistics;
+        if (stats != null) {
+            stats.onEvict(e.getEndpointUri());
+        }
         Pool<S> p = pool.get(e);
         if (p != null) {
             p.evict(s);
@@ -106,8 +137,12 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
             return null;
         }
         S s = getOrCreatePool(endpoint).acquire();
-        if (s != null && cache != null) {
-            cache.putIfAbsent(s, s);
+        if (s != null) {
+            if (cache != null) {
+                cache.putIfAbsent(s, s);
+            } else if (accessed != null) {
+                accessed.touch(s);
+            }
         }
         return s;
     }
@@ -126,7 +161,20 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     }
 
     private Pool<S> getOrCreatePool(Endpoint endpoint) {
-        return pool.computeIfAbsent(endpoint, this::createPool);
+        // avoid computeIfAbsent in the common case where the pool exists, as it may lock
+        Pool<S> answer = pool.get(endpoint);
+        if (answer == null) {
+            answer = pool.computeIfAbsent(endpoint, this::createPool);
+        }
+        return answer;
+    }
+
+    private S create(Endpoint endpoint) throws Exception {
+        EndpointUtilizationStatistics stats = statistics;
+        if (stats != null) {
+            stats.onMiss(endpoint.getEndpointUri());
+        }
+        return creator.apply(endpoint);
     }
 
     private Pool<S> createPool(Endpoint endpoint) {
@@ -170,6 +218,9 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
             cache.values().forEach(ServicePool::stop);
             cache.clear();
         }
+        if (accessed != null) {
+            accessed.stop();
+        }
         singlePoolEvicted.values().forEach(Pool::stop);
         singlePoolEvicted.clear();
     }
@@ -185,6 +236,52 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         }
     }
 
+    /**
+     * Keeps track of when the producers/consumers were last acquired, and evicts the least recently
+     * acquired when the capacity is exceeded. Acquiring only updates the map and a counter, and
+     * evicting is done by a single thread at a time, so threads acquiring do not block each other.
+     */
+    private class AccessOrderedCache {
+        private final ConcurrentMap<S, Long> lastAccess = new ConcurrentHashMap<>();
+        private final AtomicLong clock = new AtomicLong();
+        private final Lock evictLock = new ReentrantLock();
+
+        void touch(S s) {
+            if (lastAccess.put(s, clock.incrementAndGet()) == null && lastAccess.size() > capacity) {
+                evict();
+            }
+        }
+
+        private void evict() {
+            // if another thread is already evicting then it will also evict the service we added
+            while (lastAccess.size() > capacity && evictLock.tryLock()) {
+                try {
+                    while (lastAccess.size() > capacity) {
+                        S eldest = null;
+                        long eldestAccess = Long.MAX_VALUE;
+                        for (Map.Entry<S, Long> entry : lastAccess.entrySet()) {
+                            if (entry.getValue() < eldestAccess) {
+                                eldest = entry.getKey();
+                                eldestAccess = entry.getValue();
+                            }
+                        }
+                        // only evict if it has not been acquired again in the meantime
+                        if (eldest != null && lastAccess.remove(eldest, eldestAccess)) {
+                            onEvict(eldest);
+                        }
+                    }
+                } finally {
+                    evictLock.unlock();
+                }
+            }
+        }
+
+        void stop() {
+            lastAccess.keySet().forEach(ServicePool::stop);
+            lastAccess.clear();
+        }
+    }
+
     /**
      * Pool used for singleton producers or consumers which are thread-safe
      * and can be shared by multiple worker threads at any given time.
@@ -201,11 +298,12 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public S acquire() throws Exception {
             cleanupEvicts();
 
+            // the service is only created once so acquiring an existing service does not lock
             if (s == null) {
                 synchronized (this) {
                     if (s == null) {
                         LOG.trace("Creating service from endpoint: {}", endpoint);
-                        S tempS = creator.apply(endpoint);
+                        S tempS = create(endpoint);
                         endpoint.getCamelContext().addService(tempS, true, true);
                         s = tempS;
                     }
@@ -250,6 +348,9 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         }
 
         private void cleanupEvicts() {
+            if (singlePoolEvicted.isEmpty()) {
+                return;
+            }
             singlePoolEvicted.forEach((e, p) -> {
                 doStop(e);
                 p.stop();
@@ -305,7 +406,7 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
 
             S s = queue.poll();
             if (s == null) {
-                s = creator.apply(endpoint);
+                s = create(endpoint);
                 s.start();
             }
             return s;
@@ -36,6 +36,7 @@ import org.apache.camel.spi.AsyncProcessorAwaitManager;
 import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.BeanProcessorFactory;
 import org.apache.camel.spi.BeanProxyFactory;
+import org.apache.camel.spi.BufferPool;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.CamelContextNameStrategy;
 import org.apache.camel.spi.ClassResolver;
@@ -44,6 +45,7 @@ import org.apache.camel.spi.ComponentResolver;
 import org.apache.camel.spi.ConfigurerResolver;
 import org.apache.camel.spi.DataFormatResolver;
 import org.apache.camel.spi.EndpointRegistry;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -271,6 +273,20 @@ public class SimpleCamelContext extends AbstractCamelContext {
         return new DefaultManagementNameStrategy(getCamelContextReference());
     }
 
+    @Override
+    protected ExchangeFactory createExchangeFactory() {
+        return new BaseServiceResolver<>(ExchangeFactory.FACTORY, ExchangeFactory.class)
+                .resolve(getCamelContextReference())
+                .orElseGet(PrototypeExchangeFactory::new);
+    }
+
+    @Override
+    protected BufferPool createBufferPool() {
+        return new BaseServiceResolver<>(BufferPool.FACTORY, BufferPool.class)
+                .resolve(getCamelContextReference())
+                .orElseGet(DefaultBufferPool::new);
+    }
+
     @Override
     protected HeadersMapFactory createHeadersMapFactory() {
         return new BaseServiceResolver<>(HeadersMapFactory.FACTORY, HeadersMapFactory.class)
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which avoids updating shared counters when scheduling tasks, and which can offload
+ * work to a fixed work-stealing pool.
+ * <p/>
+ * Each thread has its own worker with a bounded deque. The statistics are kept in the worker (only updated by its own
+ * thread) and are aggregated when read, which avoids cache-line contention between cores on the hot path. The
+ * statistics are therefore approximate.
+ * <p/>
+ * When a worker has more pending tasks than the queue size, and a pool size is configured, then the tasks are
+ * offloaded to a {@link ForkJoinPool} where idle threads can steal the work. Synchronous and prioritized tasks are
+ * always executed by the current thread.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(this::createWorker);
+    private final Queue<Worker> allWorkers = new ConcurrentLinkedQueue<>();
+    private final LongAdder createdWorkers = new LongAdder();
+    // statistics from workers whose thread is terminated
+    private final LongAdder retiredTasks = new LongAdder();
+    private final LongAdder offloadedTasks = new LongAdder();
+    private int queueSize = 1024;
+    private int poolSize;
+    private volatile ForkJoinPool pool;
+
+    @ManagedAttribute(description = "Maximum number of pending tasks per worker before tasks are offloaded to the pool")
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * Maximum number of pending tasks per worker before tasks are offloaded to the pool (if a pool size is configured).
+     * The default value is 1024.
+     */
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    @ManagedAttribute(description = "Number of threads in the pool used for offloading tasks")
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Number of threads in the work-stealing pool used for offloading tasks when a worker has too many pending tasks.
+     * The default value is 0, which means tasks are never offloaded.
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(runnable, false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        int answer = 0;
+        for (Worker worker : allWorkers) {
+            if (worker.running) {
+                answer++;
+            }
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        int answer = 0;
+        for (Worker worker : allWorkers) {
+            answer += (int) (worker.scheduled - worker.executed);
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Total number of executed tasks")
+    public long getExecutedTasks() {
+        long answer = retiredTasks.longValue();
+        for (Worker worker : allWorkers) {
+            answer += worker.executed;
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of tasks offloaded to the pool")
+    public long getOffloadedTasks() {
+        return offloadedTasks.longValue();
+    }
+
+    private Worker createWorker() {
+        createdWorkers.increment();
+        Worker answer = new Worker(createdWorkers.intValue(), this);
+        allWorkers.add(answer);
+        purgeTerminatedWorkers();
+        return answer;
+    }
+
+    private void purgeTerminatedWorkers() {
+        for (Iterator<Worker> it = allWorkers.iterator(); it.hasNext();) {
+            Worker worker = it.next();
+            Thread thread = worker.thread.get();
+            if (thread == null || !thread.isAlive()) {
+                retiredTasks.add(worker.executed);
+                it.remove();
+            }
+        }
+    }
+
+    private boolean offload(Runnable runnable) {
+        ForkJoinPool fjp = pool;
+        if (fjp == null || fjp.isShutdown()) {
+            return false;
+        }
+        offloadedTasks.increment();
+        fjp.execute(() -> schedule(runnable));
+        return true;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (poolSize > 0) {
+            pool = new ForkJoinPool(poolSize, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Stopping WorkStealingReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, offloadedTasks: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getOffloadedTasks());
+        }
+        ForkJoinPool fjp = pool;
+        if (fjp != null) {
+            pool = null;
+            fjp.shutdown();
+            fjp.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final WorkStealingReactiveExecutor executor;
+        private final WeakReference<Thread> thread;
+        private Deque<Runnable> queue = new ArrayDeque<>();
+        private Deque<Deque<Runnable>> back;
+        // only updated by the thread owning this worker
+        private volatile boolean running;
+        private long scheduled;
+        private long executed;
+
+        Worker(int number, WorkStealingReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+            this.thread = new WeakReference<>(Thread.currentThread());
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                if (!queue.isEmpty()) {
+                    if (back == null) {
+                        back = new ArrayDeque<>();
+                    }
+                    back.push(queue);
+                    queue = new ArrayDeque<>();
+                }
+            } else if (running && queue.size() >= executor.queueSize && executor.offload(runnable)) {
+                // the queue is full so let another thread steal this task
+                return;
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+            scheduled++;
+            if (!running || sync) {
+                running = true;
+                try {
+                    for (;;) {
+                        final Runnable polled = queue.pollFirst();
+                        if (polled == null) {
+                            if (back != null && !back.isEmpty()) {
+                                queue = back.pollFirst();
+                                continue;
+                            } else {
+                                break;
+                            }
+                        }
+                        run(polled);
+                    }
+                } finally {
+                    running = false;
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Runnable polled = queue != null ? queue.pollFirst() : null;
+            if (polled == null) {
+                return false;
+            }
+            run(polled);
+            return true;
+        }
+
+        private void run(Runnable polled) {
+            try {
+                executed++;
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, polled);
+                }
+                polled.run();
+            } catch (Throwable t) {
+                LOG.warn("Error executing reactive work due to " + t.getMessage() + ". This exception is ignored.", t);
+            }
+        }
+
+    }
+
+}
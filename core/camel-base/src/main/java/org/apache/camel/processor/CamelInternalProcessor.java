@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.camel.AsyncCallback;
@@ -31,6 +33,7 @@ import org.apache.camel.MessageHistory;
 import org.apache.camel.NamedNode;
 import org.apache.camel.NamedRoute;
 import org.apache.camel.Ordered;
+import org.apache.camel.PooledExchange;
 import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.StatefulService;
@@ -40,6 +43,7 @@ import org.apache.camel.processor.interceptor.BacklogTracer;
 import org.apache.camel.processor.interceptor.DefaultBacklogTracerEventMessage;
 import org.apache.camel.spi.CamelInternalProcessorAdvice;
 import org.apache.camel.spi.Debugger;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.spi.ManagementInterceptStrategy.InstrumentationProcessor;
 import org.apache.camel.spi.MessageHistoryFactory;
@@ -89,23 +93,34 @@ import org.slf4j.LoggerFactory;
  * {@link #process(org.apache.camel.Exchange, org.apache.camel.AsyncCallback)} method.
  * <p/>
  * The added advices can implement {@link Ordered} to control in which order the advices are executed.
+ * <p/>
+ * The advices are compiled into a fixed chain when added, so routing an exchange does not iterate a list. When the
+ * {@link ExchangeFactory} is pooled, then the callback tasks (and their advice states) are pooled as well, which
+ * avoids allocating objects for each exchange that is routed through this processor.
  */
 public class CamelInternalProcessor extends DelegateAsyncProcessor {
 
     private static final Logger LOG = LoggerFactory.getLogger(CamelInternalProcessor.class);
 
     private static final Object[] EMPTY_STATES = new Object[0];
+    private static final CamelInternalProcessorAdvice<?>[] EMPTY_ADVICES = new CamelInternalProcessorAdvice<?>[0];
 
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
     private final ShutdownStrategy shutdownStrategy;
     private final List<CamelInternalProcessorAdvice<?>> advices = new ArrayList<>();
+    // the advices compiled into a chain (in the sorted order) which is used during routing
+    private CamelInternalProcessorAdvice<?>[] adviceChain = EMPTY_ADVICES;
+    private boolean[] adviceChainHasState = new boolean[0];
     private byte statefulAdvices;
+    // pool of callback tasks (only if the exchange factory is pooled)
+    private final BlockingQueue<AsyncAfterTask> taskPool;
 
     public CamelInternalProcessor(CamelContext camelContext) {
         this.camelContext = camelContext;
         this.reactiveExecutor = camelContext.adapt(ExtendedCamelContext.class).getReactiveExecutor();
         this.shutdownStrategy = camelContext.getShutdownStrategy();
+        this.taskPool = createTaskPool(camelContext);
     }
 
     public CamelInternalProcessor(CamelContext camelContext, Processor processor) {
@@ -113,6 +128,12 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         this.camelContext = camelContext;
         this.reactiveExecutor = camelContext.adapt(ExtendedCamelContext.class).getReactiveExecutor();
         this.shutdownStrategy = camelContext.getShutdownStrategy();
+        this.taskPool = createTaskPool(camelContext);
+    }
+
+    private static BlockingQueue<AsyncAfterTask> createTaskPool(CamelContext camelContext) {
+        ExchangeFactory exchangeFactory = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory();
+        return exchangeFactory.isPooled() ? new ArrayBlockingQueue<>(exchangeFactory.getCapacity()) : null;
     }
 
     /**
@@ -128,6 +149,19 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         if (advice.hasState()) {
             statefulAdvices++;
         }
+
+        // compile the advices into a chain so there is no list iteration or hasState calls during routing
+        CamelInternalProcessorAdvice<?>[] chain = advices.toArray(EMPTY_ADVICES);
+        boolean[] hasState = new boolean[chain.length];
+        for (int i = 0; i < chain.length; i++) {
+            hasState[i] = chain[i].hasState();
+        }
+        this.adviceChainHasState = hasState;
+        this.adviceChain = chain;
+        if (taskPool != null) {
+            // the number of states has changed
+            taskPool.clear();
+        }
     }
 
     /**
@@ -152,22 +186,45 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
     private final class AsyncAfterTask implements AsyncCallback {
 
         private final Object[] states;
-        private final Exchange exchange;
-        private final AsyncCallback originalCallback;
+        private Exchange exchange;
+        private AsyncCallback originalCallback;
+        private UnitOfWork uow;
+        private Runnable afterProcessTask;
+        private boolean pooled;
 
-        private AsyncAfterTask(Object[] states, Exchange exchange, AsyncCallback originalCallback) {
+        private AsyncAfterTask(Object[] states) {
             this.states = states;
+        }
+
+        private void init(Exchange exchange, AsyncCallback originalCallback) {
             this.exchange = exchange;
             this.originalCallback = originalCallback;
         }
 
+        private Runnable afterProcessTask(UnitOfWork uow) {
+            this.uow = uow;
+            if (afterProcessTask == null) {
+                afterProcessTask = this::afterProcess;
+            }
+            return afterProcessTask;
+        }
+
+        private void afterProcess() {
+            // execute any after processor work (in current thread, not in the callback)
+            uow.afterProcess(processor, exchange, this, false);
+        }
+
         @Override
         public void done(boolean doneSync) {
+            final Exchange exchange = this.exchange;
+            final AsyncCallback originalCallback = this.originalCallback;
             try {
-                for (int i = advices.size() - 1, j = states.length - 1; i >= 0; i--) {
-                    CamelInternalProcessorAdvice task = advices.get(i);
+                final CamelInternalProcessorAdvice[] chain = adviceChain;
+                final boolean[] hasState = adviceChainHasState;
+                for (int i = chain.length - 1, j = states.length - 1; i >= 0; i--) {
+                    CamelInternalProcessorAdvice task = chain[i];
                     Object state = null;
-                    if (task.hasState()) {
+                    if (hasState[i]) {
                         state = states[j--];
                     }
                     try {
@@ -178,6 +235,21 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
                     }
                 }
             } finally {
+                // the task is no longer in use so it can be reused by another exchange
+                if (pooled) {
+                    release();
+                }
+
+                // the unit of work is done (no longer on the exchange) so we can release a pooled exchange,
+                // before the consumer is called back so the exchange is no longer in use when the consumer
+                // continues (the consumer must not access an auto released exchange after routing)
+                if (exchange instanceof PooledExchange && exchange.getUnitOfWork() == null) {
+                    PooledExchange pe = (PooledExchange) exchange;
+                    if (pe.isAutoRelease()) {
+                        pe.done();
+                    }
+                }
+
                 // ----------------------------------------------------------
                 // CAMEL END USER - DEBUG ME HERE +++ START +++
                 // ----------------------------------------------------------
@@ -190,6 +262,28 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
                 // ----------------------------------------------------------
             }
         }
+
+        private void release() {
+            this.exchange = null;
+            this.originalCallback = null;
+            this.uow = null;
+            this.pooled = false;
+            for (int i = 0; i < states.length; i++) {
+                states[i] = null;
+            }
+            if (states.length == statefulAdvices) {
+                taskPool.offer(this);
+            }
+        }
+    }
+
+    private AsyncAfterTask acquireTask() {
+        AsyncAfterTask task = taskPool != null ? taskPool.poll() : null;
+        if (task == null) {
+            // optimise to use object array for states, and only for the number of advices that keep state
+            task = new AsyncAfterTask(statefulAdvices > 0 ? new Object[statefulAdvices] : EMPTY_STATES);
+        }
+        return task;
     }
 
     @Override
@@ -227,14 +321,17 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             return true;
         }
 
-        // optimise to use object array for states, and only for the number of advices that keep state
-        final Object[] states = statefulAdvices > 0 ? new Object[statefulAdvices] : EMPTY_STATES;
-        // optimise for loop using index access to avoid creating iterator object
-        for (int i = 0, j = 0; i < advices.size(); i++) {
-            CamelInternalProcessorAdvice<?> task = advices.get(i);
+        // the internal callback which will execute the advices in reverse order when done
+        final AsyncAfterTask callback = acquireTask();
+        final Object[] states = callback.states;
+        // optimise for loop using the compiled chain to avoid creating iterator object
+        final CamelInternalProcessorAdvice<?>[] chain = adviceChain;
+        final boolean[] hasState = adviceChainHasState;
+        for (int i = 0, j = 0; i < chain.length; i++) {
+            CamelInternalProcessorAdvice<?> task = chain[i];
             try {
                 Object state = task.before(exchange);
-                if (task.hasState()) {
+                if (hasState[i]) {
                     states[j++] = state;
                 }
             } catch (Throwable e) {
@@ -243,9 +340,7 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
                 return true;
             }
         }
-
-        // create internal callback which will execute the advices in reverse order when done
-        AsyncCallback callback = new AsyncAfterTask(states, exchange, originalCallback);
+        callback.init(exchange, originalCallback);
 
         if (exchange.isTransacted()) {
             // must be synchronized for transacted exchanges
@@ -274,6 +369,9 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             boolean beforeAndAfter = uow != null && uow.isBeforeAfterProcess();
             if (beforeAndAfter) {
                 async = uow.beforeProcess(processor, exchange, async);
+            } else {
+                // the task can only be reused when its not used by the unit of work after process
+                callback.pooled = taskPool != null;
             }
 
             // ----------------------------------------------------------
@@ -289,10 +387,7 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
 
             // optimize to only do after uow processing if really needed
             if (beforeAndAfter) {
-                reactiveExecutor.schedule(() -> {
-                    // execute any after processor work (in current thread, not in the callback)
-                    uow.afterProcess(processor, exchange, callback, false);
-                });
+                reactiveExecutor.schedule(callback.afterProcessTask(uow));
             }
 
             if (LOG.isTraceEnabled()) {
@@ -161,6 +161,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
     private ExecutorService aggregateExecutorService;
     private boolean shutdownAggregateExecutorService;
     private final long timeout;
+    private int parallelWindowSize;
     private final ConcurrentMap<ErrorHandlerKey, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
 
@@ -297,6 +298,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean suspended = new AtomicBoolean();
 
         MulticastTask(Exchange original, Iterable<ProcessorExchangePair> pairs, AsyncCallback callback) {
             this.original = original;
@@ -304,7 +306,9 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
             this.callback = callback;
             this.iterator = pairs.iterator();
             this.lock = new ReentrantLock();
-            this.completion = new AsyncCompletionService<>(MulticastProcessor.this::schedule, !isStreaming(), lock);
+            // when using a window then the replies must be aggregated in order, so the window only moves when
+            // the oldest in-flight exchange has been aggregated
+            this.completion = new AsyncCompletionService<>(MulticastProcessor.this::schedule, !isStreaming() || isParallelWindow(), lock);
             this.result = new AtomicReference<>();
             if (timeout > 0) {
                 schedule(aggregateExecutorService, this::timeout, timeout, TimeUnit.MILLISECONDS);
@@ -346,7 +350,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
 
                 // Schedule the processing of the next pair
                 if (hasNext) {
-                    if (isParallelProcessing()) {
+                    if (isParallelProcessing() && !isParallelWindow()) {
                         schedule(this);
                     }
                 } else {
@@ -390,6 +394,19 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                         }
                     });
                 });
+
+                // when using a window then schedule the processing of the next pair after this pair has been submitted,
+                // so the replies are completed in the same order as the pairs
+                if (hasNext && isParallelWindow()) {
+                    if (isWindowFull()) {
+                        // suspend until the window has moved, which is when the oldest exchanges have been aggregated
+                        suspended.set(true);
+                        // the window may have moved meanwhile
+                        resume();
+                    } else {
+                        schedule(this);
+                    }
+                }
             } catch (Exception e) {
                 original.setException(e);
                 doDone(null, false);
@@ -414,6 +431,19 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                 } finally {
                     lock.unlock();
                 }
+                if (isParallelWindow()) {
+                    resume();
+                }
+            }
+        }
+
+        protected boolean isWindowFull() {
+            return nbExchangeSent.get() - nbAggregated.get() >= parallelWindowSize;
+        }
+
+        protected void resume() {
+            if (!done.get() && !isWindowFull() && suspended.compareAndSet(true, false)) {
+                schedule(this);
             }
         }
 
@@ -968,6 +998,21 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         return parallelProcessing;
     }
 
+    /**
+     * The maximum number of in-flight exchanges when using parallel processing, or 0 for unbounded.
+     */
+    public int getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    public void setParallelWindowSize(int parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
+    protected boolean isParallelWindow() {
+        return parallelProcessing && parallelWindowSize > 0;
+    }
+
     public boolean isParallelAggregate() {
         return parallelAggregate;
     }
@@ -24,15 +24,18 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.RuntimeExchangeException;
 import org.apache.camel.Traceable;
 import org.apache.camel.spi.IdAware;
+import org.apache.camel.spi.ReactiveExecutor;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.util.ObjectHelper;
@@ -58,6 +61,13 @@ import org.slf4j.LoggerFactory;
  * block if necessary. The end result is a rolling window of time. Where from the
  * callers point of view in the last timePeriodMillis no more than
  * maxRequestsPerPeriod have been allowed to be acquired.
+ *
+ * Alternatively the throttler can use a token bucket mode, where each correlation key
+ * has a lock-free token bucket (implemented using the generic cell rate algorithm) which
+ * allows a burst of maxRequestsPerPeriod, and is refilled continuously with nanosecond accuracy.
+ * Exchanges which must wait for a token are continued asynchronously via the reactive
+ * executor when the delay has elapsed, so no threads are blocked while waiting. The buckets
+ * of correlation keys which have been idle are periodically evicted.
  */
 public class Throttler extends AsyncProcessorSupport implements Traceable, IdAware, RouteIdAware {
 
@@ -71,6 +81,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     private enum State { SYNC, ASYNC, ASYNC_REJECTED }
 
     private final CamelContext camelContext;
+    private final ReactiveExecutor reactiveExecutor;
     private final ScheduledExecutorService asyncExecutor;
     private final boolean shutdownAsyncExecutor;
 
@@ -83,11 +94,15 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     private boolean asyncDelayed;
     private boolean callerRunsWhenRejected = true;
     private Expression correlationExpression;
+    private boolean tokenBucket;
     private Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private volatile ScheduledFuture<?> evictionTask;
 
     public Throttler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression, final long timePeriodMillis,
                      final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor, final boolean rejectExecution, Expression correlation) {
         this.camelContext = camelContext;
+        this.reactiveExecutor = camelContext.adapt(ExtendedCamelContext.class).getReactiveExecutor();
         this.rejectExecution = rejectExecution;
         this.shutdownAsyncExecutor = shutdownAsyncExecutor;
 
@@ -105,6 +120,10 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        if (tokenBucket) {
+            return processTokenBucket(exchange, callback, true);
+        }
+
         long queuedStart = 0;
         if (LOG.isTraceEnabled()) {
             queuedStart = exchange.getProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, 0L, Long.class);
@@ -229,15 +248,125 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         }
     }
 
+    /**
+     * Throttles using the token bucket of the correlation key. If the exchange must wait for a token then the
+     * exchange is continued asynchronously when the delay has elapsed, or if the exchange is transacted then the
+     * current thread waits.
+     */
+    protected boolean processTokenBucket(final Exchange exchange, final AsyncCallback callback, final boolean sync) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            String key = DEFAULT_KEY;
+            if (correlationExpression != null) {
+                key = correlationExpression.evaluate(exchange, String.class);
+            }
+            TokenBucket bucket = buckets.computeIfAbsent(key, TokenBucket::new);
+            long period = TimeUnit.MILLISECONDS.toNanos(timePeriodMillis);
+
+            for (;;) {
+                int rate = bucket.calculateAndSetMaxRequestsPerPeriod(exchange);
+                long delay = rate > 0 ? bucket.acquire(System.nanoTime(), period / rate, period, isRejectExecution()) : -1;
+                if (delay < 0 && isRejectExecution()) {
+                    throw new ThrottlerRejectedExecutionException("Exceeded the max throttle rate of "
+                            + rate + " within " + timePeriodMillis + "ms");
+                } else if (delay < 0) {
+                    // no tokens at all so wait a period and then evaluate the rate again
+                    if (delayTokenBucket(exchange, period, () -> processTokenBucket(exchange, callback, false))) {
+                        continue;
+                    }
+                    return false;
+                } else if (delay > 0) {
+                    if (delayTokenBucket(exchange, delay, callback)) {
+                        break;
+                    }
+                    return false;
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                }
+                break;
+            }
+        } catch (final InterruptedException e) {
+            // determine if we can still run, or the camel context is forcing a shutdown
+            boolean forceShutdown = exchange.getContext().getShutdownStrategy().forceShutdown(this);
+            if (forceShutdown) {
+                String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: " + exchange;
+                LOG.debug(msg);
+                exchange.setException(new RejectedExecutionException(msg, e));
+            } else {
+                exchange.setException(e);
+            }
+        } catch (final Throwable t) {
+            exchange.setException(t);
+        }
+
+        callback.done(sync);
+        return sync;
+    }
+
+    /**
+     * Delays the exchange before continuing with the given task.
+     *
+     * @return <tt>false</tt> if the task is scheduled to continue asynchronously, or <tt>true</tt> if the current
+     *         thread has waited and should continue
+     */
+    private boolean delayTokenBucket(final Exchange exchange, final long delay, final Runnable task) throws InterruptedException {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Throttled for {}ns, exchangeId: {}", delay, exchange.getExchangeId());
+        }
+        if (!exchange.isTransacted() && asyncExecutor != null) {
+            try {
+                // continue routing via the reactive executor when the delay has elapsed
+                asyncExecutor.schedule(() -> reactiveExecutor.schedule(task), delay, TimeUnit.NANOSECONDS);
+                return false;
+            } catch (final RejectedExecutionException e) {
+                if (!isCallerRunsWhenRejected()) {
+                    throw e;
+                }
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("AsyncExecutor is full, rejected exchange will wait in the current thread, exchangeId: {}", exchange.getExchangeId());
+                }
+            }
+        }
+        // transacted exchanges must wait in the current thread
+        TimeUnit.NANOSECONDS.sleep(delay);
+        return true;
+    }
+
+    /**
+     * Evicts the token buckets which have been idle for the clean period.
+     */
+    protected void evictIdleTokenBuckets() {
+        long now = System.nanoTime();
+        long idle = TimeUnit.MILLISECONDS.toNanos(cleanPeriodMillis);
+        buckets.forEach((key, bucket) -> {
+            if (bucket.isIdle(now, idle)) {
+                buckets.remove(key, bucket);
+            }
+        });
+    }
+
     @Override
     protected void doStart() throws Exception {
         if (isAsyncDelayed()) {
             ObjectHelper.notNull(asyncExecutor, "executorService", this);
         }
+        if (tokenBucket && correlationExpression != null && asyncExecutor != null) {
+            evictionTask = asyncExecutor.scheduleWithFixedDelay(this::evictIdleTokenBuckets,
+                    cleanPeriodMillis, cleanPeriodMillis, TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        ScheduledFuture<?> task = evictionTask;
+        if (task != null) {
+            evictionTask = null;
+            task.cancel(false);
+        }
     }
 
     @Override
@@ -246,6 +375,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
             camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
         }
         states.clear();
+        buckets.clear();
         super.doShutdown();
     }
 
@@ -354,6 +484,75 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         }
     }
 
+    /**
+     * Lock-free token bucket using the generic cell rate algorithm, which keeps the theoretical arrival time
+     * of the next request instead of counting tokens.
+     */
+    private final class TokenBucket {
+        private final AtomicLong tat;
+        private volatile int throttleRate;
+
+        TokenBucket(String key) {
+            this.tat = new AtomicLong(System.nanoTime());
+        }
+
+        public int getThrottleRate() {
+            return throttleRate;
+        }
+
+        /**
+         * Acquires a token.
+         *
+         * @param  now      the current time in nanos
+         * @param  interval the time in nanos to refill one token
+         * @param  period   the time period in nanos (the capacity of the bucket)
+         * @param  reject   whether to not reserve a token if the request must wait
+         * @return          <tt>0</tt> if a token was acquired, or the delay in nanos before the reserved token can
+         *                  be used, or <tt>-1</tt> if the request must wait and reject is enabled
+         */
+        public long acquire(long now, long interval, long period, boolean reject) {
+            for (;;) {
+                long current = tat.get();
+                // the bucket is full if the theoretical arrival time is in the past
+                long next = (current - now > 0 ? current : now) + interval;
+                long delay = next - period - now;
+                if (delay > 0 && reject) {
+                    return -1;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return delay > 0 ? delay : 0;
+                }
+            }
+        }
+
+        public boolean isIdle(long now, long idle) {
+            return now - tat.get() > idle;
+        }
+
+        /**
+         * Evaluates the maxRequestsPerPeriodExpression and returns the throttle rate to use.
+         */
+        public int calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
+            Integer newThrottle = maxRequestsPerPeriodExpression.evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle < 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            if (newThrottle == null && throttleRate == 0) {
+                throw new RuntimeExchangeException("The maxRequestsPerPeriodExpression was evaluated as null: " + maxRequestsPerPeriodExpression, exchange);
+            }
+
+            if (newThrottle != null && newThrottle != throttleRate) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate changed from {} to {}, triggered by ExchangeId: {}", throttleRate, newThrottle, exchange.getExchangeId());
+                }
+                throttleRate = newThrottle;
+            }
+            return throttleRate;
+        }
+    }
+
     /**
      * Permit that implements the Delayed interface needed by DelayQueue.
      */
@@ -395,6 +594,14 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         this.asyncDelayed = asyncDelayed;
     }
 
+    public boolean isTokenBucket() {
+        return tokenBucket;
+    }
+
+    public void setTokenBucket(boolean tokenBucket) {
+        this.tokenBucket = tokenBucket;
+    }
+
     public boolean isCallerRunsWhenRejected() {
         return callerRunsWhenRejected;
     }
@@ -440,6 +647,9 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
      * than the max per period within the group will return
      */
     public int getCurrentMaximumRequestsPerPeriod() {
+        if (tokenBucket) {
+            return buckets.values().stream().mapToInt(TokenBucket::getThrottleRate).max().orElse(0);
+        }
         return states.values().stream().mapToInt(ThrottlingState::getThrottleRate).max().orElse(0);
     }
 
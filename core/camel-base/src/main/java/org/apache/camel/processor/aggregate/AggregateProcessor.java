@@ -63,11 +63,11 @@ import org.apache.camel.spi.ShutdownAware;
 import org.apache.camel.spi.ShutdownPrepared;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.AsyncProcessorSupport;
-import org.apache.camel.support.DefaultTimeoutMap;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.NoLock;
+import org.apache.camel.support.TimingWheelTimeoutMap;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
@@ -250,6 +250,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     private boolean forceCompletionOnStop;
     private boolean completeAllOnStop;
     private long completionTimeoutCheckerInterval = 1000;
+    private int completionTimeoutShards = 1;
 
     private ProducerTemplate deadLetterProducerTemplate;
 
@@ -1046,6 +1047,14 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         this.completionTimeoutCheckerInterval = completionTimeoutCheckerInterval;
     }
 
+    public int getCompletionTimeoutShards() {
+        return completionTimeoutShards;
+    }
+
+    public void setCompletionTimeoutShards(int completionTimeoutShards) {
+        this.completionTimeoutShards = completionTimeoutShards;
+    }
+
     public ExceptionHandler getExceptionHandler() {
         return exceptionHandler;
     }
@@ -1209,23 +1218,26 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
     /**
      * Background task that looks for aggregated exchanges which is triggered by completion timeouts.
+     * <p/>
+     * The timeouts are kept in a timing wheel which is sharded by correlation key, where each shard is checked
+     * by its own task once every completion timeout checker interval.
      */
-    private final class AggregationTimeoutMap extends DefaultTimeoutMap<String, String> {
+    private final class AggregationTimeoutMap extends TimingWheelTimeoutMap<String, String> {
 
-        private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
-            // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+        private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, int shards) {
+            super(executor, requestMapPollTimeMillis, shards);
             addListener(this::onEviction);
         }
 
         @Override
-        protected void purge() {
+        protected void purge(int shard) {
             // wait for lock to be created
+            Lock lock = AggregateProcessor.this.lock;
             if (lock != null) {
                 // must acquire the shared aggregation lock to be able to purge
                 lock.lock();
                 try {
-                    super.purge();
+                    super.purge(shard);
                 } finally {
                     lock.unlock();
                 }
@@ -1522,11 +1534,16 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         if (getCompletionTimeout() > 0 || getCompletionTimeoutExpression() != null) {
             LOG.info("Using CompletionTimeout to trigger after {} millis of inactivity.", getCompletionTimeout());
             if (getTimeoutCheckerExecutorService() == null) {
-                setTimeoutCheckerExecutorService(camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, AGGREGATE_TIMEOUT_CHECKER));
+                if (getCompletionTimeoutShards() > 1) {
+                    // use a thread per shard so the shards can be checked in parallel
+                    setTimeoutCheckerExecutorService(camelContext.getExecutorServiceManager().newScheduledThreadPool(this, AGGREGATE_TIMEOUT_CHECKER, getCompletionTimeoutShards()));
+                } else {
+                    setTimeoutCheckerExecutorService(camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, AGGREGATE_TIMEOUT_CHECKER));
+                }
                 shutdownTimeoutCheckerExecutorService = true;
             }
             // check for timed out aggregated messages once every second
-            timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval(), getCompletionTimeoutShards());
             // fill in existing timeout values from the aggregation repository, for example if a restart occurred, then we
             // need to re-establish the timeout map so timeout can trigger
             restoreTimeoutMapFromAggregationRepository();
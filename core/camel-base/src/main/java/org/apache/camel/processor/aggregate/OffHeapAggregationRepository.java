@@ -0,0 +1,555 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.OptimisticLockingAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.service.ServiceSupport;
+
+import static org.apache.camel.util.BufferCaster.cast;
+
+/**
+ * A memory based {@link org.apache.camel.spi.AggregationRepository} which stores the {@link Exchange}s serialized
+ * in off-heap memory.
+ * <p/>
+ * The exchanges are serialized using {@link DefaultExchangeHolder} directly into pages of off-heap memory, so only
+ * the keys and a small handle per aggregation group is kept on the heap. This allows to aggregate a large number of
+ * groups without the aggregated exchanges being promoted to the old generation of the heap. Only what
+ * {@link DefaultExchangeHolder} can serialize is stored.
+ * <p/>
+ * The pages are sliced from larger direct byte buffers (slabs), and are given back to the repository as soon as an
+ * exchange is replaced or removed, so they are reused for the next exchanges instead of waiting for the garbage
+ * collector to free the direct memory. The memory used for the pages can be limited using
+ * {@link #setMaxMemorySize(long)}, and adding an exchange which does not fit within the limit fails.
+ * <p/>
+ * Supports both optimistic locking and non-optimistic locking modes. Defaults to non-optimistic locking mode. In
+ * optimistic locking mode each stored exchange has a version, which is set as the
+ * <tt>CamelOptimisticLockVersion</tt> exchange property on the exchanges returned from this repository.
+ */
+@ManagedResource(description = "Off-heap aggregation repository")
+public class OffHeapAggregationRepository extends ServiceSupport implements OptimisticLockingAggregationRepository {
+
+    private static final String VERSION_PROPERTY = "CamelOptimisticLockVersion";
+    private static final String FROM_ENDPOINT_PROPERTY = "CamelAggregatedFromEndpoint";
+
+    private static final int PAGES_PER_SLAB = 256;
+
+    private final ConcurrentMap<String, Entry> cache = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<ByteBuffer> freePages = new ConcurrentLinkedQueue<>();
+    private final boolean optimisticLocking;
+    private boolean allowSerializedHeaders;
+    private boolean returnOldExchange;
+    private int pageSize = 1024;
+    private long maxMemorySize;
+
+    private final AtomicLong bytesHeld = new AtomicLong();
+    private final AtomicLong bytesAllocated = new AtomicLong();
+    private final LongAdder serializationCounter = new LongAdder();
+    private final LongAdder serializationTime = new LongAdder();
+    private final LongAdder deserializationCounter = new LongAdder();
+    private final LongAdder deserializationTime = new LongAdder();
+
+    public OffHeapAggregationRepository() {
+        this(false);
+    }
+
+    public OffHeapAggregationRepository(boolean optimisticLocking) {
+        this.optimisticLocking = optimisticLocking;
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange oldExchange, Exchange newExchange) {
+        if (!optimisticLocking) {
+            throw new UnsupportedOperationException();
+        }
+        if (oldExchange == null) {
+            Entry entry = marshal(newExchange, 1);
+            if (cache.putIfAbsent(key, entry) != null) {
+                release(entry);
+                throw new OptimisticLockingException();
+            }
+            newExchange.setProperty(VERSION_PROPERTY, entry.version);
+        } else {
+            Long version = oldExchange.getProperty(VERSION_PROPERTY, Long.class);
+            Entry current = cache.get(key);
+            if (version == null || current == null || current.version != version) {
+                throw new OptimisticLockingException();
+            }
+            Entry entry = marshal(newExchange, version + 1);
+            if (!cache.replace(key, current, entry)) {
+                release(entry);
+                throw new OptimisticLockingException();
+            }
+            release(current);
+            newExchange.setProperty(VERSION_PROPERTY, entry.version);
+        }
+        return oldExchange;
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+        if (optimisticLocking) {
+            throw new UnsupportedOperationException();
+        }
+        Entry old = cache.put(key, marshal(exchange, 0));
+        if (old == null) {
+            return null;
+        }
+        try {
+            // only return old exchange if enabled
+            return returnOldExchange ? unmarshal(camelContext, old) : null;
+        } finally {
+            release(old);
+        }
+    }
+
+    @Override
+    public Exchange get(CamelContext camelContext, String key) {
+        while (true) {
+            Entry entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            // the entry may be replaced or removed concurrently, so keep its
+            // pages from being reused while reading them
+            if (entry.retain()) {
+                try {
+                    return unmarshal(camelContext, entry);
+                } finally {
+                    release(entry);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void remove(CamelContext camelContext, String key, Exchange exchange) {
+        if (optimisticLocking) {
+            Long version = exchange.getProperty(VERSION_PROPERTY, Long.class);
+            Entry current = cache.get(key);
+            if (version == null || current == null || current.version != version || !cache.remove(key, current)) {
+                throw new OptimisticLockingException();
+            }
+            release(current);
+        } else {
+            Entry old = cache.remove(key);
+            if (old != null) {
+                release(old);
+            }
+        }
+    }
+
+    @Override
+    public void confirm(CamelContext camelContext, String exchangeId) {
+        // noop
+    }
+
+    @Override
+    public Set<String> getKeys() {
+        // do not allow edits to the set
+        return Collections.unmodifiableSet(cache.keySet());
+    }
+
+    public boolean isOptimisticLocking() {
+        return optimisticLocking;
+    }
+
+    public boolean isAllowSerializedHeaders() {
+        return allowSerializedHeaders;
+    }
+
+    /**
+     * Whether headers on the message that are {@link java.io.Serializable} objects should be stored. By default
+     * only primitive, String and Number headers are stored.
+     */
+    public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
+        this.allowSerializedHeaders = allowSerializedHeaders;
+    }
+
+    public boolean isReturnOldExchange() {
+        return returnOldExchange;
+    }
+
+    /**
+     * Whether to deserialize and return the old exchange when adding an exchange in non-optimistic locking mode.
+     * This is by default false, as the aggregator does not use the old exchange.
+     */
+    public void setReturnOldExchange(boolean returnOldExchange) {
+        this.returnOldExchange = returnOldExchange;
+    }
+
+    @ManagedAttribute(description = "Size in bytes of the pages of off-heap memory the exchanges are serialized into")
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Size in bytes of the pages of off-heap memory the exchanges are serialized into. Each exchange uses at least one
+     * page, so the page size should be close to the size of the typical serialized exchange. The default is 1024.
+     */
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    @ManagedAttribute(description = "Maximum number of bytes of off-heap memory used by the aggregated exchanges")
+    public long getMaxMemorySize() {
+        return maxMemorySize;
+    }
+
+    /**
+     * Maximum number of bytes of off-heap memory the pages of the aggregated exchanges may use. Adding an exchange
+     * which does not fit within the limit fails with an exception. The default is 0 which means no limit other than
+     * the <tt>-XX:MaxDirectMemorySize</tt> JVM option.
+     */
+    public void setMaxMemorySize(long maxMemorySize) {
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    @ManagedAttribute(description = "Number of aggregated exchanges in the repository")
+    public int getSize() {
+        return cache.size();
+    }
+
+    @ManagedAttribute(description = "Number of bytes of the off-heap memory pages held by the aggregated exchanges")
+    public long getBytesHeld() {
+        return bytesHeld.get();
+    }
+
+    @ManagedAttribute(description = "Number of bytes of off-heap memory allocated for the pages, including free pages")
+    public long getBytesAllocated() {
+        return bytesAllocated.get();
+    }
+
+    @ManagedAttribute(description = "Number of exchanges serialized")
+    public long getSerializationCounter() {
+        return serializationCounter.sum();
+    }
+
+    @ManagedAttribute(description = "Total time in millis spent serializing exchanges")
+    public long getSerializationTime() {
+        return serializationTime.sum() / 1000000;
+    }
+
+    @ManagedAttribute(description = "Number of exchanges deserialized")
+    public long getDeserializationCounter() {
+        return deserializationCounter.sum();
+    }
+
+    @ManagedAttribute(description = "Total time in millis spent deserializing exchanges")
+    public long getDeserializationTime() {
+        return deserializationTime.sum() / 1000000;
+    }
+
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        serializationCounter.reset();
+        serializationTime.reset();
+        deserializationCounter.reset();
+        deserializationTime.reset();
+    }
+
+    protected Entry marshal(Exchange exchange, long version) {
+        long start = System.nanoTime();
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, allowSerializedHeaders);
+        // persist the from endpoint as well
+        if (exchange.getFromEndpoint() != null) {
+            DefaultExchangeHolder.addProperty(holder, FROM_ENDPOINT_PROPERTY, exchange.getFromEndpoint().getEndpointUri());
+        }
+        PagedOutputStream pos = new PagedOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(pos)) {
+            oos.writeObject(holder);
+        } catch (IOException | RuntimeException e) {
+            freePages(pos.pages);
+            throw new RuntimeCamelException("Error serializing exchange: " + exchange, e);
+        }
+        Entry entry = new Entry(pos.pages.toArray(new ByteBuffer[0]), pos.length, version);
+        serializationCounter.increment();
+        serializationTime.add(System.nanoTime() - start);
+        return entry;
+    }
+
+    protected Exchange unmarshal(CamelContext camelContext, Entry entry) {
+        long start = System.nanoTime();
+        DefaultExchangeHolder holder;
+        try (ObjectInputStream ois = new ContextObjectInputStream(camelContext, new PagedInputStream(entry))) {
+            holder = (DefaultExchangeHolder) ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeCamelException("Error deserializing exchange", e);
+        }
+        Exchange answer = new DefaultExchange(camelContext);
+        DefaultExchangeHolder.unmarshal(answer, holder);
+        // restore the from endpoint
+        String fromEndpointUri = (String) answer.removeProperty(FROM_ENDPOINT_PROPERTY);
+        if (fromEndpointUri != null) {
+            Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+            if (fromEndpoint != null) {
+                answer.adapt(ExtendedExchange.class).setFromEndpoint(fromEndpoint);
+            }
+        }
+        if (optimisticLocking) {
+            answer.setProperty(VERSION_PROPERTY, entry.version);
+        }
+        deserializationCounter.increment();
+        deserializationTime.add(System.nanoTime() - start);
+        return answer;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // the pages are dropped with their slabs, which the garbage collector frees
+        cache.clear();
+        freePages.clear();
+        bytesHeld.set(0);
+        bytesAllocated.set(0);
+    }
+
+    /**
+     * Takes a free page, allocating a new slab of pages if there is none.
+     */
+    private ByteBuffer acquirePage() {
+        long held = bytesHeld.addAndGet(pageSize);
+        if (maxMemorySize > 0 && held > maxMemorySize) {
+            bytesHeld.addAndGet(-pageSize);
+            throw new IllegalStateException(
+                    "Cannot store the exchange as the off-heap memory would exceed the maximum of " + maxMemorySize + " bytes");
+        }
+        ByteBuffer page = freePages.poll();
+        if (page == null) {
+            page = allocateSlab();
+        }
+        cast(page).clear();
+        return page;
+    }
+
+    private synchronized ByteBuffer allocateSlab() {
+        // another thread may have allocated a slab meanwhile
+        ByteBuffer page = freePages.poll();
+        if (page != null) {
+            return page;
+        }
+        int pages = PAGES_PER_SLAB;
+        if (maxMemorySize > 0) {
+            // do not allocate much more than the limit
+            pages = (int) Math.max(1, Math.min(pages, (maxMemorySize - bytesAllocated.get()) / pageSize));
+        }
+        ByteBuffer slab = ByteBuffer.allocateDirect(pages * pageSize);
+        bytesAllocated.addAndGet(slab.capacity());
+        for (int i = 1; i < pages; i++) {
+            cast(slab).limit((i + 1) * pageSize).position(i * pageSize);
+            freePages.add(slab.slice());
+        }
+        cast(slab).limit(pageSize).position(0);
+        return slab.slice();
+    }
+
+    private void freePages(List<ByteBuffer> pages) {
+        for (ByteBuffer page : pages) {
+            freePages.add(page);
+        }
+        bytesHeld.addAndGet(-(long) pages.size() * pageSize);
+    }
+
+    /**
+     * Releases a reference to the entry, and gives its pages back to be reused when it is no longer referenced.
+     */
+    private void release(Entry entry) {
+        if (entry.refs.decrementAndGet() == 0) {
+            for (ByteBuffer page : entry.pages) {
+                freePages.add(page);
+            }
+            bytesHeld.addAndGet(-(long) entry.pages.length * pageSize);
+        }
+    }
+
+    /**
+     * A serialized exchange with its version. The entry is referenced by the repository until it is replaced or
+     * removed, and by the threads reading it.
+     */
+    protected static final class Entry {
+        private final ByteBuffer[] pages;
+        private final int length;
+        private final long version;
+        private final AtomicInteger refs = new AtomicInteger(1);
+
+        Entry(ByteBuffer[] pages, int length, long version) {
+            this.pages = pages;
+            this.length = length;
+            this.version = version;
+        }
+
+        boolean retain() {
+            int count;
+            do {
+                count = refs.get();
+                if (count == 0) {
+                    // the pages are already released
+                    return false;
+                }
+            } while (!refs.compareAndSet(count, count + 1));
+            return true;
+        }
+    }
+
+    /**
+     * Writes the serialized exchange into pages of off-heap memory.
+     */
+    private final class PagedOutputStream extends OutputStream {
+        private final List<ByteBuffer> pages = new ArrayList<>(1);
+        private ByteBuffer page;
+        private int length;
+
+        @Override
+        public void write(int b) {
+            if (page == null || !page.hasRemaining()) {
+                nextPage();
+            }
+            page.put((byte) b);
+            length++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            while (len > 0) {
+                if (page == null || !page.hasRemaining()) {
+                    nextPage();
+                }
+                int chunk = Math.min(len, page.remaining());
+                page.put(b, off, chunk);
+                off += chunk;
+                len -= chunk;
+                length += chunk;
+            }
+        }
+
+        private void nextPage() {
+            page = acquirePage();
+            pages.add(page);
+        }
+    }
+
+    /**
+     * Reads the serialized exchange from its pages without copying them to the heap first.
+     */
+    private static final class PagedInputStream extends InputStream {
+        private final Entry entry;
+        private int index;
+        private int remaining;
+        private ByteBuffer page;
+
+        PagedInputStream(Entry entry) {
+            this.entry = entry;
+            this.remaining = entry.length;
+        }
+
+        @Override
+        public int read() {
+            if (!nextPage()) {
+                return -1;
+            }
+            remaining--;
+            return page.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextPage()) {
+                return -1;
+            }
+            len = Math.min(len, page.remaining());
+            page.get(b, off, len);
+            remaining -= len;
+            return len;
+        }
+
+        @Override
+        public int available() {
+            return remaining;
+        }
+
+        private boolean nextPage() {
+            if (remaining == 0) {
+                return false;
+            }
+            if (page == null || !page.hasRemaining()) {
+                // use a duplicate as other threads may read the same page
+                page = entry.pages[index++].duplicate();
+                cast(page).limit(Math.min(page.capacity(), remaining)).position(0);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Resolves the classes of the message bodies using the application context class loader.
+     */
+    private static final class ContextObjectInputStream extends ObjectInputStream {
+        private final CamelContext camelContext;
+
+        ContextObjectInputStream(CamelContext camelContext, InputStream in) throws IOException {
+            super(in);
+            this.camelContext = camelContext;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader loader = camelContext.getApplicationContextClassLoader();
+            if (loader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, loader);
+                } catch (ClassNotFoundException e) {
+                    // ignore and fallback to default
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+}
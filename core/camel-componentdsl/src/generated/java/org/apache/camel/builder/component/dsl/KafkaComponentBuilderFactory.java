@@ -228,6 +228,64 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * The body of a batch exchange when batching is enabled. With records
+         * the body is the list of ConsumerRecord, and with values it is the
+         * list of the record values.
+         * 
+         * The option is a: <code>java.lang.String</code> type.
+         * 
+         * Default: records
+         * Group: consumer
+         */
+        default KafkaComponentBuilder batchBody(java.lang.String batchBody) {
+            doSetProperty("batchBody", batchBody);
+            return this;
+        }
+        /**
+         * Whether to consume the records in batches, with one exchange for the
+         * records of one or more polls instead of one exchange per record. The
+         * offsets of the records are committed once the exchange has been
+         * processed. This mode cannot be combined with allowManualCommit or
+         * parallelLanes.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer
+         */
+        default KafkaComponentBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * The maximum number of records in a batch exchange when batching is
+         * enabled.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 500
+         * Group: consumer
+         */
+        default KafkaComponentBuilder batchMaxRecords(int batchMaxRecords) {
+            doSetProperty("batchMaxRecords", batchMaxRecords);
+            return this;
+        }
+        /**
+         * The maximum time to wait for more records to fill up a batch when
+         * batching is enabled. Once this time has elapsed since the first
+         * record of the batch was received, the batch is processed with the
+         * records received so far.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         */
+        default KafkaComponentBuilder batchTimeoutMs(long batchTimeoutMs) {
+            doSetProperty("batchTimeoutMs", batchTimeoutMs);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -613,6 +671,57 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("kafkaManualCommitFactory", kafkaManualCommitFactory);
             return this;
         }
+        /**
+         * How records are assigned to the parallel lanes. With partition all
+         * the records of a partition go to the same lane and are processed in
+         * order. With key the records are assigned by their key, so only
+         * records with the same key are processed in order. Records without a
+         * key are assigned by partition.
+         * 
+         * The option is a: <code>java.lang.String</code> type.
+         * 
+         * Default: partition
+         * Group: consumer (advanced)
+         */
+        default KafkaComponentBuilder parallelLaneOrdering(
+                java.lang.String parallelLaneOrdering) {
+            doSetProperty("parallelLaneOrdering", parallelLaneOrdering);
+            return this;
+        }
+        /**
+         * The number of ordered lanes each consumer dispatches the polled
+         * records to. Each lane is processed by its own thread, so records from
+         * different lanes are routed concurrently while the records within a
+         * lane keep their order. The consumer commits the highest offset of
+         * each partition up to which all records have been processed. This mode
+         * cannot be combined with allowManualCommit or breakOnFirstError. Zero
+         * (the default) processes the records one by one on the polling thread.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 0
+         * Group: consumer (advanced)
+         */
+        default KafkaComponentBuilder parallelLanes(int parallelLanes) {
+            doSetProperty("parallelLanes", parallelLanes);
+            return this;
+        }
+        /**
+         * The maximum number of records of a partition that can be waiting in
+         * or being processed by the parallel lanes. When the limit is reached
+         * the consumer pauses fetching from the partition until the lanes have
+         * caught up.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1000
+         * Group: consumer (advanced)
+         */
+        default KafkaComponentBuilder parallelMaxInFlight(
+                int parallelMaxInFlight) {
+            doSetProperty("parallelMaxInFlight", parallelMaxInFlight);
+            return this;
+        }
         /**
          * The total bytes of memory the producer can use to buffer records
          * waiting to be sent to the server. If records are sent faster than
@@ -1578,6 +1687,10 @@ public interface KafkaComponentBuilderFactory {
             case "autoCommitIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setAutoCommitIntervalMs((java.lang.Integer) value); return true;
             case "autoCommitOnStop": getOrCreateConfiguration((KafkaComponent) component).setAutoCommitOnStop((java.lang.String) value); return true;
             case "autoOffsetReset": getOrCreateConfiguration((KafkaComponent) component).setAutoOffsetReset((java.lang.String) value); return true;
+            case "batchBody": getOrCreateConfiguration((KafkaComponent) component).setBatchBody((java.lang.String) value); return true;
+            case "batching": getOrCreateConfiguration((KafkaComponent) component).setBatching((boolean) value); return true;
+            case "batchMaxRecords": getOrCreateConfiguration((KafkaComponent) component).setBatchMaxRecords((int) value); return true;
+            case "batchTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setBatchTimeoutMs((long) value); return true;
             case "breakOnFirstError": getOrCreateConfiguration((KafkaComponent) component).setBreakOnFirstError((boolean) value); return true;
             case "bridgeErrorHandler": ((KafkaComponent) component).setBridgeErrorHandler((boolean) value); return true;
             case "checkCrcs": getOrCreateConfiguration((KafkaComponent) component).setCheckCrcs((java.lang.Boolean) value); return true;
@@ -1603,6 +1716,9 @@ public interface KafkaComponentBuilderFactory {
             case "topicIsPattern": getOrCreateConfiguration((KafkaComponent) component).setTopicIsPattern((boolean) value); return true;
             case "valueDeserializer": getOrCreateConfiguration((KafkaComponent) component).setValueDeserializer((java.lang.String) value); return true;
             case "kafkaManualCommitFactory": ((KafkaComponent) component).setKafkaManualCommitFactory((org.apache.camel.component.kafka.KafkaManualCommitFactory) value); return true;
+            case "parallelLaneOrdering": getOrCreateConfiguration((KafkaComponent) component).setParallelLaneOrdering((java.lang.String) value); return true;
+            case "parallelLanes": getOrCreateConfiguration((KafkaComponent) component).setParallelLanes((int) value); return true;
+            case "parallelMaxInFlight": getOrCreateConfiguration((KafkaComponent) component).setParallelMaxInFlight((int) value); return true;
             case "bufferMemorySize": getOrCreateConfiguration((KafkaComponent) component).setBufferMemorySize((java.lang.Integer) value); return true;
             case "compressionCodec": getOrCreateConfiguration((KafkaComponent) component).setCompressionCodec((java.lang.String) value); return true;
             case "connectionMaxIdleMs": getOrCreateConfiguration((KafkaComponent) component).setConnectionMaxIdleMs((java.lang.Integer) value); return true;
@@ -31,6 +31,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "BacklogTracing": target.setBacklogTracing(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "beanintrospection":
         case "BeanIntrospection": target.setBeanIntrospection(property(camelContext, org.apache.camel.spi.BeanIntrospection.class, value)); return true;
+        case "bufferpool":
+        case "BufferPool": target.setBufferPool(property(camelContext, org.apache.camel.spi.BufferPool.class, value)); return true;
         case "caseinsensitiveheaders":
         case "CaseInsensitiveHeaders": target.setCaseInsensitiveHeaders(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "classresolver":
@@ -53,6 +55,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "ErrorHandlerFactory": target.setErrorHandlerFactory(property(camelContext, org.apache.camel.ErrorHandlerFactory.class, value)); return true;
         case "eventnotificationapplicable":
         case "EventNotificationApplicable": target.setEventNotificationApplicable(property(camelContext, boolean.class, value)); return true;
+        case "exchangefactory":
+        case "ExchangeFactory": target.setExchangeFactory(property(camelContext, org.apache.camel.spi.ExchangeFactory.class, value)); return true;
         case "executorservicemanager":
         case "ExecutorServiceManager": target.setExecutorServiceManager(property(camelContext, org.apache.camel.spi.ExecutorServiceManager.class, value)); return true;
         case "factoryfinderresolver":
@@ -67,6 +71,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "Injector": target.setInjector(property(camelContext, org.apache.camel.spi.Injector.class, value)); return true;
         case "languageresolver":
         case "LanguageResolver": target.setLanguageResolver(property(camelContext, org.apache.camel.spi.LanguageResolver.class, value)); return true;
+        case "lazystartrouteconsumers":
+        case "LazyStartRouteConsumers": target.setLazyStartRouteConsumers(property(camelContext, boolean.class, value)); return true;
         case "loadtypeconverters":
         case "LoadTypeConverters": target.setLoadTypeConverters(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "logexhaustedmessagebody":
@@ -115,6 +121,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "RestRegistry": target.setRestRegistry(property(camelContext, org.apache.camel.spi.RestRegistry.class, value)); return true;
         case "routecontroller":
         case "RouteController": target.setRouteController(property(camelContext, org.apache.camel.spi.RouteController.class, value)); return true;
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": target.setRouteStartupParallelism(property(camelContext, int.class, value)); return true;
         case "runtimecamelcatalog":
         case "RuntimeCamelCatalog": target.setRuntimeCamelCatalog(property(camelContext, org.apache.camel.catalog.RuntimeCamelCatalog.class, value)); return true;
         case "runtimeendpointregistry":
@@ -127,6 +135,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "ShutdownRunningTask": target.setShutdownRunningTask(property(camelContext, org.apache.camel.ShutdownRunningTask.class, value)); return true;
         case "shutdownstrategy":
         case "ShutdownStrategy": target.setShutdownStrategy(property(camelContext, org.apache.camel.spi.ShutdownStrategy.class, value)); return true;
+        case "startupsteprecorder":
+        case "StartupStepRecorder": target.setStartupStepRecorder(property(camelContext, org.apache.camel.spi.StartupStepRecorder.class, value)); return true;
         case "streamcaching":
         case "StreamCaching": target.setStreamCaching(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "streamcachingstrategy":
@@ -166,6 +176,7 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         answer.put("AutoStartup", java.lang.Boolean.class);
         answer.put("BacklogTracing", java.lang.Boolean.class);
         answer.put("BeanIntrospection", org.apache.camel.spi.BeanIntrospection.class);
+        answer.put("BufferPool", org.apache.camel.spi.BufferPool.class);
         answer.put("CaseInsensitiveHeaders", java.lang.Boolean.class);
         answer.put("ClassResolver", org.apache.camel.spi.ClassResolver.class);
         answer.put("ComponentNameResolver", org.apache.camel.spi.ComponentNameResolver.class);
@@ -177,6 +188,7 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         answer.put("Delayer", java.lang.Long.class);
         answer.put("ErrorHandlerFactory", org.apache.camel.ErrorHandlerFactory.class);
         answer.put("EventNotificationApplicable", boolean.class);
+        answer.put("ExchangeFactory", org.apache.camel.spi.ExchangeFactory.class);
         answer.put("ExecutorServiceManager", org.apache.camel.spi.ExecutorServiceManager.class);
         answer.put("FactoryFinderResolver", org.apache.camel.spi.FactoryFinderResolver.class);
         answer.put("GlobalOptions", java.util.Map.class);
@@ -184,6 +196,7 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         answer.put("InflightRepository", org.apache.camel.spi.InflightRepository.class);
         answer.put("Injector", org.apache.camel.spi.Injector.class);
         answer.put("LanguageResolver", org.apache.camel.spi.LanguageResolver.class);
+        answer.put("LazyStartRouteConsumers", boolean.class);
         answer.put("LoadTypeConverters", java.lang.Boolean.class);
         answer.put("LogExhaustedMessageBody", java.lang.Boolean.class);
         answer.put("LogMask", java.lang.Boolean.class);
@@ -208,12 +221,14 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         answer.put("RestConfiguration", org.apache.camel.spi.RestConfiguration.class);
         answer.put("RestRegistry", org.apache.camel.spi.RestRegistry.class);
         answer.put("RouteController", org.apache.camel.spi.RouteController.class);
+        answer.put("RouteStartupParallelism", int.class);
         answer.put("RuntimeCamelCatalog", org.apache.camel.catalog.RuntimeCamelCatalog.class);
         answer.put("RuntimeEndpointRegistry", org.apache.camel.spi.RuntimeEndpointRegistry.class);
         answer.put("SSLContextParameters", org.apache.camel.support.jsse.SSLContextParameters.class);
         answer.put("ShutdownRoute", org.apache.camel.ShutdownRoute.class);
         answer.put("ShutdownRunningTask", org.apache.camel.ShutdownRunningTask.class);
         answer.put("ShutdownStrategy", org.apache.camel.spi.ShutdownStrategy.class);
+        answer.put("StartupStepRecorder", org.apache.camel.spi.StartupStepRecorder.class);
         answer.put("StreamCaching", java.lang.Boolean.class);
         answer.put("StreamCachingStrategy", org.apache.camel.spi.StreamCachingStrategy.class);
         answer.put("Tracer", org.apache.camel.spi.Tracer.class);
@@ -246,6 +261,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "BacklogTracing": return target.isBacklogTracing();
         case "beanintrospection":
         case "BeanIntrospection": return target.getBeanIntrospection();
+        case "bufferpool":
+        case "BufferPool": return target.getBufferPool();
         case "caseinsensitiveheaders":
         case "CaseInsensitiveHeaders": return target.isCaseInsensitiveHeaders();
         case "classresolver":
@@ -268,6 +285,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "ErrorHandlerFactory": return target.getErrorHandlerFactory();
         case "eventnotificationapplicable":
         case "EventNotificationApplicable": return target.isEventNotificationApplicable();
+        case "exchangefactory":
+        case "ExchangeFactory": return target.getExchangeFactory();
         case "executorservicemanager":
         case "ExecutorServiceManager": return target.getExecutorServiceManager();
         case "factoryfinderresolver":
@@ -282,6 +301,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "Injector": return target.getInjector();
         case "languageresolver":
         case "LanguageResolver": return target.getLanguageResolver();
+        case "lazystartrouteconsumers":
+        case "LazyStartRouteConsumers": return target.isLazyStartRouteConsumers();
         case "loadtypeconverters":
         case "LoadTypeConverters": return target.isLoadTypeConverters();
         case "logexhaustedmessagebody":
@@ -330,6 +351,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "RestRegistry": return target.getRestRegistry();
         case "routecontroller":
         case "RouteController": return target.getRouteController();
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": return target.getRouteStartupParallelism();
         case "runtimecamelcatalog":
         case "RuntimeCamelCatalog": return target.getRuntimeCamelCatalog();
         case "runtimeendpointregistry":
@@ -342,6 +365,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "ShutdownRunningTask": return target.getShutdownRunningTask();
         case "shutdownstrategy":
         case "ShutdownStrategy": return target.getShutdownStrategy();
+        case "startupsteprecorder":
+        case "StartupStepRecorder": return target.getStartupStepRecorder();
         case "streamcaching":
         case "StreamCaching": return target.isStreamCaching();
         case "streamcachingstrategy":
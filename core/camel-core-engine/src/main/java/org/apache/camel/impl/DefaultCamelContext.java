@@ -28,6 +28,7 @@ import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.Predicate;
 import org.apache.camel.Processor;
 import org.apache.camel.Route;
+import org.apache.camel.StartupStep;
 import org.apache.camel.ValueHolder;
 import org.apache.camel.builder.AdviceWithRouteBuilder;
 import org.apache.camel.impl.engine.RouteService;
@@ -422,9 +423,11 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
                     routeDefinition.markPrepared();
                 }
 
+                StartupStep step = getStartupStepRecorder().beginStep(Route.class, routeDefinition.getRouteId(), "Create Route");
                 Route route = new RouteReifier(getCamelContextReference(), routeDefinition).createRoute();
                 RouteService routeService = new RouteService(route);
                 startRouteService(routeService, true);
+                getStartupStepRecorder().endStep(step);
 
                 // clear local after the route is created via the reifier
                 pc.setLocalProperties(null);
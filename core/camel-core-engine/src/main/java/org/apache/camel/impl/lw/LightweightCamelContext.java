@@ -75,6 +75,7 @@ import org.apache.camel.spi.AsyncProcessorAwaitManager;
 import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.BeanProcessorFactory;
 import org.apache.camel.spi.BeanProxyFactory;
+import org.apache.camel.spi.BufferPool;
 import org.apache.camel.spi.BeanRepository;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.CamelContextNameStrategy;
@@ -89,6 +90,7 @@ import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -122,6 +124,7 @@ import org.apache.camel.spi.RoutePolicyFactory;
 import org.apache.camel.spi.RouteStartupOrder;
 import org.apache.camel.spi.RuntimeEndpointRegistry;
 import org.apache.camel.spi.ShutdownStrategy;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.spi.Tracer;
 import org.apache.camel.spi.Transformer;
@@ -1267,6 +1270,16 @@ public class LightweightCamelContext implements ExtendedCamelContext, CatalogCam
         getExtendedCamelContext().setUnitOfWorkFactory(unitOfWorkFactory);
     }
 
+    @Override
+    public ExchangeFactory getExchangeFactory() {
+        return getExtendedCamelContext().getExchangeFactory();
+    }
+
+    @Override
+    public void setExchangeFactory(ExchangeFactory exchangeFactory) {
+        getExtendedCamelContext().setExchangeFactory(exchangeFactory);
+    }
+
     @Override
     public AnnotationBasedProcessorFactory getAnnotationBasedProcessorFactory() {
         return getExtendedCamelContext().getAnnotationBasedProcessorFactory();
@@ -1332,6 +1345,46 @@ public class LightweightCamelContext implements ExtendedCamelContext, CatalogCam
         getExtendedCamelContext().setBeanIntrospection(beanIntrospection);
     }
 
+    @Override
+    public BufferPool getBufferPool() {
+        return getExtendedCamelContext().getBufferPool();
+    }
+
+    @Override
+    public void setBufferPool(BufferPool bufferPool) {
+        getExtendedCamelContext().setBufferPool(bufferPool);
+    }
+
+    @Override
+    public StartupStepRecorder getStartupStepRecorder() {
+        return getExtendedCamelContext().getStartupStepRecorder();
+    }
+
+    @Override
+    public void setStartupStepRecorder(StartupStepRecorder startupStepRecorder) {
+        getExtendedCamelContext().setStartupStepRecorder(startupStepRecorder);
+    }
+
+    @Override
+    public int getRouteStartupParallelism() {
+        return getExtendedCamelContext().getRouteStartupParallelism();
+    }
+
+    @Override
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        getExtendedCamelContext().setRouteStartupParallelism(routeStartupParallelism);
+    }
+
+    @Override
+    public boolean isLazyStartRouteConsumers() {
+        return getExtendedCamelContext().isLazyStartRouteConsumers();
+    }
+
+    @Override
+    public void setLazyStartRouteConsumers(boolean lazyStartRouteConsumers) {
+        getExtendedCamelContext().setLazyStartRouteConsumers(lazyStartRouteConsumers);
+    }
+
     @Override
     public HeadersMapFactory getHeadersMapFactory() {
         return getExtendedCamelContext().getHeadersMapFactory();
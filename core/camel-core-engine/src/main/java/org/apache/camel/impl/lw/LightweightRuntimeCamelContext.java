@@ -71,6 +71,7 @@ import org.apache.camel.spi.AsyncProcessorAwaitManager;
 import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.BeanProcessorFactory;
 import org.apache.camel.spi.BeanProxyFactory;
+import org.apache.camel.spi.BufferPool;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.CamelContextNameStrategy;
 import org.apache.camel.spi.ClassResolver;
@@ -84,6 +85,7 @@ import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -118,6 +120,7 @@ import org.apache.camel.spi.RoutePolicyFactory;
 import org.apache.camel.spi.RouteStartupOrder;
 import org.apache.camel.spi.RuntimeEndpointRegistry;
 import org.apache.camel.spi.ShutdownStrategy;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.spi.SupervisingRouteController;
 import org.apache.camel.spi.Tracer;
@@ -167,6 +170,9 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
     private final ShutdownStrategy shutdownStrategy;
     private final ClassLoader applicationContextClassLoader;
     private final UnitOfWorkFactory unitOfWorkFactory;
+    private final ExchangeFactory exchangeFactory;
+    private final BufferPool bufferPool;
+    private final StartupStepRecorder startupStepRecorder;
     private final RouteController routeController;
     private final InflightRepository inflightRepository;
     private final Injector injector;
@@ -211,6 +217,9 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         shutdownStrategy = context.getShutdownStrategy();
         applicationContextClassLoader = context.getApplicationContextClassLoader();
         unitOfWorkFactory = context.adapt(ExtendedCamelContext.class).getUnitOfWorkFactory();
+        exchangeFactory = context.adapt(ExtendedCamelContext.class).getExchangeFactory();
+        bufferPool = context.adapt(ExtendedCamelContext.class).getBufferPool();
+        startupStepRecorder = context.adapt(ExtendedCamelContext.class).getStartupStepRecorder();
         routeController = context.getRouteController();
         inflightRepository = context.getInflightRepository();
         globalOptions = context.getGlobalOptions();
@@ -1208,6 +1217,31 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         return unitOfWorkFactory;
     }
 
+    @Override
+    public ExchangeFactory getExchangeFactory() {
+        return exchangeFactory;
+    }
+
+    @Override
+    public BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    @Override
+    public StartupStepRecorder getStartupStepRecorder() {
+        return startupStepRecorder;
+    }
+
+    @Override
+    public int getRouteStartupParallelism() {
+        return 0;
+    }
+
+    @Override
+    public boolean isLazyStartRouteConsumers() {
+        return false;
+    }
+
     @Override
     public AnnotationBasedProcessorFactory getAnnotationBasedProcessorFactory() {
         throw new UnsupportedOperationException();
@@ -1469,6 +1503,31 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void setExchangeFactory(ExchangeFactory exchangeFactory) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setBufferPool(BufferPool bufferPool) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setStartupStepRecorder(StartupStepRecorder startupStepRecorder) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setLazyStartRouteConsumers(boolean lazyStartRouteConsumers) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void addInterceptStrategy(InterceptStrategy interceptStrategy) {
         throw new UnsupportedOperationException();
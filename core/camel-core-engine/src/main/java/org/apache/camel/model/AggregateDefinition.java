@@ -105,6 +105,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition> i
     @Metadata(defaultValue = "1s", javaType = "java.time.Duration")
     private String completionTimeoutCheckerInterval = "1s";
     @XmlAttribute
+    @Metadata(defaultValue = "1", javaType = "java.lang.Integer")
+    private String completionTimeoutShards;
+    @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String completionFromBatchConsumer;
     @XmlAttribute
@@ -358,6 +361,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition> i
         this.completionTimeoutCheckerInterval = completionTimeoutCheckerInterval;
     }
 
+    public String getCompletionTimeoutShards() {
+        return completionTimeoutShards;
+    }
+
+    public void setCompletionTimeoutShards(String completionTimeoutShards) {
+        this.completionTimeoutShards = completionTimeoutShards;
+    }
+
     public ExpressionSubElementDefinition getCompletionPredicate() {
         return completionPredicate;
     }
@@ -833,6 +844,23 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition> i
         return this;
     }
 
+    /**
+     * Number of shards the completion timeouts are divided into by correlation
+     * key. Each shard has its own timing wheel which is checked by its own task,
+     * which allows the timeouts of a large number of correlation groups to be
+     * checked by several threads.
+     * <p/>
+     * By default a single shard is used.
+     *
+     * @param completionTimeoutShards the number of shards, must be a positive
+     *            value
+     * @return the builder
+     */
+    public AggregateDefinition completionTimeoutShards(int completionTimeoutShards) {
+        setCompletionTimeoutShards(Integer.toString(completionTimeoutShards));
+        return this;
+    }
+
     /**
      * Sets the AggregationStrategy to use with a fluent builder.
      */
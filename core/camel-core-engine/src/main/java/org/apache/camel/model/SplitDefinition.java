@@ -58,6 +58,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(javaType = "java.lang.Boolean")
     private String streaming;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String parallelWindowSize;
+    @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
@@ -385,6 +388,51 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of splitted messages which can be in-flight at
+     * the same time when parallel processing is enabled. When the window is
+     * full then the splitter stops reading from the message being splitted
+     * until the replies for the oldest splitted messages have been aggregated.
+     * The replies are aggregated in the same order as the messages was
+     * splitted, also in streaming mode.
+     * <p/>
+     * This is used together with streaming and parallel processing to split
+     * big messages in parallel, while only keeping a bounded number of
+     * splitted messages in memory.
+     * <p/>
+     * The default is 0 which means unbounded.
+     *
+     * @param parallelWindowSize the maximum number of in-flight splitted
+     *            messages
+     * @return the builder
+     */
+    public SplitDefinition parallelWindowSize(int parallelWindowSize) {
+        return parallelWindowSize(Integer.toString(parallelWindowSize));
+    }
+
+    /**
+     * Sets the maximum number of splitted messages which can be in-flight at
+     * the same time when parallel processing is enabled. When the window is
+     * full then the splitter stops reading from the message being splitted
+     * until the replies for the oldest splitted messages have been aggregated.
+     * The replies are aggregated in the same order as the messages was
+     * splitted, also in streaming mode.
+     * <p/>
+     * This is used together with streaming and parallel processing to split
+     * big messages in parallel, while only keeping a bounded number of
+     * splitted messages in memory.
+     * <p/>
+     * The default is 0 which means unbounded.
+     *
+     * @param parallelWindowSize the maximum number of in-flight splitted
+     *            messages
+     * @return the builder
+     */
+    public SplitDefinition parallelWindowSize(String parallelWindowSize) {
+        setParallelWindowSize(parallelWindowSize);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred
      * during processing of an {@link org.apache.camel.Exchange} and the caused
@@ -614,6 +662,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = streaming;
     }
 
+    public String getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    public void setParallelWindowSize(String parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
     public String getParallelAggregate() {
         return parallelAggregate;
     }
@@ -58,6 +58,9 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String rejectExecution;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String tokenBucket;
 
     public ThrottleDefinition() {
     }
@@ -231,6 +234,54 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Enables the token bucket throttling mode, which throttles using a lock
+     * free token bucket per correlation key instead of a queue of permits.
+     * <p/>
+     * The bucket allows a burst of up to the maximum requests per period, and
+     * is refilled continuously. Exchanges which must wait are delayed
+     * asynchronously (the thread will <b>not</b> block), and the buckets of
+     * correlation keys that are no longer in use are evicted.
+     *
+     * @return the builder
+     */
+    public ThrottleDefinition tokenBucket() {
+        return tokenBucket(true);
+    }
+
+    /**
+     * Enables the token bucket throttling mode, which throttles using a lock
+     * free token bucket per correlation key instead of a queue of permits.
+     * <p/>
+     * The bucket allows a burst of up to the maximum requests per period, and
+     * is refilled continuously. Exchanges which must wait are delayed
+     * asynchronously (the thread will <b>not</b> block), and the buckets of
+     * correlation keys that are no longer in use are evicted.
+     *
+     * @param tokenBucket whether to use the token bucket throttling mode
+     * @return the builder
+     */
+    public ThrottleDefinition tokenBucket(boolean tokenBucket) {
+        return tokenBucket(Boolean.toString(tokenBucket));
+    }
+
+    /**
+     * Enables the token bucket throttling mode, which throttles using a lock
+     * free token bucket per correlation key instead of a queue of permits.
+     * <p/>
+     * The bucket allows a burst of up to the maximum requests per period, and
+     * is refilled continuously. Exchanges which must wait are delayed
+     * asynchronously (the thread will <b>not</b> block), and the buckets of
+     * correlation keys that are no longer in use are evicted.
+     *
+     * @param tokenBucket whether to use the token bucket throttling mode
+     * @return the builder
+     */
+    public ThrottleDefinition tokenBucket(String tokenBucket) {
+        setTokenBucket(tokenBucket);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -321,6 +372,14 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.rejectExecution = rejectExecution;
     }
 
+    public String getTokenBucket() {
+        return tokenBucket;
+    }
+
+    public void setTokenBucket(String tokenBucket) {
+        this.tokenBucket = tokenBucket;
+    }
+
     /**
      * The expression used to calculate the correlation key to use for throttle
      * grouping. The Exchange which has the same correlation key is throttled
@@ -191,6 +191,10 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (completionTimeoutCheckerInterval != null) {
             answer.setCompletionTimeoutCheckerInterval(completionTimeoutCheckerInterval);
         }
+        Integer completionTimeoutShards = parseInt(definition.getCompletionTimeoutShards());
+        if (completionTimeoutShards != null) {
+            answer.setCompletionTimeoutShards(completionTimeoutShards);
+        }
         return answer;
     }
 
@@ -53,6 +53,10 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        int parallelWindowSize = parseInt(definition.getParallelWindowSize(), 0);
+        if (parallelWindowSize > 0 && !isParallelProcessing) {
+            throw new IllegalArgumentException("ParallelWindowSize is used but ParallelProcessing has not been enabled.");
+        }
         if (definition.getOnPrepareRef() != null) {
             definition.setOnPrepare(mandatoryLookup(parseString(definition.getOnPrepareRef()), Processor.class));
         }
@@ -62,6 +66,7 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         Splitter answer = new Splitter(camelContext, route, exp, childProcessor, definition.getAggregationStrategy(), isParallelProcessing, threadPool,
                                        shutdownThreadPool, isStreaming, isStopOnException, timeout, definition.getOnPrepare(), isShareUnitOfWork, isParallelAggregate,
                                        isStopOnAggregateException);
+        answer.setParallelWindowSize(parallelWindowSize);
         return answer;
     }
 
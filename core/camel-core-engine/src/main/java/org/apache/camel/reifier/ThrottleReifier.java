@@ -57,6 +57,7 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
         answer.setAsyncDelayed(async);
         // should be true by default
         answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
+        answer.setTokenBucket(parseBoolean(definition.getTokenBucket(), false));
 
         return answer;
     }
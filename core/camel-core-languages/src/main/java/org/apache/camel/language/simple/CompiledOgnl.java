@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeExpressionException;
+import org.apache.camel.support.builder.ExpressionBuilder;
+import org.apache.camel.support.LanguageSupport;
+import org.apache.camel.util.KeyValueHolder;
+import org.apache.camel.util.OgnlHelper;
+import org.apache.camel.util.StringHelper;
+
+/**
+ * A compiled simple OGNL expression, such as <tt>${body.address.city}</tt> or <tt>${body.lines[0].price}</tt>,
+ * which invokes the getters directly using method handles that are resolved once per class, instead of using the bean
+ * component to lookup and invoke the methods on every evaluation.
+ * <p/>
+ * Only OGNL expressions which are a chain of methods without parameters (or their getters), and map or list lookups
+ * with a constant key can be compiled. Whenever the compiled expression cannot evaluate a step of the OGNL on the
+ * actual objects, such as a method which does not exist or a method with parameters, then the rest of the OGNL is
+ * evaluated by the bean component on the result of the previous step, so the outcome is the same as if the expression
+ * was not compiled, and no method is invoked twice.
+ */
+public final class CompiledOgnl {
+
+    // sentinel for a step which cannot be evaluated by the compiled expression
+    private static final Object UNSUPPORTED = new Object();
+    private static final MethodHandle NO_ACCESSOR = MethodHandles.constant(Object.class, UNSUPPORTED);
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final String ognl;
+    private final Step[] steps;
+
+    private CompiledOgnl(String ognl, Step[] steps) {
+        this.ognl = ognl;
+        this.steps = steps;
+    }
+
+    /**
+     * Compiles the OGNL expression
+     *
+     * @param  ognl the OGNL expression, such as <tt>.address.city</tt>
+     * @return      the compiled OGNL, or <tt>null</tt> if the OGNL expression cannot be compiled
+     */
+    public static CompiledOgnl compile(String ognl) {
+        List<String> methods;
+        try {
+            methods = OgnlHelper.splitOgnl(ognl);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (methods.isEmpty()) {
+            return null;
+        }
+
+        Step[] steps = new Step[methods.size()];
+        for (int i = 0; i < steps.length; i++) {
+            String method = methods.get(i);
+            boolean nullSafe = OgnlHelper.isNullSafeOperator(method);
+            String name = OgnlHelper.removeLeadingOperators(method);
+            String key = null;
+            KeyValueHolder<String, String> index = OgnlHelper.isOgnlIndex(name);
+            if (index != null) {
+                name = index.getKey();
+                key = index.getValue();
+                if (key == null) {
+                    return null;
+                }
+            }
+            if (name != null && name.endsWith("()")) {
+                name = name.substring(0, name.length() - 2);
+            }
+            if (name != null && !isJavaIdentifier(name)) {
+                // methods with parameters are not supported
+                return null;
+            }
+            if (key != null) {
+                // nested functions and the last keyword is not supported
+                if (LanguageSupport.hasSimpleFunction(key)) {
+                    return null;
+                }
+                key = StringHelper.removeLeadingAndEndingQuotes(key.trim());
+                if (key.isEmpty() || key.startsWith("last")) {
+                    return null;
+                }
+            }
+            steps[i] = new Step(method, name, key, index != null ? index.getValue() : null, nullSafe);
+        }
+        return new CompiledOgnl(ognl, steps);
+    }
+
+    /**
+     * Evaluates the OGNL expression on the given object
+     *
+     * @param  exchange the current exchange
+     * @param  root     the object to evaluate the OGNL expression on
+     * @return          the result
+     */
+    public Object evaluate(Exchange exchange, Object root) {
+        Object result = root;
+        for (int i = 0; i < steps.length; i++) {
+            Step step = steps[i];
+            if (result == null && i == 0) {
+                // let the bean component fail
+                return interpret(exchange, null, ognl);
+            } else if (result == null) {
+                throw new RuntimeExpressionException("Failed to invoke method: " + ognl + " on null due last method returned null"
+                        + " and therefore cannot continue to invoke method " + step.ognl + " on a null instance");
+            }
+            if (step.name != null) {
+                Object value;
+                try {
+                    value = step.invoke(result);
+                } catch (Exception e) {
+                    throw new RuntimeExpressionException("Failed to invoke method: " + step.name + " on " + result + " due to: " + e, e);
+                }
+                if (value == UNSUPPORTED) {
+                    return interpret(exchange, result, remaining(i, false));
+                }
+                result = value;
+            }
+            if (step.key != null) {
+                Object value = step.lookup(result);
+                if (value == UNSUPPORTED) {
+                    // the method has been invoked so only the lookup is left for this step
+                    return interpret(exchange, result, remaining(i, true));
+                }
+                result = value;
+            }
+            if (result == null && step.nullSafe) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "compiledOgnl(" + ognl + ")";
+    }
+
+    /**
+     * The OGNL of the steps from the given step.
+     */
+    private String remaining(int from, boolean keyOnly) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(keyOnly ? "[" + steps[from].keyOgnl + "]" : steps[from].ognl);
+        for (int i = from + 1; i < steps.length; i++) {
+            sb.append(steps[i].ognl);
+        }
+        return sb.toString();
+    }
+
+    private static Object interpret(Exchange exchange, Object bean, String ognl) {
+        return ExpressionBuilder.beanExpression(bean, ognl).evaluate(exchange, Object.class);
+    }
+
+    private static boolean isJavaIdentifier(String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Step {
+        private final String ognl;
+        private final String name;
+        private final String key;
+        private final String keyOgnl;
+        private final int index;
+        private final boolean nullSafe;
+        private final ClassValue<MethodHandle> accessors;
+
+        Step(String ognl, String name, String key, String keyOgnl, boolean nullSafe) {
+            this.ognl = ognl;
+            this.name = name;
+            this.key = key;
+            this.keyOgnl = keyOgnl;
+            this.index = key != null ? parseIndex(key) : -1;
+            this.nullSafe = nullSafe;
+            this.accessors = name != null ? new ClassValue<MethodHandle>() {
+                @Override
+                protected MethodHandle computeValue(Class<?> type) {
+                    MethodHandle answer = findAccessor(type, name);
+                    return answer != null ? answer : NO_ACCESSOR;
+                }
+            } : null;
+        }
+
+        Object invoke(Object target) throws Exception {
+            MethodHandle accessor = accessors.get(target.getClass());
+            if (accessor == NO_ACCESSOR) {
+                return UNSUPPORTED;
+            }
+            try {
+                return (Object) accessor.invokeExact(target);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+
+        Object lookup(Object value) {
+            if (value instanceof Map) {
+                return ((Map<?, ?>) value).get(key);
+            } else if (value instanceof List && index >= 0) {
+                List<?> list = (List<?>) value;
+                if (index < list.size()) {
+                    return list.get(index);
+                } else if (!nullSafe) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + list.size()
+                            + " out of bounds with List using OGNL path [" + ognl + "]");
+                }
+                return null;
+            } else if (value == null) {
+                if (!nullSafe) {
+                    throw new IndexOutOfBoundsException("Key: " + key + " not found in bean: null using OGNL path [" + ognl + "]");
+                }
+                return null;
+            }
+            // let the bean component convert the value to a map or list
+            return UNSUPPORTED;
+        }
+
+        private static int parseIndex(String key) {
+            try {
+                return Integer.parseInt(key);
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Finds the accessor of the method (or getter) with the given name, which must be a public instance method
+     * without parameters and not be overloaded with methods that has parameters, as such methods is subject to
+     * parameter binding by the bean component.
+     */
+    private static MethodHandle findAccessor(Class<?> type, String name) {
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Method method = null;
+        for (String candidate : new String[] {name, "get" + suffix, "is" + suffix}) {
+            boolean found = false;
+            for (Method m : type.getMethods()) {
+                if (!m.getName().equals(candidate) || m.isBridge()) {
+                    continue;
+                }
+                found = true;
+                if (m.getParameterCount() > 0 || Modifier.isStatic(m.getModifiers()) || m.getReturnType() == void.class) {
+                    return null;
+                }
+                method = m;
+            }
+            if (found) {
+                break;
+            }
+        }
+        if (method == null
+                || method.getName().startsWith("is") && !method.getName().equals(name)
+                && method.getReturnType() != boolean.class && method.getReturnType() != Boolean.class) {
+            return null;
+        }
+        Method accessible = findAccessibleMethod(type, method);
+        if (accessible == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(accessible).asType(ACCESSOR_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Method findAccessibleMethod(Class<?> type, Method method) {
+        if (Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            return method;
+        }
+        // the method is declared in a non public class, so find the method from a public super type
+        Deque<Class<?>> types = new ArrayDeque<>();
+        types.add(type);
+        while (!types.isEmpty()) {
+            Class<?> current = types.poll();
+            if (Modifier.isPublic(current.getModifiers())) {
+                try {
+                    Method answer = current.getMethod(method.getName());
+                    if (Modifier.isPublic(answer.getDeclaringClass().getModifiers())) {
+                        return answer;
+                    }
+                } catch (NoSuchMethodException e) {
+                    // ignore
+                }
+            }
+            if (current.getSuperclass() != null) {
+                types.add(current.getSuperclass());
+            }
+            for (Class<?> interfaceType : current.getInterfaces()) {
+                types.add(interfaceType);
+            }
+        }
+        return null;
+    }
+
+}
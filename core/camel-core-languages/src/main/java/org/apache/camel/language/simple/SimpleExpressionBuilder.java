@@ -521,6 +521,17 @@ public final class SimpleExpressionBuilder {
      * to the given type and invoking methods on the converted body defined in a simple OGNL notation
      */
     public static Expression mandatoryBodyOgnlExpression(final String name, final String ognl) {
+        return mandatoryBodyOgnlExpression(name, ognl, false);
+    }
+
+    /**
+     * Returns the expression for the exchanges inbound message body converted
+     * to the given type and invoking methods on the converted body defined in a simple OGNL notation
+     *
+     * @param compiled whether to use a {@link CompiledOgnl} if the OGNL can be compiled
+     */
+    public static Expression mandatoryBodyOgnlExpression(final String name, final String ognl, boolean compiled) {
+        final CompiledOgnl compiledOgnl = compiled ? CompiledOgnl.compile(ognl) : null;
         return new ExpressionAdapter() {
             public Object evaluate(Exchange exchange) {
                 String text = ExpressionBuilder.simpleExpression(name).evaluate(exchange, String.class);
@@ -536,8 +547,7 @@ public final class SimpleExpressionBuilder {
                 } catch (InvalidPayloadException e) {
                     throw CamelExecutionException.wrapCamelExecutionException(exchange, e);
                 }
-                Expression exp = ExpressionBuilder.beanExpression(body, ognl);
-                return exp.evaluate(exchange, Object.class);
+                return evaluateOgnl(exchange, body, ognl, compiledOgnl);
             }
 
             @Override
@@ -580,6 +590,17 @@ public final class SimpleExpressionBuilder {
      * to the given type and invoking methods on the converted body defined in a simple OGNL notation
      */
     public static Expression bodyOgnlExpression(final String name, final String ognl) {
+        return bodyOgnlExpression(name, ognl, false);
+    }
+
+    /**
+     * Returns the expression for the exchanges inbound message body converted
+     * to the given type and invoking methods on the converted body defined in a simple OGNL notation
+     *
+     * @param compiled whether to use a {@link CompiledOgnl} if the OGNL can be compiled
+     */
+    public static Expression bodyOgnlExpression(final String name, final String ognl, boolean compiled) {
+        final CompiledOgnl compiledOgnl = compiled ? CompiledOgnl.compile(ognl) : null;
         return new ExpressionAdapter() {
             public Object evaluate(Exchange exchange) {
                 String text = ExpressionBuilder.simpleExpression(name).evaluate(exchange, String.class);
@@ -593,8 +614,7 @@ public final class SimpleExpressionBuilder {
                 if (body != null) {
                     // ognl is able to evaluate method name if it contains nested functions
                     // so we should not eager evaluate ognl as a string
-                    return ExpressionBuilder.beanExpression(body, ognl)
-                            .evaluate(exchange, Object.class);
+                    return evaluateOgnl(exchange, body, ognl, compiledOgnl);
                 } else {
                     return null;
                 }
@@ -614,11 +634,23 @@ public final class SimpleExpressionBuilder {
      * @param ognl  methods to invoke on the exchange in a simple OGNL syntax
      */
     public static Expression exchangeOgnlExpression(final String ognl) {
+        return exchangeOgnlExpression(ognl, false);
+    }
+
+    /**
+     * Returns the expression for the exchange invoking methods defined
+     * in a simple OGNL notation
+     *
+     * @param ognl  methods to invoke on the exchange in a simple OGNL syntax
+     * @param compiled whether to use a {@link CompiledOgnl} if the OGNL can be compiled
+     */
+    public static Expression exchangeOgnlExpression(final String ognl, boolean compiled) {
+        final CompiledOgnl compiledOgnl = compiled ? CompiledOgnl.compile(ognl) : null;
         return new ExpressionAdapter() {
             public Object evaluate(Exchange exchange) {
                 // ognl is able to evaluate method name if it contains nested functions
                 // so we should not eager evaluate ognl as a string
-                return ExpressionBuilder.beanExpression(exchange, ognl).evaluate(exchange, Object.class);
+                return evaluateOgnl(exchange, exchange, ognl, compiledOgnl);
             }
 
             @Override
@@ -660,6 +692,18 @@ public final class SimpleExpressionBuilder {
      * @param ognl  methods to invoke on the body in a simple OGNL syntax
      */
     public static Expression bodyOgnlExpression(final String ognl) {
+        return bodyOgnlExpression(ognl, false);
+    }
+
+    /**
+     * Returns the expression for the exchanges inbound message body invoking methods defined
+     * in a simple OGNL notation
+     *
+     * @param ognl  methods to invoke on the body in a simple OGNL syntax
+     * @param compiled whether to use a {@link CompiledOgnl} if the OGNL can be compiled
+     */
+    public static Expression bodyOgnlExpression(final String ognl, boolean compiled) {
+        final CompiledOgnl compiledOgnl = compiled ? CompiledOgnl.compile(ognl) : null;
         return new ExpressionAdapter() {
             public Object evaluate(Exchange exchange) {
                 Object body = exchange.getIn().getBody();
@@ -668,7 +712,7 @@ public final class SimpleExpressionBuilder {
                 }
                 // ognl is able to evaluate method name if it contains nested functions
                 // so we should not eager evaluate ognl as a string
-                return ExpressionBuilder.beanExpression(body, ognl).evaluate(exchange, Object.class);
+                return evaluateOgnl(exchange, body, ognl, compiledOgnl);
             }
 
             @Override
@@ -678,6 +722,13 @@ public final class SimpleExpressionBuilder {
         };
     }
 
+    private static Object evaluateOgnl(Exchange exchange, Object bean, String ognl, CompiledOgnl compiledOgnl) {
+        if (compiledOgnl != null) {
+            return compiledOgnl.evaluate(exchange, bean);
+        }
+        return ExpressionBuilder.beanExpression(bean, ognl).evaluate(exchange, Object.class);
+    }
+
     /**
      * Returns an expression that caches the evaluation of another expression
      * and returns the cached value, to avoid re-evaluating the expression.
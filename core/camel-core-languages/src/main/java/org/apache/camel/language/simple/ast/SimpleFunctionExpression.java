@@ -35,10 +35,16 @@ public class SimpleFunctionExpression extends LiteralExpression {
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
+    private boolean compiled;
 
     public SimpleFunctionExpression(SimpleToken token, Map<String, Expression> cacheExpression) {
+        this(token, cacheExpression, false);
+    }
+
+    public SimpleFunctionExpression(SimpleToken token, Map<String, Expression> cacheExpression, boolean compiled) {
         super(token);
         this.cacheExpression = cacheExpression;
+        this.compiled = compiled;
     }
 
     /**
@@ -169,7 +175,7 @@ public class SimpleFunctionExpression extends LiteralExpression {
             if (invalid) {
                 throw new SimpleParserException("Valid syntax: ${exchange.OGNL} was: " + function, token.getIndex());
             }
-            return SimpleExpressionBuilder.exchangeOgnlExpression(remainder);
+            return SimpleExpressionBuilder.exchangeOgnlExpression(remainder, compiled);
         }
 
         // file: prefix
@@ -265,7 +271,7 @@ public class SimpleFunctionExpression extends LiteralExpression {
                 if (invalid) {
                     throw new SimpleParserException("Valid syntax: ${bodyAs(type).OGNL} was: " + function, token.getIndex());
                 }
-                return SimpleExpressionBuilder.bodyOgnlExpression(type, remainder);
+                return SimpleExpressionBuilder.bodyOgnlExpression(type, remainder, compiled);
             } else {
                 return ExpressionBuilder.bodyExpression(type);
             }
@@ -285,7 +291,7 @@ public class SimpleFunctionExpression extends LiteralExpression {
                 if (invalid) {
                     throw new SimpleParserException("Valid syntax: ${mandatoryBodyAs(type).OGNL} was: " + function, token.getIndex());
                 }
-                return SimpleExpressionBuilder.mandatoryBodyOgnlExpression(type, remainder);
+                return SimpleExpressionBuilder.mandatoryBodyOgnlExpression(type, remainder, compiled);
             } else {
                 return SimpleExpressionBuilder.mandatoryBodyExpression(type);
             }
@@ -303,7 +309,7 @@ public class SimpleFunctionExpression extends LiteralExpression {
             if (invalid) {
                 throw new SimpleParserException("Valid syntax: ${body.OGNL} was: " + function, token.getIndex());
             }
-            return SimpleExpressionBuilder.bodyOgnlExpression(remainder);
+            return SimpleExpressionBuilder.bodyOgnlExpression(remainder, compiled);
         }
 
         // headerAs
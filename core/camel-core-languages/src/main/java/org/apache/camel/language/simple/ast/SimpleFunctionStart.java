@@ -33,11 +33,17 @@ public class SimpleFunctionStart extends BaseSimpleNode implements BlockStart {
     // use caches to avoid re-parsing the same expressions over and over again
     private final Map<String, Expression> cacheExpression;
     private final CompositeNodes block;
+    private final boolean compiled;
 
     public SimpleFunctionStart(SimpleToken token, Map<String, Expression> cacheExpression) {
+        this(token, cacheExpression, false);
+    }
+
+    public SimpleFunctionStart(SimpleToken token, Map<String, Expression> cacheExpression, boolean compiled) {
         super(token);
         this.block = new CompositeNodes(token);
         this.cacheExpression = cacheExpression;
+        this.compiled = compiled;
     }
 
     public boolean lazyEval(SimpleNode child) {
@@ -63,7 +69,7 @@ public class SimpleFunctionStart extends BaseSimpleNode implements BlockStart {
     }
 
     private Expression doCreateLiteralExpression(final String expression) {
-        SimpleFunctionExpression function = new SimpleFunctionExpression(this.getToken(), cacheExpression);
+        SimpleFunctionExpression function = new SimpleFunctionExpression(this.getToken(), cacheExpression, compiled);
         LiteralNode literal = (LiteralNode) block.getChildren().get(0);
         function.addText(literal.getText());
         return function.createExpression(expression);
@@ -114,7 +120,7 @@ public class SimpleFunctionStart extends BaseSimpleNode implements BlockStart {
                 // we have now concat the block as a String which contains the function expression
                 // which we then need to evaluate as a function
                 String exp = sb.toString();
-                SimpleFunctionExpression function = new SimpleFunctionExpression(token, cacheExpression);
+                SimpleFunctionExpression function = new SimpleFunctionExpression(token, cacheExpression, compiled);
                 function.addText(exp);
                 try {
                     return function.createExpression(exp).evaluate(exchange, type);
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for consuming the files noticed by the watch service
+ */
+public class FileConsumeWatchServiceTest extends ContextTestSupport {
+
+    private String fileUrl = "file://target/data/watch";
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/watch");
+        super.setUp();
+    }
+
+    @Test
+    public void testConsumeExistingAndChangedFiles() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("Bye World", "Hello World", "Godday World");
+
+        template.sendBodyAndHeader(fileUrl, "Bye World", Exchange.FILE_NAME, "bye.txt");
+        template.sendBodyAndHeader(fileUrl, "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUrl, "Godday World", Exchange.FILE_NAME, "godday.txt");
+
+        // the existing files are found by scanning the directory, and again
+        // after hitting maxMessagesPerPoll
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        mock.reset();
+        mock.expectedBodiesReceivedInAnyOrder("Hi World", "Hi Sub World");
+        // some platforms poll the directories for changes in the watch service
+        mock.setResultWaitTime(20000);
+
+        // there are no more full scans so these files are found from the
+        // events of the watch service
+        template.sendBodyAndHeader(fileUrl, "Hi World", Exchange.FILE_NAME, "hi.txt");
+        template.sendBodyAndHeader(fileUrl, "Hi Sub World", Exchange.FILE_NAME, "sub/hi.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from(fileUrl + "?initialDelay=0&delay=10&recursive=true&maxMessagesPerPoll=2&useWatchService=true&fullScanInterval=0").routeId("foo").noAutoStartup()
+                    .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBlockingQueueTest {
+
+    @Test
+    public void testOfferPoll() throws Exception {
+        RingBlockingQueue<String> queue = new RingBlockingQueue<>(3);
+        assertTrue(queue.isEmpty());
+        assertEquals(3, queue.remainingCapacity());
+
+        assertTrue(queue.offer("a"));
+        assertTrue(queue.offer("b"));
+        assertTrue(queue.offer("c"));
+        assertFalse(queue.offer("d"));
+        assertThrows(IllegalStateException.class, () -> queue.add("d"));
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals("a", queue.peek());
+
+        List<String> list = new ArrayList<>();
+        queue.forEach(list::add);
+        assertEquals("[a, b, c]", list.toString());
+
+        assertEquals("a", queue.poll());
+        assertEquals("b", queue.poll());
+        // wrap around the ring
+        assertTrue(queue.offer("d"));
+        assertEquals("c", queue.poll());
+        assertEquals("d", queue.poll(100, TimeUnit.MILLISECONDS));
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testTimeouts() throws Exception {
+        RingBlockingQueue<String> queue = new RingBlockingQueue<>(1);
+        assertNull(queue.poll(50, TimeUnit.MILLISECONDS));
+
+        queue.put("a");
+        long start = System.nanoTime();
+        assertFalse(queue.offer("b", 50, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals("a", queue.take());
+    }
+
+    @Test
+    public void testDrainTo() throws Exception {
+        RingBlockingQueue<Integer> queue = new RingBlockingQueue<>(10);
+        for (int i = 0; i < 10; i++) {
+            queue.put(i);
+        }
+        List<Integer> list = new ArrayList<>();
+        assertEquals(4, queue.drainTo(list, 4));
+        assertEquals("[0, 1, 2, 3]", list.toString());
+        for (int i = 10; i < 14; i++) {
+            queue.put(i);
+        }
+        list.clear();
+        assertEquals(10, queue.drainTo(list));
+        assertEquals("[4, 5, 6, 7, 8, 9, 10, 11, 12, 13]", list.toString());
+        assertEquals(0, queue.drainTo(list));
+        assertEquals(10, queue.remainingCapacity());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        RingBlockingQueue<String> queue = new RingBlockingQueue<>(3);
+        queue.put("a");
+        queue.put("b");
+        queue.put("c");
+
+        assertFalse(queue.remove("d"));
+        assertTrue(queue.remove("b"));
+        assertFalse(queue.remove("b"));
+        assertEquals("[a, c]", new ArrayList<>(queue).toString());
+
+        // the head is moved past the removed elements
+        assertTrue(queue.remove("a"));
+        assertEquals(1, queue.size());
+        assertEquals("c", queue.peek());
+        assertTrue(queue.offer("d"));
+        assertTrue(queue.offer("e"));
+
+        List<String> list = new ArrayList<>();
+        assertEquals(3, queue.drainTo(list));
+        assertEquals("[c, d, e]", list.toString());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testBlockedProducerAndConsumer() throws Exception {
+        RingBlockingQueue<String> queue = new RingBlockingQueue<>(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // the consumer is parked until the message arrives
+            CountDownLatch taken = new CountDownLatch(1);
+            executor.submit(() -> {
+                assertEquals("a", queue.take());
+                taken.countDown();
+                return null;
+            });
+            Thread.sleep(50);
+            queue.put("a");
+            assertTrue(taken.await(5, TimeUnit.SECONDS));
+
+            // the producer is parked until there is room
+            queue.put("b");
+            CountDownLatch put = new CountDownLatch(1);
+            executor.submit(() -> {
+                queue.put("c");
+                put.countDown();
+                return null;
+            });
+            Thread.sleep(50);
+            assertEquals(1, put.getCount());
+            assertEquals("b", queue.poll());
+            assertTrue(put.await(5, TimeUnit.SECONDS));
+            assertEquals("c", queue.poll());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        final int threads = 4;
+        final int count = 50000;
+        RingBlockingQueue<Long> queue = new RingBlockingQueue<>(64);
+        AtomicLong sum = new AtomicLong();
+        AtomicLong received = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(threads * 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    for (long i = 1; i <= count; i++) {
+                        queue.put(i);
+                    }
+                    done.countDown();
+                    return null;
+                });
+                final boolean drain = t % 2 == 0;
+                executor.submit(() -> {
+                    List<Long> batch = new ArrayList<>();
+                    while (received.get() < (long) threads * count) {
+                        if (drain) {
+                            Long first = queue.poll(10, TimeUnit.MILLISECONDS);
+                            if (first != null) {
+                                batch.add(first);
+                                queue.drainTo(batch, 16);
+                            }
+                        } else {
+                            Long value = queue.poll(10, TimeUnit.MILLISECONDS);
+                            if (value != null) {
+                                batch.add(value);
+                            }
+                        }
+                        for (Long value : batch) {
+                            sum.addAndGet(value);
+                        }
+                        received.addAndGet(batch.size());
+                        batch.clear();
+                    }
+                    done.countDown();
+                    return null;
+                });
+            }
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals((long) threads * count, received.get());
+        assertEquals((long) threads * count * (count + 1) / 2, sum.get());
+        assertTrue(queue.isEmpty());
+    }
+
+}
@@ -37,6 +37,7 @@ public class SedaQueueFactoryTest extends ContextTestSupport {
     protected CamelContext createCamelContext() throws Exception {
         CamelContext context = super.createCamelContext();
         context.getRegistry().bind("arrayQueueFactory", arrayQueueFactory);
+        context.getRegistry().bind("ringQueueFactory", new RingBlockingQueueFactory<Exchange>());
         return context;
     }
 
@@ -60,6 +61,15 @@ public class SedaQueueFactoryTest extends ContextTestSupport {
     }
 
     @Test
+    public void testRingBlockingQueueFactory() throws Exception {
+        SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:ringQueue?queueFactory=#ringQueueFactory", SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        RingBlockingQueue<Exchange> blockingQueue = assertIsInstanceOf(RingBlockingQueue.class, queue);
+        assertEquals(SedaConstants.QUEUE_SIZE, blockingQueue.remainingCapacity(), "remainingCapacity - default");
+    }
+
+        @Test
     public void testDefaultBlockingQueueFactory() throws Exception {
         SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:linkedQueue", SedaEndpoint.class);
         BlockingQueue<Exchange> queue = endpoint.getQueue();
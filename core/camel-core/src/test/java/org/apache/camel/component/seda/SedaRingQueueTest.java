@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SedaRingQueueTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("ringQueueFactory", new RingBlockingQueueFactory<Exchange>());
+        return context;
+    }
+
+    @Test
+    public void testPollBatchSize() throws Exception {
+        SedaEndpoint endpoint = context.getEndpoint("seda:ring?queueFactory=#ringQueueFactory&size=50", SedaEndpoint.class);
+        assertIsInstanceOf(RingBlockingQueue.class, endpoint.getQueue());
+        assertEquals(50, endpoint.getQueue().remainingCapacity());
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(200);
+
+        for (int i = 0; i < 200; i++) {
+            template.sendBody("seda:ring?blockWhenFull=true", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testPollBatchSizeInOrder() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:ordered");
+        mock.expectedBodiesReceived("A", "B", "C", "D", "E");
+
+        // suspend the route so the messages are taken in a batch when resumed
+        context.getRouteController().suspendRoute("ordered");
+        template.sendBody("seda:ordered", "A");
+        template.sendBody("seda:ordered", "B");
+        template.sendBody("seda:ordered", "C");
+        template.sendBody("seda:ordered", "D");
+        template.sendBody("seda:ordered", "E");
+        context.getRouteController().resumeRoute("ordered");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:ring?queueFactory=#ringQueueFactory&size=50&concurrentConsumers=4&pollBatchSize=8")
+                    .to("mock:result");
+
+                from("seda:ordered?queueFactory=#ringQueueFactory&size=10&pollBatchSize=10&pollTimeout=100").routeId("ordered")
+                    .to("mock:ordered");
+            }
+        };
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedOutputStreamOffHeapTest extends ContextTestSupport {
+    private static final String TEST_STRING = "This is a test string and it has enough" + " aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa ";
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory("target/data/cachedir");
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setBufferSize(32);
+        context.getStreamCachingStrategy().setSpoolOffHeapBudget(256);
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/cachedir");
+        super.setUp();
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.adapt(ExtendedExchange.class).setUnitOfWork(uow);
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testCacheStreamOffHeap() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        cos.write('!');
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof OffHeapInputStreamCache, "Should get the OffHeapInputStreamCache");
+        assertEquals(0, new File("target/data/cachedir").list().length, "Should not have a temp file");
+        assertEquals(TEST_STRING.length() + 1, cache.length());
+        assertEquals(128, strategy.getStatistics().getCacheOffHeapUsage());
+
+        assertEquals(TEST_STRING + "!", read((InputStream) cache));
+        // re-read after reset
+        cache.reset();
+        assertEquals(TEST_STRING + "!", read((InputStream) cache));
+
+        // copies can be read independently
+        StreamCache copy = cache.copy(exchange);
+        cache.reset();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertEquals(TEST_STRING + "!", bos.toString("UTF-8"));
+        assertEquals(TEST_STRING + "!", read((InputStream) copy));
+
+        // the buffers are released when the exchange is done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, strategy.getStatistics().getCacheOffHeapUsage());
+        assertThrows(Exception.class, () -> read((InputStream) copy));
+        assertThrows(Exception.class, () -> copy.reset());
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testSpoolWhenOffHeapBudgetExhausted() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof FileInputStreamCache, "Should get the FileInputStreamCache");
+        assertEquals(1, new File("target/data/cachedir").list().length, "Should have a temp file");
+        assertEquals(TEST_STRING + TEST_STRING + TEST_STRING, read((InputStream) cache));
+
+        // the buffers are released when spooling
+        assertEquals(0, strategy.getStatistics().getCacheOffHeapUsage());
+        assertEquals(1, strategy.getStatistics().getCacheOffHeapSpillCounter());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, new File("target/data/cachedir").list().length, "Should not have a temp file");
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamMemoryMapped() throws Exception {
+        context.getStreamCachingStrategy().setSpoolOffHeapBudget(0);
+        context.getStreamCachingStrategy().setSpoolMemoryMapped(true);
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof FileInputStreamCache, "Should get the FileInputStreamCache");
+        assertEquals(TEST_STRING, read((InputStream) cache));
+        cache.reset();
+        assertEquals(TEST_STRING, read((InputStream) cache));
+        cache.reset();
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertEquals(TEST_STRING, bos.toString("UTF-8"));
+
+        // the file is transferred by the file system when writing to a file
+        File target = new File("target/data/cachedir-copy.txt");
+        try (FileOutputStream fos = new FileOutputStream(target)) {
+            fos.write('>');
+            cache.writeTo(fos);
+        }
+        assertEquals(">" + TEST_STRING, new String(Files.readAllBytes(target.toPath()), StandardCharsets.UTF_8));
+
+        // the copies reads from the same mapping
+        StreamCache copy = cache.copy(exchange);
+        assertEquals(TEST_STRING, read((InputStream) copy));
+        copy.reset();
+        assertEquals('T', ((InputStream) copy).read());
+
+        // the file is unmapped and deleted when the exchange is done
+        exchange.getUnitOfWork().done(exchange);
+        assertThrows(Exception.class, () -> read((InputStream) copy));
+        assertEquals(0, new File("target/data/cachedir").list().length, "Should not have a temp file");
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCloseReleasesMapping() throws Exception {
+        context.getStreamCachingStrategy().setSpoolOffHeapBudget(0);
+        context.getStreamCachingStrategy().setSpoolMemoryMapped(true);
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange, false);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        StreamCache cache = cos.newStreamCache();
+        assertEquals(TEST_STRING, read((InputStream) cache));
+        cache.reset();
+
+        // the file is unmapped and deleted when the stream is closed
+        cos.close();
+        assertThrows(Exception.class, () -> read((InputStream) cache));
+        assertEquals(0, new File("target/data/cachedir").list().length, "Should not have a temp file");
+    }
+
+    private static String read(InputStream is) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        byte[] buffer = new byte[7];
+        int n;
+        while ((n = is.read(buffer)) != -1) {
+            bos.write(buffer, 0, n);
+        }
+        return bos.toString("UTF-8");
+    }
+
+}
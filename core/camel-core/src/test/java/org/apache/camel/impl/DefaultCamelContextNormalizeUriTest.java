@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.NormalizedEndpointUri;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DefaultCamelContextNormalizeUriTest extends ContextTestSupport {
+
+    @Test
+    public void testNormalizeUriCached() throws Exception {
+        ExtendedCamelContext ecc = context.adapt(ExtendedCamelContext.class);
+
+        NormalizedEndpointUri uri = ecc.normalizeUri("log:foo?showHeaders=true&level=INFO");
+        assertEquals("log://foo?level=INFO&showHeaders=true", uri.getUri());
+
+        // the same uri uses the cached normalized uri
+        assertSame(uri, ecc.normalizeUri("log:foo?showHeaders=true&level=INFO"));
+        assertEquals(uri.getUri(), ecc.normalizeUri(uri.getUri()).getUri());
+    }
+
+    @Test
+    public void testGetEndpoint() throws Exception {
+        Endpoint endpoint = context.getEndpoint("log:foo?showHeaders=true&level=INFO");
+        assertSame(endpoint, context.getEndpoint("log:foo?level=INFO&showHeaders=true"));
+        assertSame(endpoint, context.getEndpoint("log:foo?showHeaders=true&level=INFO"));
+        assertSame(endpoint, context.getEndpoint(endpoint.getEndpointUri()));
+    }
+
+    @Test
+    public void testNormalizeUriConcurrent() throws Exception {
+        // a small cache so uris are evicted while normalizing
+        context.getGlobalOptions().put(Exchange.MAXIMUM_ENDPOINT_CACHE_SIZE, "10");
+        ExtendedCamelContext ecc = context.adapt(ExtendedCamelContext.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        NormalizedEndpointUri uri = ecc.normalizeUri("log:foo" + (i % 50) + "?showHeaders=true&level=INFO");
+                        assertEquals("log://foo" + (i % 50) + "?level=INFO&showHeaders=true", uri.getUri());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(20, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPropertyPlaceholders() throws Exception {
+        Properties prop = new Properties();
+        prop.put("level", "INFO");
+        context.getPropertiesComponent().setInitialProperties(prop);
+
+        NormalizedEndpointUri uri = context.adapt(ExtendedCamelContext.class).normalizeUri("log:foo?showHeaders=true&level={{level}}");
+        assertEquals("log://foo?level=INFO&showHeaders=true", uri.getUri());
+    }
+
+}
@@ -16,7 +16,12 @@
  */
 package org.apache.camel.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -77,6 +82,54 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         assertEquals(0, cache.size(), "Size should be 0");
     }
 
+    @Test
+    public void testCacheProducerConcurrentAcquireAndRelease() throws Exception {
+        // use the default cache size
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 0);
+        cache.start();
+
+        int threads = 8;
+        int endpoints = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * endpoints;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < endpoints; i++) {
+                        Endpoint e = newEndpoint(true, offset + i);
+                        e.setCamelContext(context);
+                        AsyncProducer p = cache.acquireProducer(e);
+                        cache.releaseProducer(e, p);
+                        // and an endpoint used by all the threads
+                        e = newEndpoint(true, -1);
+                        e.setCamelContext(context);
+                        p = cache.acquireProducer(e);
+                        cache.releaseProducer(e, p);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(20, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        await().atMost(3, TimeUnit.SECONDS).untilAsserted(() -> {
+            // the eviction is async so force cleanup
+            cache.cleanUp();
+            assertEquals(1000, cache.size(), "Size should be 1000");
+        });
+        assertEquals(threads * endpoints + 1 - 1000, stopCounter.get());
+
+        cache.stop();
+
+        // should have stopped all of them
+        assertEquals(threads * endpoints + 1, stopCounter.get());
+    }
+
     @Test
     public void testCacheStopExpired() throws Exception {
         DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
@@ -154,6 +207,39 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         cache.stop();
     }
 
+    @Test
+    public void testExtendedStatisticsMissesAndEvictions() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 2);
+        cache.setExtendedStatistics(true);
+        cache.start();
+
+        for (int i = 1; i <= 3; i++) {
+            Endpoint e = newEndpoint(true, i);
+            AsyncProducer p = cache.acquireProducer(e);
+            cache.releaseProducer(e, p);
+        }
+        // the producer is cached
+        Endpoint e = newEndpoint(true, 3);
+        AsyncProducer p = cache.acquireProducer(e);
+        cache.releaseProducer(e, p);
+
+        EndpointUtilizationStatistics stats = cache.getEndpointUtilizationStatistics();
+        assertEquals(1, stats.getStatistics().get("my://1").longValue());
+        assertEquals(2, stats.getStatistics().get("my://3").longValue());
+        assertEquals(1, stats.getMissStatistics().get("my://1").longValue());
+        assertEquals(1, stats.getMissStatistics().get("my://2").longValue());
+        assertEquals(1, stats.getMissStatistics().get("my://3").longValue());
+
+        await().atMost(3, TimeUnit.SECONDS).untilAsserted(() -> {
+            // the eviction is async so force cleanup
+            cache.cleanUp();
+            long evictions = stats.getEvictionStatistics().values().stream().mapToLong(Long::longValue).sum();
+            assertEquals(1, evictions);
+        });
+
+        cache.stop();
+    }
+
     @Test
     public void testCacheEvictWhileInUse() throws Exception {
         producerCounter.set(0);
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.PooledExchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledExchangeFactoryTest extends ContextTestSupport {
+
+    private final PooledExchangeFactory factory = new PooledExchangeFactory();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        factory.setStatisticsEnabled(true);
+        context.setMessageHistory(true);
+        context.adapt(ExtendedCamelContext.class).setExchangeFactory(factory);
+        return context;
+    }
+
+    @Test
+    public void testPooledTimer() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World", "Hello World", "Hello World");
+
+        context.getRouteController().startRoute("timer");
+
+        assertMockEndpointsSatisfied();
+        context.getRouteController().stopRoute("timer");
+
+        // the timer reuses the exchanges from its pool
+        assertEquals(3, factory.getCreatedCounter() + factory.getAcquiredCounter());
+        assertEquals(3, factory.getReleasedCounter());
+        assertEquals(0, factory.getDiscardedCounter());
+        assertEquals(0, factory.getLeakedCounter());
+    }
+
+    @Test
+    public void testPooledRouting() throws Exception {
+        // the internal processors reuses their callback tasks when pooled
+        getMockEndpoint("mock:routing").expectedMessageCount(50);
+        getMockEndpoint("mock:routing").allMessages().body().isEqualTo("Bye World");
+        getMockEndpoint("mock:routing").allMessages().header("foo").isEqualTo("123");
+        getMockEndpoint("mock:routing").allMessages().exchangeProperty(Exchange.MESSAGE_HISTORY).isNotNull();
+
+        for (int i = 0; i < 50; i++) {
+            template.sendBody("seda:routing", "Hello World");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testPooledSedaAsyncRouting() throws Exception {
+        getMockEndpoint("mock:async").expectedMessageCount(5);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("seda:async", "Hello World");
+        }
+        context.getRouteController().startRoute("async");
+
+        assertMockEndpointsSatisfied();
+
+        // the exchanges are routed asynchronously and released when the routing is complete
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(5, factory.getReleasedCounter()));
+        context.getRouteController().stopRoute("async");
+        assertEquals(0, factory.getLeakedCounter());
+    }
+
+    @Test
+    public void testPooledSedaMultipleConsumers() throws Exception {
+        getMockEndpoint("mock:multi1").expectedMessageCount(5);
+        getMockEndpoint("mock:multi2").expectedMessageCount(5);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("seda:multi?multipleConsumers=true", "Hello World");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the exchanges multicasted to the consumers are released as well
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(5, factory.getReleasedCounter()));
+        assertEquals(0, factory.getLeakedCounter());
+    }
+
+    @Test
+    public void testPooledAutoRelease() throws Exception {
+        getMockEndpoint("mock:idle").expectedMinimumMessageCount(3);
+        getMockEndpoint("mock:idle").allMessages().body().isNull();
+
+        context.getRouteController().startRoute("idle");
+
+        assertMockEndpointsSatisfied();
+        context.getRouteController().stopRoute("idle");
+
+        // the empty messages are auto released by the routing engine when their unit of work is done
+        assertEquals(factory.getCreatedCounter() + factory.getAcquiredCounter(), factory.getReleasedCounter());
+        assertTrue(factory.getAcquiredCounter() > 0);
+        assertEquals(0, factory.getLeakedCounter());
+    }
+
+    @Test
+    public void testPooledExchangeReset() throws Exception {
+        PooledExchange exchange = (PooledExchange) factory.newExchangeFactory(null).create(context.getEndpoint("mock:result"), false);
+        exchange.setProperty("foo", "bar");
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("beer", "Carlsberg");
+        exchange.setException(new IllegalArgumentException("Forced"));
+        assertFalse(exchange.isAutoRelease());
+
+        exchange.done();
+
+        assertFalse(exchange.hasProperties());
+        assertEquals(null, exchange.getIn().getBody());
+        assertFalse(exchange.getIn().hasHeaders());
+        assertEquals(null, exchange.getException());
+        assertTrue(exchange.getFromEndpoint() != null);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer:foo?period=1&delay=1&repeatCount=3").routeId("timer").noAutoStartup()
+                    .setBody().constant("Hello World")
+                    .to("mock:result");
+
+                from("file:target/data/pooled?initialDelay=0&delay=10&sendEmptyMessageWhenIdle=true").routeId("idle").noAutoStartup()
+                    .to("mock:idle");
+
+                from("seda:async").routeId("async").noAutoStartup()
+                    .delay(10).asyncDelayed()
+                    .to("mock:async");
+
+                from("seda:multi?multipleConsumers=true").routeId("multi1")
+                    .to("mock:multi1");
+
+                from("seda:multi?multipleConsumers=true").routeId("multi2")
+                    .to("mock:multi2");
+
+                from("seda:routing?concurrentConsumers=5")
+                    .setHeader("foo", constant("123"))
+                    .setBody().constant("Bye World")
+                    .to("mock:routing");
+            }
+        };
+    }
+}
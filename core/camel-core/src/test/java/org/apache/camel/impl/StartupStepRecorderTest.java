@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.DefaultStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StartupStepRecorderTest extends ContextTestSupport {
+
+    private final MyStartupStepRecorder recorder = new MyStartupStepRecorder();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        recorder.setEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setStartupStepRecorder(recorder);
+        return context;
+    }
+
+    @Test
+    public void testStartupStepRecorder() throws Exception {
+        // the recording has ended as camel is started
+        assertFalse(recorder.isEnabled());
+        assertEquals(0, recorder.getRecordedSteps().size());
+
+        List<StartupStep> steps = recorder.steps;
+        assertFalse(steps.isEmpty());
+        for (StartupStep step : steps) {
+            assertTrue(step.getDuration() >= 0, "Step should have ended: " + step);
+        }
+
+        StartupStep start = findStep(steps, "Start CamelContext", context.getName());
+        assertEquals(0, start.getLevel());
+        assertEquals(0, start.getParentId());
+
+        StartupStep routes = findStep(steps, "Start Routes", context.getName());
+        assertEquals(start.getId(), routes.getParentId());
+        assertEquals(1, routes.getLevel());
+
+        StartupStep warmUp = findStep(steps, "Warm up Route", "foo");
+        assertEquals(routes.getId(), warmUp.getParentId());
+        StartupStep consumer = findStep(steps, "Start Route Consumer", "foo");
+        assertEquals(routes.getId(), consumer.getParentId());
+
+        StartupStep init = findStep(steps, "Init CamelContext", context.getName());
+        StartupStep create = findStep(steps, "Create Routes", context.getName());
+        assertEquals(init.getId(), create.getParentId());
+        StartupStep route = findStep(steps, "Create Route", "foo");
+        assertEquals(create.getId(), route.getParentId());
+
+        // the endpoint and component is created while creating the route
+        StartupStep endpoint = findStep(steps, "Create Endpoint", "direct://foo");
+        assertEquals(route.getId(), endpoint.getParentId());
+        StartupStep component = findStep(steps, "Resolve Component", "direct");
+        assertEquals(endpoint.getId(), component.getParentId());
+        assertEquals(4, component.getLevel());
+    }
+
+    @Test
+    public void testStartupStepRecorderMaxDepth() throws Exception {
+        context.stop();
+
+        MyStartupStepRecorder depth = new MyStartupStepRecorder();
+        depth.setEnabled(true);
+        depth.setMaxDepth(1);
+        context.adapt(ExtendedCamelContext.class).setStartupStepRecorder(depth);
+        context.start();
+
+        assertFalse(depth.steps.isEmpty());
+        for (StartupStep step : depth.steps) {
+            assertTrue(step.getLevel() <= 1, "Step should not be recorded: " + step);
+        }
+        assertNotNull(findStep(depth.steps, "Start Routes", context.getName()));
+    }
+
+    @Test
+    public void testStartupStepRecorderDisabled() throws Exception {
+        DefaultStartupStepRecorder disabled = new DefaultStartupStepRecorder();
+        StartupStep step = disabled.beginStep(CamelContext.class, "foo", "Disabled");
+        disabled.endStep(step);
+        assertEquals(-1, step.getDuration());
+        assertEquals(0, disabled.getRecordedSteps().size());
+    }
+
+    @Test
+    public void testStopClearsStepsInProgressOfAllThreads() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DefaultStartupStepRecorder other = new DefaultStartupStepRecorder();
+            other.setEnabled(true);
+            other.start();
+            // a step which is not ended on another thread
+            executor.submit(() -> other.beginStep(CamelContext.class, "foo", "Not Ended")).get();
+            other.stop();
+
+            other.setEnabled(true);
+            other.start();
+            StartupStep step = executor.submit(() -> other.beginStep(CamelContext.class, "bar", "Begin")).get();
+            assertEquals(0, step.getLevel());
+            assertEquals(0, step.getParentId());
+            other.stop();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static StartupStep findStep(List<StartupStep> steps, String description, String name) {
+        for (StartupStep step : steps) {
+            if (description.equals(step.getDescription()) && name.equals(step.getName())) {
+                return step;
+            }
+        }
+        throw new AssertionError("Step not recorded: " + description + " (" + name + ")");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:foo").routeId("foo").to("mock:result");
+            }
+        };
+    }
+
+    private static class MyStartupStepRecorder extends DefaultStartupStepRecorder {
+
+        private final List<StartupStep> steps = new ArrayList<>();
+
+        @Override
+        protected void onRecordingEnded(List<StartupStep> steps) {
+            this.steps.addAll(steps);
+        }
+    }
+
+}
@@ -63,6 +63,15 @@ public class TypeConverterRegistryStatisticsEnabledTest extends ContextTestSuppo
         miss = reg.getStatistics().getMissCounter();
         assertEquals(0, miss.intValue());
 
+        // should have statistics for the type conversion
+        assertEquals(1, reg.getStatistics().listConversionStatistics().size());
+        TypeConverterRegistry.ConversionStatistics pair = reg.getStatistics().listConversionStatistics().get(0);
+        assertEquals(String.class, pair.getFromType());
+        assertEquals(int.class, pair.getToType());
+        assertEquals(2, pair.getHitCounter());
+        assertEquals(1, pair.getFailedCounter());
+        assertTrue(pair.getTotalTime() > 0);
+
         // reset
         reg.getStatistics().reset();
 
@@ -70,6 +79,7 @@ public class TypeConverterRegistryStatisticsEnabledTest extends ContextTestSuppo
         assertEquals(0, failed.intValue());
         miss = reg.getStatistics().getMissCounter();
         assertEquals(0, miss.intValue());
+        assertEquals(0, reg.getStatistics().listConversionStatistics().size());
     }
 
     @Override
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    private final WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testRouting() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(50);
+
+        for (int i = 0; i < 50; i++) {
+            template.sendBody("seda:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(executor.getCreatedWorkers() > 0);
+        assertTrue(executor.getExecutedTasks() > 0);
+        assertEquals(0, executor.getPendingTasks());
+        assertEquals(0, executor.getOffloadedTasks());
+    }
+
+    @Test
+    public void testOffload() throws Exception {
+        WorkStealingReactiveExecutor offloading = new WorkStealingReactiveExecutor();
+        offloading.setQueueSize(2);
+        offloading.setPoolSize(2);
+        offloading.start();
+        try {
+            final CountDownLatch latch = new CountDownLatch(10);
+            offloading.schedule(() -> {
+                for (int i = 0; i < 10; i++) {
+                    offloading.schedule(latch::countDown);
+                }
+            });
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertTrue(offloading.getOffloadedTasks() > 0);
+        } finally {
+            offloading.stop();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start?concurrentConsumers=4")
+                    .split(body().tokenize(" ")).parallelProcessing()
+                        .to("log:foo?level=OFF")
+                    .end()
+                    .to("mock:result");
+            }
+        };
+    }
+}
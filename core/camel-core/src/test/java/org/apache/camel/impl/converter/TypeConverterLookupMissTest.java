@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TypeConverterLookupMissTest extends ContextTestSupport {
+
+    @Test
+    public void testLookupMissIsCachedUntilConverterAdded() throws Exception {
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, "123"));
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, "456"));
+
+        // a converter from an interface of the from type should be found after the miss
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, CharSequence.class, new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                return (T) new MyOrder(value.toString());
+            }
+        });
+
+        MyOrder order = context.getTypeConverter().tryConvertTo(MyOrder.class, "789");
+        assertNotNull(order);
+        assertEquals("789", order.getId());
+    }
+
+    private static final class MyOrder {
+        private final String id;
+
+        MyOrder(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeExpressionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs all the simple tests using compiled OGNL expressions.
+ */
+public class SimpleCompiledTest extends SimpleTest {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        simple.setCompiled(true);
+        return context;
+    }
+
+    @Test
+    public void testCompile() throws Exception {
+        assertNotNull(CompiledOgnl.compile(".name"));
+        assertNotNull(CompiledOgnl.compile(".getName()"));
+        assertNotNull(CompiledOgnl.compile("?.friend?.name"));
+        assertNotNull(CompiledOgnl.compile(".lines[0].name"));
+        assertNotNull(CompiledOgnl.compile("[foo]"));
+        assertNotNull(CompiledOgnl.compile("['foo.bar'].name"));
+
+        // methods with parameters, nested functions and last keyword is interpreted
+        assertNull(CompiledOgnl.compile(".replace('a', 'b')"));
+        assertNull(CompiledOgnl.compile(".lines[${header.index}]"));
+        assertNull(CompiledOgnl.compile(".lines[last]"));
+    }
+
+    @Test
+    public void testCompiledEvaluate() throws Exception {
+        Person tiger = new Person("Tony the Tiger", null);
+        Person camel = new Person("Camel", tiger);
+
+        assertEquals("Camel", CompiledOgnl.compile(".name").evaluate(exchange, camel));
+        assertEquals(Boolean.TRUE, CompiledOgnl.compile(".friend.dangerous").evaluate(exchange, camel));
+        assertEquals("Tony the Tiger", CompiledOgnl.compile(".getFriend().getName()").evaluate(exchange, camel));
+        assertNull(CompiledOgnl.compile(".friend?.friend?.name").evaluate(exchange, camel));
+
+        List<OrderLine> lines = new ArrayList<>();
+        lines.add(new OrderLine(123, "Camel in Action"));
+        lines.add(new OrderLine(456, "ActiveMQ in Action"));
+        Order order = new Order(Collections.unmodifiableList(lines));
+        assertEquals("ActiveMQ in Action", CompiledOgnl.compile(".lines[1].name").evaluate(exchange, order));
+
+        // the size method is declared on a non public class
+        assertEquals(2, CompiledOgnl.compile(".lines.size").evaluate(exchange, order));
+    }
+
+    @Test
+    public void testCompiledFallback() throws Exception {
+        Person camel = new Person("Camel", null);
+
+        // unknown method is delegated to the bean component which fails
+        try {
+            CompiledOgnl.compile(".unknown").evaluate(exchange, camel);
+            fail("Should have thrown exception");
+        } catch (Exception e) {
+            assertTrue(e.getMessage().contains("unknown"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCompiledFallbackInvokesMethodsOnce() throws Exception {
+        Person tiger = new Person("Tony the Tiger", null);
+        Person camel = new Person("Camel", tiger);
+
+        // the array is looked up by the bean component on the result of the compiled steps
+        assertEquals("Tiger", CompiledOgnl.compile(".friend.nicknames[1]").evaluate(exchange, camel));
+        assertEquals(1, camel.friendCalls);
+        assertEquals(1, tiger.nicknamesCalls);
+
+        // unknown method on the friend is delegated to the bean component which fails
+        try {
+            CompiledOgnl.compile(".friend.unknown").evaluate(exchange, camel);
+            fail("Should have thrown exception");
+        } catch (Exception e) {
+            assertTrue(e.getMessage().contains("unknown"), e.getMessage());
+        }
+        assertEquals(2, camel.friendCalls);
+
+        // a null in the middle of the chain fails without invoking the methods again
+        try {
+            CompiledOgnl.compile(".friend.friend.name").evaluate(exchange, camel);
+            fail("Should have thrown exception");
+        } catch (RuntimeExpressionException e) {
+            assertTrue(e.getMessage().contains("null"), e.getMessage());
+        }
+        assertEquals(3, camel.friendCalls);
+        assertEquals(1, tiger.friendCalls);
+    }
+
+    public static final class Person {
+        private final String name;
+        private final Person friend;
+        private int friendCalls;
+        private int nicknamesCalls;
+
+        public Person(String name, Person friend) {
+            this.name = name;
+            this.friend = friend;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Person getFriend() {
+            friendCalls++;
+            return friend;
+        }
+
+        public String[] getNicknames() {
+            nicknamesCalls++;
+            return name.split(" ");
+        }
+
+        public boolean isDangerous() {
+            return name.contains("Tiger");
+        }
+    }
+
+}
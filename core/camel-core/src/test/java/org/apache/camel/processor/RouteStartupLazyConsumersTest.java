@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Route;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.RoutePolicySupport;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupLazyConsumersTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setLazyStartRouteConsumers(true);
+        context.adapt(ExtendedCamelContext.class).setRouteStartupParallelism(2);
+        return context;
+    }
+
+    @Test
+    public void testLazyStartRouteConsumers() throws Exception {
+        // the context is started before the route consumers
+        assertTrue(context.getStatus().isStarted());
+        assertFalse(context.getRouteController().getRouteStatus("slow").isStarted());
+        latch.countDown();
+
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+        // the direct producer waits for the consumer to be started
+        template.sendBody("direct:start", "Hello World");
+        assertMockEndpointsSatisfied();
+
+        await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertTrue(context.getRouteController().getRouteStatus("slow").isStarted()));
+        // routes which are not auto started is not started lazily either
+        assertTrue(context.getRouteController().getRouteStatus("manual").isStopped());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:slow").routeId("slow").startupOrder(1)
+                        .routePolicy(new RoutePolicySupport() {
+                            @Override
+                            public void onStart(Route route) {
+                                try {
+                                    latch.await(5, TimeUnit.SECONDS);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            }
+                        })
+                        .to("mock:slow");
+
+                from("direct:start").routeId("start").to("mock:result");
+                from("direct:manual").routeId("manual").autoStartup(false).to("mock:manual");
+            }
+        };
+    }
+}
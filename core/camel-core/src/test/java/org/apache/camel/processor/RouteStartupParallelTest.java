@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Route;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.RoutePolicySupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupParallelTest extends ContextTestSupport {
+
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setRouteStartupParallelism(4);
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupParallel() throws Exception {
+        assertEquals(22, context.getRoutes().size());
+        for (Route route : context.getRoutes()) {
+            assertTrue(context.getRouteController().getRouteStatus(route.getId()).isStarted(), "Route should be started: " + route.getId());
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+        assertMockEndpointsSatisfied();
+
+        // the routes with an explicit startup order are started first, one at a time
+        List<RouteStartupOrder> order = context.adapt(ExtendedCamelContext.class).getRouteStartupOrder();
+        assertEquals(22, order.size());
+        assertEquals("foo", order.get(0).getRoute().getId());
+        assertEquals("start", order.get(1).getRoute().getId());
+
+        // and the other routes are started in parallel
+        assertTrue(threads.stream().anyMatch(name -> name.contains("RouteStartup")), "Should start routes in parallel: " + threads);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                RoutePolicySupport policy = new RoutePolicySupport() {
+                    @Override
+                    public void onStart(Route route) {
+                        threads.add(Thread.currentThread().getName());
+                    }
+                };
+
+                from("direct:start").routeId("start").startupOrder(2).to("direct:route0");
+                from("seda:foo").routeId("foo").startupOrder(1).to("mock:foo");
+
+                for (int i = 0; i < 20; i++) {
+                    from("direct:route" + i).routePolicy(policy).to("mock:result");
+                }
+            }
+        };
+    }
+}
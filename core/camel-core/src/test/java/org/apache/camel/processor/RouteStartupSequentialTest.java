@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Route;
+import org.apache.camel.Service;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.LifecycleStrategySupport;
+import org.apache.camel.support.RoutePolicySupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RouteStartupSequentialTest extends ContextTestSupport {
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.addLifecycleStrategy(new LifecycleStrategySupport() {
+            @Override
+            public void onServiceAdd(CamelContext context, Service service, Route route) {
+                if (service instanceof Consumer) {
+                    events.add("add:" + route.getId());
+                }
+            }
+        });
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupSequential() throws Exception {
+        // without parallelism each route is added and started before the next route
+        assertEquals("[add:foo, start:foo, add:bar, start:bar, add:baz, start:baz]", events.toString());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                RoutePolicySupport policy = new RoutePolicySupport() {
+                    @Override
+                    public void onStart(Route route) {
+                        events.add("start:" + route.getId());
+                    }
+                };
+
+                from("direct:foo").routeId("foo").startupOrder(1).routePolicy(policy).to("mock:foo");
+                from("direct:bar").routeId("bar").startupOrder(2).routePolicy(policy).to("mock:bar");
+                from("direct:baz").routeId("baz").routePolicy(policy).to("mock:baz");
+            }
+        };
+    }
+}
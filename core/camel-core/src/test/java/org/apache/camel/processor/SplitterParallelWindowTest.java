@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelWindowTest extends ContextTestSupport {
+
+    private static final int SIZE = 200;
+    private static final int WINDOW = 5;
+
+    private final AtomicInteger read = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testSplitParallelWindow() throws Exception {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            expected.append(i).append(',');
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(expected.toString());
+
+        template.sendBody("direct:start", "go");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(SIZE, read.get());
+        assertEquals(SIZE, aggregated.get());
+        assertTrue(maxInflight.get() <= WINDOW, "Should not be more than " + WINDOW + " in-flight, was: " + maxInflight.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .split(method(new PartIterator(), "parts"), new ConcatAggregationStrategy())
+                        .streaming().parallelProcessing().parallelWindowSize(WINDOW)
+                        .to("direct:part")
+                    .end()
+                    .to("mock:result");
+
+                // process the parts in random order
+                from("direct:part").delay(simple("${random(0,10)}"));
+            }
+        };
+    }
+
+    public class PartIterator {
+
+        public Iterator<Integer> parts() {
+            return new Iterator<Integer>() {
+                @Override
+                public boolean hasNext() {
+                    return read.get() < SIZE;
+                }
+
+                @Override
+                public Integer next() {
+                    int index = read.getAndIncrement();
+                    maxInflight.accumulateAndGet(index + 1 - aggregated.get(), Math::max);
+                    return index;
+                }
+            };
+        }
+    }
+
+    private class ConcatAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            aggregated.incrementAndGet();
+            String body = newExchange.getIn().getBody(String.class) + ",";
+            if (oldExchange == null) {
+                newExchange.getIn().setBody(body);
+                return newExchange;
+            }
+            oldExchange.getIn().setBody(oldExchange.getIn().getBody(String.class) + body);
+            return oldExchange;
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThrottlerTokenBucketTest extends ContextTestSupport {
+    private static final int INTERVAL = 500;
+    private static final int MESSAGE_COUNT = 9;
+
+    @Test
+    public void testTokenBucket() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(MESSAGE_COUNT);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            template.sendBody("seda:a", "<message>" + i + "</message>");
+        }
+        assertMockEndpointsSatisfied();
+        long elapsed = (System.nanoTime() - start) / 1000000;
+
+        // a burst of 3 and then 6 messages refilled at 3 per interval
+        assertTrue(elapsed >= 2 * INTERVAL - 50, "Should take at least " + (2 * INTERVAL) + " millis, was: " + elapsed);
+    }
+
+    @Test
+    public void testTokenBucketBurst() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(3);
+        resultEndpoint.setResultWaitTime(INTERVAL / 2);
+
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            template.sendBody("seda:a", "<message>" + i + "</message>");
+        }
+
+        // only the burst should get through within the first part of the interval
+        resultEndpoint.assertIsSatisfied();
+        resultEndpoint.expectedMessageCount(MESSAGE_COUNT);
+        resultEndpoint.setResultWaitTime(5000);
+        resultEndpoint.assertIsSatisfied();
+    }
+
+    @Test
+    public void testTokenBucketRejectExecution() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+        getMockEndpoint("mock:error").expectedMessageCount(4);
+
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("direct:reject", "<message>" + i + "</message>");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testTokenBucketCorrelation() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(6);
+        getMockEndpoint("mock:error").expectedMessageCount(2);
+
+        for (int i = 0; i < 4; i++) {
+            template.sendBodyAndHeader("direct:correlation", "<message>" + i + "</message>", "key", "a");
+            template.sendBodyAndHeader("direct:correlation", "<message>" + i + "</message>", "key", "b");
+        }
+
+        // each key has its own bucket with a burst of 3
+        assertMockEndpointsSatisfied();
+
+        Throttler throttler = context.getProcessor("correlation", Throttler.class);
+        assertTrue(throttler.isTokenBucket());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                onException(ThrottlerRejectedExecutionException.class).handled(true).to("mock:error");
+
+                from("seda:a").throttle(3).timePeriodMillis(INTERVAL).tokenBucket().to("log:result", "mock:result");
+
+                from("direct:reject").throttle(2).timePeriodMillis(10000).tokenBucket().rejectExecution(true).to("mock:result");
+
+                from("direct:correlation").throttle(constant(3), header("key")).timePeriodMillis(10000).tokenBucket()
+                        .rejectExecution(true).id("correlation").to("mock:result");
+            }
+        };
+    }
+}
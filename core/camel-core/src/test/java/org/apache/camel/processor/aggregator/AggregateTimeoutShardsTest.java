@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.aggregate.UseLatestAggregationStrategy;
+import org.junit.jupiter.api.Test;
+
+public class AggregateTimeoutShardsTest extends ContextTestSupport {
+
+    @Test
+    public void testAggregateTimeoutShards() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:aggregated");
+        result.expectedMessageCount(20);
+        result.expectedPropertyReceived(Exchange.AGGREGATED_COMPLETED_BY, "timeout");
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBodyAndHeader("direct:start", "A" + i, "id", i);
+            template.sendBodyAndHeader("direct:start", "B" + i, "id", i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").aggregate(header("id"), new UseLatestAggregationStrategy())
+                    .completionTimeout(100).completionTimeoutCheckerInterval(10).completionTimeoutShards(4)
+                    .to("mock:aggregated");
+            }
+        };
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.OffHeapAggregationRepository;
+import org.apache.camel.spi.OptimisticLockingAggregationRepository.OptimisticLockingException;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapAggregationRepositoryTest extends ContextTestSupport {
+
+    private OffHeapAggregationRepository repository = new OffHeapAggregationRepository();
+    private OffHeapAggregationRepository optimisticRepository = new OffHeapAggregationRepository(true);
+
+    @Test
+    public void testAddGetRemove() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", 123);
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, 1);
+
+        assertNull(repository.add(context, "A", exchange));
+        assertTrue(repository.getBytesHeld() > 0);
+        assertEquals(1, repository.getSize());
+        assertEquals(1, repository.getSerializationCounter());
+
+        Exchange answer = repository.get(context, "A");
+        assertNotNull(answer);
+        assertEquals(exchange.getExchangeId(), answer.getExchangeId());
+        assertEquals("Hello World", answer.getIn().getBody());
+        assertEquals(123, answer.getIn().getHeader("foo"));
+        assertEquals(1, answer.getProperty(Exchange.AGGREGATED_SIZE));
+        assertEquals(1, repository.getDeserializationCounter());
+
+        repository.setReturnOldExchange(true);
+        exchange.getIn().setBody("Bye World");
+        Exchange old = repository.add(context, "A", exchange);
+        assertEquals("Hello World", old.getIn().getBody());
+        assertEquals("Bye World", repository.get(context, "A").getIn().getBody());
+
+        repository.remove(context, "A", exchange);
+        assertNull(repository.get(context, "A"));
+        assertEquals(0, repository.getSize());
+        assertEquals(0, repository.getBytesHeld());
+    }
+
+    @Test
+    public void testOptimisticLocking() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+
+        optimisticRepository.add(context, "A", null, exchange);
+        assertThrows(OptimisticLockingException.class, () -> optimisticRepository.add(context, "A", null, exchange));
+
+        Exchange first = optimisticRepository.get(context, "A");
+        Exchange second = optimisticRepository.get(context, "A");
+
+        first.getIn().setBody("Bye World");
+        optimisticRepository.add(context, "A", first, first);
+
+        // the second exchange is stale
+        assertThrows(OptimisticLockingException.class, () -> optimisticRepository.add(context, "A", second, second));
+        assertThrows(OptimisticLockingException.class, () -> optimisticRepository.remove(context, "A", second));
+
+        Exchange current = optimisticRepository.get(context, "A");
+        assertEquals("Bye World", current.getIn().getBody());
+        optimisticRepository.remove(context, "A", current);
+        assertEquals(0, optimisticRepository.getSize());
+        assertEquals(0, optimisticRepository.getBytesHeld());
+    }
+
+    @Test
+    public void testMaxMemorySize() throws Exception {
+        OffHeapAggregationRepository bounded = new OffHeapAggregationRepository();
+        bounded.setPageSize(256);
+        bounded.setMaxMemorySize(4096);
+        bounded.start();
+        try {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("Hello World");
+
+            bounded.add(context, "A", exchange);
+            long held = bounded.getBytesHeld();
+            assertTrue(held > 0 && held % 256 == 0);
+            assertTrue(bounded.getBytesAllocated() <= 4096);
+
+            // replacing the exchange reuses the released pages
+            for (int i = 0; i < 100; i++) {
+                bounded.add(context, "A", exchange);
+            }
+            assertEquals(held, bounded.getBytesHeld());
+            assertTrue(bounded.getBytesAllocated() <= 4096);
+
+            exchange.getIn().setBody(new byte[8192]);
+            assertThrows(RuntimeCamelException.class, () -> bounded.add(context, "B", exchange));
+            assertEquals(held, bounded.getBytesHeld());
+            assertEquals("Hello World", bounded.get(context, "A").getIn().getBody());
+
+            bounded.remove(context, "A", exchange);
+            assertEquals(0, bounded.getBytesHeld());
+        } finally {
+            bounded.stop();
+        }
+    }
+
+    @Test
+    public void testAggregate() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("A+B+C", "D+E+F");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 1);
+        template.sendBodyAndHeader("direct:start", "B", "id", 1);
+        template.sendBodyAndHeader("direct:start", "D", "id", 2);
+        template.sendBodyAndHeader("direct:start", "C", "id", 1);
+        template.sendBodyAndHeader("direct:start", "E", "id", 2);
+        template.sendBodyAndHeader("direct:start", "F", "id", 2);
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, repository.getBytesHeld());
+    }
+
+    @Test
+    public void testAggregateOptimisticLockingConcurrent() throws Exception {
+        getMockEndpoint("mock:optimistic").expectedMessageCount(25);
+
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final int id = i % 25;
+            final int count = i;
+            tasks.add(() -> {
+                template.sendBodyAndHeader("direct:optimistic", "" + count, "id", id);
+                return null;
+            });
+        }
+        service.invokeAll(tasks);
+        service.shutdown();
+        service.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, optimisticRepository.getSize());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy()).aggregationRepository(repository)
+                    .completionSize(3).to("mock:result");
+
+                from("direct:optimistic").aggregate(header("id"), new BodyInAggregatingStrategy()).aggregationRepository(optimisticRepository)
+                    .optimisticLocking().completionSize(8).to("mock:optimistic");
+            }
+        };
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExchangePropertiesMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        Map<String, Object> map = new ExchangePropertiesMap();
+        assertTrue(map.isEmpty());
+
+        map.put(Exchange.SPLIT_INDEX, 1);
+        map.put("foo", "bar");
+        assertEquals(2, map.size());
+        assertEquals(1, map.get(Exchange.SPLIT_INDEX));
+        assertEquals("bar", map.get("foo"));
+        assertTrue(map.containsKey(Exchange.SPLIT_INDEX));
+        assertFalse(map.containsKey(Exchange.SPLIT_SIZE));
+
+        assertEquals(1, map.put(Exchange.SPLIT_INDEX, 2));
+        assertEquals(2, map.size());
+
+        assertEquals(2, map.remove(Exchange.SPLIT_INDEX));
+        assertNull(map.remove(Exchange.SPLIT_INDEX));
+        assertEquals(1, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testNull() {
+        Map<String, Object> map = new ExchangePropertiesMap();
+        assertThrows(NullPointerException.class, () -> map.put(Exchange.SPLIT_INDEX, null));
+        assertThrows(NullPointerException.class, () -> map.put("foo", null));
+        assertThrows(NullPointerException.class, () -> map.put(null, "bar"));
+    }
+
+    @Test
+    public void testIterateAndCopy() {
+        Map<String, Object> map = new ExchangePropertiesMap();
+        map.put(Exchange.TO_ENDPOINT, "mock://result");
+        map.put(Exchange.FAILURE_HANDLED, true);
+        map.put("foo", "bar");
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put(Exchange.TO_ENDPOINT, "mock://result");
+        expected.put(Exchange.FAILURE_HANDLED, true);
+        expected.put("foo", "bar");
+        assertEquals(expected, map);
+        assertEquals(expected, new HashMap<>(map));
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        Map<String, Object> copy = new ExchangePropertiesMap(map);
+        assertEquals(expected, copy);
+        copy.put("beer", "Carlsberg");
+        copy.put(Exchange.SPLIT_SIZE, 3);
+        assertEquals(3, map.size());
+        assertEquals(5, copy.size());
+
+        // remove while iterating
+        for (Iterator<Map.Entry<String, Object>> it = copy.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<String, Object> entry = it.next();
+            if (entry.getKey().equals(Exchange.TO_ENDPOINT) || entry.getKey().equals("beer")) {
+                it.remove();
+            } else if (entry.getKey().equals(Exchange.SPLIT_SIZE)) {
+                entry.setValue(4);
+            }
+        }
+        assertEquals(3, copy.size());
+        assertFalse(copy.containsKey(Exchange.TO_ENDPOINT));
+        assertFalse(copy.containsKey("beer"));
+        assertEquals(4, copy.get(Exchange.SPLIT_SIZE));
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        Map<String, Object> map = new ExchangePropertiesMap();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 4; i++) {
+                final int thread = i;
+                executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        map.put(Exchange.SPLIT_INDEX, j);
+                        map.put("foo" + thread, j);
+                        map.remove(Exchange.SPLIT_INDEX);
+                        map.put(Exchange.SPLIT_SIZE, j);
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(20, TimeUnit.SECONDS));
+
+        // the well known properties must be counted exactly once
+        assertEquals(5, map.size());
+        assertFalse(map.containsKey(Exchange.SPLIT_INDEX));
+        assertEquals(999, map.get(Exchange.SPLIT_SIZE));
+        assertEquals(map.size(), new HashMap<>(map).size());
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.TimeoutMap;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TimingWheelTimeoutMapTest {
+
+    private ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+    private long now;
+
+    private TimingWheelTimeoutMap<String, Integer> createMap(long tickMillis, int shards, List<String> evicted) {
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<String, Integer>(executor, tickMillis, shards) {
+            @Override
+            protected long currentTime() {
+                return now;
+            }
+        };
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                evicted.add(key);
+            }
+        });
+        return map;
+    }
+
+    @Test
+    public void testPurge() throws Exception {
+        List<String> evicted = new ArrayList<>();
+        TimingWheelTimeoutMap<String, Integer> map = createMap(10, 1, evicted);
+
+        map.put("A", 1, 50);
+        map.put("B", 2, 30);
+        map.put("C", 3, 40);
+        assertEquals(3, map.size());
+
+        now = 20;
+        map.purge();
+        assertEquals(0, evicted.size());
+
+        now = 40;
+        map.purge();
+        assertEquals("[B, C]", evicted.toString());
+        assertEquals(1, map.size());
+
+        now = 50;
+        map.purge();
+        assertEquals("[B, C, A]", evicted.toString());
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testCascade() throws Exception {
+        List<String> evicted = new ArrayList<>();
+        TimingWheelTimeoutMap<String, Integer> map = createMap(1, 1, evicted);
+
+        // the timeouts end up in the different levels of the timing wheel
+        map.put("A", 1, 70);
+        map.put("B", 2, 5000);
+        map.put("C", 3, 300000);
+        // beyond the top level which must be cascaded several times
+        map.put("D", 4, 20000000);
+
+        now = 69;
+        map.purge();
+        assertEquals(0, evicted.size());
+        now = 70;
+        map.purge();
+        assertEquals("[A]", evicted.toString());
+
+        now = 4999;
+        map.purge();
+        assertEquals(1, evicted.size());
+        now = 5000;
+        map.purge();
+        assertEquals("[A, B]", evicted.toString());
+
+        now = 299999;
+        map.purge();
+        assertEquals(2, evicted.size());
+        now = 300000;
+        map.purge();
+        assertEquals("[A, B, C]", evicted.toString());
+
+        now = 19999999;
+        map.purge();
+        assertEquals(3, evicted.size());
+        now = 20000000;
+        map.purge();
+        assertEquals("[A, B, C, D]", evicted.toString());
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testGetRemove() throws Exception {
+        List<String> evicted = new ArrayList<>();
+        TimingWheelTimeoutMap<String, Integer> map = createMap(10, 1, evicted);
+
+        map.put("A", 1, 50);
+        map.put("B", 2, 50);
+        assertEquals(2, map.size());
+
+        assertEquals(2, map.remove("B").intValue());
+        assertNull(map.remove("B"));
+        assertEquals(1, map.size());
+
+        // accessing the entry renews the timeout
+        now = 40;
+        assertEquals(1, map.get("A").intValue());
+        now = 60;
+        map.purge();
+        assertEquals(0, evicted.size());
+
+        now = 90;
+        map.purge();
+        assertEquals("[A]", evicted.toString());
+        assertNull(map.get("A"));
+
+        assertNull(map.putIfAbsent("C", 3, 50));
+        assertEquals(3, map.putIfAbsent("C", 4, 50).intValue());
+        assertEquals(3, map.put("C", 5, 50).intValue());
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testShards() throws Exception {
+        List<String> evicted = new ArrayList<>();
+        TimingWheelTimeoutMap<String, Integer> map = createMap(10, 4, evicted);
+        assertEquals(4, map.getShards());
+
+        for (int i = 0; i < 1000; i++) {
+            map.put("K" + i, i, 10 + i * 10);
+        }
+        assertEquals(1000, map.size());
+
+        now = 5000;
+        map.purge();
+        assertEquals(500, evicted.size());
+        assertEquals(500, map.size());
+
+        now = 10000;
+        map.purge();
+        assertEquals(1000, evicted.size());
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testExecutor() throws Exception {
+        ScheduledExecutorService e = Executors.newScheduledThreadPool(2);
+
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(e, 50, 2);
+        map.start();
+        assertEquals(50, map.getTickMillis());
+
+        map.put("A", 123, 100);
+        map.put("B", 456, 100);
+        assertEquals(2, map.size());
+
+        // should be timed out by the tick tasks
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, map.size()));
+
+        map.stop();
+        e.shutdownNow();
+    }
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.TestSupport.createDirectory;
+import static org.apache.camel.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AppendOnlyFileIdempotentRepositoryTest {
+
+    private File fileStore = new File("target/data/appendonlystore/data.dat");
+    private AppendOnlyFileIdempotentRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        deleteDirectory("target/data/appendonlystore");
+        createDirectory("target/data/appendonlystore");
+        repository = new AppendOnlyFileIdempotentRepository(fileStore);
+        repository.setInitialCapacity(16);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.stop();
+    }
+
+    @Test
+    public void testAddContainsRemove() throws Exception {
+        repository.start();
+
+        assertTrue(repository.add("A"));
+        assertTrue(repository.add("B"));
+        assertFalse(repository.add("A"));
+        assertTrue(repository.contains("A"));
+        assertFalse(repository.contains("C"));
+        assertEquals(2, repository.getSize());
+
+        assertTrue(repository.remove("A"));
+        assertFalse(repository.remove("A"));
+        assertFalse(repository.contains("A"));
+        assertTrue(repository.add("A"));
+        assertEquals(2, repository.getSize());
+        assertTrue(repository.getDeadBytes() > 0);
+
+        repository.clear();
+        assertEquals(0, repository.getSize());
+        assertEquals(0, repository.getLogSize());
+        assertFalse(repository.contains("B"));
+    }
+
+    @Test
+    public void testGrowAndReload() throws Exception {
+        repository.start();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repository.add("key" + i));
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertTrue(repository.remove("key" + i));
+        }
+        assertEquals(500, repository.getSize());
+        assertTrue(repository.getIndexCapacity() >= 1024);
+        repository.stop();
+
+        // reuse the index
+        repository.start();
+        assertEquals(500, repository.getSize());
+        assertFalse(repository.contains("key0"));
+        assertTrue(repository.contains("key1"));
+        assertFalse(repository.contains("key998"));
+        assertTrue(repository.contains("key999"));
+        repository.stop();
+
+        // rebuild the index from the log
+        assertTrue(new File(fileStore.getPath() + ".idx").delete());
+        repository.start();
+        assertEquals(500, repository.getSize());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, repository.contains("key" + i));
+        }
+    }
+
+    @Test
+    public void testIndexFull() throws Exception {
+        repository.setMaxIndexCapacity(16);
+        repository.start();
+        // three quarters of the slots can be used
+        for (int i = 0; i < 12; i++) {
+            assertTrue(repository.add("key" + i));
+        }
+        long size = repository.getLogSize();
+        assertThrows(IllegalStateException.class, () -> repository.add("key12"));
+        // the key is not appended to the log
+        assertEquals(size, repository.getLogSize());
+        assertEquals(12, repository.getSize());
+        assertFalse(repository.contains("key12"));
+
+        // the slot of a removed key can be used again
+        assertTrue(repository.remove("key0"));
+        assertTrue(repository.add("key12"));
+        assertEquals(16, repository.getIndexCapacity());
+        repository.stop();
+
+        // rebuild the index from the log
+        assertTrue(new File(fileStore.getPath() + ".idx").delete());
+        repository.start();
+        assertEquals(12, repository.getSize());
+        assertFalse(repository.contains("key0"));
+        assertTrue(repository.contains("key12"));
+    }
+
+    @Test
+    public void testCompact() throws Exception {
+        repository.start();
+        for (int i = 0; i < 100; i++) {
+            repository.add("key" + i);
+        }
+        long size = repository.getLogSize();
+        for (int i = 0; i < 100; i += 2) {
+            repository.remove("key" + i);
+        }
+        assertTrue(repository.getLogSize() > size);
+
+        repository.compact();
+        assertEquals(0, repository.getDeadBytes());
+        assertTrue(repository.getLogSize() < size);
+        assertEquals(repository.getLogSize(), fileStore.length());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, repository.contains("key" + i));
+        }
+        assertTrue(repository.add("key0"));
+        repository.stop();
+
+        // rebuild the index from the compacted log
+        assertTrue(new File(fileStore.getPath() + ".idx").delete());
+        repository.start();
+        assertEquals(51, repository.getSize());
+        assertTrue(repository.contains("key0"));
+        assertTrue(repository.contains("key1"));
+        assertFalse(repository.contains("key2"));
+    }
+
+    @Test
+    public void testCompactWhileAdding() throws Exception {
+        repository.start();
+        for (int i = 0; i < 10000; i++) {
+            repository.add("key" + i);
+        }
+        for (int i = 0; i < 10000; i += 2) {
+            repository.remove("key" + i);
+        }
+
+        // the keys are added and removed while the log is compacted
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < 2000; i++) {
+                repository.add("new" + i);
+                repository.remove("key" + (i * 2 + 1));
+            }
+        });
+        thread.start();
+        repository.compact();
+        thread.join();
+
+        assertEquals(repository.getLogSize(), fileStore.length());
+        assertEquals(5000, repository.getSize());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i % 2 == 1 && i >= 4000, repository.contains("key" + i));
+        }
+        for (int i = 0; i < 2000; i++) {
+            assertTrue(repository.contains("new" + i));
+        }
+        repository.compact();
+        assertEquals(0, repository.getDeadBytes());
+        repository.stop();
+
+        // rebuild the index from the compacted log
+        assertTrue(new File(fileStore.getPath() + ".idx").delete());
+        repository.start();
+        assertEquals(5000, repository.getSize());
+        assertEquals(0, repository.getDeadBytes());
+        assertTrue(repository.contains("key9999"));
+        assertFalse(repository.contains("key3999"));
+        assertTrue(repository.contains("new1999"));
+    }
+
+    @Test
+    public void testTruncatedLog() throws Exception {
+        repository.start();
+        repository.add("A");
+        repository.add("B");
+        repository.stop();
+
+        // simulate a partial write of the last record
+        try (RandomAccessFile raf = new RandomAccessFile(fileStore, "rw")) {
+            raf.setLength(raf.length() - 1);
+        }
+        assertTrue(new File(fileStore.getPath() + ".idx").delete());
+
+        repository.start();
+        assertEquals(1, repository.getSize());
+        assertTrue(repository.contains("A"));
+        assertFalse(repository.contains("B"));
+        assertTrue(repository.add("B"));
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterIdempotentRepositoryTest {
+
+    private final long[] time = new long[1];
+    private BloomFilterIdempotentRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        repository = new BloomFilterIdempotentRepository(1000, 0.01) {
+            @Override
+            protected long currentTime() {
+                return time[0];
+            }
+        };
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.stop();
+    }
+
+    @Test
+    public void testAddConfirmRemove() throws Exception {
+        repository.start();
+
+        assertTrue(repository.add("A"));
+        assertFalse(repository.add("A"));
+        assertTrue(repository.contains("A"));
+        assertEquals(1, repository.getPendingSize());
+
+        // pending keys can be removed
+        assertTrue(repository.remove("A"));
+        assertFalse(repository.contains("A"));
+        assertTrue(repository.add("A"));
+
+        // confirmed keys are moved to the filter
+        assertTrue(repository.confirm("A"));
+        assertEquals(0, repository.getPendingSize());
+        assertEquals(1, repository.getSize());
+        assertTrue(repository.contains("A"));
+        assertFalse(repository.add("A"));
+        assertFalse(repository.remove("A"));
+
+        repository.clear();
+        assertFalse(repository.contains("A"));
+        assertEquals(0, repository.getSize());
+    }
+
+    @Test
+    public void testPendingBounded() throws Exception {
+        repository.setMaxPending(100);
+        repository.start();
+
+        // the keys are never confirmed (and some new keys are false positives)
+        int added = 0;
+        for (int i = 0; i < 5000; i++) {
+            if (repository.add("key" + i)) {
+                added++;
+            }
+            assertTrue(repository.getPendingSize() <= 100);
+        }
+        assertEquals(100, repository.getPendingSize());
+        assertEquals(added - 100, repository.getSize());
+        for (int i = 0; i < 5000; i++) {
+            assertFalse(repository.add("key" + i));
+        }
+
+        // the pending keys are moved to the filters after the confirm window
+        time[0] = repository.getConfirmWindow();
+        assertTrue(repository.add("other"));
+        assertEquals(1, repository.getPendingSize());
+        assertEquals(added, repository.getSize());
+        assertTrue(repository.contains("key4999"));
+    }
+
+    @Test
+    public void testNoConfirmWindow() throws Exception {
+        repository.setConfirmWindow(0);
+        repository.start();
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(repository.add("key" + i));
+        }
+        assertEquals(0, repository.getPendingSize());
+        assertEquals(100, repository.getSize());
+        assertTrue(repository.contains("key0"));
+        assertFalse(repository.remove("key0"));
+    }
+
+    @Test
+    public void testFalsePositiveProbability() throws Exception {
+        repository.start();
+
+        // add more than expected so the filters scale up
+        for (int i = 0; i < 5000; i++) {
+            repository.add("key" + i);
+            repository.confirm("key" + i);
+        }
+        assertTrue(repository.getFilterCount() > 1);
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(repository.contains("key" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (repository.contains("other" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 100, "Too many false positives: " + falsePositives);
+        assertTrue(repository.getExpectedFalsePositiveProbability() < 0.01);
+        assertTrue(repository.getFillRatio() > 0 && repository.getFillRatio() < 1);
+    }
+
+    @Test
+    public void testExpiry() throws Exception {
+        repository.setExpiryWindow(1000);
+        repository.setGenerations(2);
+        repository.start();
+
+        repository.add("A");
+        repository.confirm("A");
+
+        time[0] = 600;
+        assertTrue(repository.contains("A"));
+        repository.add("B");
+        repository.confirm("B");
+
+        // the generation of A is dropped
+        time[0] = 1100;
+        assertFalse(repository.contains("A"));
+        assertTrue(repository.contains("B"));
+
+        // no activity for longer than the window
+        time[0] = 5000;
+        assertFalse(repository.contains("B"));
+        assertEquals(0, repository.getSize());
+    }
+
+    @Test
+    public void testSingleGeneration() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> repository.setGenerations(0));
+
+        repository.setExpiryWindow(1000);
+        repository.setGenerations(1);
+        repository.start();
+
+        repository.add("A");
+        repository.confirm("A");
+        assertTrue(repository.contains("A"));
+
+        // the only generation is dropped at the end of the window
+        time[0] = 1000;
+        assertFalse(repository.contains("A"));
+        assertTrue(repository.add("A"));
+    }
+
+    @Test
+    public void testUnconfirmedMovedOnRotation() throws Exception {
+        repository.setExpiryWindow(1000);
+        repository.start();
+
+        repository.add("A");
+        time[0] = 500;
+        assertTrue(repository.contains("A"));
+        assertEquals(0, repository.getPendingSize());
+        assertEquals(1, repository.getSize());
+    }
+
+}
@@ -1904,6 +1904,42 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("extendedAttributes", extendedAttributes);
             return this;
         }
+        /**
+         * Interval in millis between full scans of the directories when
+         * useWatchService is enabled. The full scans pick up the files which
+         * were not consumed when they changed, such as files which could not
+         * acquire the read lock or had no done file yet. Use 0 or a negative
+         * value to only scan in full when the watch service may have missed
+         * changes.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder fullScanInterval(
+                long fullScanInterval) {
+            doSetProperty("fullScanInterval", fullScanInterval);
+            return this;
+        }
+        /**
+         * Interval in millis between full scans of the directories when
+         * useWatchService is enabled. The full scans pick up the files which
+         * were not consumed when they changed, such as files which could not
+         * acquire the read lock or had no done file yet. Use 0 or a negative
+         * value to only scan in full when the watch service may have missed
+         * changes.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder fullScanInterval(
+                String fullScanInterval) {
+            doSetProperty("fullScanInterval", fullScanInterval);
+            return this;
+        }
         /**
          * A pluggable in-progress repository
          * org.apache.camel.spi.IdempotentRepository. The in-progress repository
@@ -2149,6 +2185,44 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether to use a java.nio.file.WatchService to be notified of the
+         * files which are created or modified in the directories, so the
+         * consumer only looks at those files when polling, instead of listing
+         * the directories on every poll. The directories are still scanned in
+         * full on the first poll, every fullScanInterval millis, and when the
+         * watch service may have missed changes. This is useful for directories
+         * with many files.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder useWatchService(
+                boolean useWatchService) {
+            doSetProperty("useWatchService", useWatchService);
+            return this;
+        }
+        /**
+         * Whether to use a java.nio.file.WatchService to be notified of the
+         * files which are created or modified in the directories, so the
+         * consumer only looks at those files when polling, instead of listing
+         * the directories on every poll. The directories are still scanned in
+         * full on the first poll, every fullScanInterval millis, and when the
+         * watch service may have missed changes. This is useful for directories
+         * with many files.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder useWatchService(
+                String useWatchService) {
+            doSetProperty("useWatchService", useWatchService);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
@@ -330,6 +330,112 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * The body of a batch exchange when batching is enabled. With records
+         * the body is the list of ConsumerRecord, and with values it is the
+         * list of the record values.
+         * 
+         * The option is a: <code>java.lang.String</code> type.
+         * 
+         * Default: records
+         * Group: consumer
+         */
+        default KafkaEndpointConsumerBuilder batchBody(String batchBody) {
+            doSetProperty("batchBody", batchBody);
+            return this;
+        }
+        /**
+         * Whether to consume the records in batches, with one exchange for the
+         * records of one or more polls instead of one exchange per record. The
+         * offsets of the records are committed once the exchange has been
+         * processed. This mode cannot be combined with allowManualCommit or
+         * parallelLanes.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer
+         */
+        default KafkaEndpointConsumerBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * Whether to consume the records in batches, with one exchange for the
+         * records of one or more polls instead of one exchange per record. The
+         * offsets of the records are committed once the exchange has been
+         * processed. This mode cannot be combined with allowManualCommit or
+         * parallelLanes.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer
+         */
+        default KafkaEndpointConsumerBuilder batching(String batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * The maximum number of records in a batch exchange when batching is
+         * enabled.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 500
+         * Group: consumer
+         */
+        default KafkaEndpointConsumerBuilder batchMaxRecords(
+                int batchMaxRecords) {
+            doSetProperty("batchMaxRecords", batchMaxRecords);
+            return this;
+        }
+        /**
+         * The maximum number of records in a batch exchange when batching is
+         * enabled.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 500
+         * Group: consumer
+         */
+        default KafkaEndpointConsumerBuilder batchMaxRecords(
+                String batchMaxRecords) {
+            doSetProperty("batchMaxRecords", batchMaxRecords);
+            return this;
+        }
+        /**
+         * The maximum time to wait for more records to fill up a batch when
+         * batching is enabled. Once this time has elapsed since the first
+         * record of the batch was received, the batch is processed with the
+         * records received so far.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         */
+        default KafkaEndpointConsumerBuilder batchTimeoutMs(
+                long batchTimeoutMs) {
+            doSetProperty("batchTimeoutMs", batchTimeoutMs);
+            return this;
+        }
+        /**
+         * The maximum time to wait for more records to fill up a batch when
+         * batching is enabled. Once this time has elapsed since the first
+         * record of the batch was received, the batch is processed with the
+         * records received so far.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         */
+        default KafkaEndpointConsumerBuilder batchTimeoutMs(
+                String batchTimeoutMs) {
+            doSetProperty("batchTimeoutMs", batchTimeoutMs);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -1441,6 +1547,93 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("exchangePattern", exchangePattern);
             return this;
         }
+        /**
+         * How records are assigned to the parallel lanes. With partition all
+         * the records of a partition go to the same lane and are processed in
+         * order. With key the records are assigned by their key, so only
+         * records with the same key are processed in order. Records without a
+         * key are assigned by partition.
+         * 
+         * The option is a: <code>java.lang.String</code> type.
+         * 
+         * Default: partition
+         * Group: consumer (advanced)
+         */
+        default AdvancedKafkaEndpointConsumerBuilder parallelLaneOrdering(
+                String parallelLaneOrdering) {
+            doSetProperty("parallelLaneOrdering", parallelLaneOrdering);
+            return this;
+        }
+        /**
+         * The number of ordered lanes each consumer dispatches the polled
+         * records to. Each lane is processed by its own thread, so records from
+         * different lanes are routed concurrently while the records within a
+         * lane keep their order. The consumer commits the highest offset of
+         * each partition up to which all records have been processed. This mode
+         * cannot be combined with allowManualCommit or breakOnFirstError. Zero
+         * (the default) processes the records one by one on the polling thread.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 0
+         * Group: consumer (advanced)
+         */
+        default AdvancedKafkaEndpointConsumerBuilder parallelLanes(
+                int parallelLanes) {
+            doSetProperty("parallelLanes", parallelLanes);
+            return this;
+        }
+        /**
+         * The number of ordered lanes each consumer dispatches the polled
+         * records to. Each lane is processed by its own thread, so records from
+         * different lanes are routed concurrently while the records within a
+         * lane keep their order. The consumer commits the highest offset of
+         * each partition up to which all records have been processed. This mode
+         * cannot be combined with allowManualCommit or breakOnFirstError. Zero
+         * (the default) processes the records one by one on the polling thread.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 0
+         * Group: consumer (advanced)
+         */
+        default AdvancedKafkaEndpointConsumerBuilder parallelLanes(
+                String parallelLanes) {
+            doSetProperty("parallelLanes", parallelLanes);
+            return this;
+        }
+        /**
+         * The maximum number of records of a partition that can be waiting in
+         * or being processed by the parallel lanes. When the limit is reached
+         * the consumer pauses fetching from the partition until the lanes have
+         * caught up.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1000
+         * Group: consumer (advanced)
+         */
+        default AdvancedKafkaEndpointConsumerBuilder parallelMaxInFlight(
+                int parallelMaxInFlight) {
+            doSetProperty("parallelMaxInFlight", parallelMaxInFlight);
+            return this;
+        }
+        /**
+         * The maximum number of records of a partition that can be waiting in
+         * or being processed by the parallel lanes. When the limit is reached
+         * the consumer pauses fetching from the partition until the lanes have
+         * caught up.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1000
+         * Group: consumer (advanced)
+         */
+        default AdvancedKafkaEndpointConsumerBuilder parallelMaxInFlight(
+                String parallelMaxInFlight) {
+            doSetProperty("parallelMaxInFlight", parallelMaxInFlight);
+            return this;
+        }
         /**
          * Whether the endpoint should use basic property binding (Camel 2.x) or
          * the newer property binding with additional capabilities.
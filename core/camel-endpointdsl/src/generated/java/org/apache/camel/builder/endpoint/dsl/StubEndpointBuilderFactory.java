@@ -269,6 +269,40 @@ public interface StubEndpointBuilderFactory {
             doSetProperty("multipleConsumers", multipleConsumers);
             return this;
         }
+        /**
+         * The maximum number of messages a consumer thread takes from the queue
+         * each time it is woken up, which are then processed one by one by the
+         * same thread. Taking several messages at once lowers the cost of each
+         * hand-off from the producers when the queue is busy, at the expense of
+         * the other consumer threads which cannot take the messages meanwhile.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         */
+        default AdvancedStubEndpointConsumerBuilder pollBatchSize(
+                int pollBatchSize) {
+            doSetProperty("pollBatchSize", pollBatchSize);
+            return this;
+        }
+        /**
+         * The maximum number of messages a consumer thread takes from the queue
+         * each time it is woken up, which are then processed one by one by the
+         * same thread. Taking several messages at once lowers the cost of each
+         * hand-off from the producers when the queue is busy, at the expense of
+         * the other consumer threads which cannot take the messages meanwhile.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         */
+        default AdvancedStubEndpointConsumerBuilder pollBatchSize(
+                String pollBatchSize) {
+            doSetProperty("pollBatchSize", pollBatchSize);
+            return this;
+        }
         /**
          * The timeout used when polling. When a timeout occurs, the consumer
          * can check whether it is allowed to continue running. Setting a lower
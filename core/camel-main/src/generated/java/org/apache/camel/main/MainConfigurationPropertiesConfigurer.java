@@ -69,8 +69,18 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "EndpointLazyStartProducer": target.setEndpointLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "endpointruntimestatisticsenabled":
         case "EndpointRuntimeStatisticsEnabled": target.setEndpointRuntimeStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
+        case "exchangefactory":
+        case "ExchangeFactory": target.setExchangeFactory(property(camelContext, java.lang.String.class, value)); return true;
+        case "exchangefactorycapacity":
+        case "ExchangeFactoryCapacity": target.setExchangeFactoryCapacity(property(camelContext, int.class, value)); return true;
+        case "exchangefactorystatisticsenabled":
+        case "ExchangeFactoryStatisticsEnabled": target.setExchangeFactoryStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
+        case "faststartup":
+        case "FastStartup": target.setFastStartup(property(camelContext, boolean.class, value)); return true;
         case "fileconfigurations":
         case "FileConfigurations": target.setFileConfigurations(property(camelContext, java.lang.String.class, value)); return true;
+        case "headersmapfactory":
+        case "HeadersMapFactory": target.setHeadersMapFactory(property(camelContext, java.lang.String.class, value)); return true;
         case "inflightrepositorybrowseenabled":
         case "InflightRepositoryBrowseEnabled": target.setInflightRepositoryBrowseEnabled(property(camelContext, boolean.class, value)); return true;
         case "javaroutesexcludepattern":
@@ -83,6 +93,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JmxManagementNamePattern": target.setJmxManagementNamePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "jmxmanagementstatisticslevel":
         case "JmxManagementStatisticsLevel": target.setJmxManagementStatisticsLevel(property(camelContext, org.apache.camel.ManagementStatisticsLevel.class, value)); return true;
+        case "lazystartrouteconsumers":
+        case "LazyStartRouteConsumers": target.setLazyStartRouteConsumers(property(camelContext, boolean.class, value)); return true;
         case "lightweight":
         case "Lightweight": target.setLightweight(property(camelContext, boolean.class, value)); return true;
         case "loadtypeconverters":
@@ -103,6 +115,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "PackageScanRouteBuilders": target.setPackageScanRouteBuilders(property(camelContext, java.lang.String.class, value)); return true;
         case "producertemplatecachesize":
         case "ProducerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
+        case "reactiveexecutor":
+        case "ReactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutorpoolsize":
+        case "ReactiveExecutorPoolSize": target.setReactiveExecutorPoolSize(property(camelContext, int.class, value)); return true;
+        case "reactiveexecutorqueuesize":
+        case "ReactiveExecutorQueueSize": target.setReactiveExecutorQueueSize(property(camelContext, int.class, value)); return true;
         case "routecontrollerbackoffdelay":
         case "RouteControllerBackOffDelay": target.setRouteControllerBackOffDelay(property(camelContext, long.class, value)); return true;
         case "routecontrollerbackoffmaxattempts":
@@ -131,6 +149,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
         case "RouteFilterIncludePattern": target.setRouteFilterIncludePattern(property(camelContext, java.lang.String.class, value)); return true;
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": target.setRouteStartupParallelism(property(camelContext, int.class, value)); return true;
         case "routesbuilderclasses":
         case "RoutesBuilderClasses": target.setRoutesBuilderClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "routesbuilders":
@@ -147,6 +167,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ShutdownSuppressLoggingOnTimeout": target.setShutdownSuppressLoggingOnTimeout(property(camelContext, boolean.class, value)); return true;
         case "shutdowntimeout":
         case "ShutdownTimeout": target.setShutdownTimeout(property(camelContext, int.class, value)); return true;
+        case "startuprecorder":
+        case "StartupRecorder": target.setStartupRecorder(property(camelContext, java.lang.String.class, value)); return true;
+        case "startuprecordermaxdepth":
+        case "StartupRecorderMaxDepth": target.setStartupRecorderMaxDepth(property(camelContext, int.class, value)); return true;
+        case "startuprecorderrecordingdir":
+        case "StartupRecorderRecordingDir": target.setStartupRecorderRecordingDir(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachinganyspoolrules":
         case "StreamCachingAnySpoolRules": target.setStreamCachingAnySpoolRules(property(camelContext, boolean.class, value)); return true;
         case "streamcachingbuffersize":
@@ -159,6 +185,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolCipher": target.setStreamCachingSpoolCipher(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "streamcachingspoolmemorymapped":
+        case "StreamCachingSpoolMemoryMapped": target.setStreamCachingSpoolMemoryMapped(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspooloffheapbudget":
+        case "StreamCachingSpoolOffHeapBudget": target.setStreamCachingSpoolOffHeapBudget(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": target.setStreamCachingSpoolThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolusedheapmemorylimit":
@@ -217,13 +247,19 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         answer.put("EndpointBridgeErrorHandler", boolean.class);
         answer.put("EndpointLazyStartProducer", boolean.class);
         answer.put("EndpointRuntimeStatisticsEnabled", boolean.class);
+        answer.put("ExchangeFactory", java.lang.String.class);
+        answer.put("ExchangeFactoryCapacity", int.class);
+        answer.put("ExchangeFactoryStatisticsEnabled", boolean.class);
+        answer.put("FastStartup", boolean.class);
         answer.put("FileConfigurations", java.lang.String.class);
+        answer.put("HeadersMapFactory", java.lang.String.class);
         answer.put("InflightRepositoryBrowseEnabled", boolean.class);
         answer.put("JavaRoutesExcludePattern", java.lang.String.class);
         answer.put("JavaRoutesIncludePattern", java.lang.String.class);
         answer.put("JmxEnabled", boolean.class);
         answer.put("JmxManagementNamePattern", java.lang.String.class);
         answer.put("JmxManagementStatisticsLevel", org.apache.camel.ManagementStatisticsLevel.class);
+        answer.put("LazyStartRouteConsumers", boolean.class);
         answer.put("Lightweight", boolean.class);
         answer.put("LoadTypeConverters", boolean.class);
         answer.put("LogDebugMaxChars", int.class);
@@ -234,6 +270,9 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         answer.put("Name", java.lang.String.class);
         answer.put("PackageScanRouteBuilders", java.lang.String.class);
         answer.put("ProducerTemplateCacheSize", int.class);
+        answer.put("ReactiveExecutor", java.lang.String.class);
+        answer.put("ReactiveExecutorPoolSize", int.class);
+        answer.put("ReactiveExecutorQueueSize", int.class);
         answer.put("RouteControllerBackOffDelay", long.class);
         answer.put("RouteControllerBackOffMaxAttempts", long.class);
         answer.put("RouteControllerBackOffMaxDelay", long.class);
@@ -248,6 +287,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         answer.put("RouteControllerUnhealthyOnExhausted", boolean.class);
         answer.put("RouteFilterExcludePattern", java.lang.String.class);
         answer.put("RouteFilterIncludePattern", java.lang.String.class);
+        answer.put("RouteStartupParallelism", int.class);
         answer.put("RoutesBuilderClasses", java.lang.String.class);
         answer.put("RoutesBuilders", java.util.List.class);
         answer.put("RoutesCollectorEnabled", boolean.class);
@@ -256,12 +296,17 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         answer.put("ShutdownRoutesInReverseOrder", boolean.class);
         answer.put("ShutdownSuppressLoggingOnTimeout", boolean.class);
         answer.put("ShutdownTimeout", int.class);
+        answer.put("StartupRecorder", java.lang.String.class);
+        answer.put("StartupRecorderMaxDepth", int.class);
+        answer.put("StartupRecorderRecordingDir", java.lang.String.class);
         answer.put("StreamCachingAnySpoolRules", boolean.class);
         answer.put("StreamCachingBufferSize", int.class);
         answer.put("StreamCachingEnabled", boolean.class);
         answer.put("StreamCachingRemoveSpoolDirectoryWhenStopping", boolean.class);
         answer.put("StreamCachingSpoolCipher", java.lang.String.class);
         answer.put("StreamCachingSpoolDirectory", java.lang.String.class);
+        answer.put("StreamCachingSpoolMemoryMapped", boolean.class);
+        answer.put("StreamCachingSpoolOffHeapBudget", long.class);
         answer.put("StreamCachingSpoolThreshold", long.class);
         answer.put("StreamCachingSpoolUsedHeapMemoryLimit", java.lang.String.class);
         answer.put("StreamCachingSpoolUsedHeapMemoryThreshold", int.class);
@@ -332,8 +377,18 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "EndpointLazyStartProducer": return target.isEndpointLazyStartProducer();
         case "endpointruntimestatisticsenabled":
         case "EndpointRuntimeStatisticsEnabled": return target.isEndpointRuntimeStatisticsEnabled();
+        case "exchangefactory":
+        case "ExchangeFactory": return target.getExchangeFactory();
+        case "exchangefactorycapacity":
+        case "ExchangeFactoryCapacity": return target.getExchangeFactoryCapacity();
+        case "exchangefactorystatisticsenabled":
+        case "ExchangeFactoryStatisticsEnabled": return target.isExchangeFactoryStatisticsEnabled();
+        case "faststartup":
+        case "FastStartup": return target.isFastStartup();
         case "fileconfigurations":
         case "FileConfigurations": return target.getFileConfigurations();
+        case "headersmapfactory":
+        case "HeadersMapFactory": return target.getHeadersMapFactory();
         case "inflightrepositorybrowseenabled":
         case "InflightRepositoryBrowseEnabled": return target.isInflightRepositoryBrowseEnabled();
         case "javaroutesexcludepattern":
@@ -346,6 +401,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JmxManagementNamePattern": return target.getJmxManagementNamePattern();
         case "jmxmanagementstatisticslevel":
         case "JmxManagementStatisticsLevel": return target.getJmxManagementStatisticsLevel();
+        case "lazystartrouteconsumers":
+        case "LazyStartRouteConsumers": return target.isLazyStartRouteConsumers();
         case "lightweight":
         case "Lightweight": return target.isLightweight();
         case "loadtypeconverters":
@@ -366,6 +423,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "PackageScanRouteBuilders": return target.getPackageScanRouteBuilders();
         case "producertemplatecachesize":
         case "ProducerTemplateCacheSize": return target.getProducerTemplateCacheSize();
+        case "reactiveexecutor":
+        case "ReactiveExecutor": return target.getReactiveExecutor();
+        case "reactiveexecutorpoolsize":
+        case "ReactiveExecutorPoolSize": return target.getReactiveExecutorPoolSize();
+        case "reactiveexecutorqueuesize":
+        case "ReactiveExecutorQueueSize": return target.getReactiveExecutorQueueSize();
         case "routecontrollerbackoffdelay":
         case "RouteControllerBackOffDelay": return target.getRouteControllerBackOffDelay();
         case "routecontrollerbackoffmaxattempts":
@@ -394,6 +457,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
         case "RouteFilterIncludePattern": return target.getRouteFilterIncludePattern();
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": return target.getRouteStartupParallelism();
         case "routesbuilderclasses":
         case "RoutesBuilderClasses": return target.getRoutesBuilderClasses();
         case "routesbuilders":
@@ -410,6 +475,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ShutdownSuppressLoggingOnTimeout": return target.isShutdownSuppressLoggingOnTimeout();
         case "shutdowntimeout":
         case "ShutdownTimeout": return target.getShutdownTimeout();
+        case "startuprecorder":
+        case "StartupRecorder": return target.getStartupRecorder();
+        case "startuprecordermaxdepth":
+        case "StartupRecorderMaxDepth": return target.getStartupRecorderMaxDepth();
+        case "startuprecorderrecordingdir":
+        case "StartupRecorderRecordingDir": return target.getStartupRecorderRecordingDir();
         case "streamcachinganyspoolrules":
         case "StreamCachingAnySpoolRules": return target.isStreamCachingAnySpoolRules();
         case "streamcachingbuffersize":
@@ -422,6 +493,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolCipher": return target.getStreamCachingSpoolCipher();
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
+        case "streamcachingspoolmemorymapped":
+        case "StreamCachingSpoolMemoryMapped": return target.isStreamCachingSpoolMemoryMapped();
+        case "streamcachingspooloffheapbudget":
+        case "StreamCachingSpoolOffHeapBudget": return target.getStreamCachingSpoolOffHeapBudget();
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": return target.getStreamCachingSpoolThreshold();
         case "streamcachingspoolusedheapmemorylimit":
@@ -16,14 +16,20 @@
  */
 package org.apache.camel.main;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -38,6 +44,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Component;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.NoSuchLanguageException;
@@ -45,11 +52,15 @@ import org.apache.camel.ProducerTemplate;
 import org.apache.camel.PropertyBindingException;
 import org.apache.camel.RoutesBuilder;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StartupListener;
+import org.apache.camel.StartupStep;
 import org.apache.camel.builder.ThreadPoolProfileBuilder;
 import org.apache.camel.health.HealthCheck;
 import org.apache.camel.health.HealthCheckConfiguration;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.health.HealthCheckRepository;
+import org.apache.camel.impl.engine.BaseServiceResolver;
+import org.apache.camel.impl.engine.LoggingStartupStepRecorder;
 import org.apache.camel.model.FaultToleranceConfigurationDefinition;
 import org.apache.camel.model.HystrixConfigurationDefinition;
 import org.apache.camel.model.Model;
@@ -57,6 +68,7 @@ import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.Resilience4jConfigurationDefinition;
 import org.apache.camel.model.RouteDefinition;
 import org.apache.camel.saga.CamelSagaService;
+import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.Language;
@@ -64,6 +76,7 @@ import org.apache.camel.spi.PropertiesComponent;
 import org.apache.camel.spi.PropertyConfigurer;
 import org.apache.camel.spi.PropertyConfigurerGetter;
 import org.apache.camel.spi.RouteTemplateParameterSource;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.LifecycleStrategySupport;
@@ -94,6 +107,10 @@ public abstract class BaseMainSupport extends BaseService {
     public static final String INITIAL_PROPERTIES_LOCATION = "camel.main.initial-properties-location";
     public static final String OVERRIDE_PROPERTIES_LOCATION = "camel.main.override-properties-location";
     public static final String PROPERTY_PLACEHOLDER_LOCATION = "camel.main.property-placeholder-location";
+    public static final String STARTUP_RECORDER = "camel.main.startup-recorder";
+    public static final String STARTUP_RECORDER_MAX_DEPTH = "camel.main.startup-recorder-max-depth";
+    public static final String STARTUP_RECORDER_RECORDING_DIR = "camel.main.startup-recorder-recording-dir";
+    public static final String ROUTES_BUILDER_INDEX = "META-INF/services/org/apache/camel/routes-builder";
 
     private static final Logger LOG = LoggerFactory.getLogger(BaseMainSupport.class);
 
@@ -460,9 +477,19 @@ public abstract class BaseMainSupport extends BaseService {
 
         if (mainConfigurationProperties.getPackageScanRouteBuilders() != null) {
             String[] pkgs = mainConfigurationProperties.getPackageScanRouteBuilders().split(",");
-            Set<Class<?>> set = camelContext.adapt(ExtendedCamelContext.class)
-                    .getPackageScanClassResolver()
-                    .findImplementations(RoutesBuilder.class, pkgs);
+            Set<Class<?>> set = null;
+            if (mainConfigurationProperties.isFastStartup()) {
+                set = findRoutesBuildersFromIndex(camelContext, pkgs);
+                if (set == null) {
+                    LOG.warn("Fast startup is enabled but there is no routes builder index on the classpath: {}."
+                            + " Scanning the packages for route builder classes instead.", ROUTES_BUILDER_INDEX);
+                }
+            }
+            if (set == null) {
+                set = camelContext.adapt(ExtendedCamelContext.class)
+                        .getPackageScanClassResolver()
+                        .findImplementations(RoutesBuilder.class, pkgs);
+            }
             for (Class<?> routeClazz : set) {
                 Object builder = camelContext.getInjector().newInstance(routeClazz);
                 if (builder instanceof RoutesBuilder) {
@@ -474,6 +501,89 @@ public abstract class BaseMainSupport extends BaseService {
         }
     }
 
+    /**
+     * Finds the route builder classes in the given packages from the routes builder index files, which are generated
+     * at build time, to avoid scanning the classpath. The packages which are (also) in jars or directories without an
+     * index are scanned, and the classes found are added to the classes from the index.
+     *
+     * @return the classes, or <tt>null</tt> if there are no index files on the classpath
+     */
+    protected Set<Class<?>> findRoutesBuildersFromIndex(CamelContext camelContext, String[] pkgs) throws Exception {
+        Enumeration<URL> urls = camelContext.getClassResolver().loadAllResourcesAsURL(ROUTES_BUILDER_INDEX);
+        if (urls == null || !urls.hasMoreElements()) {
+            return null;
+        }
+
+        // the jars or directories which has an index
+        Set<String> indexed = new HashSet<>();
+        Set<Class<?>> answer = new LinkedHashSet<>();
+        while (urls.hasMoreElements()) {
+            URL url = urls.nextElement();
+            String location = url.toExternalForm();
+            indexed.add(location.substring(0, location.length() - ROUTES_BUILDER_INDEX.length()));
+            LOG.debug("Loading route builder classes from index: {}", url);
+            try (BufferedReader reader = IOHelper.buffered(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String name = line.trim();
+                    if (name.isEmpty() || name.startsWith("#") || !isInPackages(name, pkgs)) {
+                        continue;
+                    }
+                    Class<?> clazz = camelContext.getClassResolver().resolveClass(name);
+                    if (clazz == null) {
+                        LOG.warn("Unable to resolve class: {} from routes builder index: {}", name, url);
+                    } else {
+                        answer.add(clazz);
+                    }
+                }
+            }
+        }
+
+        List<String> scan = new ArrayList<>();
+        for (String pkg : pkgs) {
+            pkg = pkg.trim();
+            if (!pkg.isEmpty() && !isPackageIndexed(camelContext, pkg, indexed)) {
+                scan.add(pkg);
+            }
+        }
+        if (!scan.isEmpty()) {
+            LOG.debug("Scanning packages: {} for route builder classes as they are in jars or directories without a routes builder index",
+                    scan);
+            answer.addAll(camelContext.adapt(ExtendedCamelContext.class)
+                    .getPackageScanClassResolver()
+                    .findImplementations(RoutesBuilder.class, scan.toArray(new String[0])));
+        }
+        return answer;
+    }
+
+    private static boolean isPackageIndexed(CamelContext camelContext, String pkg, Set<String> indexed) {
+        String path = pkg.replace('.', '/');
+        Enumeration<URL> urls = camelContext.getClassResolver().loadAllResourcesAsURL(path);
+        if (urls == null) {
+            return true;
+        }
+        while (urls.hasMoreElements()) {
+            String location = urls.nextElement().toExternalForm();
+            if (location.endsWith("/")) {
+                location = location.substring(0, location.length() - 1);
+            }
+            if (!location.endsWith(path) || !indexed.contains(location.substring(0, location.length() - path.length()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isInPackages(String className, String[] pkgs) {
+        for (String pkg : pkgs) {
+            pkg = pkg.trim();
+            if (className.startsWith(pkg + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected void loadConfigurations(CamelContext camelContext) throws Exception {
         // lets use Camel's bean post processor on any existing configuration classes
         // so the instance has some support for dependency injection
@@ -641,6 +751,10 @@ public abstract class BaseMainSupport extends BaseService {
     }
 
     protected void postProcessCamelContext(CamelContext camelContext) throws Exception {
+        // setup startup recorder before building so we can record as much of the startup as possible
+        configureStartupRecorder(camelContext);
+        StartupStepRecorder recorder = camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder();
+
         // ensure camel is initialized
         camelContext.build();
 
@@ -648,16 +762,32 @@ public abstract class BaseMainSupport extends BaseService {
             listener.beforeInitialize(this);
         }
 
+        StartupStep step = recorder.beginStep(BaseMainSupport.class, "configurePropertiesService", "Configure Properties");
         configurePropertiesService(camelContext);
+        recorder.endStep(step);
 
         // allow to do configuration before its started
         for (MainListener listener : listeners) {
             listener.beforeConfigure(this);
         }
 
+        step = recorder.beginStep(BaseMainSupport.class, "autoconfigure", "Auto Configure");
         autoconfigure(camelContext);
+        recorder.endStep(step);
+
+        // the startup recorder may have been configured from the properties
+        configureStartupRecorder(camelContext);
+        recorder = camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder();
+
         configureLifecycle(camelContext);
+
+        if (mainConfigurationProperties.isFastStartup()) {
+            configureFastStartup(camelContext);
+        }
+
+        step = recorder.beginStep(BaseMainSupport.class, "configureRoutes", "Configure Routes");
         configureRoutes(camelContext);
+        recorder.endStep(step);
 
         // allow to do configuration before its started
         for (MainListener listener : listeners) {
@@ -666,6 +796,81 @@ public abstract class BaseMainSupport extends BaseService {
         }
     }
 
+    protected void configureStartupRecorder(CamelContext camelContext) {
+        ExtendedCamelContext ecc = camelContext.adapt(ExtendedCamelContext.class);
+        if (ecc.getStartupStepRecorder().isEnabled()) {
+            // already configured
+            return;
+        }
+
+        String recorder = mainConfigurationProperties.getStartupRecorder();
+        if (recorder == null) {
+            recorder = lookupPropertyFromSysOrEnv(STARTUP_RECORDER).orElse(null);
+        }
+        if (recorder == null || "false".equals(recorder)) {
+            return;
+        }
+
+        StartupStepRecorder answer;
+        if ("logging".equals(recorder)) {
+            answer = new LoggingStartupStepRecorder();
+        } else {
+            if ("jfr".equals(recorder)) {
+                recorder = "java-flight-recorder";
+            }
+            // other recorders such as java-flight-recorder (camel-jfr) must be discovered from the classpath
+            final String name = recorder;
+            answer = new BaseServiceResolver<>(StartupStepRecorder.FACTORY + "-" + name, StartupStepRecorder.class)
+                    .resolve(camelContext)
+                    .orElseThrow(() -> new IllegalArgumentException("Cannot find startup recorder: " + name
+                            + " on the classpath. The java-flight-recorder recorder requires camel-jfr on the classpath."
+                            + " Supported values: false, logging, java-flight-recorder"));
+            CamelContextAware.trySetCamelContext(answer, camelContext);
+        }
+
+        String dir = mainConfigurationProperties.getStartupRecorderRecordingDir();
+        if (dir == null) {
+            dir = lookupPropertyFromSysOrEnv(STARTUP_RECORDER_RECORDING_DIR).orElse(null);
+        }
+        answer.setRecordingDir(dir);
+
+        int depth = mainConfigurationProperties.getStartupRecorderMaxDepth();
+        if (depth == -1) {
+            depth = lookupPropertyFromSysOrEnv(STARTUP_RECORDER_MAX_DEPTH).map(Integer::parseInt).orElse(-1);
+        }
+        answer.setMaxDepth(depth);
+        // setting the recorder on the context starts the recording
+        ecc.setStartupStepRecorder(answer);
+    }
+
+    protected void configureFastStartup(CamelContext camelContext) throws Exception {
+        // type converters should be loaded from the generated type converter loaders and not by scanning
+        if (Boolean.TRUE.equals(camelContext.isLoadTypeConverters())) {
+            LOG.info("Fast startup is enabled: Turning off loading type converters by scanning the classpath");
+            camelContext.setLoadTypeConverters(false);
+        }
+
+        // report the property bindings that was done by reflection, as these can be avoided by using generated configurers
+        final BeanIntrospection bi = camelContext.adapt(ExtendedCamelContext.class).getBeanIntrospection();
+        final long before = bi.getInvokedCounter();
+        camelContext.addStartupListener(new StartupListener() {
+            @Override
+            public void onCamelContextStarted(CamelContext context, boolean alreadyStarted) throws Exception {
+                // noop
+            }
+
+            @Override
+            public void onCamelContextFullyStarted(CamelContext context, boolean alreadyStarted) throws Exception {
+                long invoked = bi.getInvokedCounter();
+                if (invoked > 0) {
+                    LOG.info("Fast startup is enabled: {} ({} while configuring) properties was bound using reflection during startup."
+                            + " Use generated configurer classes (by annotating the classes with @Configurer) to avoid reflection.",
+                            invoked, before);
+                }
+            }
+        });
+    }
+
     protected void autoConfigurationFailFast(CamelContext camelContext, Map<String, String> autoConfiguredProperties) throws Exception {
         // load properties
         Properties prop = camelContext.getPropertiesComponent().loadProperties(name -> name.startsWith("camel."));
@@ -30,6 +30,10 @@ import org.apache.camel.cloud.ServiceRegistry;
 import org.apache.camel.cluster.CamelClusterService;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.health.HealthCheckRepository;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PrototypeExchangeFactory;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -40,6 +44,7 @@ import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EventFactory;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinderResolver;
 import org.apache.camel.spi.InflightRepository;
@@ -123,6 +128,8 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy().setBufferSize(config.getStreamCachingBufferSize());
         camelContext.getStreamCachingStrategy().setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
+        camelContext.getStreamCachingStrategy().setSpoolOffHeapBudget(config.getStreamCachingSpoolOffHeapBudget());
+        camelContext.getStreamCachingStrategy().setSpoolMemoryMapped(config.isStreamCachingSpoolMemoryMapped());
         if (config.getStreamCachingSpoolDirectory() != null) {
             camelContext.getStreamCachingStrategy().setSpoolDirectory(config.getStreamCachingSpoolDirectory());
         }
@@ -144,6 +151,28 @@ public final class DefaultConfigurationConfigurer {
             camelContext.getStreamCachingStrategy().setSpoolUsedHeapMemoryThreshold(config.getStreamCachingSpoolUsedHeapMemoryThreshold());
         }
 
+        if ("pooled".equals(config.getExchangeFactory())) {
+            ecc.setExchangeFactory(new PooledExchangeFactory());
+        } else if ("prototype".equals(config.getExchangeFactory())) {
+            ecc.setExchangeFactory(new PrototypeExchangeFactory());
+        }
+        ecc.getExchangeFactory().setCapacity(config.getExchangeFactoryCapacity());
+        ecc.getExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
+
+        if ("hash".equals(config.getHeadersMapFactory()) && config.isCaseInsensitiveHeaders()) {
+            ecc.setHeadersMapFactory(new CaseInsensitiveHashMapHeadersMapFactory());
+        }
+
+        if ("workstealing".equals(config.getReactiveExecutor())) {
+            WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+            executor.setQueueSize(config.getReactiveExecutorQueueSize());
+            executor.setPoolSize(config.getReactiveExecutorPoolSize());
+            ecc.setReactiveExecutor(executor);
+        }
+
+        ecc.setRouteStartupParallelism(config.getRouteStartupParallelism());
+        ecc.setLazyStartRouteConsumers(config.isLazyStartRouteConsumers());
+
         camelContext.setMessageHistory(config.isMessageHistory());
         camelContext.setLogMask(config.isLogMask());
         camelContext.setLogExhaustedMessageBody(config.isLogExhaustedMessageBody());
@@ -260,6 +289,10 @@ public final class DefaultConfigurationConfigurer {
         if (uowf != null) {
             ecc.setUnitOfWorkFactory(uowf);
         }
+        ExchangeFactory exf = getSingleBeanOfType(registry, ExchangeFactory.class);
+        if (exf != null) {
+            ecc.setExchangeFactory(exf);
+        }
         RuntimeEndpointRegistry rer = getSingleBeanOfType(registry, RuntimeEndpointRegistry.class);
         if (rer != null) {
             ecc.setRuntimeEndpointRegistry(rer);
@@ -47,6 +47,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private String streamCachingSpoolDirectory;
     private String streamCachingSpoolCipher;
     private long streamCachingSpoolThreshold;
+    private long streamCachingSpoolOffHeapBudget;
+    private boolean streamCachingSpoolMemoryMapped;
     private int streamCachingSpoolUsedHeapMemoryThreshold;
     private String streamCachingSpoolUsedHeapMemoryLimit;
     private boolean streamCachingAnySpoolRules;
@@ -62,12 +64,22 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean autoStartup = true;
     private boolean allowUseOriginalMessage;
     private boolean caseInsensitiveHeaders = true;
+    @Metadata(defaultValue = "default", enums = "default,hash")
+    private String headersMapFactory = "default";
     private boolean endpointRuntimeStatisticsEnabled;
     private boolean endpointLazyStartProducer;
     private boolean endpointBridgeErrorHandler;
     private boolean endpointBasicPropertyBinding;
     private boolean useDataType;
     private boolean useBreadcrumb;
+    @Metadata(defaultValue = "default", enums = "default,prototype,pooled")
+    private String exchangeFactory = "default";
+    private int exchangeFactoryCapacity = 100;
+    private boolean exchangeFactoryStatisticsEnabled;
+    @Metadata(defaultValue = "default", enums = "default,workstealing")
+    private String reactiveExecutor = "default";
+    private int reactiveExecutorQueueSize = 1024;
+    private int reactiveExecutorPoolSize;
     @Metadata(defaultValue = "Default")
     private ManagementStatisticsLevel jmxManagementStatisticsLevel = ManagementStatisticsLevel.Default;
     private String jmxManagementNamePattern = "#name#";
@@ -85,6 +97,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private String xmlRouteTemplates = "classpath:camel-template/*.xml";
     private String xmlRests = "classpath:camel-rest/*.xml";
     private boolean lightweight;
+    private int routeStartupParallelism;
+    private boolean lazyStartRouteConsumers;
     // route controller
     @Metadata(defaultValue = "INFO")
     private LoggingLevel routeControllerRouteStartupLoggingLevel = LoggingLevel.INFO;
@@ -347,6 +361,35 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolCipher = streamCachingSpoolCipher;
     }
 
+    public long getStreamCachingSpoolOffHeapBudget() {
+        return streamCachingSpoolOffHeapBudget;
+    }
+
+    /**
+     * Sets the maximum number of bytes of direct (off-heap) memory to use for stream caches which should be
+     * spooled, before spooling to disk. The direct memory is allocated in buffers of the stream caching buffer size,
+     * which are pooled and reused.
+     *
+     * The default is 0, which means off-heap memory is not used.
+     */
+    public void setStreamCachingSpoolOffHeapBudget(long streamCachingSpoolOffHeapBudget) {
+        this.streamCachingSpoolOffHeapBudget = streamCachingSpoolOffHeapBudget;
+    }
+
+    public boolean isStreamCachingSpoolMemoryMapped() {
+        return streamCachingSpoolMemoryMapped;
+    }
+
+    /**
+     * Sets whether to read the stream caching spooled files using memory mapping, which avoids copying the content
+     * of the files when reading. This is not in use when the spooled files are encrypted.
+     *
+     * Default is false.
+     */
+    public void setStreamCachingSpoolMemoryMapped(boolean streamCachingSpoolMemoryMapped) {
+        this.streamCachingSpoolMemoryMapped = streamCachingSpoolMemoryMapped;
+    }
+
     public long getStreamCachingSpoolThreshold() {
         return streamCachingSpoolThreshold;
     }
@@ -564,6 +607,21 @@ public abstract class DefaultConfigurationProperties<T> {
         this.caseInsensitiveHeaders = caseInsensitiveHeaders;
     }
 
+    public String getHeadersMapFactory() {
+        return headersMapFactory;
+    }
+
+    /**
+     * Controls which map implementation to use for case insensitive headers.
+     *
+     * The default uses a map which is sorted by the keys. Using hash will use a faster hash map which iterates the
+     * headers in the order they were added, and where copying the headers (such as when copying exchanges in multicast
+     * and wire tap) is cheap as the copies share the headers until either of them is modified.
+     */
+    public void setHeadersMapFactory(String headersMapFactory) {
+        this.headersMapFactory = headersMapFactory;
+    }
+
     public boolean isEndpointRuntimeStatisticsEnabled() {
         return endpointRuntimeStatisticsEnabled;
     }
@@ -650,6 +708,78 @@ public abstract class DefaultConfigurationProperties<T> {
         this.useBreadcrumb = useBreadcrumb;
     }
 
+    public String getExchangeFactory() {
+        return exchangeFactory;
+    }
+
+    /**
+     * Controls whether to pool (reuse) exchanges or create new exchanges (prototype).
+     * Using pooled will reduce JVM garbage collection overhead by avoiding to re-create Exchange instances per message
+     * each consumer receives. The default is prototype mode.
+     */
+    public void setExchangeFactory(String exchangeFactory) {
+        this.exchangeFactory = exchangeFactory;
+    }
+
+    public int getExchangeFactoryCapacity() {
+        return exchangeFactoryCapacity;
+    }
+
+    /**
+     * The capacity the pool (for each consumer) uses for storing exchanges. The default capacity is 100.
+     */
+    public void setExchangeFactoryCapacity(int exchangeFactoryCapacity) {
+        this.exchangeFactoryCapacity = exchangeFactoryCapacity;
+    }
+
+    public boolean isExchangeFactoryStatisticsEnabled() {
+        return exchangeFactoryStatisticsEnabled;
+    }
+
+    /**
+     * Configures whether statistics is enabled on exchange factory.
+     */
+    public void setExchangeFactoryStatisticsEnabled(boolean exchangeFactoryStatisticsEnabled) {
+        this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
+    }
+
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * Controls which reactive executor to use for the Camel routing engine.
+     * The workstealing executor avoids updating shared counters per scheduled task,
+     * and can offload tasks to a fixed work-stealing pool. The default is the default reactive executor.
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
+    public int getReactiveExecutorQueueSize() {
+        return reactiveExecutorQueueSize;
+    }
+
+    /**
+     * Maximum number of pending tasks per worker in the workstealing reactive executor,
+     * before tasks are offloaded to the pool. The default value is 1024.
+     */
+    public void setReactiveExecutorQueueSize(int reactiveExecutorQueueSize) {
+        this.reactiveExecutorQueueSize = reactiveExecutorQueueSize;
+    }
+
+    public int getReactiveExecutorPoolSize() {
+        return reactiveExecutorPoolSize;
+    }
+
+    /**
+     * Number of threads in the pool the workstealing reactive executor uses for offloading tasks.
+     * The default value is 0, which means tasks are never offloaded.
+     */
+    public void setReactiveExecutorPoolSize(int reactiveExecutorPoolSize) {
+        this.reactiveExecutorPoolSize = reactiveExecutorPoolSize;
+    }
+
     public ManagementStatisticsLevel getJmxManagementStatisticsLevel() {
         return jmxManagementStatisticsLevel;
     }
@@ -932,6 +1062,34 @@ public abstract class DefaultConfigurationProperties<T> {
         this.lightweight = lightweight;
     }
 
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    /**
+     * Sets the number of threads used for warming up and starting routes in parallel, when starting Camel.
+     *
+     * Routes which has an explicit startupOrder are started one at a time in their order, and the routes in between
+     * them are started in parallel. Use 0 or 1 to start the routes one at a time (is default).
+     */
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
+    public boolean isLazyStartRouteConsumers() {
+        return lazyStartRouteConsumers;
+    }
+
+    /**
+     * Whether the route consumers should be started lazily in the background after Camel has been started.
+     *
+     * The routes are warmed up when starting Camel as usual, but starting Camel does not wait for the route consumers
+     * to be started. This can be used to reduce the time to start Camel with many routes.
+     */
+    public void setLazyStartRouteConsumers(boolean lazyStartRouteConsumers) {
+        this.lazyStartRouteConsumers = lazyStartRouteConsumers;
+    }
+
     public LoggingLevel getRouteControllerRouteStartupLoggingLevel() {
         return routeControllerRouteStartupLoggingLevel;
     }
@@ -1283,6 +1441,29 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the maximum number of bytes of direct (off-heap) memory to use for stream caches which should be
+     * spooled, before spooling to disk. The direct memory is allocated in buffers of the stream caching buffer size,
+     * which are pooled and reused.
+     *
+     * The default is 0, which means off-heap memory is not used.
+     */
+    public T withStreamCachingSpoolOffHeapBudget(long streamCachingSpoolOffHeapBudget) {
+        this.streamCachingSpoolOffHeapBudget = streamCachingSpoolOffHeapBudget;
+        return (T) this;
+    }
+
+    /**
+     * Sets whether to read the stream caching spooled files using memory mapping, which avoids copying the content
+     * of the files when reading. This is not in use when the spooled files are encrypted.
+     *
+     * Default is false.
+     */
+    public T withStreamCachingSpoolMemoryMapped(boolean streamCachingSpoolMemoryMapped) {
+        this.streamCachingSpoolMemoryMapped = streamCachingSpoolMemoryMapped;
+        return (T) this;
+    }
+
     /**
      * Sets a stream caching cipher name to use when spooling to disk to write with encryption.
      * By default the data is not encrypted.
@@ -1450,6 +1631,18 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Controls which map implementation to use for case insensitive headers.
+     *
+     * The default uses a map which is sorted by the keys. Using hash will use a faster hash map which iterates the
+     * headers in the order they were added, and where copying the headers (such as when copying exchanges in multicast
+     * and wire tap) is cheap as the copies share the headers until either of them is modified.
+     */
+    public T withHeadersMapFactory(String headersMapFactory) {
+        this.headersMapFactory = headersMapFactory;
+        return (T) this;
+    }
+
     /**
      * Sets whether endpoint runtime statistics is enabled (gathers runtime usage of each incoming and outgoing endpoints).
      *
@@ -1518,6 +1711,60 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Controls whether to pool (reuse) exchanges or create new exchanges (prototype).
+     * Using pooled will reduce JVM garbage collection overhead by avoiding to re-create Exchange instances per message
+     * each consumer receives. The default is prototype mode.
+     */
+    public T withExchangeFactory(String exchangeFactory) {
+        this.exchangeFactory = exchangeFactory;
+        return (T) this;
+    }
+
+    /**
+     * The capacity the pool (for each consumer) uses for storing exchanges. The default capacity is 100.
+     */
+    public T withExchangeFactoryCapacity(int exchangeFactoryCapacity) {
+        this.exchangeFactoryCapacity = exchangeFactoryCapacity;
+        return (T) this;
+    }
+
+    /**
+     * Configures whether statistics is enabled on exchange factory.
+     */
+    public T withExchangeFactoryStatisticsEnabled(boolean exchangeFactoryStatisticsEnabled) {
+        this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
+        return (T) this;
+    }
+
+    /**
+     * Controls which reactive executor to use for the Camel routing engine.
+     * The workstealing executor avoids updating shared counters per scheduled task,
+     * and can offload tasks to a fixed work-stealing pool. The default is the default reactive executor.
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
+    /**
+     * Maximum number of pending tasks per worker in the workstealing reactive executor,
+     * before tasks are offloaded to the pool. The default value is 1024.
+     */
+    public T withReactiveExecutorQueueSize(int reactiveExecutorQueueSize) {
+        this.reactiveExecutorQueueSize = reactiveExecutorQueueSize;
+        return (T) this;
+    }
+
+    /**
+     * Number of threads in the pool the workstealing reactive executor uses for offloading tasks.
+     * The default value is 0, which means tasks are never offloaded.
+     */
+    public T withReactiveExecutorPoolSize(int reactiveExecutorPoolSize) {
+        this.reactiveExecutorPoolSize = reactiveExecutorPoolSize;
+        return (T) this;
+    }
+
     /**
      * Sets the JMX statistics level
      * The level can be set to Extended to gather additional information
@@ -1768,6 +2015,28 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the number of threads used for warming up and starting routes in parallel, when starting Camel.
+     *
+     * Routes which has an explicit startupOrder are started one at a time in their order, and the routes in between
+     * them are started in parallel. Use 0 or 1 to start the routes one at a time (is default).
+     */
+    public T withRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+        return (T) this;
+    }
+
+    /**
+     * Whether the route consumers should be started lazily in the background after Camel has been started.
+     *
+     * The routes are warmed up when starting Camel as usual, but starting Camel does not wait for the route consumers
+     * to be started. This can be used to reduce the time to start Camel with many routes.
+     */
+    public T withLazyStartRouteConsumers(boolean lazyStartRouteConsumers) {
+        this.lazyStartRouteConsumers = lazyStartRouteConsumers;
+        return (T) this;
+    }
+
     /**
      * Sets the logging level used for logging route startup activity.
      * By default INFO level is used. You can use this to change the level for example to OFF if
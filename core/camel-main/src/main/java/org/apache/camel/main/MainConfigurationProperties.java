@@ -38,6 +38,10 @@ public class MainConfigurationProperties extends DefaultConfigurationProperties<
     private boolean autowireComponentPropertiesAllowPrivateSetter = true;
     private int durationHitExitCode;
     private String packageScanRouteBuilders;
+    private boolean fastStartup;
+    private String startupRecorder;
+    private int startupRecorderMaxDepth = -1;
+    private String startupRecorderRecordingDir;
 
     private String routesBuilderClasses;
     private String configurationClasses;
@@ -248,6 +252,65 @@ public class MainConfigurationProperties extends DefaultConfigurationProperties<
         this.packageScanRouteBuilders = packageScanRouteBuilders;
     }
 
+    public boolean isFastStartup() {
+        return fastStartup;
+    }
+
+    /**
+     * Whether to use fast startup mode, which avoids classpath scanning during startup. The route builder classes are
+     * loaded from the build time index (META-INF/services/org/apache/camel/routes-builder) instead of scanning the
+     * packages configured by packageScanRouteBuilders, and loading type converters by scanning is turned off. When
+     * started, then the number of property bindings done by reflection is logged, which can be avoided by generating
+     * configurer classes (by annotating the classes with @Configurer) for the beans in use.
+     */
+    public void setFastStartup(boolean fastStartup) {
+        this.fastStartup = fastStartup;
+    }
+
+    public String getStartupRecorder() {
+        return startupRecorder;
+    }
+
+    /**
+     * To use startup recorder for capturing execution time during starting Camel. The recorder can be one of: false,
+     * logging or java-flight-recorder. The logging recorder logs a summary of how long time each step of the startup
+     * took when Camel is started. The java-flight-recorder recorder emits the steps as Java Flight Recorder events, and
+     * requires camel-jfr on the classpath.
+     *
+     * The default is false.
+     */
+    public void setStartupRecorder(String startupRecorder) {
+        this.startupRecorder = startupRecorder;
+    }
+
+    public int getStartupRecorderMaxDepth() {
+        return startupRecorderMaxDepth;
+    }
+
+    /**
+     * To filter the steps recorded by the startup recorder by their depth (level), such as 0 to only record the top
+     * level steps.
+     *
+     * The default is -1 which means unlimited depth.
+     */
+    public void setStartupRecorderMaxDepth(int startupRecorderMaxDepth) {
+        this.startupRecorderMaxDepth = startupRecorderMaxDepth;
+    }
+
+    public String getStartupRecorderRecordingDir() {
+        return startupRecorderRecordingDir;
+    }
+
+    /**
+     * Directory to store the recording of the java-flight-recorder startup recorder. When set then a Java Flight
+     * Recorder recording is started, and saved to a file in the directory when Camel is started. Otherwise the events
+     * are only recorded by the recordings already in progress, such as when starting the JVM with
+     * -XX:StartFlightRecording.
+     */
+    public void setStartupRecorderRecordingDir(String startupRecorderRecordingDir) {
+        this.startupRecorderRecordingDir = startupRecorderRecordingDir;
+    }
+
     public int getDurationHitExitCode() {
         return durationHitExitCode;
     }
@@ -486,6 +549,53 @@ public class MainConfigurationProperties extends DefaultConfigurationProperties<
         return this;
     }
 
+    /**
+     * Whether to use fast startup mode, which avoids classpath scanning during startup. The route builder classes are
+     * loaded from the build time index (META-INF/services/org/apache/camel/routes-builder) instead of scanning the
+     * packages configured by packageScanRouteBuilders, and loading type converters by scanning is turned off. When
+     * started, then the number of property bindings done by reflection is logged, which can be avoided by generating
+     * configurer classes (by annotating the classes with @Configurer) for the beans in use.
+     */
+    public MainConfigurationProperties withFastStartup(boolean fastStartup) {
+        this.fastStartup = fastStartup;
+        return this;
+    }
+
+    /**
+     * To use startup recorder for capturing execution time during starting Camel. The recorder can be one of: false,
+     * logging or java-flight-recorder. The logging recorder logs a summary of how long time each step of the startup
+     * took when Camel is started. The java-flight-recorder recorder emits the steps as Java Flight Recorder events, and
+     * requires camel-jfr on the classpath.
+     *
+     * The default is false.
+     */
+    public MainConfigurationProperties withStartupRecorder(String startupRecorder) {
+        this.startupRecorder = startupRecorder;
+        return this;
+    }
+
+    /**
+     * To filter the steps recorded by the startup recorder by their depth (level), such as 0 to only record the top
+     * level steps.
+     *
+     * The default is -1 which means unlimited depth.
+     */
+    public MainConfigurationProperties withStartupRecorderMaxDepth(int startupRecorderMaxDepth) {
+        this.startupRecorderMaxDepth = startupRecorderMaxDepth;
+        return this;
+    }
+
+    /**
+     * Directory to store the recording of the java-flight-recorder startup recorder. When set then a Java Flight
+     * Recorder recording is started, and saved to a file in the directory when Camel is started. Otherwise the events
+     * are only recorded by the recordings already in progress, such as when starting the JVM with
+     * -XX:StartFlightRecording.
+     */
+    public MainConfigurationProperties withStartupRecorderRecordingDir(String startupRecorderRecordingDir) {
+        this.startupRecorderRecordingDir = startupRecorderRecordingDir;
+        return this;
+    }
+
     // fluent builders - configurations
     // --------------------------------------------------------------
 
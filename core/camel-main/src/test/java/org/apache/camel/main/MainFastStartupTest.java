@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.engine.LoggingStartupStepRecorder;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainFastStartupTest {
+
+    @Test
+    public void testFastStartupRoutesBuilderIndex() throws Exception {
+        Main main = new Main();
+        main.configure().withPackageScanRouteBuilders("org.apache.camel.main.scan").withFastStartup(true);
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertNotNull(camelContext);
+        // the route builders from the index in the package is in use, which includes
+        // the route builder extending an abstract route builder
+        assertEquals(3, camelContext.getRoutes().size());
+        assertNotNull(camelContext.hasEndpoint("direct:scan"));
+        assertNotNull(camelContext.hasEndpoint("direct:dummy"));
+        assertNotNull(camelContext.hasEndpoint("direct:concrete"));
+        assertFalse(camelContext.isLoadTypeConverters());
+
+        MockEndpoint endpoint = camelContext.getEndpoint("mock:scan", MockEndpoint.class);
+        endpoint.expectedBodiesReceived("Hello World");
+        main.getCamelTemplate().sendBody("direct:scan", "Hello World");
+        endpoint.assertIsSatisfied();
+
+        main.stop();
+    }
+
+    @Test
+    public void testFastStartupNestedRoutesBuilder() throws Exception {
+        Main main = new Main();
+        main.configure().withPackageScanRouteBuilders("org.apache.camel.main.nested").withFastStartup(true);
+        main.start();
+
+        // the public static nested route builder is in the index
+        CamelContext camelContext = main.getCamelContext();
+        assertEquals(1, camelContext.getRoutes().size());
+        assertNotNull(camelContext.hasEndpoint("direct:nested"));
+
+        main.stop();
+    }
+
+    @Test
+    public void testStartupRecorder() throws Exception {
+        Main main = new Main();
+        main.configure().withPackageScanRouteBuilders("org.apache.camel.main.scan").withStartupRecorder("logging");
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertEquals(3, camelContext.getRoutes().size());
+
+        StartupStepRecorder recorder = camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder();
+        assertTrue(recorder instanceof LoggingStartupStepRecorder);
+        // the recording ends when camel has been started
+        assertTrue(((LoggingStartupStepRecorder) recorder).isStopped());
+        assertFalse(recorder.isEnabled());
+        assertEquals(0, recorder.getRecordedSteps().size());
+
+        main.stop();
+    }
+}
@@ -42,6 +42,18 @@ public final class CamelOpenMBeanTypes {
                 new OpenType[]{SimpleType.STRING, SimpleType.STRING});
     }
 
+    public static TabularType listTypeConversionStatisticsTabularType() throws OpenDataException {
+        CompositeType ct = listTypeConversionStatisticsCompositeType();
+        return new TabularType("listTypeConversionStatistics", "Lists the utilization statistics per type conversion (from -> to)", ct, new String[]{"from", "to"});
+    }
+
+    public static CompositeType listTypeConversionStatisticsCompositeType() throws OpenDataException {
+        return new CompositeType("types", "From/To type conversion statistics",
+                new String[]{"from", "to", "hits", "misses", "failures", "totalTime", "meanTime"},
+                new String[]{"From type", "To type", "Hits", "Misses", "Failures", "Total time (nanos)", "Mean time (nanos)"},
+                new OpenType[]{SimpleType.STRING, SimpleType.STRING, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG});
+    }
+
     public static TabularType listRestServicesTabularType() throws OpenDataException {
         CompositeType ct = listRestServicesCompositeType();
         return new TabularType("listRestServices", "Lists all the rest services in the registry", ct, new String[]{"url", "method"});
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+
+public interface ManagedBufferPoolMBean extends ManagedServiceMBean {
+
+    @ManagedAttribute(description = "Number of buffers acquired")
+    long getAcquiredCounter();
+
+    @ManagedAttribute(description = "Number of buffers created as no pooled buffer was available")
+    long getCreatedCounter();
+
+    @ManagedAttribute(description = "Number of buffers released back to the pool")
+    long getReleasedCounter();
+
+    @ManagedAttribute(description = "Number of buffers discarded as the pool had no room for them, or they could not be pooled")
+    long getDiscardedCounter();
+
+    @ManagedAttribute(description = "Total number of bytes of the buffers currently pooled")
+    long getPooledSize();
+
+    @ManagedOperation(description = "Resets the counters")
+    void resetStatistics();
+
+}
@@ -73,6 +73,12 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether any or all spool rules determines whether to spool")
     boolean isAnySpoolRules();
 
+    @ManagedAttribute(description = "Maximum number of bytes of direct (off-heap) memory to use before spooling to disk")
+    long getSpoolOffHeapBudget();
+
+    @ManagedAttribute(description = "Whether to read the spooled files using memory mapping")
+    boolean isSpoolMemoryMapped();
+
     @ManagedAttribute(description = "Number of in-memory StreamCache created")
     long getCacheMemoryCounter();
 
@@ -91,6 +97,12 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of bytes of the off-heap budget which is currently in use by stream caches")
+    long getCacheOffHeapUsage();
+
+    @ManagedAttribute(description = "Number of stream caches spooled to disk because the off-heap budget was exhausted")
+    long getCacheOffHeapSpillCounter();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedBufferPoolMBean;
+import org.apache.camel.spi.BufferPool;
+
+@ManagedResource(description = "Managed BufferPool")
+public class ManagedBufferPool extends ManagedService implements ManagedBufferPoolMBean {
+
+    private final BufferPool bufferPool;
+
+    public ManagedBufferPool(CamelContext context, BufferPool bufferPool) {
+        super(context, bufferPool);
+        this.bufferPool = bufferPool;
+    }
+
+    public BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    @Override
+    public long getAcquiredCounter() {
+        return bufferPool.getStatistics().getAcquiredCounter();
+    }
+
+    @Override
+    public long getCreatedCounter() {
+        return bufferPool.getStatistics().getCreatedCounter();
+    }
+
+    @Override
+    public long getReleasedCounter() {
+        return bufferPool.getStatistics().getReleasedCounter();
+    }
+
+    @Override
+    public long getDiscardedCounter() {
+        return bufferPool.getStatistics().getDiscardedCounter();
+    }
+
+    @Override
+    public long getPooledSize() {
+        return bufferPool.getStatistics().getPooledSize();
+    }
+
+    @Override
+    public void resetStatistics() {
+        bufferPool.getStatistics().reset();
+    }
+}
@@ -143,6 +143,16 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.isAnySpoolRules();
     }
 
+    @Override
+    public long getSpoolOffHeapBudget() {
+        return streamCachingStrategy.getSpoolOffHeapBudget();
+    }
+
+    @Override
+    public boolean isSpoolMemoryMapped() {
+        return streamCachingStrategy.isSpoolMemoryMapped();
+    }
+
     @Override
     public long getCacheMemoryCounter() {
         return streamCachingStrategy.getStatistics().getCacheMemoryCounter();
@@ -173,6 +183,16 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheOffHeapUsage() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapUsage();
+    }
+
+    @Override
+    public long getCacheOffHeapSpillCounter() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapSpillCounter();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
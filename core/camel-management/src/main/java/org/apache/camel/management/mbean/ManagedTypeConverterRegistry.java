@@ -133,4 +133,31 @@ public class ManagedTypeConverterRegistry extends ManagedService implements Mana
             throw RuntimeCamelException.wrapRuntimeCamelException(e);
         }
     }
+
+    @Override
+    public TabularData listTypeConversionStatistics() {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.listTypeConversionStatisticsTabularType());
+            for (TypeConverterRegistry.ConversionStatistics entry : registry.getStatistics().listConversionStatistics()) {
+                CompositeType ct = CamelOpenMBeanTypes.listTypeConversionStatisticsCompositeType();
+                String from = entry.getFromType().getCanonicalName();
+                String to = entry.getToType().getCanonicalName();
+                long hits = entry.getHitCounter();
+                long misses = entry.getMissCounter();
+                long failures = entry.getFailedCounter();
+                long total = entry.getTotalTime();
+                long count = hits + misses + failures;
+                long mean = count > 0 ? total / count : 0;
+                CompositeData data = new CompositeDataSupport(ct,
+                        new String[]{"from", "to", "hits", "misses", "failures", "totalTime", "meanTime"},
+                        new Object[]{from, to, hits, misses, failures, total, mean});
+                if (!answer.containsKey(new Object[]{from, to})) {
+                    answer.put(data);
+                }
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
 }
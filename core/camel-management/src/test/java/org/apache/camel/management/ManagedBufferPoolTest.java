@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.BufferPool;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class ManagedBufferPoolTest extends ManagementTestSupport {
+
+    @Test
+    public void testManageBufferPool() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=services,*"), null);
+        List<ObjectName> list = new ArrayList<>(set);
+        ObjectName on = null;
+        for (ObjectName name : list) {
+            if (name.getCanonicalName().contains("DefaultBufferPool")) {
+                on = name;
+                break;
+            }
+        }
+
+        assertNotNull(on, "Should have found DefaultBufferPool");
+
+        // reset counter
+        mbeanServer.invoke(on, "resetStatistics", null, null);
+
+        Long counter = (Long) mbeanServer.getAttribute(on, "AcquiredCounter");
+        assertEquals(0, counter.intValue(), "Should not have acquired");
+
+        BufferPool pool = context.adapt(ExtendedCamelContext.class).getBufferPool();
+        byte[] buffer = pool.acquire(4096);
+        pool.release(buffer);
+
+        counter = (Long) mbeanServer.getAttribute(on, "AcquiredCounter");
+        assertEquals(1, counter.intValue(), "Should have acquired");
+        counter = (Long) mbeanServer.getAttribute(on, "ReleasedCounter");
+        assertEquals(1, counter.intValue(), "Should have released");
+
+        // stream caching copies the stream using the buffer pool of this context
+        Exchange exchange = new DefaultExchange(context);
+        InputStream is = new BufferedInputStream(new ByteArrayInputStream("Hello World".getBytes()));
+        StreamCache cache = context.getTypeConverter().convertTo(StreamCache.class, exchange, is);
+        assertNotNull(cache);
+
+        counter = (Long) mbeanServer.getAttribute(on, "AcquiredCounter");
+        assertEquals(2, counter.intValue(), "Should have acquired");
+        counter = (Long) mbeanServer.getAttribute(on, "ReleasedCounter");
+        assertEquals(2, counter.intValue(), "Should have released");
+
+        // and so does the type converter when converting a stream to bytes
+        is = new ByteArrayInputStream("Bye World".getBytes());
+        byte[] data = context.getTypeConverter().convertTo(byte[].class, exchange, is);
+        assertEquals("Bye World", new String(data));
+
+        counter = (Long) mbeanServer.getAttribute(on, "AcquiredCounter");
+        assertEquals(3, counter.intValue(), "Should have acquired");
+        counter = (Long) mbeanServer.getAttribute(on, "ReleasedCounter");
+        assertEquals(3, counter.intValue(), "Should have released");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("mock:result");
+            }
+        };
+    }
+
+}
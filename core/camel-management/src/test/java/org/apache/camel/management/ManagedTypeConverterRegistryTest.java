@@ -21,6 +21,7 @@ import java.util.Set;
 import javax.management.Attribute;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
 import javax.management.openmbean.TabularData;
 
 import org.apache.camel.builder.RouteBuilder;
@@ -88,6 +89,13 @@ public class ManagedTypeConverterRegistryTest extends ManagementTestSupport {
         miss = (Long) mbeanServer.getAttribute(name, "MissCounter");
         assertEquals(0, miss.intValue());
 
+        // statistics per type conversion
+        TabularData stats = (TabularData) mbeanServer.invoke(name, "listTypeConversionStatistics", null, null);
+        CompositeData pair = stats.get(new Object[]{"java.lang.String", "int"});
+        assertNotNull(pair, "Should have statistics for String -> int");
+        assertEquals(1L, pair.get("hits"));
+        assertEquals(0L, pair.get("failures"));
+
         // reset
         mbeanServer.invoke(name, "resetTypeConversionCounters", null, null);
 
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.StreamCache;
 import org.apache.camel.util.IOHelper;
 
@@ -57,7 +58,11 @@ public class ByteArrayInputStreamCache extends FilterInputStream implements Stre
     public StreamCache copy(Exchange exchange) throws IOException {
         if (byteArrayForCopy == null) {
             ByteArrayOutputStream baos = new ByteArrayOutputStream(in.available());
-            IOHelper.copy(in, baos);
+            if (exchange != null) {
+                exchange.getContext().adapt(ExtendedCamelContext.class).getBufferPool().copy(in, baos);
+            } else {
+                IOHelper.copy(in, baos);
+            }
             // reset so that the stream can be reused
             reset();
             // cache the byte array, in order not to copy the byte array in the next call again
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+import org.apache.camel.spi.StreamCachingStrategy;
+
+import static org.apache.camel.util.BufferCaster.cast;
+
+/**
+ * An {@link OutputStream} which stores the content in direct (off-heap) buffers acquired from the off-heap budget of
+ * the {@link StreamCachingStrategy}. If the budget is exhausted then the content is spooled to a file, and the
+ * remainder of the content is written to the file.
+ * <p/>
+ * The buffers are released back to the budget by the {@link TempFileManager} when all the exchanges using the stream
+ * caches are completed, and no stream cache is reading from the buffers.
+ */
+final class CachedOffHeapOutputStream extends OutputStream {
+
+    private final TempFileManager tempFileManager;
+    private final StreamCachingStrategy strategy;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private final ReferenceCountedBuffers references = new ReferenceCountedBuffers(this::releaseBuffers);
+    private int current;
+    private long remaining;
+    private long length;
+    private OutputStream fileStream;
+
+    CachedOffHeapOutputStream(TempFileManager tempFileManager, StreamCachingStrategy strategy) {
+        this.tempFileManager = tempFileManager;
+        this.strategy = strategy;
+        tempFileManager.setOffHeapStream(this);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (fileStream == null && remaining > 0) {
+            ByteBuffer buffer = buffers.get(current);
+            if (!buffer.hasRemaining()) {
+                buffer = buffers.get(++current);
+            }
+            buffer.put((byte) b);
+            length++;
+            remaining--;
+        } else {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (fileStream == null && !acquire(len)) {
+            pageToFileStream();
+        }
+        if (fileStream != null) {
+            fileStream.write(b, off, len);
+            return;
+        }
+
+        length += len;
+        remaining -= len;
+        while (len > 0) {
+            ByteBuffer buffer = buffers.get(current);
+            int n = Math.min(buffer.remaining(), len);
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+            if (!buffer.hasRemaining() && current < buffers.size() - 1) {
+                current++;
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fileStream != null) {
+            fileStream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fileStream != null) {
+            fileStream.close();
+        }
+    }
+
+    /**
+     * Creates a new {@link StreamCache} of the content, which is either kept off-heap or spooled to a file.
+     */
+    StreamCache newStreamCache() throws IOException {
+        if (fileStream != null) {
+            return tempFileManager.newStreamCache();
+        }
+        return new OffHeapInputStreamCache(tempFileManager, this);
+    }
+
+    /**
+     * Creates read-only views of the content of the buffers, which can be read independently of each other.
+     */
+    synchronized ByteBuffer[] newReadBuffers() {
+        ByteBuffer[] answer = new ByteBuffer[buffers.size()];
+        for (int i = 0; i < answer.length; i++) {
+            ByteBuffer buffer = buffers.get(i).asReadOnlyBuffer();
+            cast(buffer).flip();
+            answer[i] = buffer;
+        }
+        return answer;
+    }
+
+    long length() {
+        return length;
+    }
+
+    ReferenceCountedBuffers references() {
+        return references;
+    }
+
+    /**
+     * Releases the buffers back to the off-heap budget, when no stream cache is reading from the buffers.
+     */
+    void release() {
+        references.release();
+    }
+
+    private synchronized void releaseBuffers() {
+        for (ByteBuffer buffer : buffers) {
+            strategy.releaseOffHeapBuffer(buffer);
+        }
+        buffers.clear();
+    }
+
+    private boolean acquire(int len) {
+        // acquire all the buffers needed up front, so the content is either written off-heap or spooled
+        while (remaining < len) {
+            ByteBuffer buffer = strategy.acquireOffHeapBuffer();
+            if (buffer == null) {
+                return false;
+            }
+            buffers.add(buffer);
+            remaining += buffer.capacity();
+        }
+        return true;
+    }
+
+    private void pageToFileStream() throws IOException {
+        OutputStream out = tempFileManager.createOutputStream(strategy);
+        WritableByteChannel channel = Channels.newChannel(out);
+        for (ByteBuffer buffer : newReadBuffers()) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        // the content is now in the file so the buffers can be released right away
+        release();
+        fileStream = out;
+    }
+
+}
@@ -22,6 +22,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.StreamCache;
 import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
 import org.apache.camel.spi.StreamCachingStrategy;
@@ -30,6 +31,9 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * This output stream will store the content into a File if the stream context size is exceed the
  * THRESHOLD value. The default THRESHOLD value is {@link StreamCache#DEFAULT_SPOOL_THRESHOLD} bytes .
  * <p/>
+ * If an off-heap budget is configured on the {@link StreamCachingStrategy} then the content is stored in direct
+ * (off-heap) buffers instead of the File, until the budget is exhausted.
+ * <p/>
  * The temp file will store in the temp directory, you can configure it by setting the TEMP_DIR property.
  * If you don't set the TEMP_DIR property, it will choose the directory which is set by the
  * system property of "java.io.tmpdir".
@@ -54,6 +58,7 @@ public class CachedOutputStream extends OutputStream {
     public CachedOutputStream(Exchange exchange, final boolean closedOnCompletion) {
         this.closedOnCompletion = closedOnCompletion;
         tempFileManager = new TempFileManager(closedOnCompletion);
+        tempFileManager.setBufferPool(exchange.getContext().adapt(ExtendedCamelContext.class).getBufferPool());
         tempFileManager.addExchange(exchange);
         this.strategy = exchange.getContext().getStreamCachingStrategy();
         currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
@@ -70,7 +75,9 @@ public class CachedOutputStream extends OutputStream {
         // need to clean up the temp file this time
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
+            tempFileManager.releaseMapping();
             tempFileManager.cleanUpTempFile();
+            tempFileManager.releaseOffHeapBuffers();
         }
     }
 
@@ -141,6 +148,8 @@ public class CachedOutputStream extends OutputStream {
             } else {
                 throw new IllegalStateException("CurrentStream should be an instance of CachedByteArrayOutputStream but is: " + currentStream.getClass().getName());
             }
+        } else if (currentStream instanceof CachedOffHeapOutputStream) {
+            return ((CachedOffHeapOutputStream) currentStream).newStreamCache();
         } else {
             return tempFileManager.newStreamCache();
         }
@@ -151,8 +160,13 @@ public class CachedOutputStream extends OutputStream {
         flush();
         ByteArrayOutputStream bout = (ByteArrayOutputStream)currentStream;
         try {
-            // creates an tmp file and a file output stream
-            currentStream = tempFileManager.createOutputStream(strategy);
+            if (strategy.getSpoolOffHeapBudget() > 0) {
+                // store off-heap which spools to the file when the budget is exhausted
+                currentStream = new CachedOffHeapOutputStream(tempFileManager, strategy);
+            } else {
+                // creates an tmp file and a file output stream
+                currentStream = tempFileManager.createOutputStream(strategy);
+            }
             bout.writeTo(currentStream);
         } finally {
             // ensure flag is flipped to file based
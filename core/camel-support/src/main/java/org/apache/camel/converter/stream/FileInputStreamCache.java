@@ -20,9 +20,12 @@ import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -37,16 +40,20 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StreamCache;
+import org.apache.camel.spi.BufferPool;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.DirectBufferCleaner;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.apache.camel.util.BufferCaster.cast;
+
 /**
  * A {@link StreamCache} for {@link File}s
  */
@@ -56,6 +63,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     private final FileInputStreamCache.TempFileManager tempFileManager;
     private final File file;
     private final CipherPair ciphers;
+    private final boolean memoryMapped;
 
     /** Only for testing purposes.*/
     public FileInputStreamCache(File file) throws FileNotFoundException {
@@ -66,6 +74,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         this.file = closer.getTempFile();
         this.stream = null;
         this.ciphers = closer.getCiphers();
+        this.memoryMapped = closer.isMemoryMapped();
         this.length = file.length();
         this.tempFileManager = closer;
         this.tempFileManager.add(this);
@@ -92,8 +101,20 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
 
     @Override
     public void writeTo(OutputStream os) throws IOException {
-        if (stream == null && ciphers == null) {
+        if (stream == null && ciphers == null && os instanceof FileOutputStream) {
+            // let the file system transfer the content to the file without copying it through the heap
+            // (the channel is not closed as that would close the output stream)
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                FileChannel out = ((FileOutputStream) os).getChannel();
+                long position = 0;
+                while (position < length) {
+                    position += channel.transferTo(position, length - position, out);
+                }
+            }
+        } else if (stream == null && ciphers == null) {
             Files.copy(file.toPath(), os);
+        } else if (tempFileManager.getBufferPool() != null) {
+            tempFileManager.getBufferPool().copy(getInputStream(), os);
         } else {
             IOHelper.copy(getInputStream(), os);
         }
@@ -134,6 +155,10 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     }
 
     private InputStream createInputStream(File file) throws IOException {
+        if (memoryMapped && ciphers == null && length <= Integer.MAX_VALUE) {
+            // the file is only mapped once, and the copies and re-reading after reset reads from the same mapping
+            return tempFileManager.newMappedInputStream(length);
+        }
         InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath(), StandardOpenOption.READ));
         if (ciphers != null) {
             in = new CipherInputStream(in, ciphers.getDecryptor()) {
@@ -149,6 +174,61 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         return in;
     }
 
+    /**
+     * Reads from the memory mapped file, holding a reference to the mapping while reading so it is not unmapped.
+     */
+    private static final class MappedInputStream extends InputStream {
+        private final ByteBuffer buffer;
+        private final ReferenceCountedBuffers references;
+
+        MappedInputStream(ByteBuffer buffer, ReferenceCountedBuffers references) {
+            this.buffer = buffer;
+            this.references = references;
+        }
+
+        @Override
+        public int read() throws IOException {
+            references.retain();
+            try {
+                return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+            } finally {
+                references.unretain();
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            references.retain();
+            try {
+                if (!buffer.hasRemaining()) {
+                    return -1;
+                }
+                int n = Math.min(buffer.remaining(), len);
+                buffer.get(b, off, n);
+                return n;
+            } finally {
+                references.unretain();
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            references.checkNotReleased();
+            int step = (int) Math.max(0, Math.min(buffer.remaining(), n));
+            cast(buffer).position(buffer.position() + step);
+            return step;
+        }
+
+        @Override
+        public int available() throws IOException {
+            references.checkNotReleased();
+            return buffer.remaining();
+        }
+    }
+
     /** 
      * Manages the temporary file for the file input stream caches.
      * 
@@ -167,6 +247,14 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private boolean memoryMapped;
+        // the off-heap buffers to release when the exchanges are done
+        private CachedOffHeapOutputStream offHeapStream;
+        // the memory mapping of the file, which is unmapped when the exchanges are done
+        private ByteBuffer mapped;
+        private ReferenceCountedBuffers mappedReferences;
+        // the pool of the buffers to copy the file with
+        private BufferPool bufferPool;
         
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -210,11 +298,13 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                             } catch (Exception e) {
                                 LOG.warn("Error closing streams. This exception will be ignored.", e);
                             }
+                            releaseMapping();
                             try {
                                 cleanUpTempFile();
                             } catch (Exception e) {
                                 LOG.warn("Error deleting temporary cache file: " + tempFile + ". This exception will be ignored.", e);
                             }
+                            releaseOffHeapBuffers();
                         }
                     }
 
@@ -243,6 +333,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                 throw new IllegalStateException("The method 'createOutputStream' can only be called once!");
             }
             tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
+            memoryMapped = strategy.isSpoolMemoryMapped();
 
             LOG.trace("Creating temporary stream cache file: {}", tempFile);
             OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE));
@@ -297,13 +388,60 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
         
+        /**
+         * Creates a stream reading from the memory mapping of the file, which is mapped by the first stream.
+         */
+        synchronized InputStream newMappedInputStream(long length) throws IOException {
+            if (mappedReferences == null) {
+                ByteBuffer buffer;
+                try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.READ)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+                }
+                mapped = buffer;
+                mappedReferences = new ReferenceCountedBuffers(() -> DirectBufferCleaner.clean(buffer));
+            }
+            mappedReferences.checkNotReleased();
+            return new MappedInputStream(mapped.duplicate(), mappedReferences);
+        }
+
+        /**
+         * Unmaps the file, when no stream is reading from the mapping.
+         */
+        synchronized void releaseMapping() {
+            if (mappedReferences != null) {
+                mappedReferences.release();
+            }
+        }
+
+        void releaseOffHeapBuffers() {
+            if (offHeapStream != null) {
+                offHeapStream.release();
+            }
+        }
+
+        void setOffHeapStream(CachedOffHeapOutputStream offHeapStream) {
+            this.offHeapStream = offHeapStream;
+        }
+
         File getTempFile() {
             return tempFile;
         }
+
+        BufferPool getBufferPool() {
+            return bufferPool;
+        }
+
+        void setBufferPool(BufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+        }
         
         CipherPair getCiphers() {
             return ciphers;
         }
+
+        boolean isMemoryMapped() {
+            return memoryMapped;
+        }
         
     }
 
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+
+import static org.apache.camel.util.BufferCaster.cast;
+
+/**
+ * A {@link StreamCache} for caching using direct (off-heap) buffers.
+ * <p/>
+ * The buffers are shared by the copies of the stream cache, and are released when all the exchanges using the stream
+ * caches are completed, after which the stream cache can no longer be read. Each read holds a reference to the
+ * buffers, so the buffers are not reused for other stream caches while being read.
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+
+    private final TempFileManager tempFileManager;
+    private final CachedOffHeapOutputStream content;
+    private final ReferenceCountedBuffers references;
+    private final ByteBuffer[] buffers;
+    private int current;
+
+    OffHeapInputStreamCache(TempFileManager tempFileManager, CachedOffHeapOutputStream content) {
+        this.tempFileManager = tempFileManager;
+        this.content = content;
+        this.references = content.references();
+        this.buffers = content.newReadBuffers();
+    }
+
+    @Override
+    public int read() throws IOException {
+        references.retain();
+        try {
+            ByteBuffer buffer = nextBuffer();
+            return buffer != null ? buffer.get() & 0xff : -1;
+        } finally {
+            references.unretain();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        references.retain();
+        try {
+            ByteBuffer buffer = nextBuffer();
+            if (buffer == null) {
+                return -1;
+            }
+            int n = Math.min(buffer.remaining(), len);
+            buffer.get(b, off, n);
+            return n;
+        } finally {
+            references.unretain();
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        references.checkNotReleased();
+        long skipped = 0;
+        ByteBuffer buffer;
+        while (skipped < n && (buffer = nextBuffer()) != null) {
+            int step = (int) Math.min(buffer.remaining(), n - skipped);
+            cast(buffer).position(buffer.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        references.checkNotReleased();
+        long answer = 0;
+        for (int i = current; i < buffers.length; i++) {
+            answer += buffers[i].remaining();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, answer);
+    }
+
+    @Override
+    public synchronized void reset() {
+        if (references.isReleased()) {
+            throw new RuntimeCamelException("Cannot reset stream cache as the off-heap buffers has been released");
+        }
+        for (ByteBuffer buffer : buffers) {
+            cast(buffer).rewind();
+        }
+        current = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        references.retain();
+        try {
+            WritableByteChannel channel = Channels.newChannel(os);
+            for (int i = current; i < buffers.length; i++) {
+                ByteBuffer buffer = buffers[i].duplicate();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } finally {
+            references.unretain();
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        tempFileManager.addExchange(exchange);
+        return new OffHeapInputStreamCache(tempFileManager, content);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return content.length();
+    }
+
+    private ByteBuffer nextBuffer() {
+        while (current < buffers.length) {
+            ByteBuffer buffer = buffers[current];
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            current++;
+        }
+        return null;
+    }
+
+}
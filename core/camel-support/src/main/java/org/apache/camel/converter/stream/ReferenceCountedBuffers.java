@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the references to the buffers shared by the copies of a stream cache, so the buffers are only released (such
+ * as reused for other stream caches, or unmapped) when the owner has released them and no stream cache is reading
+ * from them.
+ */
+final class ReferenceCountedBuffers {
+
+    // one reference for the owner, plus one for each read in progress
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final AtomicBoolean released = new AtomicBoolean();
+    private final Runnable onRelease;
+
+    ReferenceCountedBuffers(Runnable onRelease) {
+        this.onRelease = onRelease;
+    }
+
+    /**
+     * Acquires a reference for reading from the buffers, which must be given back with {@link #unretain()}.
+     *
+     * @throws IOException is thrown if the buffers has been released
+     */
+    void retain() throws IOException {
+        int count;
+        do {
+            count = references.get();
+            if (count == 0) {
+                throw new IOException("Cannot read stream cache as its buffers has been released");
+            }
+            checkNotReleased();
+        } while (!references.compareAndSet(count, count + 1));
+    }
+
+    void checkNotReleased() throws IOException {
+        if (released.get()) {
+            throw new IOException("Cannot read stream cache as its buffers has been released");
+        }
+    }
+
+    void unretain() {
+        if (references.decrementAndGet() == 0) {
+            onRelease.run();
+        }
+    }
+
+    /**
+     * Releases the buffers, which happens right away if no stream cache is reading from them, or otherwise when the
+     * last read is done.
+     */
+    void release() {
+        if (released.compareAndSet(false, true)) {
+            unretain();
+        }
+    }
+
+    boolean isReleased() {
+        return released.get();
+    }
+}
@@ -22,10 +22,12 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.PooledExchange;
 import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.RouteAware;
 import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.support.service.ServiceHelper;
@@ -45,6 +47,7 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
     private final Endpoint endpoint;
     private final Processor processor;
     private final AsyncProcessor asyncProcessor;
+    private ExchangeFactory exchangeFactory;
     private ExceptionHandler exceptionHandler;
     private Route route;
     private String routeId;
@@ -84,6 +87,45 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
         this.routeId = routeId;
     }
 
+    /**
+     * Creates an {@link Exchange} that was consumed.
+     * <p/>
+     * <b>Important:</b> If the exchange is pooled then the consumer is responsible for releasing the exchange
+     * either via {@link #releaseExchange(Exchange, boolean)} or by creating the exchange with auto release.
+     *
+     * @param autoRelease whether to auto release the exchange when the routing of the exchange is complete
+     *                    via its {@link UnitOfWork}. The consumer must not access the exchange after the
+     *                    routing has been completed.
+     */
+    public Exchange createExchange(boolean autoRelease) {
+        if (exchangeFactory == null) {
+            // not initialized yet so the exchange is not pooled
+            return endpoint.createExchange();
+        }
+        return exchangeFactory.create(endpoint, autoRelease);
+    }
+
+    /**
+     * Releases the {@link Exchange} when its no longer in use (only needed when pooling is in use).
+     *
+     * @param exchange    the exchange
+     * @param autoRelease whether the exchange was created with auto release, which means it is released
+     *                    by Camel when its unit of work is done, and this method does nothing
+     */
+    public void releaseExchange(Exchange exchange, boolean autoRelease) {
+        if (exchange != null && !autoRelease && exchange instanceof PooledExchange && exchangeFactory != null) {
+            exchangeFactory.release(exchange);
+        }
+    }
+
+    /**
+     * Gets the {@link ExchangeFactory} this consumer uses to create exchanges, which is <tt>null</tt> until
+     * the consumer has been initialized.
+     */
+    public ExchangeFactory getExchangeFactory() {
+        return exchangeFactory;
+    }
+
     /**
      * If the consumer needs to defer done the {@link org.apache.camel.spi.UnitOfWork} on
      * the processed {@link Exchange} then this method should be use to create and start
@@ -151,19 +193,23 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
     @Override
     protected void doInit() throws Exception {
         LOG.debug("Init consumer: {}", this);
-        ServiceHelper.initService(processor);
+        if (exchangeFactory == null) {
+            // resolve the factory when initializing as the endpoint may not have a CamelContext when created
+            exchangeFactory = endpoint.getCamelContext().adapt(ExtendedCamelContext.class).getExchangeFactory().newExchangeFactory(this);
+        }
+        ServiceHelper.initService(exchangeFactory, processor);
     }
 
     @Override
     protected void doStop() throws Exception {
         LOG.debug("Stopping consumer: {}", this);
-        ServiceHelper.stopService(processor);
+        ServiceHelper.stopService(exchangeFactory, processor);
     }
 
     @Override
     protected void doStart() throws Exception {
         LOG.debug("Starting consumer: {}", this);
-        ServiceHelper.startService(processor);
+        ServiceHelper.startService(exchangeFactory, processor);
     }
 
     /**
@@ -289,6 +289,13 @@ public class DefaultMessage extends MessageSupport {
         return new DefaultMessage(camelContext);
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        // the headers map may have been shared with other messages so we cannot clear it
+        headers = null;
+    }
+
     /**
      * A factory method to lazily create the headers to make it easy to create
      * efficient Message implementations which only construct and populate the
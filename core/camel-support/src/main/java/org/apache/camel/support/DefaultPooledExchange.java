@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.PooledExchange;
+
+/**
+ * The default and only implementation of {@link PooledExchange}.
+ */
+public final class DefaultPooledExchange extends AbstractExchange implements PooledExchange {
+
+    private OnDoneTask onDone;
+    private boolean autoRelease;
+    private long created;
+
+    public DefaultPooledExchange(CamelContext context) {
+        super(context);
+        this.created = super.getCreated();
+    }
+
+    public DefaultPooledExchange(CamelContext context, ExchangePattern pattern) {
+        super(context, pattern);
+        this.created = super.getCreated();
+    }
+
+    public DefaultPooledExchange(Endpoint fromEndpoint) {
+        super(fromEndpoint);
+        this.created = super.getCreated();
+    }
+
+    public DefaultPooledExchange(Endpoint fromEndpoint, ExchangePattern pattern) {
+        super(fromEndpoint, pattern);
+        this.created = super.getCreated();
+    }
+
+    @Override
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * Sets the timestamp when this exchange was created, which is used when the exchange is reused from the pool.
+     */
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    @Override
+    public void onDone(OnDoneTask task) {
+        this.onDone = task;
+    }
+
+    @Override
+    public void done() {
+        reset();
+        if (onDone != null) {
+            onDone.onDone(this);
+        }
+    }
+
+    @Override
+    public boolean isAutoRelease() {
+        return autoRelease;
+    }
+
+    @Override
+    public void setAutoRelease(boolean autoRelease) {
+        this.autoRelease = autoRelease;
+    }
+
+}
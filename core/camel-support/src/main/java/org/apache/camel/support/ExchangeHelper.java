@@ -24,7 +24,6 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -846,19 +845,32 @@ public final class ExchangeHelper {
      */
     public static Exchange copyExchangeAndSetCamelContext(Exchange exchange, CamelContext context, boolean handover) {
         DefaultExchange answer = new DefaultExchange(context, exchange.getPattern());
+        copyExchangeTo(exchange, answer, handover);
+        return answer;
+    }
+
+    /**
+     * Copies the exchange onto the given target exchange, such as an exchange created by a consumer
+     * via its {@link org.apache.camel.spi.ExchangeFactory}.
+     *
+     * @param exchange  the source exchange
+     * @param target    the target exchange
+     * @param handover  whether to handover on completions from the source to the target
+     */
+    public static void copyExchangeTo(Exchange exchange, Exchange target, boolean handover) {
+        target.setPattern(exchange.getPattern());
         if (exchange.hasProperties()) {
-            answer.setProperties(safeCopyProperties(exchange.getProperties()));
+            target.adapt(ExtendedExchange.class).setProperties(safeCopyProperties(exchange.getProperties()));
         }
         if (handover) {
             // Need to hand over the completion for async invocation
-            exchange.adapt(ExtendedExchange.class).handoverCompletions(answer);
+            exchange.adapt(ExtendedExchange.class).handoverCompletions(target);
         }
-        answer.setIn(exchange.getIn().copy());
+        target.setIn(exchange.getIn().copy());
         if (exchange.hasOut()) {
-            answer.setOut(exchange.getOut().copy());
+            target.setOut(exchange.getOut().copy());
         }
-        answer.setException(exchange.getException());
-        return answer;
+        target.setException(exchange.getException());
     }
 
     /**
@@ -924,7 +936,7 @@ public final class ExchangeHelper {
             return null;
         }
 
-        Map<String, Object> answer = new ConcurrentHashMap<>(properties);
+        Map<String, Object> answer = new ExchangePropertiesMap(properties);
 
         // safe copy message history using a defensive copy
         List<MessageHistory> history = (List<MessageHistory>) answer.remove(Exchange.MESSAGE_HISTORY);
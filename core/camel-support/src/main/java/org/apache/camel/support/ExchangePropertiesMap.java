@@ -0,0 +1,360 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.camel.Exchange;
+
+/**
+ * The {@link Map} used by {@link DefaultExchange} for storing the exchange properties.
+ * <p/>
+ * The well known properties which the routing engine and the EIPs set on the exchange (such as
+ * {@link Exchange#SPLIT_INDEX} and {@link Exchange#TO_ENDPOINT}) are stored in a fixed array of slots, which avoids
+ * hashing and allocating map entries when the EIPs update these properties. Any other property is stored in a
+ * {@link ConcurrentHashMap} which is created on demand.
+ * <p/>
+ * The map behaves like a {@link ConcurrentHashMap} where <tt>null</tt> keys and values are not allowed, and iterating
+ * while modifying the map does not fail. The slots are updated atomically, so the properties can be updated
+ * concurrently from several threads, such as by the parallel aggregation of the multicast and splitter EIPs or by the
+ * onCompletion threads.
+ */
+final class ExchangePropertiesMap extends AbstractMap<String, Object> {
+
+    // the well known exchange properties set by the routing engine and the EIPs
+    private static final String[] KEYS = {
+        Exchange.AGGREGATED_COLLECTION_GUARD,
+        Exchange.AGGREGATED_COMPLETED_BY,
+        Exchange.AGGREGATED_CORRELATION_KEY,
+        Exchange.AGGREGATED_SIZE,
+        Exchange.AGGREGATED_TIMEOUT,
+        Exchange.AGGREGATION_COMPLETE_ALL_GROUPS,
+        Exchange.AGGREGATION_COMPLETE_CURRENT_GROUP,
+        Exchange.AGGREGATION_STRATEGY,
+        Exchange.BATCH_COMPLETE,
+        Exchange.BATCH_INDEX,
+        Exchange.BATCH_SIZE,
+        Exchange.BINDING,
+        Exchange.CHARSET_NAME,
+        Exchange.CLAIM_CHECK_REPOSITORY,
+        Exchange.CORRELATION_ID,
+        Exchange.DUPLICATE_MESSAGE,
+        Exchange.ERRORHANDLER_CIRCUIT_DETECTED,
+        Exchange.EVALUATE_EXPRESSION_RESULT,
+        Exchange.EXCEPTION_CAUGHT,
+        Exchange.EXCEPTION_HANDLED,
+        Exchange.FAILURE_ENDPOINT,
+        Exchange.FAILURE_HANDLED,
+        Exchange.FAILURE_ROUTE_ID,
+        Exchange.FATAL_FALLBACK_ERROR_HANDLER,
+        Exchange.FILTER_MATCHED,
+        Exchange.GROUPED_EXCHANGE,
+        Exchange.INTERCEPT_SEND_TO_ENDPOINT_WHEN_MATCHED,
+        Exchange.LOOP_INDEX,
+        Exchange.LOOP_SIZE,
+        Exchange.MESSAGE_HISTORY,
+        Exchange.MULTICAST_COMPLETE,
+        Exchange.MULTICAST_INDEX,
+        Exchange.ON_COMPLETION,
+        Exchange.PARENT_UNIT_OF_WORK,
+        Exchange.RECIPIENT_LIST_ENDPOINT,
+        Exchange.SKIP_GZIP_ENCODING,
+        Exchange.SLIP_ENDPOINT,
+        Exchange.SLIP_PRODUCER,
+        Exchange.SPLIT_COMPLETE,
+        Exchange.SPLIT_INDEX,
+        Exchange.SPLIT_SIZE,
+        Exchange.STEP_ID,
+        Exchange.STREAM_CACHE_UNIT_OF_WORK,
+        Exchange.TO_ENDPOINT,
+        Exchange.TRY_ROUTE_BLOCK,
+        Exchange.UNIT_OF_WORK_EXHAUSTED,
+        Exchange.UNIT_OF_WORK_PROCESS_SYNC
+    };
+    private static final Map<String, Integer> INDEXES = new HashMap<>(KEYS.length * 2);
+
+    static {
+        for (int i = 0; i < KEYS.length; i++) {
+            INDEXES.put(KEYS[i], i);
+        }
+    }
+
+    private final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(KEYS.length);
+    private final AtomicInteger slotsSize = new AtomicInteger();
+    private volatile Map<String, Object> others;
+    private Set<Entry<String, Object>> entrySet;
+
+    ExchangePropertiesMap() {
+    }
+
+    ExchangePropertiesMap(Map<String, Object> properties) {
+        putAll(properties);
+    }
+
+    private static int indexOf(Object key) {
+        if (key == null) {
+            throw new NullPointerException("key");
+        }
+        Integer index = INDEXES.get(key);
+        return index != null ? index : -1;
+    }
+
+    private Map<String, Object> others() {
+        Map<String, Object> answer = others;
+        if (answer == null) {
+            synchronized (this) {
+                answer = others;
+                if (answer == null) {
+                    answer = new ConcurrentHashMap<>(8);
+                    others = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public int size() {
+        Map<String, Object> map = others;
+        return map != null ? slotsSize.get() + map.size() : slotsSize.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        Map<String, Object> map = others;
+        return slotsSize.get() == 0 && (map == null || map.isEmpty());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            return slots.get(index);
+        }
+        Map<String, Object> map = others;
+        return map != null ? map.get(key) : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            Object answer = slots.getAndSet(index, value);
+            if (answer == null) {
+                slotsSize.incrementAndGet();
+            }
+            return answer;
+        }
+        return others().put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (map instanceof ExchangePropertiesMap) {
+            // optimize to copy the slots as-is
+            ExchangePropertiesMap source = (ExchangePropertiesMap) map;
+            for (int i = 0; i < KEYS.length; i++) {
+                Object value = source.slots.get(i);
+                if (value != null && slots.getAndSet(i, value) == null) {
+                    slotsSize.incrementAndGet();
+                }
+            }
+            Map<String, Object> sourceOthers = source.others;
+            if (sourceOthers != null && !sourceOthers.isEmpty()) {
+                others().putAll(sourceOthers);
+            }
+        } else {
+            for (Entry<? extends String, ?> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            Object answer = slots.getAndSet(index, null);
+            if (answer != null) {
+                slotsSize.decrementAndGet();
+            }
+            return answer;
+        }
+        Map<String, Object> map = others;
+        return map != null ? map.remove(key) : null;
+    }
+
+    @Override
+    public void clear() {
+        if (slotsSize.get() > 0) {
+            for (int i = 0; i < KEYS.length; i++) {
+                if (slots.getAndSet(i, null) != null) {
+                    slotsSize.decrementAndGet();
+                }
+            }
+        }
+        Map<String, Object> map = others;
+        if (map != null) {
+            map.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ExchangePropertiesMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ExchangePropertiesMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int index;
+        private Iterator<Entry<String, Object>> othersIterator;
+        private Entry<String, Object> next;
+        private Entry<String, Object> last;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = null;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            ExchangePropertiesMap.this.remove(last.getKey());
+            last = null;
+        }
+
+        private Entry<String, Object> advance() {
+            while (index < KEYS.length) {
+                int i = index++;
+                Object value = slots.get(i);
+                if (value != null) {
+                    return new SlotEntry(i, value);
+                }
+            }
+            if (othersIterator == null) {
+                Map<String, Object> map = others;
+                if (map == null) {
+                    return null;
+                }
+                othersIterator = map.entrySet().iterator();
+            }
+            return othersIterator.hasNext() ? othersIterator.next() : null;
+        }
+    }
+
+    private final class SlotEntry implements Entry<String, Object> {
+
+        private final int index;
+        private Object value;
+
+        SlotEntry(int index, Object value) {
+            this.index = index;
+            this.value = value;
+        }
+
+        @Override
+        public String getKey() {
+            return KEYS[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object answer = this.value;
+            put(KEYS[index], value);
+            this.value = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return KEYS[index].equals(e.getKey()) && value.equals(e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return KEYS[index].hashCode() ^ value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return KEYS[index] + "=" + value;
+        }
+    }
+
+}
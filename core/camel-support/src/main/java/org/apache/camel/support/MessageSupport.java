@@ -260,6 +260,15 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
      */
     public abstract Message newInstance();
 
+    /**
+     * Resets the message to its initial state, so the instance can be reused for a new message.
+     */
+    public void reset() {
+        body = null;
+        messageId = null;
+        dataType = null;
+    }
+
     /**
      * A factory method to allow a provider to lazily create the message body
      * for inbound messages from other sources
@@ -118,7 +118,8 @@ public abstract class ScheduledBatchPollingConsumer extends ScheduledPollConsume
 
     @Override
     protected void processEmptyMessage() throws Exception {
-        Exchange exchange = getEndpoint().createExchange();
+        // the empty message is not used after routing so it can be released when its unit of work is done
+        Exchange exchange = createExchange(true);
         // enrich exchange, so we send an empty message with the batch details
         exchange.setProperty(Exchange.BATCH_INDEX, 0);
         exchange.setProperty(Exchange.BATCH_SIZE, 1);
@@ -257,7 +257,8 @@ public abstract class ScheduledPollConsumer extends DefaultConsumer implements R
      * @throws Exception is thrown if error processing the empty message.
      */
     protected void processEmptyMessage() throws Exception {
-        Exchange exchange = getEndpoint().createExchange();
+        // the empty message is not used after routing so it can be released when its unit of work is done
+        Exchange exchange = createExchange(true);
         LOG.debug("Sending empty message as there were no messages from polling: {}", this.getEndpoint());
         getProcessor().process(exchange);
     }
@@ -0,0 +1,437 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Comparator.comparingLong;
+import static org.apache.camel.TimeoutMap.Listener.Type.Evict;
+import static org.apache.camel.TimeoutMap.Listener.Type.Put;
+import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
+
+/**
+ * A {@link TimeoutMap} which uses a hierarchical timing wheel to keep track of the timeouts.
+ * <p/>
+ * Unlike {@link DefaultTimeoutMap} which scans all the entries on each poll, scheduling and cancelling a timeout is
+ * O(1), and each tick only visits the entries which are due (or which are cascaded to a lower wheel). This makes
+ * the map suitable for a large number of entries, such as the open correlation groups of the aggregator.
+ * <p/>
+ * The entries are sharded by key, where each shard has its own timing wheel, lock and tick task, which allows the
+ * shards to run on several threads when the {@link ScheduledExecutorService} has more than one thread. The
+ * resolution of the timeouts is the tick duration, and an entry is evicted at the first tick after it has timed out.
+ * <p/>
+ * You must invoke {@link #start()} to startup the timeout map, before its ready to be used.
+ * And you must invoke {@link #stop()} to stop the map when no longer in use.
+ */
+public class TimingWheelTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    protected final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ScheduledExecutorService executor;
+    private final long tickMillis;
+    private final Shard<K, V>[] shards;
+    private final List<ScheduledFuture<?>> futures = new ArrayList<>();
+    private final List<Listener<K, V>> listeners = new ArrayList<>(2);
+    private final long startTime;
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor) {
+        this(executor, 1000);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long tickMillis) {
+        this(executor, tickMillis, 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long tickMillis, int shards) {
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("The tick must be a positive number, was: " + tickMillis);
+        }
+        if (shards <= 0) {
+            throw new IllegalArgumentException("The number of shards must be a positive number, was: " + shards);
+        }
+        this.executor = executor;
+        this.tickMillis = tickMillis;
+        this.shards = new Shard[shards];
+        for (int i = 0; i < shards; i++) {
+            this.shards[i] = new Shard<>();
+        }
+        this.startTime = currentTime();
+    }
+
+    @Override
+    public V get(K key) {
+        Shard<K, V> shard = shardFor(key);
+        shard.lock.lock();
+        try {
+            Node<K, V> node = shard.nodes.get(key);
+            if (node == null) {
+                return null;
+            }
+            // accessing the entry renews its timeout
+            shard.unlink(node);
+            shard.schedule(node, deadline(node));
+            return node.value;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    @Override
+    public V put(K key, V value, long timeoutMillis) {
+        Shard<K, V> shard = shardFor(key);
+        Node<K, V> node = new Node<>(key, value, timeoutMillis);
+        shard.lock.lock();
+        try {
+            Node<K, V> old = shard.nodes.put(key, node);
+            if (old != null) {
+                shard.unlink(old);
+            }
+            shard.schedule(node, deadline(node));
+            return old != null ? old.value : null;
+        } finally {
+            shard.lock.unlock();
+            emitEvent(Put, key, value);
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value, long timeoutMillis) {
+        Shard<K, V> shard = shardFor(key);
+        Node<K, V> old;
+        shard.lock.lock();
+        try {
+            old = shard.nodes.get(key);
+            if (old == null) {
+                Node<K, V> node = new Node<>(key, value, timeoutMillis);
+                shard.nodes.put(key, node);
+                shard.schedule(node, deadline(node));
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+        if (old != null) {
+            return old.value;
+        }
+        emitEvent(Put, key, value);
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        Shard<K, V> shard = shardFor(key);
+        Node<K, V> node;
+        shard.lock.lock();
+        try {
+            node = shard.nodes.remove(key);
+            if (node != null) {
+                shard.unlink(node);
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+        if (node != null) {
+            emitEvent(Remove, key, node.value);
+            return node.value;
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Shard<K, V> shard : shards) {
+            size += shard.size;
+        }
+        return size;
+    }
+
+    @Override
+    public void addListener(Listener<K, V> listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Evicts the timed out entries of all the shards.
+     */
+    public void purge() {
+        for (int i = 0; i < shards.length; i++) {
+            purge(i);
+        }
+    }
+
+    /**
+     * Advances the timing wheel of the given shard to the current tick, and evicts the entries which have timed out.
+     *
+     * @param shard the index of the shard
+     */
+    protected void purge(int shard) {
+        List<Node<K, V>> expired = shards[shard].advance(currentTick());
+        if (expired != null) {
+            for (Node<K, V> node : expired) {
+                log.debug("Evicting inactive entry ID: {}", node.key);
+                emitEvent(Evict, node.key, node.value);
+            }
+        }
+    }
+
+    // Properties
+    // -------------------------------------------------------------------------
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    public int getShards() {
+        return shards.length;
+    }
+
+    public ScheduledExecutorService getExecutor() {
+        return executor;
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    private Shard<K, V> shardFor(K key) {
+        if (shards.length == 1) {
+            return shards[0];
+        }
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return shards[(h & Integer.MAX_VALUE) % shards.length];
+    }
+
+    private long currentTick() {
+        return (currentTime() - startTime) / tickMillis;
+    }
+
+    private long deadline(Node<K, V> node) {
+        node.expireTime = currentTime() - startTime + node.timeout;
+        // round up so the entry is not evicted before it has timed out
+        return (node.expireTime + tickMillis - 1) / tickMillis;
+    }
+
+    private void emitEvent(Listener.Type type, K key, V value) {
+        for (Listener<K, V> listener : listeners) {
+            try {
+                listener.timeoutMapEvent(type, key, value);
+            } catch (Throwable t) {
+                // Ignore
+            }
+        }
+    }
+
+    private void purgeTask(int shard) {
+        // only purge if allowed
+        if (!isRunAllowed()) {
+            log.trace("Purge task not allowed to run");
+            return;
+        }
+
+        try {
+            purge(shard);
+        } catch (Throwable t) {
+            // must catch and log exception otherwise the executor will now schedule next purgeTask
+            log.warn("Exception occurred during purge task. This exception will be ignored.", t);
+        }
+    }
+
+    protected long currentTime() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("The ScheduledExecutorService is shutdown");
+        }
+        for (int i = 0; i < shards.length; i++) {
+            final int shard = i;
+            futures.add(executor.scheduleWithFixedDelay(() -> purgeTask(shard), tickMillis, tickMillis, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        for (ScheduledFuture<?> future : futures) {
+            future.cancel(false);
+        }
+        futures.clear();
+        // clear map if we stop
+        for (Shard<K, V> shard : shards) {
+            shard.clear();
+        }
+    }
+
+    /**
+     * An entry in the map, which is linked into a slot of the timing wheel.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long timeout;
+        private long expireTime;
+        private long deadline;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+        private Node<K, V>[] slots;
+        private int slot;
+
+        Node(K key, V value, long timeout) {
+            this.key = key;
+            this.value = value;
+            this.timeout = timeout;
+        }
+    }
+
+    /**
+     * A shard with its own hierarchical timing wheel. Each level has 64 slots, where a slot of a level spans all the
+     * slots of the level below, and the entries of a slot are cascaded to the lower levels when its time is reached.
+     */
+    private static final class Shard<K, V> {
+        private final Lock lock = new ReentrantLock();
+        private final Map<K, Node<K, V>> nodes = new HashMap<>();
+        private final Node<K, V>[][] wheels;
+        private long tick;
+        private volatile int size;
+
+        @SuppressWarnings("unchecked")
+        Shard() {
+            wheels = new Node[LEVELS][WHEEL_SIZE];
+        }
+
+        void schedule(Node<K, V> node, long deadline) {
+            // entries which are already due expire on the next tick
+            node.deadline = Math.max(deadline, tick + 1);
+            long delta = node.deadline - tick;
+            int level = 0;
+            while (level < LEVELS - 1 && delta >= 1L << (WHEEL_BITS * (level + 1))) {
+                level++;
+            }
+            // entries beyond the top level are cascaded again when the top level slot is reached
+            long due = Math.min(node.deadline, tick + (1L << (WHEEL_BITS * LEVELS)) - 1);
+            node.slots = wheels[level];
+            node.slot = (int) (due >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+            node.prev = null;
+            node.next = node.slots[node.slot];
+            if (node.next != null) {
+                node.next.prev = node;
+            }
+            node.slots[node.slot] = node;
+            size = nodes.size();
+        }
+
+        void unlink(Node<K, V> node) {
+            if (node.prev != null) {
+                node.prev.next = node.next;
+            } else if (node.slots != null) {
+                node.slots[node.slot] = node.next;
+            }
+            if (node.next != null) {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.slots = null;
+            size = nodes.size();
+        }
+
+        List<Node<K, V>> advance(long now) {
+            List<Node<K, V>> expired = null;
+            lock.lock();
+            try {
+                while (tick < now) {
+                    tick++;
+                    // cascade the higher levels first, so the entries end up in the right slot of the lower levels
+                    for (int level = LEVELS - 1; level > 0; level--) {
+                        if ((tick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                            expired = cascade(level, (int) (tick >>> (WHEEL_BITS * level)) & WHEEL_MASK, expired);
+                        }
+                    }
+                    expired = cascade(0, (int) tick & WHEEL_MASK, expired);
+                }
+                if (expired != null) {
+                    // sort according to the expired time so we got the first expired first
+                    expired.sort(comparingLong(node -> node.expireTime));
+                }
+            } finally {
+                lock.unlock();
+            }
+            return expired;
+        }
+
+        private List<Node<K, V>> cascade(int level, int slot, List<Node<K, V>> expired) {
+            Node<K, V> node = wheels[level][slot];
+            wheels[level][slot] = null;
+            while (node != null) {
+                Node<K, V> next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.slots = null;
+                if (node.deadline <= tick) {
+                    nodes.remove(node.key);
+                    if (expired == null) {
+                        expired = new ArrayList<>();
+                    }
+                    expired.add(node);
+                } else {
+                    schedule(node, node.deadline);
+                }
+                node = next;
+            }
+            size = nodes.size();
+            return expired;
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                nodes.clear();
+                for (Node<K, V>[] wheel : wheels) {
+                    for (int i = 0; i < WHEEL_SIZE; i++) {
+                        wheel[i] = null;
+                    }
+                }
+                size = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+}
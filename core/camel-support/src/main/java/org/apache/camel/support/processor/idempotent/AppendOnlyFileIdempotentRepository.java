@@ -0,0 +1,872 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.DirectBufferCleaner;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which stores the keys in an
+ * append-only log.
+ * <p/>
+ * Adding a key appends an add record to the log, and removing a key appends a tombstone record, so the file is never
+ * rewritten when keys are added or removed. The keys are located using an open addressing hash index which is stored
+ * in a memory-mapped file next to the log (with the <tt>.idx</tt> extension), and which is reused when the repository
+ * is started again. If the index is missing or not in sync with the log, then it is rebuilt (or caught up) by reading
+ * the log sequentially. In front of the index is an in-memory bloom filter, so most lookups of keys which are not in
+ * the repository do not touch the index or the log.
+ * <p/>
+ * The removed keys take up space in the log until the log is compacted, which rewrites the log with only the live
+ * keys. Compaction happens in the background when the ratio of dead bytes in the log exceeds the compaction ratio,
+ * if this repository has a {@link CamelContext} to create the background thread; otherwise it can be triggered by
+ * calling {@link #compact()}. The live keys are copied to the new log without holding the lock of the repository, so
+ * keys can still be added and looked up while compacting.
+ */
+@ManagedResource(description = "Append-only file based idempotent repository")
+public class AppendOnlyFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppendOnlyFileIdempotentRepository.class);
+
+    private static final byte ADD = 1;
+    private static final byte TOMBSTONE = 0;
+    private static final int RECORD_HEADER_SIZE = 5;
+
+    // the index file has a header followed by the slots, where each slot is the hash of the key and the offset
+    // of its add record in the log (plus one, so zero is an empty slot)
+    private static final long MAGIC = 0x43616d656c494458L;
+    private static final int HEADER_SIZE = 64;
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_CAPACITY = 8;
+    private static final int HEADER_LOG_LENGTH = 16;
+    private static final int HEADER_DEAD_BYTES = 24;
+    private static final int SLOT_SIZE = 16;
+    private static final long DELETED = -1;
+    private static final int MAX_CAPACITY = 1 << 26;
+
+    private CamelContext camelContext;
+    private File fileStore;
+    private int initialCapacity = 1 << 16;
+    private int maxIndexCapacity = MAX_CAPACITY;
+    private double falsePositiveProbability = 0.01;
+    private double compactionRatio = 0.5;
+    private long compactionInterval = 60000;
+    private boolean sync;
+
+    private FileChannel log;
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private int capacity;
+    private int maxCapacity;
+    private int size;
+    private int deletedSlots;
+    private long logLength;
+    private long deadBytes;
+    private BloomFilter bloomFilter;
+    private boolean compacting;
+    private long generation;
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> compactionTask;
+
+    public AppendOnlyFileIdempotentRepository() {
+    }
+
+    public AppendOnlyFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new append-only file based repository.
+     *
+     * @param fileStore  the file store
+     */
+    public static IdempotentRepository appendOnlyFileIdempotentRepository(File fileStore) {
+        return new AppendOnlyFileIdempotentRepository(fileStore);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public synchronized boolean add(String key) {
+        long hash = BloomFilter.hash(key);
+        try {
+            if (bloomFilter.mightContain(hash) && findSlot(key, hash) >= 0) {
+                return false;
+            }
+            // make room in the index before the key is appended to the log, so a full index does not leave the
+            // key in the log without being indexed
+            ensureCapacity();
+            long offset = append(ADD, key.getBytes(StandardCharsets.UTF_8));
+            insert(hash, offset);
+            bloomFilter.put(hash);
+            writeHeader();
+            return true;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public synchronized boolean contains(String key) {
+        long hash = BloomFilter.hash(key);
+        try {
+            return bloomFilter.mightContain(hash) && findSlot(key, hash) >= 0;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public synchronized boolean remove(String key) {
+        long hash = BloomFilter.hash(key);
+        try {
+            int slot = bloomFilter.mightContain(hash) ? findSlot(key, hash) : -1;
+            if (slot < 0) {
+                return false;
+            }
+            byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+            append(TOMBSTONE, bytes);
+            markDeleted(slot);
+            // both the add record and the tombstone are now dead
+            deadBytes += 2L * (RECORD_HEADER_SIZE + bytes.length);
+            writeHeader();
+            return true;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public synchronized void clear() {
+        try {
+            log.truncate(0);
+            logLength = 0;
+            deadBytes = 0;
+            // abort any compaction in progress
+            generation++;
+            createIndex(initialCapacity);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Compacts the log by rewriting it with only the live keys.
+     * <p/>
+     * The lock of the repository is only held while taking a snapshot of the live keys, and while appending the records
+     * added meanwhile to the new log and swapping the logs.
+     */
+    @ManagedOperation(description = "Compacts the log by rewriting it with only the live keys")
+    public void compact() throws IOException {
+        long[] offsets;
+        long snapshotLength;
+        long snapshotDeadBytes;
+        long snapshotGeneration;
+        synchronized (this) {
+            if (deadBytes == 0 || compacting) {
+                return;
+            }
+            LOG.debug("Compacting idempotent filestore: {} with {} dead bytes of {} bytes", fileStore, deadBytes, logLength);
+            compacting = true;
+            snapshotLength = logLength;
+            snapshotDeadBytes = deadBytes;
+            snapshotGeneration = generation;
+            offsets = liveOffsets();
+        }
+
+        Path compacted = new File(fileStore.getPath() + ".compact").toPath();
+        try {
+            long[] newOffsets = new long[offsets.length];
+            long newLength = copyLiveRecords(offsets, newOffsets, snapshotLength, compacted);
+            synchronized (this) {
+                if (generation != snapshotGeneration) {
+                    LOG.debug("Compacting idempotent filestore: {} aborted as the store was cleared or stopped", fileStore);
+                    return;
+                }
+                swapLog(compacted, offsets, newOffsets, snapshotLength, newLength);
+                // the dead records of the snapshot are gone, but the records removed meanwhile are still in the log
+                deadBytes -= snapshotDeadBytes;
+                LOG.debug("Compacted idempotent filestore: {} from {} to {} bytes", fileStore, snapshotLength, newLength);
+                if (deletedSlots > 0) {
+                    // also purge the deleted slots from the index
+                    rehash(capacity);
+                } else {
+                    index.putLong(HEADER_MAGIC, MAGIC);
+                    writeHeader();
+                }
+                index.force();
+            }
+        } finally {
+            synchronized (this) {
+                compacting = false;
+            }
+            Files.deleteIfExists(compacted);
+        }
+    }
+
+    /**
+     * Compacts the log if the ratio of dead bytes exceeds the compaction ratio.
+     */
+    protected void compactIfNeeded() {
+        synchronized (this) {
+            if (!isRunAllowed() || deadBytes == 0 || deadBytes < logLength * compactionRatio) {
+                return;
+            }
+        }
+        try {
+            compact();
+        } catch (Throwable e) {
+            LOG.warn("Error compacting idempotent filestore: " + fileStore + ". This exception is ignored.", e);
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    public int getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    /**
+     * Sets the initial number of slots of the index, which is grown when its three quarters full.
+     * <p/>
+     * The default is 65536.
+     */
+    public void setInitialCapacity(int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+
+    public int getMaxIndexCapacity() {
+        return maxIndexCapacity;
+    }
+
+    /**
+     * Sets the maximum number of slots the index can grow to, which limits the number of keys in the store to three
+     * quarters of the slots. Adding a key fails with an {@link IllegalStateException} when the index is full.
+     * <p/>
+     * The default and highest value is 67108864.
+     */
+    public void setMaxIndexCapacity(int maxIndexCapacity) {
+        this.maxIndexCapacity = maxIndexCapacity;
+    }
+
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * Sets the false positive probability of the bloom filter, when the index is full.
+     * <p/>
+     * The default is 0.01.
+     */
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    @ManagedAttribute(description = "The ratio of dead bytes in the log which triggers compaction")
+    public double getCompactionRatio() {
+        return compactionRatio;
+    }
+
+    /**
+     * Sets the ratio of dead bytes (removed keys) in the log which triggers compaction.
+     * <p/>
+     * The default is 0.5.
+     */
+    @ManagedAttribute(description = "The ratio of dead bytes in the log which triggers compaction")
+    public void setCompactionRatio(double compactionRatio) {
+        this.compactionRatio = compactionRatio;
+    }
+
+    public long getCompactionInterval() {
+        return compactionInterval;
+    }
+
+    /**
+     * Sets the interval in millis the background task checks whether the log should be compacted. You can set
+     * the value to 0 or negative to turn off background compaction.
+     * <p/>
+     * The default is 60000.
+     */
+    public void setCompactionInterval(long compactionInterval) {
+        this.compactionInterval = compactionInterval;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether to force the log to the storage device after each write. This is by default false, which leaves it
+     * to the operating system when the log is written to the storage device.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    @ManagedAttribute(description = "The number of keys in the store")
+    public synchronized int getSize() {
+        return size;
+    }
+
+    @ManagedAttribute(description = "The size of the log in bytes")
+    public synchronized long getLogSize() {
+        return logLength;
+    }
+
+    @ManagedAttribute(description = "The number of bytes in the log of the removed keys")
+    public synchronized long getDeadBytes() {
+        return deadBytes;
+    }
+
+    @ManagedAttribute(description = "The number of slots in the index")
+    public synchronized int getIndexCapacity() {
+        return capacity;
+    }
+
+    @ManagedAttribute(description = "The ratio of bits set in the bloom filter")
+    public synchronized double getBloomFilterFillRatio() {
+        return bloomFilter != null ? bloomFilter.getFillRatio() : 0;
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    private File getIndexFile() {
+        return new File(fileStore.getPath() + ".idx");
+    }
+
+    private static int spread(long hash) {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static long slotPosition(int slot) {
+        return HEADER_SIZE + (long) slot * SLOT_SIZE;
+    }
+
+    private long slotHash(int slot) {
+        return index.getLong((int) slotPosition(slot));
+    }
+
+    private long slotOffset(int slot) {
+        return index.getLong((int) slotPosition(slot) + 8);
+    }
+
+    private int findSlot(String key, long hash) throws IOException {
+        int mask = capacity - 1;
+        for (int i = spread(hash) & mask;; i = (i + 1) & mask) {
+            long offset = slotOffset(i);
+            if (offset == 0) {
+                return -1;
+            }
+            if (offset != DELETED && slotHash(i) == hash && key.equals(readKey(offset - 1))) {
+                return i;
+            }
+        }
+    }
+
+    private int findSlotByOffset(long hash, long offset) {
+        int mask = capacity - 1;
+        for (int i = spread(hash) & mask;; i = (i + 1) & mask) {
+            long slotOffset = slotOffset(i);
+            if (slotOffset == 0) {
+                return -1;
+            }
+            if (slotOffset == offset + 1) {
+                return i;
+            }
+        }
+    }
+
+    private void insert(long hash, long offset) {
+        int mask = capacity - 1;
+        for (int i = spread(hash) & mask;; i = (i + 1) & mask) {
+            long slotOffset = slotOffset(i);
+            if (slotOffset == 0 || slotOffset == DELETED) {
+                if (slotOffset == DELETED) {
+                    deletedSlots--;
+                }
+                index.putLong((int) slotPosition(i), hash);
+                index.putLong((int) slotPosition(i) + 8, offset + 1);
+                size++;
+                return;
+            }
+        }
+    }
+
+    /**
+     * The sorted offsets of the add records of the live keys.
+     */
+    private long[] liveOffsets() {
+        long[] answer = new long[size];
+        int count = 0;
+        for (int i = 0; i < capacity; i++) {
+            long offset = slotOffset(i);
+            if (offset != 0 && offset != DELETED) {
+                answer[count++] = offset - 1;
+            }
+        }
+        Arrays.sort(answer, 0, count);
+        return count == answer.length ? answer : Arrays.copyOf(answer, count);
+    }
+
+    /**
+     * Copies the records at the given offsets of the log to the compacted log, which can be done without holding the
+     * lock as the log is only appended to.
+     *
+     * @return the length of the compacted log
+     */
+    private long copyLiveRecords(long[] offsets, long[] newOffsets, long length, Path compacted) throws IOException {
+        long newLength = 0;
+        int next = 0;
+        try (FileChannel in = FileChannel.open(fileStore.toPath(), StandardOpenOption.READ);
+             DataInputStream dis = new DataInputStream(new BufferedInputStream(Channels.newInputStream(in), 65536));
+             DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(compacted), 65536))) {
+            long pos = 0;
+            while (pos < length && next < offsets.length) {
+                byte op = dis.readByte();
+                int len = dis.readInt();
+                if (pos == offsets[next]) {
+                    byte[] bytes = new byte[len];
+                    dis.readFully(bytes);
+                    dos.writeByte(op);
+                    dos.writeInt(len);
+                    dos.write(bytes);
+                    newOffsets[next++] = newLength;
+                    newLength += RECORD_HEADER_SIZE + len;
+                } else {
+                    skipFully(dis, len);
+                }
+                pos += RECORD_HEADER_SIZE + len;
+            }
+        }
+        return newLength;
+    }
+
+    private void skipFully(DataInputStream dis, int len) throws IOException {
+        while (len > 0) {
+            int skipped = dis.skipBytes(len);
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of idempotent filestore: " + fileStore);
+            }
+            len -= skipped;
+        }
+    }
+
+    /**
+     * Appends the records added after the snapshot to the compacted log, and replaces the log with the compacted log.
+     */
+    private void swapLog(Path compacted, long[] offsets, long[] newOffsets, long snapshotLength, long newLength) throws IOException {
+        long tail = logLength - snapshotLength;
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+            out.position(newLength);
+            long pos = 0;
+            while (pos < tail) {
+                pos += log.transferTo(snapshotLength + pos, tail - pos, out);
+            }
+            out.force(true);
+        }
+
+        // mark the index as not in sync with the log, so its rebuilt from the log if we crash while swapping
+        index.putLong(HEADER_MAGIC, 0);
+        index.force();
+
+        Path path = fileStore.toPath();
+        log.close();
+        move(compacted, path);
+        log = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        // update the slots to the new offsets of the records
+        for (int i = 0; i < capacity; i++) {
+            long offset = slotOffset(i);
+            if (offset != 0 && offset != DELETED) {
+                long newOffset;
+                if (offset - 1 >= snapshotLength) {
+                    newOffset = offset - 1 - snapshotLength + newLength;
+                } else {
+                    int found = Arrays.binarySearch(offsets, offset - 1);
+                    if (found < 0) {
+                        throw new IllegalStateException("The index of idempotent filestore: " + fileStore + " refers to a removed record at " + (offset - 1));
+                    }
+                    newOffset = newOffsets[found];
+                }
+                index.putLong((int) slotPosition(i) + 8, newOffset + 1);
+            }
+        }
+        logLength = newLength + tail;
+    }
+
+    private void markDeleted(int slot) {
+        index.putLong((int) slotPosition(slot), 0);
+        index.putLong((int) slotPosition(slot) + 8, DELETED);
+        size--;
+        deletedSlots++;
+    }
+
+    private String readKey(long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        readFully(header, offset);
+        ByteBuffer bytes = ByteBuffer.allocate(header.getInt(1));
+        readFully(bytes, offset + RECORD_HEADER_SIZE);
+        return new String(bytes.array(), StandardCharsets.UTF_8);
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = log.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of idempotent filestore: " + fileStore);
+            }
+        }
+    }
+
+    private long append(byte op, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + bytes.length);
+        buffer.put(op).putInt(bytes.length).put(bytes).flip();
+        long offset = logLength;
+        while (buffer.hasRemaining()) {
+            log.write(buffer, offset + buffer.position());
+        }
+        if (sync) {
+            log.force(false);
+        }
+        logLength += RECORD_HEADER_SIZE + bytes.length;
+        return offset;
+    }
+
+    private void writeHeader() {
+        index.putLong(HEADER_LOG_LENGTH, logLength);
+        index.putLong(HEADER_DEAD_BYTES, deadBytes);
+    }
+
+    /**
+     * Grows the index, or purges its deleted slots, if adding another key would fill more than three quarters of the
+     * slots. This keeps a quarter of the slots empty, which the probing relies on to terminate.
+     *
+     * @throws IllegalStateException if the index is full and cannot grow any further
+     */
+    private void ensureCapacity() throws IOException {
+        if ((size + deletedSlots + 1) * 4L <= capacity * 3L) {
+            return;
+        }
+        if ((size + 1) * 4L <= capacity) {
+            // mostly deleted slots, so purge them
+            rehash(capacity);
+        } else if (capacity < maxCapacity) {
+            rehash(capacity * 2);
+        } else if ((size + 1) * 4L <= capacity * 3L) {
+            rehash(capacity);
+        } else {
+            throw new IllegalStateException("The index of idempotent filestore: " + fileStore + " is full with " + size + " keys");
+        }
+    }
+
+    private static int capacityFor(int capacity) {
+        int answer = 16;
+        while (answer < capacity && answer < MAX_CAPACITY) {
+            answer <<= 1;
+        }
+        return answer;
+    }
+
+    /**
+     * Creates a new empty index with the given capacity.
+     */
+    private void createIndex(int newCapacity) throws IOException {
+        closeIndex();
+        Path path = getIndexFile().toPath();
+        Files.deleteIfExists(path);
+        capacity = Math.min(capacityFor(newCapacity), maxCapacity);
+        indexChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, slotPosition(capacity));
+        index.putLong(HEADER_MAGIC, MAGIC);
+        index.putLong(HEADER_CAPACITY, capacity);
+        size = 0;
+        deletedSlots = 0;
+        writeHeader();
+        bloomFilter = new BloomFilter(capacity * 3L / 4, falsePositiveProbability);
+    }
+
+    /**
+     * Opens the existing index, if its in sync with the log.
+     */
+    private boolean openIndex(long actualLogLength) throws IOException {
+        File file = getIndexFile();
+        if (!file.exists() || file.length() < HEADER_SIZE) {
+            return false;
+        }
+        indexChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, file.length());
+        long cap = index.getLong(HEADER_CAPACITY);
+        long length = index.getLong(HEADER_LOG_LENGTH);
+        if (index.getLong(HEADER_MAGIC) != MAGIC || cap < 16 || cap > MAX_CAPACITY || Long.bitCount(cap) != 1
+                || file.length() != slotPosition((int) cap) || length < 0 || length > actualLogLength) {
+            LOG.debug("The index of idempotent filestore: {} is not in sync with the log", fileStore);
+            return false;
+        }
+        capacity = (int) cap;
+        logLength = length;
+        deadBytes = index.getLong(HEADER_DEAD_BYTES);
+        size = 0;
+        deletedSlots = 0;
+        for (int i = 0; i < capacity; i++) {
+            long offset = slotOffset(i);
+            if (offset == DELETED) {
+                deletedSlots++;
+            } else if (offset != 0) {
+                size++;
+            }
+        }
+        rebuildBloomFilter();
+        return true;
+    }
+
+    /**
+     * Rehashes the live slots of the index into a new index with the given capacity.
+     */
+    private void rehash(int newCapacity) throws IOException {
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("The index of idempotent filestore: " + fileStore + " cannot grow beyond " + MAX_CAPACITY + " slots");
+        }
+        LOG.debug("Rehashing index of idempotent filestore: {} from {} to {} slots", fileStore, capacity, newCapacity);
+
+        Path path = getIndexFile().toPath();
+        Path tmp = new File(path.toString() + ".tmp").toPath();
+        Files.deleteIfExists(tmp);
+        FileChannel newChannel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer newIndex = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, slotPosition(newCapacity));
+        int mask = newCapacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            long offset = slotOffset(i);
+            if (offset != 0 && offset != DELETED) {
+                long hash = slotHash(i);
+                int j = spread(hash) & mask;
+                while (newIndex.getLong((int) slotPosition(j) + 8) != 0) {
+                    j = (j + 1) & mask;
+                }
+                newIndex.putLong((int) slotPosition(j), hash);
+                newIndex.putLong((int) slotPosition(j) + 8, offset);
+            }
+        }
+        newIndex.putLong(HEADER_MAGIC, MAGIC);
+        newIndex.putLong(HEADER_CAPACITY, newCapacity);
+        newIndex.force();
+        closeIndex();
+        move(tmp, path);
+
+        boolean grown = newCapacity != capacity;
+        indexChannel = newChannel;
+        index = newIndex;
+        capacity = newCapacity;
+        deletedSlots = 0;
+        writeHeader();
+        if (grown) {
+            rebuildBloomFilter();
+        }
+    }
+
+    private void rebuildBloomFilter() {
+        bloomFilter = new BloomFilter(capacity * 3L / 4, falsePositiveProbability);
+        for (int i = 0; i < capacity; i++) {
+            long offset = slotOffset(i);
+            if (offset != 0 && offset != DELETED) {
+                bloomFilter.put(slotHash(i));
+            }
+        }
+    }
+
+    /**
+     * Replays the log from the given offset into the index.
+     */
+    private void replay(long from, long end) throws IOException {
+        LOG.debug("Replaying idempotent filestore: {} from {} to {} bytes", fileStore, from, end);
+        long pos = from;
+        try (FileChannel in = FileChannel.open(fileStore.toPath(), StandardOpenOption.READ)) {
+            in.position(from);
+            DataInputStream dis = new DataInputStream(new BufferedInputStream(Channels.newInputStream(in), 65536));
+            while (end - pos >= RECORD_HEADER_SIZE) {
+                byte op = dis.readByte();
+                int len = dis.readInt();
+                if (len < 0 || pos + RECORD_HEADER_SIZE + len > end) {
+                    break;
+                }
+                byte[] bytes = new byte[len];
+                dis.readFully(bytes);
+                String key = new String(bytes, StandardCharsets.UTF_8);
+                long hash = BloomFilter.hash(key);
+                int slot = findSlot(key, hash);
+                if (op == ADD && slot < 0) {
+                    ensureCapacity();
+                    insert(hash, pos);
+                    bloomFilter.put(hash);
+                } else if (op == ADD) {
+                    deadBytes += RECORD_HEADER_SIZE + len;
+                } else if (slot >= 0) {
+                    markDeleted(slot);
+                    deadBytes += 2L * (RECORD_HEADER_SIZE + len);
+                } else {
+                    deadBytes += RECORD_HEADER_SIZE + len;
+                }
+                pos += RECORD_HEADER_SIZE + len;
+            }
+        }
+        if (pos < end) {
+            LOG.warn("Truncating incomplete record at the end of idempotent filestore: {} at {} bytes", fileStore, pos);
+            log.truncate(pos);
+        }
+        logLength = pos;
+        writeHeader();
+    }
+
+    /**
+     * Unmaps and closes the index, as the mapping would otherwise stay until the buffer is garbage collected.
+     */
+    private void closeIndex() throws IOException {
+        if (index != null) {
+            MappedByteBuffer buffer = index;
+            index = null;
+            DirectBufferCleaner.clean(buffer);
+        }
+        if (indexChannel != null) {
+            indexChannel.close();
+            indexChannel = null;
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    protected synchronized void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        // create store parent directory if missing
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists()) {
+            LOG.debug("Creating parent directory of filestore: {}", fileStore);
+            parent.mkdirs();
+        }
+        maxCapacity = capacityFor(maxIndexCapacity);
+        log = FileChannel.open(fileStore.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long actualLogLength = log.size();
+
+        if (!openIndex(actualLogLength)) {
+            // rebuild the index from the log
+            logLength = 0;
+            deadBytes = 0;
+            createIndex(initialCapacity);
+            replay(0, actualLogLength);
+        } else if (logLength < actualLogLength) {
+            // catch up with the records appended after the index was last in sync
+            replay(logLength, actualLogLength);
+        }
+        LOG.debug("Loaded {} keys from idempotent filestore: {}", size, fileStore);
+
+        if (compactionInterval > 0 && camelContext != null) {
+            executor = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "AppendOnlyFileIdempotentRepositoryCompaction");
+            compactionTask = executor.scheduleWithFixedDelay(this::compactIfNeeded, compactionInterval, compactionInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        // abort any compaction in progress
+        generation++;
+        if (compactionTask != null) {
+            compactionTask.cancel(false);
+            compactionTask = null;
+        }
+        if (executor != null) {
+            camelContext.getExecutorServiceManager().shutdown(executor);
+            executor = null;
+        }
+        if (index != null) {
+            writeHeader();
+            index.force();
+        }
+        closeIndex();
+        if (log != null) {
+            log.close();
+            log = null;
+        }
+        bloomFilter = null;
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.Arrays;
+
+/**
+ * A bloom filter of 64-bit hashes, which uses double hashing of the hash and the hash with its halves swapped to
+ * derive the bit positions. The positions are computed with 64-bit arithmetic, so they cover all the bits of filters
+ * with more than 2<sup>31</sup> bits.
+ * <p/>
+ * This implementation is not thread safe.
+ */
+final class BloomFilter {
+
+    private final long[] bits;
+    private final long numBits;
+    private final int numHashFunctions;
+    private long bitCount;
+
+    /**
+     * Creates a bloom filter.
+     *
+     * @param expectedInsertions the number of expected insertions
+     * @param fpp                the desired false positive probability when the expected insertions has been reached
+     */
+    BloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("The expected insertions must be a positive number, was: " + expectedInsertions);
+        }
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("The false positive probability must be between 0 and 1, was: " + fpp);
+        }
+        long m = (long) (-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        // round up to whole longs
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (m + 63) >>> 6));
+        this.bits = new long[words];
+        this.numBits = (long) words << 6;
+        this.numHashFunctions = (int) Math.max(1, Math.round((double) numBits / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Adds the hash to the filter.
+     *
+     * @return <tt>true</tt> if the filter changed, which means the hash was definitely not added before
+     */
+    boolean put(long hash) {
+        long step = Long.rotateLeft(hash, 32);
+        boolean changed = false;
+        long combined = hash;
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = (combined & Long.MAX_VALUE) % numBits;
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                bitCount++;
+                changed = true;
+            }
+            combined += step;
+        }
+        return changed;
+    }
+
+    /**
+     * Whether the hash might have been added to the filter, or <tt>false</tt> if it was definitely not.
+     */
+    boolean mightContain(long hash) {
+        long step = Long.rotateLeft(hash, 32);
+        long combined = hash;
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = (combined & Long.MAX_VALUE) % numBits;
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+            combined += step;
+        }
+        return true;
+    }
+
+    void clear() {
+        Arrays.fill(bits, 0);
+        bitCount = 0;
+    }
+
+    long getNumBits() {
+        return numBits;
+    }
+
+    int getNumHashFunctions() {
+        return numHashFunctions;
+    }
+
+    /**
+     * The ratio of bits which are set.
+     */
+    double getFillRatio() {
+        return (double) bitCount / numBits;
+    }
+
+    /**
+     * The probability that {@link #mightContain(long)} returns <tt>true</tt> for a hash which has not been added,
+     * estimated from the current fill ratio.
+     */
+    double getExpectedFpp() {
+        return Math.pow(getFillRatio(), numHashFunctions);
+    }
+
+    /**
+     * Computes a 64-bit hash of the key (64-bit FNV-1a of the characters, finalized with the murmur3 mixer).
+     */
+    static long hash(CharSequence key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+}
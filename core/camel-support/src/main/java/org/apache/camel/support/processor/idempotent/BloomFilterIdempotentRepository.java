@@ -0,0 +1,405 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A probabilistic memory based implementation of {@link org.apache.camel.spi.IdempotentRepository} which uses bloom
+ * filters, and therefore uses a small fixed amount of memory per key regardless of the size of the keys.
+ * <p/>
+ * As a bloom filter can report false positives, a small fraction (the false positive probability) of new keys are
+ * reported as already in the repository, and the messages will then be treated as duplicates.
+ * <p/>
+ * The filters are scalable, so when a filter has reached its expected number of insertions, a new filter with twice
+ * the capacity and a lower false positive probability is added, which keeps the overall false positive probability
+ * below the configured value. The keys can expire by using a time window, which is divided into a number of
+ * generations of filters. The generations are rotated so the oldest generation is dropped, which means a key expires
+ * after being in the repository between <tt>expiryWindow * (generations - 1) / generations</tt> and
+ * <tt>expiryWindow</tt> millis.
+ * <p/>
+ * As keys cannot be removed from a bloom filter, keys which have been added are kept as pending until they are
+ * confirmed (which the idempotent consumer does when the exchange is complete), and only pending keys can be removed.
+ * Keys which are not confirmed within the confirm window, or when there are more than the maximum number of pending
+ * keys, are moved to the filters, as are the keys older than a generation when the generations are rotated. If the
+ * confirm window is turned off, then the keys are added to the filters right away and cannot be removed.
+ */
+@ManagedResource(description = "Bloom filter based idempotent repository")
+public class BloomFilterIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    // the ratio the false positive probability is tightened with for each filter added to a generation
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    // the pending keys in the order they were added, so the oldest keys are moved to the filters first
+    private final Map<String, Long> pending = new LinkedHashMap<>();
+    private final Deque<List<Filter>> generations = new ArrayDeque<>();
+    private long expectedInsertions = 1000000;
+    private double falsePositiveProbability = 0.01;
+    private long expiryWindow;
+    private int generationCount = 2;
+    private long confirmWindow = 60000;
+    private int maxPending = 10000;
+    private long generationStart;
+
+    public BloomFilterIdempotentRepository() {
+    }
+
+    public BloomFilterIdempotentRepository(long expectedInsertions, double falsePositiveProbability) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    /**
+     * Creates a new bloom filter based repository.
+     *
+     * @param expectedInsertions        the expected number of keys
+     * @param falsePositiveProbability  the false positive probability
+     */
+    public static IdempotentRepository bloomFilterIdempotentRepository(long expectedInsertions, double falsePositiveProbability) {
+        return new BloomFilterIdempotentRepository(expectedInsertions, falsePositiveProbability);
+    }
+
+    /**
+     * Creates a new bloom filter based repository where the keys expire.
+     *
+     * @param expectedInsertions        the expected number of keys within the expiry window
+     * @param falsePositiveProbability  the false positive probability
+     * @param expiryWindow              the expiry window in millis
+     */
+    public static IdempotentRepository bloomFilterIdempotentRepository(long expectedInsertions, double falsePositiveProbability, long expiryWindow) {
+        BloomFilterIdempotentRepository answer = new BloomFilterIdempotentRepository(expectedInsertions, falsePositiveProbability);
+        answer.setExpiryWindow(expiryWindow);
+        return answer;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public synchronized boolean add(String key) {
+        long now = currentTime();
+        rotate(now);
+        long hash = BloomFilter.hash(key);
+        if (pending.containsKey(key) || mightContain(hash)) {
+            return false;
+        }
+        if (confirmWindow <= 0) {
+            put(hash);
+        } else {
+            pending.put(key, now);
+            movePending(now, confirmWindow);
+        }
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public synchronized boolean contains(String key) {
+        rotate(currentTime());
+        return pending.containsKey(key) || mightContain(BloomFilter.hash(key));
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public synchronized boolean remove(String key) {
+        // only pending keys can be removed
+        return pending.remove(key) != null;
+    }
+
+    @Override
+    @ManagedOperation(description = "Confirms the key, after the exchange has been processed successfully")
+    public synchronized boolean confirm(String key) {
+        rotate(currentTime());
+        if (pending.remove(key) != null) {
+            put(BloomFilter.hash(key));
+        }
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public synchronized void clear() {
+        pending.clear();
+        generations.clear();
+        generations.addFirst(newGeneration());
+        generationStart = currentTime();
+    }
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * Sets the expected number of keys (within the expiry window), which the filters are sized for. If more keys
+     * are added, then the filters are scaled up.
+     * <p/>
+     * The default is 1000000.
+     */
+    public void setExpectedInsertions(long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    @ManagedAttribute(description = "The configured false positive probability")
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * Sets the false positive probability, which is the probability that a new key is reported as already in the
+     * repository.
+     * <p/>
+     * The default is 0.01.
+     */
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    @ManagedAttribute(description = "The expiry window in millis")
+    public long getExpiryWindow() {
+        return expiryWindow;
+    }
+
+    /**
+     * Sets the time window in millis after which the keys expire. You can set the value to 0 or negative to have
+     * the keys never expire.
+     * <p/>
+     * The default is 0.
+     */
+    public void setExpiryWindow(long expiryWindow) {
+        this.expiryWindow = expiryWindow;
+    }
+
+    @ManagedAttribute(description = "The number of generations the expiry window is divided into")
+    public int getGenerations() {
+        return generationCount;
+    }
+
+    /**
+     * Sets the number of generations the expiry window is divided into. More generations makes the expiry more
+     * accurate, at the cost of more filters to check.
+     * <p/>
+     * The default is 2.
+     */
+    public void setGenerations(int generations) {
+        if (generations < 1) {
+            throw new IllegalArgumentException("The generations must be at least 1, was: " + generations);
+        }
+        this.generationCount = generations;
+    }
+
+    @ManagedAttribute(description = "The time window in millis the added keys can be confirmed or removed within")
+    public long getConfirmWindow() {
+        return confirmWindow;
+    }
+
+    /**
+     * Sets the time window in millis the added keys can be confirmed or removed within, after which they are moved to
+     * the filters. You can set the value to 0 or negative to add the keys to the filters right away, which suits users
+     * of the repository which never confirm or remove the keys, such as the file consumer.
+     * <p/>
+     * The default is 60000.
+     */
+    public void setConfirmWindow(long confirmWindow) {
+        this.confirmWindow = confirmWindow;
+    }
+
+    @ManagedAttribute(description = "The maximum number of pending keys which are not confirmed")
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    /**
+     * Sets the maximum number of pending keys which are not confirmed. When there are more pending keys, then the
+     * oldest keys are moved to the filters.
+     * <p/>
+     * The default is 10000.
+     */
+    public void setMaxPending(int maxPending) {
+        this.maxPending = maxPending;
+    }
+
+    @ManagedAttribute(description = "The number of pending keys which are not confirmed")
+    public synchronized int getPendingSize() {
+        return pending.size();
+    }
+
+    @ManagedAttribute(description = "The estimated number of keys in the filters")
+    public synchronized long getSize() {
+        long answer = 0;
+        for (List<Filter> generation : generations) {
+            for (Filter filter : generation) {
+                answer += filter.insertions;
+            }
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "The number of bloom filters in use")
+    public synchronized int getFilterCount() {
+        int answer = 0;
+        for (List<Filter> generation : generations) {
+            answer += generation.size();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "The number of bits used by the bloom filters")
+    public synchronized long getBitSize() {
+        long answer = 0;
+        for (List<Filter> generation : generations) {
+            for (Filter filter : generation) {
+                answer += filter.bloomFilter.getNumBits();
+            }
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "The estimated ratio of bits set in the bloom filter in use for new keys")
+    public synchronized double getFillRatio() {
+        List<Filter> current = generations.peekFirst();
+        return current != null ? current.get(current.size() - 1).bloomFilter.getFillRatio() : 0;
+    }
+
+    @ManagedAttribute(description = "The estimated false positive probability from the current fill ratio of the bloom filters")
+    public synchronized double getExpectedFalsePositiveProbability() {
+        // a key is a false positive if any of the filters report a false positive
+        double none = 1;
+        for (List<Filter> generation : generations) {
+            for (Filter filter : generation) {
+                none *= 1 - filter.bloomFilter.getExpectedFpp();
+            }
+        }
+        return 1 - none;
+    }
+
+    protected long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private boolean mightContain(long hash) {
+        for (List<Filter> generation : generations) {
+            for (Filter filter : generation) {
+                if (filter.bloomFilter.mightContain(hash)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void put(long hash) {
+        List<Filter> current = generations.getFirst();
+        Filter filter = current.get(current.size() - 1);
+        if (filter.insertions >= filter.capacity) {
+            // scale up with a new filter
+            filter = new Filter(filter.capacity * 2, filter.fpp * TIGHTENING_RATIO);
+            current.add(filter);
+        }
+        filter.bloomFilter.put(hash);
+        filter.insertions++;
+    }
+
+    private List<Filter> newGeneration() {
+        // divide the false positive probability among the generations and the scaled filters
+        int count = expiryWindow > 0 ? generationCount : 1;
+        double fpp = falsePositiveProbability * (1 - TIGHTENING_RATIO) / count;
+        long capacity = Math.max(1, expectedInsertions / count);
+        List<Filter> answer = new ArrayList<>(2);
+        answer.add(new Filter(capacity, fpp));
+        return answer;
+    }
+
+    private void rotate(long now) {
+        if (generations.isEmpty()) {
+            generations.addFirst(newGeneration());
+            generationStart = now;
+        }
+        if (expiryWindow <= 0) {
+            return;
+        }
+        long period = Math.max(1, expiryWindow / generationCount);
+        if (now - generationStart < period) {
+            return;
+        }
+
+        // the keys which has not been confirmed within the period are moved to the filters
+        movePending(now, period);
+
+        // skip the generations for the periods with no activity
+        long periods = Math.min(generationCount, (now - generationStart) / period);
+        for (long i = 0; i < periods; i++) {
+            generations.addFirst(newGeneration());
+            while (generations.size() > generationCount) {
+                generations.removeLast();
+            }
+        }
+        generationStart = now - (now - generationStart) % period;
+    }
+
+    /**
+     * Moves the oldest pending keys to the filters, while they are older than the window or there are too many.
+     */
+    private void movePending(long now, long window) {
+        for (Iterator<Map.Entry<String, Long>> it = pending.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<String, Long> entry = it.next();
+            if (pending.size() <= maxPending && now - entry.getValue() < window) {
+                break;
+            }
+            put(BloomFilter.hash(entry.getKey()));
+            it.remove();
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (generations.isEmpty()) {
+            clear();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        synchronized (this) {
+            pending.clear();
+            generations.clear();
+        }
+    }
+
+    private static final class Filter {
+        private final BloomFilter bloomFilter;
+        private final long capacity;
+        private final double fpp;
+        private long insertions;
+
+        Filter(long capacity, double fpp) {
+            this.bloomFilter = new BloomFilter(capacity, fpp);
+            this.capacity = capacity;
+            this.fpp = fpp;
+        }
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A pool of byte arrays used as buffers when copying streams, to avoid allocating a new buffer for every copy.
+ * <p/>
+ * The buffers are pooled in size classes of powers of two, from {@link #MIN_SIZE} to {@link #MAX_SIZE} bytes, and
+ * the size of an acquired buffer is the size class which is equal or larger than the requested size. Each thread
+ * keeps one buffer per size class up to {@link #MAX_THREAD_LOCAL_SIZE} bytes, in front of a global bounded pool per
+ * size class, so the common case of a thread copying a stream does not contend with other threads.
+ * <p/>
+ * Buffers larger than {@link #MAX_SIZE} are not pooled. A buffer must not be used after it has been released.
+ * <p/>
+ * The pool should be cleared with {@link #clear()} when no longer in use, which also drops the buffers kept by the
+ * threads (such as the threads of a shared thread pool) which would otherwise outlive the pool.
+ */
+public final class ByteArrayPool {
+
+    /**
+     * The smallest size class
+     */
+    public static final int MIN_SIZE = 1024;
+
+    /**
+     * The largest size class, larger buffers are not pooled
+     */
+    public static final int MAX_SIZE = 256 * 1024;
+
+    /**
+     * The largest size class which is kept per thread
+     */
+    public static final int MAX_THREAD_LOCAL_SIZE = 16 * 1024;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_SIZE);
+    private static final int SIZE_CLASSES = Integer.numberOfTrailingZeros(MAX_SIZE) - MIN_SHIFT + 1;
+    private static final int THREAD_LOCAL_SIZE_CLASSES = Integer.numberOfTrailingZeros(MAX_THREAD_LOCAL_SIZE) - MIN_SHIFT + 1;
+
+    private final ThreadLocal<byte[][]> threadLocal = ThreadLocal.withInitial(this::createThreadLocalBuffers);
+    // the buffers kept per thread, which are weakly referenced so they are gone with their thread
+    private final Set<byte[][]> threadLocalBuffers = Collections.newSetFromMap(new WeakHashMap<>());
+    private final ArrayBlockingQueue<byte[]>[] pools;
+    private final LongAdder acquiredCounter = new LongAdder();
+    private final LongAdder createdCounter = new LongAdder();
+    private final LongAdder releasedCounter = new LongAdder();
+    private final LongAdder discardedCounter = new LongAdder();
+
+    /**
+     * Creates a new pool.
+     *
+     * @param maxPooledPerSizeClass the maximum number of buffers to keep in the global pool per size class
+     */
+    @SuppressWarnings("unchecked")
+    public ByteArrayPool(int maxPooledPerSizeClass) {
+        if (maxPooledPerSizeClass <= 0) {
+            throw new IllegalArgumentException("MaxPooledPerSizeClass must be a positive number, was: " + maxPooledPerSizeClass);
+        }
+        pools = new ArrayBlockingQueue[SIZE_CLASSES];
+        for (int i = 0; i < SIZE_CLASSES; i++) {
+            pools[i] = new ArrayBlockingQueue<>(maxPooledPerSizeClass);
+        }
+    }
+
+    /**
+     * Acquires a buffer of at least the given size, which should be released with {@link #release(byte[])} when no
+     * longer in use.
+     *
+     * @param  size the minimum size of the buffer
+     * @return      the buffer
+     */
+    public byte[] acquire(int size) {
+        acquiredCounter.increment();
+        if (size > MAX_SIZE) {
+            createdCounter.increment();
+            return new byte[size];
+        }
+
+        int index = sizeClass(size);
+        byte[] answer = null;
+        if (index < THREAD_LOCAL_SIZE_CLASSES) {
+            byte[][] local = threadLocal.get();
+            answer = local[index];
+            local[index] = null;
+        }
+        if (answer == null) {
+            answer = pools[index].poll();
+        }
+        if (answer == null) {
+            createdCounter.increment();
+            answer = new byte[MIN_SIZE << index];
+        }
+        return answer;
+    }
+
+    /**
+     * Releases the buffer back to the pool. Buffers which was not acquired from a pool, or which the pool has no room
+     * for, are discarded.
+     *
+     * @param buffer the buffer
+     */
+    public void release(byte[] buffer) {
+        int length = buffer.length;
+        if (length < MIN_SIZE || length > MAX_SIZE || Integer.bitCount(length) != 1) {
+            discardedCounter.increment();
+            return;
+        }
+
+        int index = sizeClass(length);
+        if (index < THREAD_LOCAL_SIZE_CLASSES) {
+            byte[][] local = threadLocal.get();
+            if (local[index] == null) {
+                local[index] = buffer;
+                releasedCounter.increment();
+                return;
+            }
+        }
+        if (pools[index].offer(buffer)) {
+            releasedCounter.increment();
+        } else {
+            discardedCounter.increment();
+        }
+    }
+
+    /**
+     * Clears the pool, which drops the buffers in the global pool and the buffers kept per thread.
+     */
+    public void clear() {
+        synchronized (threadLocalBuffers) {
+            for (byte[][] local : threadLocalBuffers) {
+                Arrays.fill(local, null);
+            }
+        }
+        for (ArrayBlockingQueue<byte[]> pool : pools) {
+            pool.clear();
+        }
+    }
+
+    /**
+     * Number of buffers acquired
+     */
+    public long getAcquiredCounter() {
+        return acquiredCounter.sum();
+    }
+
+    /**
+     * Number of buffers which has been created as no pooled buffer was available
+     */
+    public long getCreatedCounter() {
+        return createdCounter.sum();
+    }
+
+    /**
+     * Number of buffers released back to the pool
+     */
+    public long getReleasedCounter() {
+        return releasedCounter.sum();
+    }
+
+    /**
+     * Number of buffers discarded as the pool had no room for them, or they could not be pooled
+     */
+    public long getDiscardedCounter() {
+        return discardedCounter.sum();
+    }
+
+    /**
+     * Total number of bytes of the buffers currently in the global pool (not including the buffers kept per thread)
+     */
+    public long getPooledSize() {
+        long answer = 0;
+        for (int i = 0; i < SIZE_CLASSES; i++) {
+            answer += (long) pools[i].size() * (MIN_SIZE << i);
+        }
+        return answer;
+    }
+
+    /**
+     * Resets the counters
+     */
+    public void resetStatistics() {
+        acquiredCounter.reset();
+        createdCounter.reset();
+        releasedCounter.reset();
+        discardedCounter.reset();
+    }
+
+    private byte[][] createThreadLocalBuffers() {
+        byte[][] answer = new byte[THREAD_LOCAL_SIZE_CLASSES][];
+        synchronized (threadLocalBuffers) {
+            threadLocalBuffers.add(answer);
+        }
+        return answer;
+    }
+
+    private static int sizeClass(int size) {
+        if (size <= MIN_SIZE) {
+            return 0;
+        }
+        // round up to the next power of two
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+    }
+
+}
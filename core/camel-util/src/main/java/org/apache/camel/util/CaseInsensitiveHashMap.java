@@ -0,0 +1,510 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, which is optimized for message headers.
+ * <p/>
+ * The entries are stored in insertion order in flat arrays together with a precomputed case insensitive hash of their
+ * keys, and the keys are looked up in an open addressing hash table, so no lower-cased copies of the keys are created.
+ * The map iterates the entries in the order they were added (and not sorted as {@link CaseInsensitiveMap}).
+ * <p/>
+ * Creating a map from another {@link CaseInsensitiveHashMap} (or putting all of it into an empty map) is cheap, as the
+ * maps share the content until either of them is modified (copy-on-write), which is common when exchanges are copied,
+ * such as in multicast and wire tap.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine. However, maps sharing the same content can safely be used by different threads.
+ */
+public class CaseInsensitiveHashMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 5296233431285407578L;
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int DELETED = -1;
+    private static final String[] EMPTY_KEYS = {};
+    private static final Object[] EMPTY_VALUES = {};
+    private static final int[] EMPTY_INTS = {};
+
+    // the entries in insertion order, where removed entries have a null key
+    private String[] keys = EMPTY_KEYS;
+    private Object[] values = EMPTY_VALUES;
+    private int[] hashes = EMPTY_INTS;
+    // the hash table with the position + 1 of the entries, or 0 if empty, or DELETED if the entry was removed
+    private int[] table = EMPTY_INTS;
+    // the number of positions in use in the entry arrays, including removed entries
+    private int used;
+    private int size;
+    // whether the arrays are shared with other maps, and must be copied before being modified
+    private transient boolean shared;
+    private transient int modCount;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+    private transient Set<String> keySet;
+
+    public CaseInsensitiveHashMap() {
+    }
+
+    public CaseInsensitiveHashMap(Map<? extends String, ?> map) {
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int slot = findSlot(key);
+        return slot != -1 ? values[table[slot] - 1] : null;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        int slot = findSlot(key);
+        return slot != -1 ? values[table[slot] - 1] : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findSlot(key) != -1;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        if (slot != -1) {
+            // keep the existing key
+            ensureNotShared();
+            int pos = table[slot] - 1;
+            Object answer = values[pos];
+            values[pos] = value;
+            return answer;
+        }
+
+        if (used == keys.length) {
+            // grow if more than half of the entries are in use, otherwise only compact away the removed entries
+            resize(size >= keys.length / 2 ? Math.max(INITIAL_CAPACITY, keys.length * 2) : keys.length);
+        } else {
+            ensureNotShared();
+        }
+        int pos = used++;
+        keys[pos] = key;
+        values[pos] = value;
+        hashes[pos] = hash;
+        insert(pos, hash);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (size == 0 && map instanceof CaseInsensitiveHashMap) {
+            CaseInsensitiveHashMap other = (CaseInsensitiveHashMap) map;
+            if (other.size > 0) {
+                // share the content until either of the maps is modified
+                keys = other.keys;
+                values = other.values;
+                hashes = other.hashes;
+                table = other.table;
+                used = other.used;
+                size = other.size;
+                shared = true;
+                other.shared = true;
+                modCount++;
+            }
+            return;
+        }
+
+        if (used + map.size() > keys.length) {
+            resize(Math.max(INITIAL_CAPACITY, tableSizeFor(size + map.size())));
+        }
+        for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int slot = findSlot(key);
+        if (slot == -1) {
+            return null;
+        }
+        ensureNotShared();
+        return removeSlot(slot);
+    }
+
+    @Override
+    public void clear() {
+        if (shared) {
+            // do not touch the shared arrays
+            keys = EMPTY_KEYS;
+            values = EMPTY_VALUES;
+            hashes = EMPTY_INTS;
+            table = EMPTY_INTS;
+            shared = false;
+        } else if (used > 0) {
+            Arrays.fill(keys, 0, used, null);
+            Arrays.fill(values, 0, used, null);
+            Arrays.fill(table, 0);
+        }
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        int expectedModCount = modCount;
+        for (int i = 0; i < used; i++) {
+            String key = keys[i];
+            if (key != null) {
+                action.accept(key, values[i]);
+            }
+        }
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        Set<Map.Entry<String, Object>> answer = entrySet;
+        if (answer == null) {
+            answer = new EntrySet();
+            entrySet = answer;
+        }
+        return answer;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        Set<String> answer = keySet;
+        if (answer == null) {
+            answer = new KeySet();
+            keySet = answer;
+        }
+        return answer;
+    }
+
+    /**
+     * Computes a case insensitive hash of the key, which is consistent with {@link String#equalsIgnoreCase(String)}.
+     */
+    static int hash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char ch = key.charAt(i);
+            if (ch < 128) {
+                // fast path for ASCII
+                if (ch >= 'A' && ch <= 'Z') {
+                    ch += 'a' - 'A';
+                }
+            } else {
+                ch = Character.toLowerCase(Character.toUpperCase(ch));
+            }
+            h = 31 * h + ch;
+        }
+        // spread the higher bits as the table uses the lower bits
+        return h ^ (h >>> 16);
+    }
+
+    private int findSlot(Object key) {
+        if (size == 0 || !(key instanceof String)) {
+            return -1;
+        }
+        return findSlot((String) key, hash((String) key));
+    }
+
+    private int findSlot(String key, int hash) {
+        if (size == 0) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        // the table always has empty slots so the probing ends
+        for (int i = hash & mask;; i = (i + 1) & mask) {
+            int e = table[i];
+            if (e == 0) {
+                return -1;
+            } else if (e != DELETED) {
+                int pos = e - 1;
+                if (hashes[pos] == hash) {
+                    String k = keys[pos];
+                    if (k == key || k.equalsIgnoreCase(key)) {
+                        return i;
+                    }
+                }
+            }
+        }
+    }
+
+    private void insert(int pos, int hash) {
+        int mask = table.length - 1;
+        int i = hash & mask;
+        while (table[i] > 0) {
+            i = (i + 1) & mask;
+        }
+        table[i] = pos + 1;
+    }
+
+    private Object removeSlot(int slot) {
+        int pos = table[slot] - 1;
+        Object answer = values[pos];
+        table[slot] = DELETED;
+        keys[pos] = null;
+        values[pos] = null;
+        size--;
+        modCount++;
+        if (size == 0) {
+            // start over so the removed entries are not kept around
+            Arrays.fill(keys, 0, used, null);
+            Arrays.fill(table, 0);
+            used = 0;
+        }
+        return answer;
+    }
+
+    private void setValue(int pos, Object value) {
+        ensureNotShared();
+        values[pos] = value;
+    }
+
+    private void ensureNotShared() {
+        if (shared) {
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            table = table.clone();
+            shared = false;
+        }
+    }
+
+    /**
+     * Resizes the arrays to the given capacity, which also compacts away the removed entries.
+     */
+    private void resize(int capacity) {
+        String[] newKeys = new String[capacity];
+        Object[] newValues = new Object[capacity];
+        int[] newHashes = new int[capacity];
+        // keep the table at most half full
+        int[] newTable = new int[capacity * 2];
+        int mask = newTable.length - 1;
+        int n = 0;
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null) {
+                newKeys[n] = keys[i];
+                newValues[n] = values[i];
+                newHashes[n] = hashes[i];
+                int j = hashes[i] & mask;
+                while (newTable[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                newTable[j] = n + 1;
+                n++;
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        table = newTable;
+        used = n;
+        shared = false;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        return n < 0 ? Integer.highestOneBit(Integer.MAX_VALUE) : n;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+    private final class KeySet extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            Iterator<Map.Entry<String, Object>> it = new EntryIterator();
+            return new Iterator<String>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    return it.next().getKey();
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int slot = findSlot(o);
+            if (slot == -1) {
+                return false;
+            }
+            ensureNotShared();
+            removeSlot(slot);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            while (next < used && keys[next] == null) {
+                next++;
+            }
+            return next < used;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new Entry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            ensureNotShared();
+            removeSlot(findSlot(keys[last], hashes[last]));
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+
+        private final String key;
+        private final int pos;
+
+        Entry(int pos) {
+            this.key = keys[pos];
+            this.pos = pos;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return keys[pos] == key ? values[pos] : null;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (keys[pos] != key) {
+                throw new IllegalStateException("The entry has been removed");
+            }
+            Object answer = values[pos];
+            CaseInsensitiveHashMap.this.setValue(pos, value);
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Frees the memory of direct buffers (such as unmapping memory mapped files) right away, instead of waiting for the
+ * garbage collector to do so. The buffer must not be accessed afterwards.
+ */
+public final class DirectBufferCleaner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectBufferCleaner.class);
+    private static final Consumer<ByteBuffer> CLEANER = createCleaner();
+
+    private DirectBufferCleaner() {
+    }
+
+    public static void clean(ByteBuffer buffer) {
+        if (CLEANER != null && buffer.isDirect()) {
+            try {
+                CLEANER.accept(buffer);
+            } catch (Exception e) {
+                LOG.debug("Cannot free direct buffer due {}. The buffer is freed by the garbage collector.", e.getMessage());
+            }
+        }
+    }
+
+    private static Consumer<ByteBuffer> createCleaner() {
+        try {
+            // Java 9 or later
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            return buffer -> invoke(invokeCleaner, unsafe, buffer);
+        } catch (Exception e) {
+            // not Java 9 or later
+        }
+        try {
+            // Java 8
+            Method cleanerMethod = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method cleanMethod = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> {
+                Object cleaner = invoke(cleanerMethod, buffer);
+                if (cleaner != null) {
+                    invoke(cleanMethod, cleaner);
+                }
+            };
+        } catch (Exception e) {
+            LOG.debug("Cannot free direct buffers explicitly due {}. The buffers are freed by the garbage collector.", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -155,29 +155,26 @@ public final class IOHelper {
     }
 
     public static int copy(final InputStream input, final OutputStream output, int bufferSize, boolean flushOnEachWrite) throws IOException {
-        if (input instanceof ByteArrayInputStream) {
-            // optimized for byte array as we only need the max size it can be
-            input.mark(0);
-            input.reset();
-            bufferSize = input.available();
-        } else {
-            int avail = input.available();
-            if (avail > bufferSize) {
-                bufferSize = avail;
-            }
-        }
-
-        if (bufferSize > 262144) {
-            // upper cap to avoid buffers too big
-            bufferSize = 262144;
-        }
+        bufferSize = getCopyBufferSize(input, bufferSize);
 
         if (LOG.isTraceEnabled()) {
             LOG.trace("Copying InputStream: {} -> OutputStream: {} with buffer: {} and flush on each write {}", input, output, bufferSize, flushOnEachWrite);
         }
 
+        return copy(input, output, new byte[bufferSize], flushOnEachWrite);
+    }
+
+    /**
+     * Copies the input stream to the output stream using the given buffer, such as a buffer from a pool.
+     *
+     * @param  input            the input stream
+     * @param  output           the output stream
+     * @param  buffer           the buffer to use for copying
+     * @param  flushOnEachWrite whether to flush the output stream after each write
+     * @return                  the number of bytes copied
+     */
+    public static int copy(final InputStream input, final OutputStream output, final byte[] buffer, boolean flushOnEachWrite) throws IOException {
         int total = 0;
-        final byte[] buffer = new byte[bufferSize];
         int n = input.read(buffer);
 
         boolean hasData;
@@ -206,6 +203,34 @@ public final class IOHelper {
         return total;
     }
 
+    /**
+     * Gets the size of the buffer to use when copying the input stream, which is the available bytes of the input
+     * stream if larger than the given buffer size, up to 256kb.
+     *
+     * @param  input      the input stream
+     * @param  bufferSize the requested buffer size
+     * @return            the buffer size to use
+     */
+    public static int getCopyBufferSize(final InputStream input, int bufferSize) throws IOException {
+        if (input instanceof ByteArrayInputStream) {
+            // optimized for byte array as we only need the max size it can be
+            input.mark(0);
+            input.reset();
+            bufferSize = input.available();
+        } else {
+            int avail = input.available();
+            if (avail > bufferSize) {
+                bufferSize = avail;
+            }
+        }
+
+        if (bufferSize > 262144) {
+            // upper cap to avoid buffers too big
+            bufferSize = 262144;
+        }
+        return bufferSize;
+    }
+
     public static void copyAndCloseInput(InputStream input, OutputStream output) throws IOException {
         copyAndCloseInput(input, output, DEFAULT_BUFFER_SIZE);
     }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ByteArrayPoolTest {
+
+    @Test
+    public void testSizeClasses() {
+        ByteArrayPool pool = new ByteArrayPool(4);
+        assertEquals(ByteArrayPool.MIN_SIZE, pool.acquire(1).length);
+        assertEquals(1024, pool.acquire(1024).length);
+        assertEquals(2048, pool.acquire(1025).length);
+        assertEquals(4096, pool.acquire(4096).length);
+        assertEquals(ByteArrayPool.MAX_SIZE, pool.acquire(ByteArrayPool.MAX_SIZE).length);
+        // larger buffers are not pooled
+        assertEquals(ByteArrayPool.MAX_SIZE + 1, pool.acquire(ByteArrayPool.MAX_SIZE + 1).length);
+        assertEquals(6, pool.getAcquiredCounter());
+        assertEquals(6, pool.getCreatedCounter());
+    }
+
+    @Test
+    public void testReuseThreadLocal() {
+        ByteArrayPool pool = new ByteArrayPool(4);
+        byte[] buffer = pool.acquire(4096);
+        pool.release(buffer);
+        assertSame(buffer, pool.acquire(4096));
+        // kept per thread and not in the global pool
+        assertEquals(0, pool.getPooledSize());
+        assertEquals(2, pool.getAcquiredCounter());
+        assertEquals(1, pool.getCreatedCounter());
+        assertEquals(1, pool.getReleasedCounter());
+    }
+
+    @Test
+    public void testReuseGlobal() throws Exception {
+        ByteArrayPool pool = new ByteArrayPool(4);
+        byte[] buffer = pool.acquire(64 * 1024);
+        pool.release(buffer);
+        assertEquals(64 * 1024, pool.getPooledSize());
+
+        // the global pool is shared by the threads
+        byte[][] other = new byte[1][];
+        Thread thread = new Thread(() -> other[0] = pool.acquire(64 * 1024));
+        thread.start();
+        thread.join();
+        assertSame(buffer, other[0]);
+        assertEquals(0, pool.getPooledSize());
+    }
+
+    @Test
+    public void testDiscard() {
+        ByteArrayPool pool = new ByteArrayPool(1);
+        byte[] a = pool.acquire(64 * 1024);
+        byte[] b = pool.acquire(64 * 1024);
+        assertNotSame(a, b);
+        pool.release(a);
+        // no room in the pool
+        pool.release(b);
+        // not a size class
+        pool.release(new byte[1000]);
+        pool.release(new byte[3000]);
+        assertEquals(1, pool.getReleasedCounter());
+        assertEquals(3, pool.getDiscardedCounter());
+
+        pool.resetStatistics();
+        assertEquals(0, pool.getAcquiredCounter());
+        assertEquals(0, pool.getReleasedCounter());
+        assertEquals(0, pool.getDiscardedCounter());
+        assertEquals(64 * 1024, pool.getPooledSize());
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        ByteArrayPool pool = new ByteArrayPool(4);
+        byte[] global = pool.acquire(64 * 1024);
+        pool.release(global);
+
+        // a buffer kept by another thread which is still alive
+        byte[][] local = new byte[1][];
+        CountDownLatch released = new CountDownLatch(1);
+        CountDownLatch cleared = new CountDownLatch(1);
+        byte[][] other = new byte[1][];
+        Thread thread = new Thread(() -> {
+            local[0] = pool.acquire(4096);
+            pool.release(local[0]);
+            released.countDown();
+            try {
+                cleared.await();
+            } catch (InterruptedException e) {
+                // ignore
+            }
+            other[0] = pool.acquire(4096);
+        });
+        thread.start();
+        released.await();
+
+        pool.clear();
+        cleared.countDown();
+        thread.join();
+
+        assertEquals(0, pool.getPooledSize());
+        assertNotSame(global, pool.acquire(64 * 1024));
+        // the buffer kept by the thread is dropped as well
+        assertNotSame(local[0], other[0]);
+    }
+
+}
@@ -73,6 +73,7 @@ public class ModelParser extends BaseParser {
                 case "completionSize": def.setCompletionSize(val); break;
                 case "completionTimeout": def.setCompletionTimeout(val); break;
                 case "completionTimeoutCheckerInterval": def.setCompletionTimeoutCheckerInterval(val); break;
+                case "completionTimeoutShards": def.setCompletionTimeoutShards(val); break;
                 case "discardOnAggregationFailure": def.setDiscardOnAggregationFailure(val); break;
                 case "discardOnCompletionTimeout": def.setDiscardOnCompletionTimeout(val); break;
                 case "eagerCheckCompletion": def.setEagerCheckCompletion(val); break;
@@ -1195,6 +1196,7 @@ public class ModelParser extends BaseParser {
                 case "onPrepareRef": def.setOnPrepareRef(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
+                case "parallelWindowSize": def.setParallelWindowSize(val); break;
                 case "shareUnitOfWork": def.setShareUnitOfWork(val); break;
                 case "stopOnAggregateException": def.setStopOnAggregateException(val); break;
                 case "stopOnException": def.setStopOnException(val); break;
@@ -1257,6 +1259,7 @@ public class ModelParser extends BaseParser {
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); break;
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
                 case "rejectExecution": def.setRejectExecution(val); break;
+                case "tokenBucket": def.setTokenBucket(val); break;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
             }
@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.apache.camel.util.CaseInsensitiveHashMap;
 import org.apache.camel.util.CaseInsensitiveMap;
 import org.junit.jupiter.api.Test;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -39,7 +40,7 @@ import org.openjdk.jmh.runner.options.TimeValue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 
 /**
- * Tests {@link CaseInsensitiveMap}
+ * Tests {@link CaseInsensitiveMap} and {@link CaseInsensitiveHashMap}
  */
 public class CaseInsensitiveMapTest {
 
@@ -71,12 +72,14 @@ public class CaseInsensitiveMapTest {
     @State(Scope.Thread)
     public static class MapsBenchmarkState {
         CaseInsensitiveMap camelMap;
+        CaseInsensitiveHashMap camelHashMap;
         com.cedarsoftware.util.CaseInsensitiveMap cedarsoftMap;
         HashMap hashMap;
 
         @Setup(Level.Trial)
         public void initialize() {
             camelMap = new CaseInsensitiveMap();
+            camelHashMap = new CaseInsensitiveHashMap();
             cedarsoftMap = new com.cedarsoftware.util.CaseInsensitiveMap();
             hashMap = new HashMap();
         }
@@ -87,6 +90,9 @@ public class CaseInsensitiveMapTest {
     public static class MapsSourceDataBenchmarkState {
         Map<String, Object> map1 = generateRandomMap(10);
         Map<String, Object> map2 = generateRandomMap(10);
+        Map<String, Object> camelHeaders = new CaseInsensitiveMap(map1);
+        Map<String, Object> camelHashHeaders = new CaseInsensitiveHashMap(map1);
+        Map<String, Object> cedarsoftHeaders = new com.cedarsoftware.util.CaseInsensitiveMap(map1);
 
         private Map<String, Object> generateRandomMap(int size) {
             return IntStream.range(0, size)
@@ -112,6 +118,23 @@ public class CaseInsensitiveMapTest {
         bh.consume(o4);
     }
 
+    @Benchmark
+    public void camelHashMapSimpleCase(MapsBenchmarkState state, Blackhole bh) {
+        Map map = state.camelHashMap;
+
+        map.put("foo", "Hello World");
+        Object o1 = map.get("foo");
+        bh.consume(o1);
+        Object o2 = map.get("FOO");
+        bh.consume(o2);
+
+        map.put("BAR", "Bye World");
+        Object o3 = map.get("bar");
+        bh.consume(o3);
+        Object o4 = map.get("BAR");
+        bh.consume(o4);
+    }
+
     @Benchmark
     public void cedarsoftMapSimpleCase(MapsBenchmarkState state, Blackhole bh) {
         Map map = state.cedarsoftMap;
@@ -167,6 +190,26 @@ public class CaseInsensitiveMapTest {
     }
 
 
+    @Benchmark
+    public void camelHashMapComplexCase(MapsBenchmarkState mapsBenchmarkState, MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
+        // step 1 - initialize map with existing elements
+        Map map = mapsBenchmarkState.camelHashMap;
+
+        // step 2 - add elements one by one
+        sourceDataState.map2.entrySet().forEach(entry -> blackhole.consume(map.put(entry.getKey(), entry.getValue())));
+
+        // step 3 - remove elements one by one
+        sourceDataState.map1.keySet().forEach(key -> blackhole.consume(map.get(key)));
+
+        // step 4 - remove elements one by one
+        sourceDataState.map1.keySet().forEach(key -> blackhole.consume(map.remove(key)));
+
+        // step 5 - add couple of element at once
+        map.putAll(sourceDataState.map1);
+
+        blackhole.consume(map);
+    }
+
     @Benchmark
     public void cedarsoftMapComplexCase(MapsBenchmarkState mapsBenchmarkState, MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
         // step 1 - initialize map with existing elements
@@ -207,4 +250,37 @@ public class CaseInsensitiveMapTest {
         blackhole.consume(map);
     }
 
+    // copying the headers as when copying exchanges in multicast and wire tap, where the copy reads and updates a header
+
+    @Benchmark
+    public void camelMapCopy(MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
+        Map map = new CaseInsensitiveMap(sourceDataState.camelHeaders);
+        blackhole.consume(map.get("CamelSplitIndex"));
+        blackhole.consume(map.put("CamelSplitIndex", 1));
+        blackhole.consume(map);
+    }
+
+    @Benchmark
+    public void camelHashMapCopy(MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
+        Map map = new CaseInsensitiveHashMap(sourceDataState.camelHashHeaders);
+        blackhole.consume(map.get("CamelSplitIndex"));
+        blackhole.consume(map.put("CamelSplitIndex", 1));
+        blackhole.consume(map);
+    }
+
+    @Benchmark
+    public void camelHashMapCopyReadOnly(MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
+        Map map = new CaseInsensitiveHashMap(sourceDataState.camelHashHeaders);
+        blackhole.consume(map.get("CamelSplitIndex"));
+        blackhole.consume(map);
+    }
+
+    @Benchmark
+    public void cedarsoftMapCopy(MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
+        Map map = new com.cedarsoftware.util.CaseInsensitiveMap(sourceDataState.cedarsoftHeaders);
+        blackhole.consume(map.get("CamelSplitIndex"));
+        blackhole.consume(map.put("CamelSplitIndex", 1));
+        blackhole.consume(map);
+    }
+
 }
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests exchange properties as used by the splitter and multicast EIPs
+ */
+public class ExchangePropertiesTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.All)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(2)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        CamelContext camel;
+        ProducerTemplate template;
+        List<String> body = Arrays.asList("A", "B", "C", "D", "E", "F", "G", "H", "I", "J");
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:split")
+                        .split(body())
+                            .to("log:split?level=OFF")
+                        .end();
+
+                    from("direct:multicast")
+                        .multicast()
+                            .to("log:a?level=OFF", "log:b?level=OFF", "log:c?level=OFF")
+                        .end();
+                }
+            });
+            camel.start();
+            template = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void exchangeProperties(BenchmarkState state, Blackhole bh) {
+        // set and copy the properties the same way as the splitter does for each split message
+        Exchange exchange = new DefaultExchange(state.camel);
+        exchange.setProperty("foo", "bar");
+        exchange.setProperty(Exchange.SPLIT_INDEX, 0);
+        exchange.setProperty(Exchange.SPLIT_SIZE, 10);
+        exchange.setProperty(Exchange.SPLIT_COMPLETE, Boolean.FALSE);
+        Exchange copy = exchange.copy();
+        copy.setProperty(Exchange.TO_ENDPOINT, "log://split");
+        bh.consume(copy.getProperty(Exchange.SPLIT_INDEX));
+        bh.consume(copy.getProperty("foo"));
+        bh.consume(copy.removeProperty(Exchange.SPLIT_COMPLETE));
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void split(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.template.requestBody("direct:split", state.body));
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void multicast(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.template.requestBody("direct:multicast", "Hello World"));
+    }
+
+}
@@ -18,6 +18,8 @@ package org.apache.camel.itest.jmh;
 
 import java.util.concurrent.TimeUnit;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.util.URISupport;
 import org.junit.jupiter.api.Test;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -26,6 +28,7 @@ import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
@@ -33,7 +36,8 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
 /**
- * Tests the {@link org.apache.camel.util.URISupport#normalizeUri(String)}.
+ * Tests the {@link org.apache.camel.util.URISupport#normalizeUri(String)}, and getting endpoints from
+ * {@link CamelContext#getEndpoint(String)} which normalizes the uri.
  * <p/>
  * Thanks to this SO answer: https://stackoverflow.com/questions/30485856/how-to-run-jmh-from-inside-junit-tests
  */
@@ -71,6 +75,26 @@ public class NormalizeUriTest {
         }
     }
 
+    @State(Scope.Benchmark)
+    public static class CamelState {
+        CamelContext camel;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+    }
+
     @Benchmark
     public void benchmarkMixed(ContainsIgnoreCaseTest.BenchmarkState state, Blackhole bh) throws Exception {
         // fast
@@ -132,4 +156,16 @@ public class NormalizeUriTest {
         bh.consume(URISupport.normalizeUri("log:foo?zzz=123&xxx=222&hhh=444&aaa=tru&d=yes&cc=no&Camel=awesome&foo.hey=bar&foo.bar=blah"));
     }
 
+    @Benchmark
+    public void getEndpoint(CamelState state, Blackhole bh) throws Exception {
+        bh.consume(state.camel.getEndpoint("log:foo"));
+        bh.consume(state.camel.getEndpoint("log:foo?level=INFO&logMask=false&showHeaders=true"));
+        bh.consume(state.camel.getEndpoint("log:foo?showHeaders=true&logMask=false&level=INFO"));
+        bh.consume(state.camel.getEndpoint("seda:foo?concurrentConsumers=2&size=100"));
+        bh.consume(state.camel.getEndpoint("seda:foo?size=100&concurrentConsumers=2"));
+        bh.consume(state.camel.getEndpoint("direct:foo?timeout=5000&block=false"));
+        bh.consume(state.camel.getEndpoint("log:bar?zzz=123&xxx=222&hhh=444&aaa=true"));
+        bh.consume(state.camel.getEndpoint("log:bar?aaa=true&hhh=444&xxx=222&zzz=123"));
+    }
+
 }
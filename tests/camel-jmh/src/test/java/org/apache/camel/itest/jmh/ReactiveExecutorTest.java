@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.DefaultReactiveExecutor;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the default and the work-stealing {@link ReactiveExecutor} with concurrent threads
+ */
+public class ReactiveExecutorTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(5))
+            .measurementIterations(2)
+            .threads(4)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"default", "workstealing"})
+        String executor;
+
+        CamelContext camel;
+        ReactiveExecutor reactive;
+        ProducerTemplate template;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            if ("workstealing".equals(executor)) {
+                camel.adapt(ExtendedCamelContext.class).setReactiveExecutor(new WorkStealingReactiveExecutor());
+            } else {
+                camel.adapt(ExtendedCamelContext.class).setReactiveExecutor(new DefaultReactiveExecutor());
+            }
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start")
+                        .setHeader("foo", constant("123"))
+                        .setHeader("bar", constant("456"))
+                        .setBody(simple("${header.foo}"))
+                        .to("log:foo?level=OFF");
+                }
+            });
+            camel.start();
+            reactive = camel.adapt(ExtendedCamelContext.class).getReactiveExecutor();
+            template = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void scheduleTasks(BenchmarkState state, Blackhole bh) {
+        Chain chain = new Chain(state.reactive, bh, 10);
+        state.reactive.schedule(chain);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void routeMessages(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.template.requestBody("direct:start", "Hello World"));
+    }
+
+    /**
+     * A task which schedules itself a number of times as a continuation, like the routing engine does.
+     */
+    private static final class Chain implements Runnable {
+
+        private final ReactiveExecutor reactive;
+        private final Blackhole bh;
+        private int remaining;
+
+        Chain(ReactiveExecutor reactive, Blackhole bh, int remaining) {
+            this.reactive = reactive;
+            this.bh = bh;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public void run() {
+            bh.consume(remaining);
+            if (--remaining > 0) {
+                reactive.schedule(this);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.seda.ArrayBlockingQueueFactory;
+import org.apache.camel.component.seda.BlockingQueueFactory;
+import org.apache.camel.component.seda.LinkedBlockingQueueFactory;
+import org.apache.camel.component.seda.RingBlockingQueueFactory;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the latency of handing over messages from producers to the consumers of a SEDA endpoint, with the JDK and the
+ * lock-free ring queues, and with 1, 4 and 16 concurrent consumers
+ */
+public class SedaQueueTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(5))
+            .measurementIterations(2)
+            .threads(4)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"linked", "array", "ring"})
+        String queue;
+
+        @Param({"1", "4", "16"})
+        int consumers;
+
+        @Param({"1", "16"})
+        int pollBatchSize;
+
+        CamelContext camel;
+        ProducerTemplate template;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            BlockingQueueFactory<Exchange> factory;
+            if ("ring".equals(queue)) {
+                factory = new RingBlockingQueueFactory<>();
+            } else if ("array".equals(queue)) {
+                factory = new ArrayBlockingQueueFactory<>();
+            } else {
+                factory = new LinkedBlockingQueueFactory<>();
+            }
+
+            camel = new DefaultCamelContext();
+            camel.getRegistry().bind("queueFactory", factory);
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("seda:start?queueFactory=#queueFactory&size=1000&concurrentConsumers=" + consumers
+                            + "&pollBatchSize=" + pollBatchSize)
+                        .setBody(constant("Bye World"));
+                }
+            });
+            camel.start();
+            template = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+    }
+
+    @Benchmark
+    public void requestReply(BenchmarkState state, Blackhole bh) {
+        // the producer waits for the consumer to process the message, so this measures the round trip hand-off
+        bh.consume(state.template.requestBody("seda:start", "Hello World"));
+    }
+
+    @Benchmark
+    public void sendInOnly(BenchmarkState state) {
+        state.template.sendBody("seda:start?blockWhenFull=true", "Hello World");
+    }
+
+}
@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.language.simple.SimpleLanguage;
 import org.apache.camel.spi.Language;
 import org.apache.camel.support.DefaultExchange;
 import org.junit.jupiter.api.Test;
@@ -39,7 +40,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
 /**
- * Tests a Simple expression
+ * Tests a Simple expression, and a Simple OGNL expression with and without compiled OGNL
  */
 public class SimpleExpressionTest {
 
@@ -71,8 +72,11 @@ public class SimpleExpressionTest {
     public static class BenchmarkState {
         CamelContext camel;
         String expression = "Hello ${body}";
+        String ognlExpression = "Hello ${body.address.city}";
         Exchange exchange;
+        Exchange ognlExchange;
         Language simple;
+        Language compiledSimple;
 
         @Setup(Level.Trial)
         public void initialize() {
@@ -83,6 +87,14 @@ public class SimpleExpressionTest {
                 exchange.getIn().setBody("World");
                 simple = camel.resolveLanguage("simple");
 
+                ognlExchange = new DefaultExchange(camel);
+                ognlExchange.getIn().setBody(new Person(new Address("World")));
+                SimpleLanguage compiled = new SimpleLanguage();
+                compiled.setCamelContext(camel);
+                compiled.setCompiled(true);
+                compiled.init();
+                compiledSimple = compiled;
+
             } catch (Exception e) {
                 // ignore
             }
@@ -109,4 +121,48 @@ public class SimpleExpressionTest {
         bh.consume(out);
     }
 
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simpleOgnlExpression(BenchmarkState state, Blackhole bh) {
+        String out = state.simple.createExpression(state.ognlExpression).evaluate(state.ognlExchange, String.class);
+        if (!out.equals("Hello World")) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void compiledSimpleOgnlExpression(BenchmarkState state, Blackhole bh) {
+        String out = state.compiledSimple.createExpression(state.ognlExpression).evaluate(state.ognlExchange, String.class);
+        if (!out.equals("Hello World")) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out);
+    }
+
+    public static final class Person {
+        private final Address address;
+
+        public Person(Address address) {
+            this.address = address;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+    }
+
+    public static final class Address {
+        private final String city;
+
+        public Address(String city) {
+            this.city = city;
+        }
+
+        public String getCity() {
+            return city;
+        }
+    }
+
 }
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven.packaging;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * Generate an index of the {@link org.apache.camel.RoutesBuilder} classes compiled as part of the current project,
+ * which Camel Main uses in fast startup mode instead of scanning the classpath for route builder classes.
+ * <p/>
+ * The dependencies are indexed as well, so route builders which extends a route builder class from a dependency, such
+ * as <tt>EndpointRouteBuilder</tt>, are found. Only the classes of the current project are added to the index, which
+ * includes public static nested classes.
+ */
+@Mojo(name = "generate-routes-builder-index", threadSafe = true, requiresDependencyResolution = ResolutionScope.TEST, defaultPhase = LifecyclePhase.PROCESS_CLASSES)
+public class GenerateRoutesBuilderIndexMojo extends AbstractGeneratorMojo {
+
+    public static final String ROUTES_BUILDER_INDEX = "META-INF/services/org/apache/camel/routes-builder";
+
+    public static final DotName ROUTES_BUILDER = DotName.createSimple("org.apache.camel.RoutesBuilder");
+    public static final DotName ROUTE_BUILDER = DotName.createSimple("org.apache.camel.builder.RouteBuilder");
+
+    @Parameter(defaultValue = "${project.build.outputDirectory}")
+    protected File classesDirectory;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (classesDirectory == null) {
+            classesDirectory = new File(project.getBuild().getOutputDirectory());
+        }
+        if (!classesDirectory.isDirectory()) {
+            return;
+        }
+        if ("pom".equals(project.getPackaging())) {
+            return;
+        }
+
+        Index index;
+        IndexView classpath;
+        try {
+            index = readIndex(classesDirectory.toPath());
+            classpath = CompositeIndex.create(index, readClasspathIndex());
+        } catch (IOException | DependencyResolutionRequiredException e) {
+            throw new MojoExecutionException("Error indexing classes due: " + e.getMessage(), e);
+        }
+
+        Set<String> builders = new TreeSet<>();
+        for (ClassInfo ci : classpath.getAllKnownSubclasses(ROUTE_BUILDER)) {
+            addRoutesBuilder(ci, index, builders);
+        }
+        for (ClassInfo ci : classpath.getAllKnownImplementors(ROUTES_BUILDER)) {
+            addRoutesBuilder(ci, index, builders);
+        }
+        if (!builders.isEmpty()) {
+            getLog().info("Generated routes builder index with " + builders.size() + " classes");
+            updateResource(buildContext, classesDirectory.toPath().resolve(ROUTES_BUILDER_INDEX),
+                    "# " + GENERATED_MSG + NL + String.join(NL, builders) + NL);
+        }
+    }
+
+    private static void addRoutesBuilder(ClassInfo ci, Index index, Set<String> builders) {
+        // only classes from this project which can be instantiated by Camel Main
+        if (index.getClassByName(ci.name()) == null) {
+            return;
+        }
+        int flags = ci.flags();
+        if (!Modifier.isPublic(flags) || Modifier.isAbstract(flags) || Modifier.isInterface(flags)) {
+            return;
+        }
+        if (ci.nestingType() == ClassInfo.NestingType.TOP_LEVEL
+                || ci.nestingType() == ClassInfo.NestingType.INNER && hasPublicNoArgConstructor(ci)) {
+            builders.add(ci.name().toString());
+        }
+    }
+
+    private static boolean hasPublicNoArgConstructor(ClassInfo ci) {
+        // the constructors of a non static nested class takes the enclosing instance as parameter
+        MethodInfo constructor = ci.method("<init>");
+        return constructor != null && Modifier.isPublic(constructor.flags());
+    }
+
+    private IndexView readClasspathIndex() throws IOException, DependencyResolutionRequiredException {
+        // the test classes can extend classes from the test dependencies
+        List<String> elements = classesDirectory.equals(new File(project.getBuild().getTestOutputDirectory()))
+                ? project.getTestClasspathElements() : project.getCompileClasspathElements();
+
+        List<IndexView> indices = new ArrayList<>();
+        for (String cpe : elements) {
+            File file = new File(cpe);
+            if (file.equals(classesDirectory)) {
+                continue;
+            }
+            if (file.isDirectory()) {
+                indices.add(readIndex(file.toPath()));
+            } else if (file.isFile() && cpe.endsWith(".jar")) {
+                indices.add(readJarIndex(file));
+            }
+        }
+        return CompositeIndex.create(indices);
+    }
+
+    private static Index readJarIndex(File file) throws IOException {
+        try (JarFile jf = new JarFile(file)) {
+            JarEntry indexEntry = jf.getJarEntry("META-INF/jandex.idx");
+            if (indexEntry != null) {
+                try (InputStream is = jf.getInputStream(indexEntry)) {
+                    return new IndexReader(is).read();
+                }
+            }
+            // no jandex index so index the classes
+            Indexer indexer = new Indexer();
+            List<JarEntry> classes = jf.stream()
+                    .filter(je -> je.getName().endsWith(".class"))
+                    .collect(Collectors.toList());
+            for (JarEntry je : classes) {
+                try (InputStream is = jf.getInputStream(je)) {
+                    indexer.index(is);
+                }
+            }
+            return indexer.complete();
+        }
+    }
+
+    private static Index readIndex(Path classes) throws IOException {
+        Path idx = classes.resolve("META-INF/jandex.idx");
+        if (Files.isRegularFile(idx)) {
+            try (InputStream is = Files.newInputStream(idx)) {
+                return new IndexReader(is).read();
+            }
+        }
+        // no jandex index so index the classes
+        Indexer indexer = new Indexer();
+        List<Path> inputs;
+        try (Stream<Path> files = Files.walk(classes)) {
+            inputs = files.filter(f -> f.getFileName().toString().endsWith(".class")).collect(Collectors.toList());
+        }
+        for (Path file : inputs) {
+            try (InputStream is = Files.newInputStream(file)) {
+                indexer.index(is);
+            }
+        }
+        return indexer.complete();
+    }
+
+}